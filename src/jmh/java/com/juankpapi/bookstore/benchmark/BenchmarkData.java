@@ -0,0 +1,52 @@
+package com.juankpapi.bookstore.benchmark;
+
+import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.model.Language;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+// Test data shared by the benchmarks. A fixed seed makes every run (and every release) benchmark the same data
+final class BenchmarkData {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private static final String[] WORDS = {"Java", "EE", "persistence", "Énterprise", "web", "services", "the", "of", "programming", "patterns"};
+
+    private BenchmarkData() {
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+
+    // Words separated by <separator>, <length> characters long. The text never ends with whitespace: when the cut falls
+    // in a separator, its characters are replaced with letters, so a text separated by single spaces is already sanitized
+    static String text(int length, String separator) {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder(length + 16);
+        while (text.length() < length)
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(separator);
+        text.setLength(length);
+        for (int i = length - 1; i >= 0 && Character.isWhitespace(text.charAt(i)); i--)
+            text.setCharAt(i, 'a');
+        return text.toString();
+    }
+
+    static List<Book> books(int nbOfBooks, int descriptionLength) {
+        String description = text(descriptionLength, " ");
+        Language[] languages = Language.values();
+        List<Book> books = new ArrayList<>(nbOfBooks);
+        for (int i = 0; i < nbOfBooks; i++) {
+            Book book = new Book("978-0-" + i, "Book title " + i, 10F + i % 90, 100 + i % 900, languages[i % languages.length], new Date(0), "http://covers.bookstore.com/" + i + ".jpg", description);
+            book.setId(10000L + i);
+            book.setVersion(0L);
+            book.setLastModified(new Date(0));
+            books.add(book);
+        }
+        return books;
+    }
+}
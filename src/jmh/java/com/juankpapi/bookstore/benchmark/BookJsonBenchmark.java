@@ -0,0 +1,120 @@
+package com.juankpapi.bookstore.benchmark;
+
+import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.rest.BookBinaryProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.MediaType;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// JSON-B serialization of the books, as done by JAX-RS for every GET /books (a page or the whole catalog) and GET /books/{id},
+// compared with the binary representation (BookBinaryProvider) of the same books.
+// Lists are written to a stream that discards the bytes, so the benchmark measures the serialization, not a growing String
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookJsonBenchmark {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    // Jsonb instances are thread safe, the application shares one as well
+    private static final Jsonb JSONB = JsonbBuilder.create();
+    private static final BookBinaryProvider BINARY = new BookBinaryProvider();
+    private static final MediaType BINARY_TYPE = MediaType.valueOf(BookBinaryProvider.APPLICATION_BOOK_BINARY);
+    private static final Type BOOK_LIST = new GenericType<List<Book>>() {}.getType();
+
+    // ======================================
+    // =            Benchmarks              =
+    // ======================================
+    @Benchmark
+    public String serializeOneBook(OneBook state) {
+        return JSONB.toJson(state.book);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String serializeOneBookConcurrently(OneBook state) {
+        return JSONB.toJson(state.book);
+    }
+
+    @Benchmark
+    public void serializeList(BookList state, Blackhole blackhole) {
+        JSONB.toJson(state.books, new BlackholeOutputStream(blackhole));
+    }
+
+    @Benchmark
+    public void serializeOneBookBinary(OneBook state, Blackhole blackhole) throws IOException {
+        BINARY.writeTo(state.book, Book.class, Book.class, null, BINARY_TYPE, null, new BlackholeOutputStream(blackhole));
+    }
+
+    @Benchmark
+    public void serializeListBinary(BookList state, Blackhole blackhole) throws IOException {
+        BINARY.writeTo(state.books, state.books.getClass(), BOOK_LIST, null, BINARY_TYPE, null, new BlackholeOutputStream(blackhole));
+    }
+
+    // ======================================
+    // =            Inner classes           =
+    // ======================================
+    @State(Scope.Benchmark)
+    public static class OneBook {
+        @Param({"100", "4000"})
+        private int descriptionLength;
+
+        private Book book;
+
+        @Setup
+        public void createBook() {
+            book = BenchmarkData.books(1, descriptionLength).get(0);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BookList {
+        @Param({"10", "1000", "100000"})
+        private int nbOfBooks;
+
+        @Param({"100", "4000"})
+        private int descriptionLength;
+
+        private List<Book> books;
+
+        @Setup
+        public void createBooks() {
+            books = BenchmarkData.books(nbOfBooks, descriptionLength);
+        }
+    }
+
+    private static final class BlackholeOutputStream extends OutputStream {
+        private final Blackhole blackhole;
+
+        private BlackholeOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            blackhole.consume(b);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.juankpapi.bookstore.benchmark;
+
+import com.juankpapi.bookstore.util.IsbnGenerator;
+import com.juankpapi.bookstore.util.NumberGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+// An ISBN is generated for every created book, batches and imports call the (application scoped) generator from many threads
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IsbnGeneratorBenchmark {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private final NumberGenerator generator = new IsbnGenerator();
+
+    // ======================================
+    // =            Benchmarks              =
+    // ======================================
+    @Benchmark
+    public String generateNumber() {
+        return generator.generateNumber();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateNumberConcurrently() {
+        return generator.generateNumber();
+    }
+}
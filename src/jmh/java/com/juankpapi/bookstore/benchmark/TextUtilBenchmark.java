@@ -0,0 +1,70 @@
+package com.juankpapi.bookstore.benchmark;
+
+import com.juankpapi.bookstore.util.TextUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// TextUtil runs on every created book (sanitize) and on every indexed book and search query (tokenize).
+// Texts are a title (64 chars) or a long description (8 KB), with the double spaces and tabs sanitize has to collapse
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TextUtilBenchmark {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    @Param({"64", "8192"})
+    private int length;
+
+    private final TextUtil textUtil = new TextUtil();
+    private final TextUtil.Sanitizer sanitizer = textUtil.newSanitizer();
+    private String dirtyText;
+    private String cleanText;
+
+    // ======================================
+    // =            Benchmarks              =
+    // ======================================
+    @Setup
+    public void createTexts() {
+        dirtyText = BenchmarkData.text(length, "  \t");
+        cleanText = BenchmarkData.text(length, " ");
+    }
+
+    @Benchmark
+    public String sanitizeDirtyText() {
+        return textUtil.sanitize(dirtyText);
+    }
+
+    @Benchmark
+    public String sanitizeCleanText() {
+        return textUtil.sanitize(cleanText);
+    }
+
+    // Bulk ingestion path: one buffer reused for all the texts
+    @Benchmark
+    public String sanitizeDirtyTextWithSanitizer() {
+        return sanitizer.sanitize(dirtyText);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String sanitizeDirtyTextConcurrently() {
+        return textUtil.sanitize(dirtyText);
+    }
+
+    @Benchmark
+    public List<String> tokenize() {
+        return textUtil.tokenize(dirtyText);
+    }
+}
@@ -0,0 +1,46 @@
+package com.juankpapi.bookstore.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Calls, failed calls and latencies of one method
+public class MethodMetrics {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private final String name;
+    private final LongAdder errors = new LongAdder();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public MethodMetrics(String name) {
+        this.name = name;
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+    public void record(long nanos, boolean failed) {
+        latencies.record(nanos);
+        if (failed)
+            errors.increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCalls() {
+        return latencies.getCount();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+}
@@ -0,0 +1,80 @@
+package com.juankpapi.bookstore.metrics;
+
+import javax.enterprise.context.ApplicationScoped;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// Metrics of all the @Timed methods, exported in the Prometheus text format (GET /metrics):
+// - bookstore_method_calls_total and bookstore_method_errors_total (counters)
+// - bookstore_method_latency_seconds, summary with the 0.5, 0.99 and 0.999 quantiles, _sum and _count
+// - bookstore_method_latency_max_seconds (gauge)
+// Each series has a method="<Class>.<method>" label. Values are cumulative since the deployment
+@ApplicationScoped
+public class MetricsRegistry {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    // Sorted by method name, so the export is stable
+    private final Map<String, MethodMetrics> metrics = new ConcurrentSkipListMap<>();
+    // The metrics of a timed method are looked up by name once, then by the Method itself
+    private final Map<Method, MethodMetrics> metricsByMethod = new ConcurrentHashMap<>();
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+    public MethodMetrics forMethod(String name) {
+        return metrics.computeIfAbsent(name, MethodMetrics::new);
+    }
+
+    // Metrics of a @Timed method, named <Class>.<method>
+    public MethodMetrics forMethod(Method method) {
+        return metricsByMethod.computeIfAbsent(method,
+                key -> forMethod(key.getDeclaringClass().getSimpleName() + "." + key.getName()));
+    }
+
+    public String toPrometheus() {
+        StringBuilder text = new StringBuilder();
+        header(text, "bookstore_method_calls_total", "counter", "Number of calls");
+        for (MethodMetrics method : metrics.values())
+            sample(text, "bookstore_method_calls_total", method, null, method.getCalls());
+
+        header(text, "bookstore_method_errors_total", "counter", "Number of calls that threw an exception");
+        for (MethodMetrics method : metrics.values())
+            sample(text, "bookstore_method_errors_total", method, null, method.getErrors());
+
+        header(text, "bookstore_method_latency_seconds", "summary", "Latency of the calls");
+        for (MethodMetrics method : metrics.values()) {
+            LatencyHistogram latencies = method.getLatencies();
+            for (double quantile : QUANTILES)
+                sample(text, "bookstore_method_latency_seconds", method, quantile, latencies.getValueAtQuantile(quantile) / NANOS_PER_SECOND);
+            sample(text, "bookstore_method_latency_seconds_sum", method, null, latencies.getSum() / NANOS_PER_SECOND);
+            sample(text, "bookstore_method_latency_seconds_count", method, null, latencies.getCount());
+        }
+
+        header(text, "bookstore_method_latency_max_seconds", "gauge", "Highest latency of the calls");
+        for (MethodMetrics method : metrics.values())
+            sample(text, "bookstore_method_latency_max_seconds", method, null, method.getLatencies().getMax() / NANOS_PER_SECOND);
+        return text.toString();
+    }
+
+    // ======================================
+    // =          Private methods           =
+    // ======================================
+    private static void header(StringBuilder text, String name, String type, String help) {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder text, String name, MethodMetrics method, Double quantile, Number value) {
+        text.append(name).append("{method=\"").append(method.getName()).append('"');
+        if (quantile != null)
+            text.append(",quantile=\"").append(quantile).append('"');
+        text.append("} ").append(value).append('\n');
+    }
+}
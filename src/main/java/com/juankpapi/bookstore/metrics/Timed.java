@@ -0,0 +1,15 @@
+package com.juankpapi.bookstore.metrics;
+
+import javax.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Records the number of calls, the number of failed calls and the latency of every method of the annotated bean
+// (or of the annotated method). See TimedInterceptor and GET /metrics
+@InterceptorBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Timed {
+}
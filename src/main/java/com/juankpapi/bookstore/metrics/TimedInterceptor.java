@@ -0,0 +1,82 @@
+package com.juankpapi.bookstore.metrics;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.CompletionCallback;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Times the calls to @Timed beans. It runs before the transaction interceptor, so the time of a transactional method
+// includes its commit. A call of a @Suspended endpoint is only over once its response is complete: it is recorded by a
+// completion callback of its AsyncResponse, so the time spent waiting for and running on another thread is included
+@Timed
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+public class TimedInterceptor {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    @Inject
+    private MetricsRegistry metricsRegistry;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public TimedInterceptor() {
+    }
+
+    TimedInterceptor(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+    // A synchronous call only costs the lookup of its metrics, two nanoTime calls, a scan of its parameters and the recording
+    @AroundInvoke
+    public Object time(InvocationContext context) throws Exception {
+        MethodMetrics metrics = metricsRegistry.forMethod(context.getMethod());
+        long start = System.nanoTime();
+        AsyncResponse asyncResponse = asyncResponse(context.getParameters());
+        if (asyncResponse == null) {
+            boolean failed = true;
+            try {
+                Object result = context.proceed();
+                failed = false;
+                return result;
+            } finally {
+                metrics.record(System.nanoTime() - start, failed);
+            }
+        }
+
+        // Registered before the call: the response may be resumed by another thread before it returns.
+        // Whoever comes first records the call, once
+        AtomicBoolean recorded = new AtomicBoolean();
+        CompletionCallback completion = failure -> {
+            if (recorded.compareAndSet(false, true))
+                metrics.record(System.nanoTime() - start, failure != null);
+        };
+        asyncResponse.register(completion);
+        boolean failed = true;
+        try {
+            Object result = context.proceed();
+            failed = false;
+            return result;
+        } finally {
+            if (failed && recorded.compareAndSet(false, true))
+                metrics.record(System.nanoTime() - start, true);
+        }
+    }
+
+    private static AsyncResponse asyncResponse(Object[] parameters) {
+        if (parameters != null)
+            for (Object parameter : parameters)
+                if (parameter instanceof AsyncResponse)
+                    return (AsyncResponse) parameter;
+        return null;
+    }
+}
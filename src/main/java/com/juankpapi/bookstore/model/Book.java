@@ -13,13 +13,30 @@ import java.util.Date;
 
 //Object is an Entity
 @Entity
+// Books are kept in the JPA second-level cache (shared-cache-mode ENABLE_SELECTIVE in persistence.xml, see SecondLevelCache)
+@Cacheable
+// Indexes created with the table:
+// - <title, id> backs the keyset (seek) pagination used by BookRepository.findPage
+// - <isbn> backs the search of the last generated ISBN at startup (BookRepository.findLastIsbn)
+// - the others back the criteria of a BookFilter (language and price are usually asked for together)
+@Table(indexes = {
+        @Index(name = "idx_book_title_id", columnList = "title, id"),
+        @Index(name = "idx_book_language_cost", columnList = "language, unit_cost"),
+        @Index(name = "idx_book_cost", columnList = "unit_cost"),
+        @Index(name = "idx_book_pages", columnList = "nb_of_pages"),
+        @Index(name = "idx_book_publication_date", columnList = "publication_date"),
+        @Index(name = "idx_book_isbn", columnList = "isbn")
+})
 // Documentation
 @ApiModel(description = "Book resource representation" )
 public class Book {
 
 
     @Id             // Primary key
-    @GeneratedValue (strategy = GenerationType.AUTO)
+    //Ids come from a sequence that hands out blocks of 50 values (pooled optimizer): only one sequence call every 50 inserts.
+    //It starts after the ids used by import.sql
+    @GeneratedValue (strategy = GenerationType.SEQUENCE, generator = "book_seq")
+    @SequenceGenerator(name = "book_seq", sequenceName = "book_seq", initialValue = 10000, allocationSize = 50)
     @ApiModelProperty("Identifier")                         // Documentation
     private Long id;
 
@@ -66,6 +83,16 @@ public class Book {
     @ApiModelProperty( value = "Language in which the book has been written")   // Documentation
     private Language language;
 
+    //Use Version for optimistic locking: JPA increments it each time the book is updated. It is also used to build the book's ETag
+    @Version
+    @ApiModelProperty("Version of the book, incremented on each update")     // Documentation
+    private Long version;
+
+    @Column(name = "last_modified")
+    @Temporal(TemporalType.TIMESTAMP)
+    @ApiModelProperty("Date of the last modification of the book")          // Documentation
+    private Date lastModified;
+
     // ======================================
     // =            Constructors            =
     // ======================================
@@ -83,6 +110,18 @@ public class Book {
         this.description = description;
     }
 
+    // ======================================
+    // =          Lifecycle methods         =
+    // ======================================
+    //Called by JPA before inserting or updating the book in the database
+    @PrePersist
+    @PreUpdate
+    private void updateLastModified() {
+        // Whole seconds, like the Last-Modified header sent to the clients (and sent back in If-Modified-Since)
+        long now = System.currentTimeMillis();
+        lastModified = new Date(now - now % 1000);
+    }
+
     // ======================================
     // =        Getters and Setters         =
     // ======================================
@@ -158,6 +197,22 @@ public class Book {
         this.language = language;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Date getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(Date lastModified) {
+        this.lastModified = lastModified;
+    }
+
 
     // ======================================
     // =   Methods hash, equals, toString   =
@@ -175,6 +230,8 @@ public class Book {
                 ", nbOfPages=" + nbOfPages +
                 ", imageURL='" + imageURL + '\'' +
                 ", language=" + language +
+                ", version=" + version +
+                ", lastModified=" + lastModified +
                 '}';
     }
 }
@@ -0,0 +1,99 @@
+package com.juankpapi.bookstore.model;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+// Read-only view of a Book holding only what list screens display.
+// It is not an Entity: JPA builds it straight from the selected columns with a JPQL constructor expression
+// (SELECT NEW ...), so no managed entity is created and the long description is never transferred.
+@ApiModel(description = "Book summary representation used by list views")
+public class BookSummary {
+
+    @ApiModelProperty("Identifier")
+    private Long id;
+
+    @ApiModelProperty("Title of the book")
+    private String title;
+
+    @ApiModelProperty("Unit cost")
+    private Float unitCost;
+
+    @ApiModelProperty("ISBN number")
+    private String isbn;
+
+    @ApiModelProperty("URL of the image cover")
+    private String imageURL;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public BookSummary() {
+    }
+
+    // Used by the JPQL constructor expression, parameters must follow the SELECT NEW clause order
+    public BookSummary(Long id, String title, Float unitCost, String isbn, String imageURL) {
+        this.id = id;
+        this.title = title;
+        this.unitCost = unitCost;
+        this.isbn = isbn;
+        this.imageURL = imageURL;
+    }
+
+    // ======================================
+    // =        Getters and Setters         =
+    // ======================================
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public Float getUnitCost() {
+        return unitCost;
+    }
+
+    public void setUnitCost(Float unitCost) {
+        this.unitCost = unitCost;
+    }
+
+    public String getIsbn() {
+        return isbn;
+    }
+
+    public void setIsbn(String isbn) {
+        this.isbn = isbn;
+    }
+
+    public String getImageURL() {
+        return imageURL;
+    }
+
+    public void setImageURL(String imageURL) {
+        this.imageURL = imageURL;
+    }
+
+    // ======================================
+    // =   Methods hash, equals, toString   =
+    // ======================================
+
+    @Override
+    public String toString() {
+        return "BookSummary{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", unitCost=" + unitCost +
+                ", isbn='" + isbn + '\'' +
+                ", imageURL='" + imageURL + '\'' +
+                '}';
+    }
+}
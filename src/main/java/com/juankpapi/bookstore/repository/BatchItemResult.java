@@ -0,0 +1,74 @@
+package com.juankpapi.bookstore.repository;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+// Outcome of one book of a batch: either the id it has been created with, or why it has been rejected
+@ApiModel(description = "Result of the creation of one book of a batch")
+public class BatchItemResult {
+
+    @ApiModelProperty("Position of the book in a JSon array, starting at 0, or line of the book in a stream (NDJSON, import), starting at 1")
+    private int index;
+
+    @ApiModelProperty("Identifier of the created book, null if rejected")
+    private Long id;
+
+    @ApiModelProperty("Why the book has been rejected, null if created")
+    private String error;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public BatchItemResult() {
+    }
+
+    private BatchItemResult(int index, Long id, String error) {
+        this.index = index;
+        this.id = id;
+        this.error = error;
+    }
+
+    public static BatchItemResult created(int index, Long id) {
+        return new BatchItemResult(index, id, null);
+    }
+
+    public static BatchItemResult rejected(int index, String error) {
+        return new BatchItemResult(index, null, error);
+    }
+
+    // ======================================
+    // =        Getters and Setters         =
+    // ======================================
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchItemResult{" +
+                "index=" + index +
+                ", id=" + id +
+                ", error='" + error + '\'' +
+                '}';
+    }
+}
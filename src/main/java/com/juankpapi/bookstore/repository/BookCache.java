@@ -0,0 +1,159 @@
+package com.juankpapi.bookstore.repository;
+
+import com.juankpapi.bookstore.model.Book;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+// Bounded read-through cache of books by id, shared by all the requests (one instance per application).
+// - Entries expire <ttl> after being loaded, and once <capacity> is reached the least recently read of a few sampled entries is evicted
+// - Entries are invalidated when a BookEvent is committed, so a deleted book is never served again
+// - Reads never lock: the map is a ConcurrentHashMap and the counters are LongAdders
+// Capacity and TTL (in seconds) can be tuned with the bookstore.cache.capacity and bookstore.cache.ttl system properties
+@ApplicationScoped
+public class BookCache {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    static final String NAME = "book";
+    private static final int EVICTION_SAMPLE_SIZE = 16;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    // Incremented on every invalidation, so a load that raced with a write never gets cached
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final int capacity;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public BookCache() {
+        this(Integer.getInteger("bookstore.cache.capacity", 1000), TimeUnit.SECONDS.toNanos(Long.getLong("bookstore.cache.ttl", 300)), System::nanoTime);
+    }
+
+    BookCache(int capacity, long ttlNanos, LongSupplier clock) {
+        this.capacity = capacity;
+        this.ttlNanos = ttlNanos;
+        this.clock = clock;
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+
+    // Returns the cached book, or loads it with <loader> and caches it. Unknown ids (null) are not cached
+    public Book get(Long id, Function<Long, Book> loader) {
+        long now = clock.getAsLong();
+        Entry entry = entries.get(id);
+        if (entry != null) {
+            if (now - entry.loadedAt < ttlNanos) {
+                entry.lastReadAt = now;
+                hits.increment();
+                return entry.book;
+            }
+            evict(id, entry);
+        }
+
+        misses.increment();
+        long loadGeneration = generation.get();
+        Book book = loader.apply(id);
+        if (book == null || generation.get() != loadGeneration)
+            return book;
+
+        Entry loaded = new Entry(book, now);
+        entries.put(id, loaded);
+        // An invalidation may have happened between the check and the put
+        if (generation.get() != loadGeneration)
+            entries.remove(id, loaded);
+        else if (entries.size() > capacity)
+            evictLeastRecentlyRead();
+        return book;
+    }
+
+    // Returns the cached book, or null if it is not cached: never loads anything
+    public Book getIfPresent(Long id) {
+        long now = clock.getAsLong();
+        Entry entry = entries.get(id);
+        if (entry == null || now - entry.loadedAt >= ttlNanos)
+            return null;
+        entry.lastReadAt = now;
+        hits.increment();
+        return entry.book;
+    }
+
+    public void invalidate(Collection<Long> ids) {
+        generation.incrementAndGet();
+        for (Long id : ids) {
+            Entry entry = entries.get(id);
+            if (entry != null)
+                evict(id, entry);
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        for (Map.Entry<Long, Entry> entry : entries.entrySet())
+            evict(entry.getKey(), entry.getValue());
+    }
+
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(NAME, entries.size(), capacity, hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    // Only committed changes invalidate the cache, a rolled back delete leaves it untouched
+    public void onBookEvent(@Observes(during = TransactionPhase.AFTER_SUCCESS) BookEvent event) {
+        invalidate(event.getIds());
+    }
+
+    // Approximated LRU: looks at a few entries and evicts the one that has not been read for the longest time
+    private void evictLeastRecentlyRead() {
+        Long victimId = null;
+        Entry victim = null;
+        Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+        for (int i = 0; i < EVICTION_SAMPLE_SIZE && iterator.hasNext(); i++) {
+            Map.Entry<Long, Entry> candidate = iterator.next();
+            if (victim == null || candidate.getValue().lastReadAt < victim.lastReadAt) {
+                victimId = candidate.getKey();
+                victim = candidate.getValue();
+            }
+        }
+        if (victim != null)
+            evict(victimId, victim);
+    }
+
+    private void evict(Long id, Entry entry) {
+        if (entries.remove(id, entry))
+            evictions.increment();
+    }
+
+    // ======================================
+    // =            Inner class             =
+    // ======================================
+    private static final class Entry {
+        private final Book book;
+        private final long loadedAt;
+        private volatile long lastReadAt;
+
+        private Entry(Book book, long loadedAt) {
+            this.book = book;
+            this.loadedAt = loadedAt;
+            this.lastReadAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.juankpapi.bookstore.repository;
+
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedThreadFactory;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// Number of books kept in memory, so counting them doesn't scan the table.
+// - It is seeded with a real COUNT when the application starts, in the background (a reader coming first counts itself)
+// - Committed BookEvents add or remove the created or deleted books
+// - Every <reconciliation interval> the next reader counts the table again, fixing any drift (bulk SQL, concurrent seeding...)
+// A COUNT is only published as is if no change has been committed while it ran (the state is swapped with a CAS).
+// Otherwise the changes committed meanwhile are applied to it, and the next reader counts again.
+// The reconciliation interval (in seconds) can be tuned with the bookstore.count.reconciliation system property
+@ApplicationScoped
+public class BookCounter {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private static final Logger LOGGER = Logger.getLogger(BookCounter.class.getName());
+    private static final long NOT_SEEDED = -1;
+
+    private final AtomicReference<State> state = new AtomicReference<>(new State(NOT_SEEDED, 0));
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+    private volatile long reconciledAt;
+
+    private final long reconciliationNanos;
+    private final LongSupplier clock;
+
+    // ======================================
+    // =          Injection Points          =
+    // ======================================
+    @Resource
+    private ManagedThreadFactory threadFactory;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public BookCounter() {
+        this(TimeUnit.SECONDS.toNanos(Long.getLong("bookstore.count.reconciliation", 60)), System::nanoTime);
+    }
+
+    BookCounter(long reconciliationNanos, LongSupplier clock) {
+        this.reconciliationNanos = reconciliationNanos;
+        this.clock = clock;
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+
+    // Returns the number of books, only calling <databaseCount> when the counter has to be seeded or reconciled
+    public long get(LongSupplier databaseCount) {
+        long current = state.get().count;
+        boolean expired = clock.getAsLong() - reconciledAt >= reconciliationNanos;
+        if (current != NOT_SEEDED && !expired)
+            return current;
+
+        // Only one reader reconciles, the others keep on reading the current value meanwhile
+        if (current != NOT_SEEDED && !reconciling.compareAndSet(false, true))
+            return current;
+        try {
+            State before = state.get();
+            long counted = databaseCount.getAsLong();
+            // Nothing committed during the count (nor published by another reader): it is exact
+            if (state.compareAndSet(before, new State(counted, before.changes))) {
+                reconciledAt = clock.getAsLong();
+                return counted;
+            }
+            // Otherwise the changes committed meanwhile are added to the count, unless a value that already follows them
+            // has been published. Not marked as reconciled: the next reader counts again
+            State published = state.updateAndGet(after -> after.count != NOT_SEEDED ? after
+                    : new State(Math.max(0, counted + after.changes - before.changes), after.changes));
+            if (published.changes != before.changes)
+                reconciledAt = clock.getAsLong() - reconciliationNanos;
+            return published.count;
+        } finally {
+            reconciling.set(false);
+        }
+    }
+
+    // Returns the number of books if it doesn't have to be seeded nor reconciled, null otherwise: never counts the table
+    public Long getIfFresh() {
+        long current = state.get().count;
+        if (current == NOT_SEEDED || clock.getAsLong() - reconciledAt >= reconciliationNanos)
+            return null;
+        return current;
+    }
+
+    // Before the first count, the change is only recorded: a count running meanwhile applies it (see get)
+    public void onBookEvent(@Observes(during = TransactionPhase.AFTER_SUCCESS) BookEvent event) {
+        long delta = event.getType() == BookEvent.Type.CREATED ? event.getIds().size() : -event.getIds().size();
+        state.updateAndGet(current -> new State(current.count == NOT_SEEDED ? NOT_SEEDED : Math.max(0, current.count + delta), current.changes + delta));
+    }
+
+    // Seeds the counter at deployment time, so the first requests are already served from memory. The COUNT scans the
+    // table: it runs on its own thread, the deployment doesn't wait for it
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object init, BookRepository bookRepository) {
+        ThreadFactory factory = threadFactory != null ? threadFactory : Executors.defaultThreadFactory();
+        factory.newThread(() -> {
+            try {
+                bookRepository.countAll();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Book counter not seeded, the first reader will count the books", e);
+            }
+        }).start();
+    }
+
+    // ======================================
+    // =            Inner class             =
+    // ======================================
+
+    // The count and the sum of all the committed changes, swapped together
+    private static final class State {
+
+        private final long count;
+        private final long changes;
+
+        private State(long count, long changes) {
+            this.count = count;
+            this.changes = changes;
+        }
+    }
+}
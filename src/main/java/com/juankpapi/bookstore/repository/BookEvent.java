@@ -0,0 +1,72 @@
+package com.juankpapi.bookstore.repository;
+
+import com.juankpapi.bookstore.model.Book;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// CDI event fired by BookRepository each time books are created or deleted.
+// Observers that keep derived state (caches, counters...) listen to it with
+// @Observes(during = TransactionPhase.AFTER_SUCCESS) so they only see changes that have been committed.
+public class BookEvent {
+
+    public enum Type {
+        CREATED, DELETED
+    }
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private final Type type;
+    private final Set<Long> ids;
+    private final List<Book> books;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    private BookEvent(Type type, Set<Long> ids, List<Book> books) {
+        this.type = type;
+        this.ids = Collections.unmodifiableSet(ids);
+        this.books = Collections.unmodifiableList(books);
+    }
+
+    public static BookEvent created(Collection<Book> books) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Book book : books)
+            ids.add(book.getId());
+        return new BookEvent(Type.CREATED, ids, new ArrayList<>(books));
+    }
+
+    public static BookEvent deleted(Collection<Long> ids) {
+        return new BookEvent(Type.DELETED, new LinkedHashSet<>(ids), Collections.<Book>emptyList());
+    }
+
+    // ======================================
+    // =        Getters and Setters         =
+    // ======================================
+    public Type getType() {
+        return type;
+    }
+
+    // Identifiers of the created or deleted books
+    public Set<Long> getIds() {
+        return ids;
+    }
+
+    // Created books, empty for deletions
+    public List<Book> getBooks() {
+        return books;
+    }
+
+    @Override
+    public String toString() {
+        return "BookEvent{" +
+                "type=" + type +
+                ", ids=" + ids +
+                '}';
+    }
+}
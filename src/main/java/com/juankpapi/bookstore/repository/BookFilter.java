@@ -0,0 +1,105 @@
+package com.juankpapi.bookstore.repository;
+
+import com.juankpapi.bookstore.model.Language;
+
+import java.util.Date;
+
+// Criteria selecting books, a null criterion doesn't filter anything.
+// Ranges are inclusive, except publishedBefore: publishedAfter and publishedBefore select [publishedAfter, publishedBefore)
+public class BookFilter {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private Language language;
+    private Float minCost;
+    private Float maxCost;
+    private Integer minPages;
+    private Integer maxPages;
+    private Date publishedAfter;
+    private Date publishedBefore;
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+
+    // True if no criterion is set, i.e. the filter selects the whole catalog
+    public boolean isEmpty() {
+        return language == null && minCost == null && maxCost == null && minPages == null && maxPages == null
+                && publishedAfter == null && publishedBefore == null;
+    }
+
+    // ======================================
+    // =        Getters and Setters         =
+    // ======================================
+    public Language getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(Language language) {
+        this.language = language;
+    }
+
+    public Float getMinCost() {
+        return minCost;
+    }
+
+    public void setMinCost(Float minCost) {
+        this.minCost = minCost;
+    }
+
+    public Float getMaxCost() {
+        return maxCost;
+    }
+
+    public void setMaxCost(Float maxCost) {
+        this.maxCost = maxCost;
+    }
+
+    public Integer getMinPages() {
+        return minPages;
+    }
+
+    public void setMinPages(Integer minPages) {
+        this.minPages = minPages;
+    }
+
+    public Integer getMaxPages() {
+        return maxPages;
+    }
+
+    public void setMaxPages(Integer maxPages) {
+        this.maxPages = maxPages;
+    }
+
+    // Books published on or after this date
+    public Date getPublishedAfter() {
+        return publishedAfter;
+    }
+
+    public void setPublishedAfter(Date publishedAfter) {
+        this.publishedAfter = publishedAfter;
+    }
+
+    // Books published strictly before this date
+    public Date getPublishedBefore() {
+        return publishedBefore;
+    }
+
+    public void setPublishedBefore(Date publishedBefore) {
+        this.publishedBefore = publishedBefore;
+    }
+
+    @Override
+    public String toString() {
+        return "BookFilter{" +
+                "language=" + language +
+                ", minCost=" + minCost +
+                ", maxCost=" + maxCost +
+                ", minPages=" + minPages +
+                ", maxPages=" + maxPages +
+                ", publishedAfter=" + publishedAfter +
+                ", publishedBefore=" + publishedBefore +
+                '}';
+    }
+}
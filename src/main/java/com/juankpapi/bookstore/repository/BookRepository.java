@@ -1,16 +1,47 @@
 package com.juankpapi.bookstore.repository;
 
+import com.juankpapi.bookstore.metrics.Timed;
 import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.model.BookSummary;
+import com.juankpapi.bookstore.model.Language;
 import com.juankpapi.bookstore.util.NumberGenerator;
 import com.juankpapi.bookstore.util.TextUtil;
+import org.hibernate.jpa.QueryHints;
 
+import javax.enterprise.event.Event;
 import javax.inject.Inject;
+import javax.persistence.CacheStoreMode;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import javax.persistence.TemporalType;
+import javax.persistence.Tuple;
 import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.ParameterExpression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
 import javax.transaction.Transactional;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 import static javax.transaction.Transactional.TxType.REQUIRED;
 import static javax.transaction.Transactional.TxType.SUPPORTS;
@@ -25,6 +56,7 @@ import static javax.transaction.Transactional.TxType.SUPPORTS;
 // We can put the injection here on the class --> Use for all the methods on the class interacting with the DB, except those that specify a new Transactional Method (here see create or delete)
 // or we can put on each one of the methods we need
 @Transactional(SUPPORTS)
+@Timed      // Calls, errors and latencies of every method are exported by GET /metrics
 public class BookRepository {
     // ======================================
     // =          Injection Points          =
@@ -32,30 +64,228 @@ public class BookRepository {
     @PersistenceContext(unitName = "bookStorePU")
     private EntityManager em;
 
+    // ======================================
+    // =             Constants              =
+    // ======================================
+    // Book attributes that can be asked for in a sparse fieldset (see findFieldsPage)
+    public static final Set<String> PROJECTABLE_FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
+            "id", "title", "description", "unitCost", "isbn", "publicationDate", "nbOfPages", "imageURL", "language")));
+
+    // Number of books persisted between two flushes in createAll, same as hibernate.jdbc.batch_size and the id allocation size
+    public static final int BATCH_SIZE = 50;
+
     // ======================================
     // =          Business methods          =ß
     // ======================================
 
     //**** Read Methods --> DB doesn't change ****
+    // Hot books are served by the cache, then by the second-level cache (Book is @Cacheable): the database is only hit on a miss
     public Book find(@NotNull Long id) {
-        return em.find(Book.class, id);
+        return bookCache.get(id, bookId -> queryMonitor.execute("find", null, () -> em.find(Book.class, bookId), book -> book == null ? 0 : 1));
+    }
+
+    // Only returns the book if it is cached (null otherwise), so it can be called without waiting for the database
+    public Book findCached(@NotNull Long id) {
+        return bookCache.getIfPresent(id);
     }
 
     public List<Book> findAll() {
         //This is 'JPQL' language wich instead of dealing with tables, rows and columns, it manages entities
         TypedQuery<Book> query = em.createQuery("SELECT b FROM Book b ORDER BY b.title DESC", Book.class);
-        return query.getResultList();
+        return list("findAll", cached(query));
+    }
+
+    // Loads the given books with a single query, in the same order as <ids>. Unknown ids are skipped
+    public List<Book> findAll(@NotNull List<Long> ids) {
+        if (ids.isEmpty())
+            return Collections.emptyList();
+        Map<Long, Book> books = new HashMap<>();
+        for (Book book : list("findAllByIds", em.createQuery("SELECT b FROM Book b WHERE b.id IN :ids", Book.class).setParameter("ids", ids)))
+            books.put(book.getId(), book);
+        List<Book> ordered = new ArrayList<>(books.size());
+        for (Long id : ids) {
+            Book book = books.get(id);
+            if (book != null)
+                ordered.add(book);
+        }
+        return ordered;
+    }
+
+    // Keyset (seek) pagination: instead of an OFFSET, we continue right after the last <title, id> already returned.
+    // The WHERE clause is served by the <title, id> index, so every page costs the same no matter how deep we are.
+    public List<Book> findPage(String afterTitle, Long afterId, @Min(1) int size) {
+        return findPage(new BookFilter(), afterTitle, afterId, size);
+    }
+
+    // Same page, restricted to the books matching <filter>. Each criterion has its own index (see Book)
+    public List<Book> findPage(@NotNull BookFilter filter, String afterTitle, Long afterId, @Min(1) int size) {
+        return list("findPage", cached(seekBooks(filter, afterTitle, afterId, size)));
     }
 
+    private TypedQuery<Book> seekBooks(BookFilter filter, String afterTitle, Long afterId, int size) {
+        CriteriaQuery<Book> query = em.getCriteriaBuilder().createQuery(Book.class);
+        Root<Book> book = query.from(Book.class);
+        return seek(query.select(book), book, filter, afterTitle, afterId, size);
+    }
+
+    // Same page as findPage, but only the columns of a list view are read and no entity gets managed (constructor expression)
+    public List<BookSummary> findSummaryPage(String afterTitle, Long afterId, @Min(1) int size) {
+        return findSummaryPage(new BookFilter(), afterTitle, afterId, size);
+    }
+
+    public List<BookSummary> findSummaryPage(@NotNull BookFilter filter, String afterTitle, Long afterId, @Min(1) int size) {
+        CriteriaBuilder builder = em.getCriteriaBuilder();
+        CriteriaQuery<BookSummary> query = builder.createQuery(BookSummary.class);
+        Root<Book> book = query.from(Book.class);
+        query.select(builder.construct(BookSummary.class, book.get("id"), book.get("title"), book.get("unitCost"), book.get("isbn"), book.get("imageURL")));
+        return list("findSummaryPage", cached(seek(query, book, filter, afterTitle, afterId, size)));
+    }
+
+    // Same page as findPage, but only the requested fields (plus id and title, which identify the book and the page) are read.
+    // Throws IllegalArgumentException if a field is not one of PROJECTABLE_FIELDS
+    public List<Map<String, Object>> findFieldsPage(@NotNull Set<String> fields, String afterTitle, Long afterId, @Min(1) int size) {
+        return findFieldsPage(fields, new BookFilter(), afterTitle, afterId, size);
+    }
+
+    public List<Map<String, Object>> findFieldsPage(@NotNull Set<String> fields, @NotNull BookFilter filter, String afterTitle, Long afterId, @Min(1) int size) {
+        Set<String> selected = new LinkedHashSet<>(Arrays.asList("id", "title"));
+        for (String field : fields) {
+            if (!PROJECTABLE_FIELDS.contains(field))
+                throw new IllegalArgumentException("Unknown field " + field);
+            selected.add(field);
+        }
+
+        CriteriaQuery<Tuple> query = em.getCriteriaBuilder().createTupleQuery();
+        Root<Book> book = query.from(Book.class);
+        List<Selection<?>> selections = new ArrayList<>(selected.size());
+        for (String field : selected)
+            selections.add(book.get(field).alias(field));
+        query.multiselect(selections);
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : list("findFieldsPage", seek(query, book, filter, afterTitle, afterId, size))) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (String field : selected)
+                row.put(field, tuple.get(field));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    // Adds the criteria of <filter>, the keyset condition and the <title, id> ordering to <query>.
+    // Criteria and cursor are always bound as parameters, never inlined as literals: each combination of criteria is
+    // one prepared statement, whatever the values, so the database parses and plans it once and then reuses the plan
+    private <T> TypedQuery<T> seek(CriteriaQuery<T> query, Root<Book> book, BookFilter filter, String afterTitle, Long afterId, int size) {
+        CriteriaBuilder builder = em.getCriteriaBuilder();
+        List<Predicate> where = new ArrayList<>(Arrays.asList(predicates(builder, book, filter)));
+        boolean seeking = afterTitle != null && afterId != null;
+        if (seeking) {
+            ParameterExpression<String> title = builder.parameter(String.class, "afterTitle");
+            ParameterExpression<Long> id = builder.parameter(Long.class, "afterId");
+            where.add(builder.or(
+                    builder.lessThan(book.<String>get("title"), title),
+                    builder.and(builder.equal(book.get("title"), title), builder.lessThan(book.<Long>get("id"), id))));
+        }
+        query.where(where.toArray(new Predicate[0])).orderBy(builder.desc(book.get("title")), builder.desc(book.get("id")));
+
+        TypedQuery<T> typedQuery = bind(em.createQuery(query), filter);
+        if (seeking) {
+            typedQuery.setParameter("afterTitle", afterTitle);
+            typedQuery.setParameter("afterId", afterId);
+        }
+        return typedQuery.setMaxResults(size);
+    }
+
+    // Walks the whole catalog in chunks of <chunkSize> books, seeking from one chunk to the next like findPage.
+    // The persistence context is cleared after each chunk so only one chunk is ever kept in memory, and the chunks
+    // bypass the second-level cache: a walk through the catalog would evict the books that are actually hot
+    public void forEachChunk(@Min(1) int chunkSize, @NotNull Consumer<List<Book>> consumer) {
+        forEachChunk(new BookFilter(), chunkSize, consumer);
+    }
+
+    public void forEachChunk(@NotNull BookFilter filter, @Min(1) int chunkSize, @NotNull Consumer<List<Book>> consumer) {
+        List<Book> chunk = list("forEachChunk", uncached(seekBooks(filter, null, null, chunkSize)));
+        while (!chunk.isEmpty()) {
+            consumer.accept(chunk);
+            Book last = chunk.get(chunk.size() - 1);
+            em.clear();
+            if (chunk.size() < chunkSize)
+                return;
+            chunk = list("forEachChunk", uncached(seekBooks(filter, last.getTitle(), last.getId(), chunkSize)));
+        }
+    }
+
+    // Walks the books matching <filter> in id order, <chunkSize> books at a time, seeking from one chunk to the next on the primary key.
+    // Like forEachChunk, the persistence context is cleared after each chunk: exports run in constant memory whatever the catalog size
+    public void forEachChunkById(@NotNull BookFilter filter, @Min(1) int chunkSize, @NotNull Consumer<List<Book>> consumer) {
+        Long afterId = null;
+        while (true) {
+            List<Book> chunk = findChunkById(filter, afterId, chunkSize);
+            if (chunk.isEmpty())
+                return;
+            consumer.accept(chunk);
+            afterId = chunk.get(chunk.size() - 1).getId();
+            em.clear();
+            if (chunk.size() < chunkSize)
+                return;
+        }
+    }
+
+    private List<Book> findChunkById(BookFilter filter, Long afterId, int size) {
+        CriteriaBuilder builder = em.getCriteriaBuilder();
+        CriteriaQuery<Book> query = builder.createQuery(Book.class);
+        Root<Book> book = query.from(Book.class);
+        List<Predicate> where = new ArrayList<>(Arrays.asList(predicates(builder, book, filter)));
+        if (afterId != null)
+            where.add(builder.greaterThan(book.<Long>get("id"), builder.parameter(Long.class, "afterId")));
+        query.select(book).where(where.toArray(new Predicate[0])).orderBy(builder.asc(book.get("id")));
+
+        TypedQuery<Book> typedQuery = bind(em.createQuery(query), filter);
+        if (afterId != null)
+            typedQuery.setParameter("afterId", afterId);
+        return list("findChunkById", uncached(typedQuery.setMaxResults(size)));
+    }
+
+    // Greatest ISBN starting with <prefix> and <length> characters long, null if there is none.
+    // ISBNs of the same length compare as numbers, so this is the last one generated (see IsbnGenerator).
+    // The ISBNs starting with <prefix> are walked backwards on the isbn index, one at a time, until one has the right length:
+    // usually the first one, without scanning the table (LENGTH(isbn) in the WHERE clause would)
+    public String findLastIsbn(@NotNull String prefix, @Min(1) int length) {
+        String before = null;
+        while (true) {
+            TypedQuery<String> query = em.createQuery("SELECT b.isbn FROM Book b WHERE b.isbn LIKE :prefix"
+                    + (before == null ? "" : " AND b.isbn < :before") + " ORDER BY b.isbn DESC", String.class)
+                    .setParameter("prefix", prefix + "%")
+                    .setMaxResults(1);
+            if (before != null)
+                query.setParameter("before", before);
+            List<String> isbns = list("findLastIsbn", query);
+            if (isbns.isEmpty())
+                return null;
+            before = isbns.get(0);
+            if (before.length() == length)
+                return before;
+        }
+    }
+
+    // Number of books if it is known without counting the table, null otherwise
+    public Long countCached() {
+        return bookCounter.getIfFresh();
+    }
+
+    // Served from memory, the table is only counted to seed or reconcile the counter. That COUNT always reads the table: a
+    // cached result would hand the drift back to the counter (bulk SQL the provider doesn't know about) instead of fixing it
     public Long countAll() {
-        TypedQuery<Long> query = em.createQuery("SELECT COUNT(b) FROM Book b", Long.class);
-        return query.getSingleResult();
+        return bookCounter.get(() -> {
+            TypedQuery<Long> query = em.createQuery("SELECT COUNT(b) FROM Book b", Long.class);
+            return single("countAll", uncached(query));
+        });
     }
 
     // ======================================
     // =            INJECTION              =
     // ======================================
-    // To create a Book we need to create a random isbn and sanitize the title to avoid double spaces for example.
+    // To create a Book we need to create a random isbn and sanitize the title and description to avoid double spaces for example.
     // In order to do that we need to external services done by two external Beans: NumberGenerator and TextUtil
     @Inject
     private NumberGenerator generator;
@@ -63,6 +293,22 @@ public class BookRepository {
     @Inject
     private TextUtil textUtil;
 
+    // Caches and other derived state observe these events to stay in sync with the committed data
+    @Inject
+    private Event<BookEvent> bookEvent;
+
+    @Inject
+    private BookCache bookCache;
+
+    @Inject
+    private BookCounter bookCounter;
+
+    @Inject
+    private QueryMonitor queryMonitor;
+
+    @Inject
+    private Validator validator;
+
 
     //@Transactional start a JTA transaction before the method is invoke and commits all rollbacks after method is executed
     //REQUIRED:
@@ -70,17 +316,184 @@ public class BookRepository {
     //          - If the client is not associated with a transaction, the container starts a new transaction before running the method.
     @Transactional(REQUIRED)
     public Book create(@NotNull Book book) {
+        prepare(book, textUtil::sanitize);
+        em.persist(book);
+        bookEvent.fire(BookEvent.created(Collections.singletonList(book)));
+        return book;
+    }
+
+    // Creates all the valid books in one transaction and reports, for each book, its new id or why it has been rejected.
+    // Invalid books are checked before being persisted, so they don't roll back the others. The persistence context is
+    // flushed and cleared every BATCH_SIZE books: inserts go to the database as JDBC batches (hibernate.jdbc.batch_size)
+    // and memory doesn't grow with the size of the batch
+    @Transactional(REQUIRED)
+    public List<BatchItemResult> createAll(@NotNull List<Book> books) {
+        List<BatchItemResult> results = new ArrayList<>(books.size());
+        List<Book> created = new ArrayList<>(books.size());
+        // One buffer sanitizes the texts of all the books
+        TextUtil.Sanitizer sanitizer = textUtil.newSanitizer();
+        for (int index = 0; index < books.size(); index++) {
+            Book book = books.get(index);
+            if (book == null) {
+                results.add(BatchItemResult.rejected(index, "book may not be null"));
+                continue;
+            }
+            prepare(book, sanitizer::sanitize);
+            Set<ConstraintViolation<Book>> violations = validator.validate(book);
+            if (!violations.isEmpty()) {
+                StringJoiner error = new StringJoiner(", ");
+                for (ConstraintViolation<Book> violation : violations)
+                    error.add(violation.getPropertyPath() + " " + violation.getMessage());
+                results.add(BatchItemResult.rejected(index, error.toString()));
+                continue;
+            }
+            persist(book, created);
+            results.add(BatchItemResult.created(index, book.getId()));
+        }
+        bookEvent.fire(BookEvent.created(created));
+        return results;
+    }
+
+    // Same as createAll for books the caller has already sanitized and validated, off the transaction (see BookImporter, whose
+    // parser threads do it): only their ISBNs are generated here. They are all created, the ids are in the same order
+    @Transactional(REQUIRED)
+    public List<Long> createAllValidated(@NotNull List<Book> books) {
+        List<Long> ids = new ArrayList<>(books.size());
+        List<Book> created = new ArrayList<>(books.size());
+        for (Book book : books) {
+            generateIsbn(book);
+            persist(book, created);
+            ids.add(book.getId());
+        }
+        bookEvent.fire(BookEvent.created(created));
+        return ids;
+    }
+
+    private void persist(Book book, List<Book> created) {
+        em.persist(book);
+        created.add(book);
+        if (created.size() % BATCH_SIZE == 0) {
+            em.flush();
+            em.clear();
+        }
+    }
+
+    // Business rules applied to every new book
+    private void prepare(Book book, UnaryOperator<String> sanitizer) {
+        generateIsbn(book);
+        book.setTitle(sanitizer.apply(book.getTitle()));
+        book.setDescription(sanitizer.apply(book.getDescription()));
+    }
+
+    private void generateIsbn(Book book) {
         //Call Injected Dependencies
         if(book.getIsbn() != null)
             book.setIsbn(generator.generateNumber());
-        book.setTitle(textUtil.sanitize(book.getTitle()));
-        em.persist(book);
-        return book;
     }
 
     @Transactional(REQUIRED)
     public void delete(@NotNull Long id) {
         em.remove(em.getReference(Book.class, id));
+        bookEvent.fire(BookEvent.deleted(Collections.singletonList(id)));
+    }
+
+    // Bulk deletes: whatever the number of books, it costs two statements: one reading the ids of the books that are going
+    // to be deleted (caches and counters must know them), and one DELETE. Returns the number of deleted books
+    @Transactional(REQUIRED)
+    public int deleteAll(@NotNull Collection<Long> ids) {
+        if (ids.isEmpty())
+            return 0;
+        List<Long> deletedIds = list("deleteAllByIds.select", em.createQuery("SELECT b.id FROM Book b WHERE b.id IN :ids", Long.class)
+                .setParameter("ids", ids));
+        if (deletedIds.isEmpty())
+            return 0;
+        int deleted = update("deleteAllByIds", em.createQuery("DELETE FROM Book b WHERE b.id IN :ids")
+                .setParameter("ids", deletedIds));
+        bookEvent.fire(BookEvent.deleted(deletedIds));
+        return deleted;
+    }
+
+    @Transactional(REQUIRED)
+    public int deleteAll(@NotNull BookFilter filter) {
+        if (filter.isEmpty())
+            throw new IllegalArgumentException("A filter is needed to delete books");
+        CriteriaBuilder builder = em.getCriteriaBuilder();
+
+        CriteriaQuery<Long> select = builder.createQuery(Long.class);
+        Root<Book> selected = select.from(Book.class);
+        select.select(selected.<Long>get("id")).where(predicates(builder, selected, filter));
+        List<Long> deletedIds = list("deleteAllByFilter.select", bind(em.createQuery(select), filter));
+        if (deletedIds.isEmpty())
+            return 0;
+
+        // Deletes the selected ids rather than evaluating the filter again: a book that starts matching in between
+        // would be deleted without being part of the event
+        int deleted = update("deleteAllByFilter", em.createQuery("DELETE FROM Book b WHERE b.id IN :ids")
+                .setParameter("ids", deletedIds));
+        bookEvent.fire(BookEvent.deleted(deletedIds));
+        return deleted;
+    }
+
+    // Translates the criteria of the filter into the predicates of a Criteria query on <root>, one named parameter per criterion
+    private static Predicate[] predicates(CriteriaBuilder builder, Root<Book> root, BookFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getLanguage() != null)
+            predicates.add(builder.equal(root.get("language"), builder.parameter(Language.class, "language")));
+        if (filter.getMinCost() != null)
+            predicates.add(builder.greaterThanOrEqualTo(root.<Float>get("unitCost"), builder.parameter(Float.class, "minCost")));
+        if (filter.getMaxCost() != null)
+            predicates.add(builder.lessThanOrEqualTo(root.<Float>get("unitCost"), builder.parameter(Float.class, "maxCost")));
+        if (filter.getMinPages() != null)
+            predicates.add(builder.greaterThanOrEqualTo(root.<Integer>get("nbOfPages"), builder.parameter(Integer.class, "minPages")));
+        if (filter.getMaxPages() != null)
+            predicates.add(builder.lessThanOrEqualTo(root.<Integer>get("nbOfPages"), builder.parameter(Integer.class, "maxPages")));
+        if (filter.getPublishedAfter() != null)
+            predicates.add(builder.greaterThanOrEqualTo(root.<Date>get("publicationDate"), builder.parameter(Date.class, "publishedAfter")));
+        if (filter.getPublishedBefore() != null)
+            predicates.add(builder.lessThan(root.<Date>get("publicationDate"), builder.parameter(Date.class, "publishedBefore")));
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    // Every statement goes through the query monitor, which counts it and logs it if it is slow
+    private <T> List<T> list(String name, TypedQuery<T> query) {
+        return queryMonitor.execute(name, query, query::getResultList, List::size);
+    }
+
+    private <T> T single(String name, TypedQuery<T> query) {
+        return queryMonitor.execute(name, query, query::getSingleResult, result -> 1);
+    }
+
+    private int update(String name, Query query) {
+        return queryMonitor.execute(name, query, query::executeUpdate, updated -> updated);
+    }
+
+    // Results of list queries are kept in the query region of the second-level cache until books are created or
+    // deleted (see SecondLevelCache): the same query with the same parameters is then answered without SQL
+    private static <T> TypedQuery<T> cached(TypedQuery<T> query) {
+        return query.setHint(QueryHints.HINT_CACHEABLE, true).setHint(QueryHints.HINT_CACHE_REGION, SecondLevelCache.QUERY_REGION);
+    }
+
+    private static <T> TypedQuery<T> uncached(TypedQuery<T> query) {
+        return query.setHint("javax.persistence.cache.storeMode", CacheStoreMode.BYPASS);
+    }
+
+    // Binds the values of the filter to the parameters declared by predicates
+    private static <Q extends Query> Q bind(Q query, BookFilter filter) {
+        if (filter.getLanguage() != null)
+            query.setParameter("language", filter.getLanguage());
+        if (filter.getMinCost() != null)
+            query.setParameter("minCost", filter.getMinCost());
+        if (filter.getMaxCost() != null)
+            query.setParameter("maxCost", filter.getMaxCost());
+        if (filter.getMinPages() != null)
+            query.setParameter("minPages", filter.getMinPages());
+        if (filter.getMaxPages() != null)
+            query.setParameter("maxPages", filter.getMaxPages());
+        if (filter.getPublishedAfter() != null)
+            query.setParameter("publishedAfter", filter.getPublishedAfter(), TemporalType.DATE);
+        if (filter.getPublishedBefore() != null)
+            query.setParameter("publishedBefore", filter.getPublishedBefore(), TemporalType.DATE);
+        return query;
     }
 
 }
@@ -0,0 +1,87 @@
+package com.juankpapi.bookstore.repository;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+// Snapshot of the counters of a cache, taken at a given time
+@ApiModel(description = "Cache statistics")
+public class CacheStatistics {
+
+    @ApiModelProperty("Name of the cache")
+    private String name;
+
+    @ApiModelProperty("Number of entries currently cached")
+    private long size;
+
+    @ApiModelProperty("Maximum number of entries, -1 when it is set by the JPA provider (second-level cache regions)")
+    private long capacity;
+
+    @ApiModelProperty("Number of lookups served from the cache")
+    private long hits;
+
+    @ApiModelProperty("Number of lookups that went to the database")
+    private long misses;
+
+    @ApiModelProperty("Number of entries removed because of capacity, expiration or invalidation")
+    private long evictions;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public CacheStatistics() {
+    }
+
+    public CacheStatistics(String name, long size, long capacity, long hits, long misses, long evictions) {
+        this.name = name;
+        this.size = size;
+        this.capacity = capacity;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    // ======================================
+    // =        Getters and Setters         =
+    // ======================================
+    public String getName() {
+        return name;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    @ApiModelProperty("Hits divided by lookups, 0 when nothing has been looked up yet")
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{" +
+                "name='" + name + '\'' +
+                ", size=" + size +
+                ", capacity=" + capacity +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                '}';
+    }
+}
@@ -0,0 +1,45 @@
+package com.juankpapi.bookstore.repository;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Version of the whole catalog, incremented each time books are created or deleted (committed BookEvents).
+// Lists and counts of books only change when this version changes, so it is used as their validator (ETag / Last-Modified):
+// clients polling an unchanged catalog get a 304 without the database being queried.
+@ApplicationScoped
+public class CatalogVersion {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    // Changes on each deployment, so a version number seen before a restart never matches again
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong version = new AtomicLong();
+    // Whole seconds, like HTTP dates: a client sending back the Last-Modified it received must match it exactly
+    private volatile long lastModified = seconds(System.currentTimeMillis());
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+
+    // Value of the ETag of any representation derived from the catalog at this version
+    public String getTag() {
+        return epoch + "-" + version.get();
+    }
+
+    public Date getLastModified() {
+        return new Date(lastModified);
+    }
+
+    public void onBookEvent(@Observes(during = TransactionPhase.AFTER_SUCCESS) BookEvent event) {
+        lastModified = seconds(System.currentTimeMillis());
+        version.incrementAndGet();
+    }
+
+    private static long seconds(long millis) {
+        return millis - Math.floorMod(millis, 1000L);
+    }
+}
@@ -0,0 +1,92 @@
+package com.juankpapi.bookstore.repository;
+
+import com.juankpapi.bookstore.model.Book;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.transaction.Transactional;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static javax.transaction.Transactional.TxType.REQUIRED;
+
+// Loads the seed books (import.sql, one INSERT per line) when, and only when, the BOOK table is empty.
+// In development the schema is dropped and created at each deployment and import.sql is loaded by JPA itself, so the table
+// is never empty here. In production (see the production Maven profile) the database is kept across restarts: it is only
+// seeded the first time, and checking that the table is empty reads a single row, whatever the size of the catalog.
+// The script can be replaced with the bookstore.seed.script system property (a classpath resource)
+@ApplicationScoped
+public class DatabaseSeeder {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private static final Logger LOGGER = Logger.getLogger(DatabaseSeeder.class.getName());
+
+    private final String script = System.getProperty("bookstore.seed.script", "import.sql");
+
+    // ======================================
+    // =          Injection Points          =
+    // ======================================
+    @PersistenceContext(unitName = "bookStorePU")
+    private EntityManager em;
+
+    @Inject
+    private Event<BookEvent> bookEvent;
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+
+    // The other startup observers (counter, indexes...) may run before or after this one: the seed books are announced
+    // with a BookEvent, like any other creation
+    @Transactional(REQUIRED)
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object init) {
+        if (!em.createQuery("SELECT b.id FROM Book b").setMaxResults(1).getResultList().isEmpty())
+            return;
+        InputStream input = Thread.currentThread().getContextClassLoader().getResourceAsStream(script);
+        if (input == null) {
+            LOGGER.warning("No seed script " + script + ", the catalog is left empty");
+            return;
+        }
+        List<String> statements;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            statements = statements(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the seed script " + script, e);
+        }
+        for (String statement : statements)
+            em.createNativeQuery(statement).executeUpdate();
+        // The table was empty: it only holds the seed books
+        bookEvent.fire(BookEvent.created(em.createQuery("SELECT b FROM Book b", Book.class).getResultList()));
+        LOGGER.info("Empty catalog seeded with " + script + " (" + statements.size() + " statements)");
+    }
+
+    // Same format as the JPA load script: one statement per line, optionally ending with a semicolon. Blank lines and
+    // comments (-- or //) are skipped
+    static List<String> statements(BufferedReader reader) throws IOException {
+        List<String> statements = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String statement = line.trim();
+            if (statement.endsWith(";"))
+                statement = statement.substring(0, statement.length() - 1).trim();
+            if (statement.isEmpty() || statement.startsWith("--") || statement.startsWith("//"))
+                continue;
+            statements.add(statement);
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,144 @@
+package com.juankpapi.bookstore.repository;
+
+import org.hibernate.SessionFactory;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Parameter;
+import javax.persistence.PersistenceUnit;
+import javax.persistence.Query;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// Monitors the queries of BookRepository: executions, rows and time per query (named after the repository method).
+// - Queries slower than the threshold are logged, with their parameters, at WARNING level
+// - The number of SQL statements comes from the provider statistics (hibernate.generate_statistics): every statement
+//   prepared by bookStorePU is counted, the inserts and deletes flushed by the persistence context and the lazy or N+1
+//   loads included, and a query served by the second-level cache counts for nothing. It lets tests assert how many
+//   round trips an operation costs (eg. findAll issues exactly one SELECT)
+// - Recording never locks: the counters are LongAdders in a concurrent map
+// The slow query threshold (in milliseconds) can be tuned with the bookstore.query.slow system property
+@ApplicationScoped
+public class QueryMonitor {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private static final Logger LOGGER = Logger.getLogger(QueryMonitor.class.getName());
+
+    private final Map<String, Counters> queries = new ConcurrentSkipListMap<>();
+    // Statements prepared before the last reset: the provider statistics are shared with SecondLevelCache, they are never cleared
+    private final AtomicLong statementsAtReset = new AtomicLong();
+
+    private final long slowNanos;
+    private final LongSupplier clock;
+    // Total number of statements prepared by the persistence unit
+    private final LongSupplier preparedStatements;
+
+    // ======================================
+    // =          Injection Points          =
+    // ======================================
+    @PersistenceUnit(unitName = "bookStorePU")
+    private EntityManagerFactory emf;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public QueryMonitor() {
+        this.slowNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong("bookstore.query.slow", 500));
+        this.clock = System::nanoTime;
+        this.preparedStatements = () -> emf.unwrap(SessionFactory.class).getStatistics().getPrepareStatementCount();
+    }
+
+    QueryMonitor(long slowNanos, LongSupplier clock, LongSupplier preparedStatements) {
+        this.slowNanos = slowNanos;
+        this.clock = clock;
+        this.preparedStatements = preparedStatements;
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+
+    // Runs <execution> (one execution of the query <name>) and records its time and the rows it returned or updated.
+    // <query> is only used to log the parameters of a slow execution, it may be null
+    public <R> R execute(String name, Query query, Supplier<R> execution, ToIntFunction<R> rows) {
+        long start = clock.getAsLong();
+        R result = execution.get();
+        long elapsed = clock.getAsLong() - start;
+
+        Counters counters = queries.computeIfAbsent(name, Counters::new);
+        counters.executions.increment();
+        counters.rows.add(rows.applyAsInt(result));
+        counters.nanos.add(elapsed);
+        counters.maxNanos.accumulate(elapsed);
+        if (elapsed >= slowNanos) {
+            counters.slowExecutions.increment();
+            if (LOGGER.isLoggable(Level.WARNING))
+                LOGGER.warning(String.format("Slow query %s: %.1f ms, %s", name, elapsed / 1e6, parameters(query)));
+        }
+        return result;
+    }
+
+    // Number of SQL statements sent to the database since the start (or the last reset), by any thread
+    public long getStatementCount() {
+        return preparedStatements.getAsLong() - statementsAtReset.get();
+    }
+
+    public List<QueryStatistics> getStatistics() {
+        Collection<Counters> all = queries.values();
+        List<QueryStatistics> statistics = new ArrayList<>(all.size());
+        for (Counters counters : all)
+            statistics.add(counters.snapshot());
+        return statistics;
+    }
+
+    public void reset() {
+        queries.clear();
+        statementsAtReset.set(preparedStatements.getAsLong());
+    }
+
+    static String parameters(Query query) {
+        if (query == null)
+            return "no parameters";
+        StringJoiner parameters = new StringJoiner(", ", "parameters {", "}");
+        for (Parameter<?> parameter : query.getParameters()) {
+            String name = parameter.getName() != null ? parameter.getName() : "?" + parameter.getPosition();
+            parameters.add(name + "=" + (query.isBound(parameter) ? query.getParameterValue(parameter) : "<unbound>"));
+        }
+        return parameters.toString();
+    }
+
+    // ======================================
+    // =            Inner class             =
+    // ======================================
+    private static final class Counters {
+        private final String name;
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder slowExecutions = new LongAdder();
+
+        private Counters(String name) {
+            this.name = name;
+        }
+
+        private QueryStatistics snapshot() {
+            return new QueryStatistics(name, executions.sum(), rows.sum(), nanos.sum() / 1e6, maxNanos.get() / 1e6, slowExecutions.sum());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.juankpapi.bookstore.repository;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+// Snapshot of the counters of a query, taken at a given time
+@ApiModel(description = "Query statistics")
+public class QueryStatistics {
+
+    @ApiModelProperty("Name of the query (repository method)")
+    private String name;
+
+    @ApiModelProperty("Number of executions")
+    private long executions;
+
+    @ApiModelProperty("Number of rows read or updated by all the executions")
+    private long rows;
+
+    @ApiModelProperty("Total execution time in milliseconds")
+    private double totalTime;
+
+    @ApiModelProperty("Longest execution time in milliseconds")
+    private double maxTime;
+
+    @ApiModelProperty("Number of executions slower than the slow query threshold")
+    private long slowExecutions;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public QueryStatistics() {
+    }
+
+    public QueryStatistics(String name, long executions, long rows, double totalTime, double maxTime, long slowExecutions) {
+        this.name = name;
+        this.executions = executions;
+        this.rows = rows;
+        this.totalTime = totalTime;
+        this.maxTime = maxTime;
+        this.slowExecutions = slowExecutions;
+    }
+
+    // ======================================
+    // =        Getters and Setters         =
+    // ======================================
+    public String getName() {
+        return name;
+    }
+
+    public long getExecutions() {
+        return executions;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public double getTotalTime() {
+        return totalTime;
+    }
+
+    public double getMaxTime() {
+        return maxTime;
+    }
+
+    public long getSlowExecutions() {
+        return slowExecutions;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryStatistics{" +
+                "name='" + name + '\'' +
+                ", executions=" + executions +
+                ", rows=" + rows +
+                ", totalTime=" + totalTime +
+                ", maxTime=" + maxTime +
+                ", slowExecutions=" + slowExecutions +
+                '}';
+    }
+}
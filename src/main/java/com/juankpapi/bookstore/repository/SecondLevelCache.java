@@ -0,0 +1,69 @@
+package com.juankpapi.bookstore.repository;
+
+import com.juankpapi.bookstore.model.Book;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+// Regions of the JPA second-level cache of bookStorePU (shared-cache-mode ENABLE_SELECTIVE, see persistence.xml):
+// - the Book region holds the books by id (Book is @Cacheable): em.find is served without SQL
+// - the query region holds the results of the list queries (see BookRepository.cached)
+// The provider already invalidates both when books change. Committed creations and deletions also evict them explicitly:
+// the deleted books from the Book region, and every result from the query region, as any change may alter any list or count
+@ApplicationScoped
+public class SecondLevelCache {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    public static final String BOOK_REGION = Book.class.getName();
+    public static final String QUERY_REGION = "bookstore.bookQueries";
+
+    private final LongAdder bookEvictions = new LongAdder();
+    private final LongAdder queryEvictions = new LongAdder();
+
+    // ======================================
+    // =          Injection Points          =
+    // ======================================
+    @PersistenceUnit(unitName = "bookStorePU")
+    private EntityManagerFactory emf;
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+    public void onBookEvent(@Observes(during = TransactionPhase.AFTER_SUCCESS) BookEvent event) {
+        if (event.getType() == BookEvent.Type.DELETED) {
+            for (Long id : event.getIds())
+                emf.getCache().evict(Book.class, id);
+            bookEvictions.add(event.getIds().size());
+        }
+        emf.getCache().unwrap(Cache.class).evictQueryRegion(QUERY_REGION);
+        queryEvictions.increment();
+    }
+
+    // Sizes and hit counts come from the provider statistics (hibernate.generate_statistics), evictions are the explicit
+    // ones. The capacity of a region is set by the provider configuration, it is reported as -1
+    public List<CacheStatistics> getStatistics() {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        return Arrays.asList(
+                statistics(statistics.getCacheRegionStatistics(BOOK_REGION), "secondLevel.book", bookEvictions.sum()),
+                statistics(statistics.getCacheRegionStatistics(QUERY_REGION), "secondLevel.bookQueries", queryEvictions.sum()));
+    }
+
+    // A region only exists once something has been cached in it
+    private static CacheStatistics statistics(CacheRegionStatistics region, String name, long evictions) {
+        if (region == null)
+            return new CacheStatistics(name, 0, -1, 0, 0, evictions);
+        return new CacheStatistics(name, Math.max(0, region.getElementCountInMemory()), -1, region.getHitCount(), region.getMissCount(), evictions);
+    }
+}
@@ -0,0 +1,73 @@
+package com.juankpapi.bookstore.rest;
+
+import com.juankpapi.bookstore.metrics.Timed;
+import com.juankpapi.bookstore.repository.BookCache;
+import com.juankpapi.bookstore.repository.CacheStatistics;
+import com.juankpapi.bookstore.repository.QueryMonitor;
+import com.juankpapi.bookstore.repository.QueryStatistics;
+import com.juankpapi.bookstore.repository.SecondLevelCache;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.List;
+
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+
+// Operational endpoints, used to monitor and tune the back-end (not by the Angular front-end)
+@Path("/admin")
+@Api("Admin")
+@Timed
+public class AdminEndPoint {
+    // ======================================
+    // =          Injection Points          =
+    // ======================================
+    @Inject
+    private BookCache bookCache;
+
+    @Inject
+    private SecondLevelCache secondLevelCache;
+
+    @Inject
+    private QueryMonitor queryMonitor;
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+
+    // REST
+    @GET
+    @Path("/cache")
+    @Produces(APPLICATION_JSON)
+    // Documentation
+    @ApiOperation(value = "Returns the statistics of the caches: the book cache, then each region of the JPA second-level cache", response = CacheStatistics.class, responseContainer = "List")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Cache statistics")
+    })
+    public Response getCacheStatistics() {
+        List<CacheStatistics> statistics = new ArrayList<>();
+        statistics.add(bookCache.getStatistics());
+        statistics.addAll(secondLevelCache.getStatistics());
+        return Response.ok(statistics).build();
+    }
+
+    // REST
+    @GET
+    @Path("/queries")
+    @Produces(APPLICATION_JSON)
+    // Documentation
+    @ApiOperation(value = "Returns the statistics of the queries sent to the database", response = QueryStatistics.class, responseContainer = "List")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Query statistics")
+    })
+    public Response getQueryStatistics() {
+        return Response.ok(queryMonitor.getStatistics()).build();
+    }
+}
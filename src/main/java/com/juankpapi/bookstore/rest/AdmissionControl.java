@@ -0,0 +1,150 @@
+package com.juankpapi.bookstore.rest;
+
+import javax.enterprise.context.ApplicationScoped;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Decides which requests of the routes of BookEndPoint are served (see AdmissionFilter):
+// - each route (resource method) has a concurrency limit: at most <reads> running GETs, or <writes> running POSTs, PUTs
+//   and DELETEs. A request above the limit is shed at once instead of queueing behind the others
+// - when adaptive, a limit follows the observed latency (AIMD): it is multiplied by DECREASE_FACTOR when a request is
+//   slower than the target latency, and grows back by one after <limit> faster requests, up to its configured value
+// - optionally, each client has a rate limit (see ClientRateLimiter)
+// Limits, adaptation and target latency (in milliseconds) can be tuned with the bookstore.admission.reads,
+// bookstore.admission.writes, bookstore.admission.adaptive and bookstore.admission.latency system properties, the rate
+// limit with bookstore.ratelimit.rate (requests per second and per client, 0 disables it) and bookstore.ratelimit.burst
+@ApplicationScoped
+public class AdmissionControl {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    static final double DECREASE_FACTOR = 0.75;
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    private final ConcurrentHashMap<String, Limiter> routes = new ConcurrentHashMap<>();
+
+    private final int readLimit;
+    private final int writeLimit;
+    // 0 when the limits are fixed
+    private final long targetLatencyNanos;
+    // null when clients are not rate limited
+    private final ClientRateLimiter rateLimiter;
+    private final LongSupplier clock;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public AdmissionControl() {
+        this(Integer.getInteger("bookstore.admission.reads", 64),
+                Integer.getInteger("bookstore.admission.writes", 16),
+                Boolean.getBoolean("bookstore.admission.adaptive") ? TimeUnit.MILLISECONDS.toNanos(Long.getLong("bookstore.admission.latency", 200)) : 0,
+                rateLimiter(Integer.getInteger("bookstore.ratelimit.rate", 0), Integer.getInteger("bookstore.ratelimit.burst", 0)),
+                System::nanoTime);
+    }
+
+    AdmissionControl(int readLimit, int writeLimit, long targetLatencyNanos, ClientRateLimiter rateLimiter, LongSupplier clock) {
+        this.readLimit = readLimit;
+        this.writeLimit = writeLimit;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.rateLimiter = rateLimiter;
+        this.clock = clock;
+    }
+
+    private static ClientRateLimiter rateLimiter(int rate, int burst) {
+        return rate <= 0 ? null : new ClientRateLimiter(rate, burst > 0 ? burst : rate, SWEEP_THRESHOLD, System::nanoTime);
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+
+    // A permit to run a request of <route>, to be released once it is answered. Null if the route is at its limit
+    public Permit tryAcquire(String route, boolean write) {
+        Limiter limiter = routes.get(route);
+        if (limiter == null)
+            limiter = routes.computeIfAbsent(route, key -> new Limiter(write ? writeLimit : readLimit));
+        return limiter.tryAcquire() ? new Permit(limiter, clock.getAsLong()) : null;
+    }
+
+    // 0 if <client> may send a request now, otherwise how long (in nanoseconds) it has to wait
+    public long rateLimit(String client) {
+        return rateLimiter == null ? 0 : rateLimiter.acquire(client);
+    }
+
+    // Current limit of <route>, its configured one if it hasn't been used yet
+    int getLimit(String route, boolean write) {
+        Limiter limiter = routes.get(route);
+        return limiter == null ? (write ? writeLimit : readLimit) : limiter.limit.get();
+    }
+
+    // ======================================
+    // =            Inner class             =
+    // ======================================
+
+    // Running requests of a route, and their adaptive limit. Only atomics: acquiring and releasing never block
+    private final class Limiter {
+
+        private final int maxLimit;
+        private final AtomicInteger limit;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger fastRequests = new AtomicInteger();
+        private final AtomicLong decreasedAt;
+
+        private Limiter(int maxLimit) {
+            this.maxLimit = maxLimit;
+            this.limit = new AtomicInteger(maxLimit);
+            this.decreasedAt = new AtomicLong(clock.getAsLong() - targetLatencyNanos);
+        }
+
+        private boolean tryAcquire() {
+            while (true) {
+                int running = inFlight.get();
+                if (running >= limit.get())
+                    return false;
+                if (inFlight.compareAndSet(running, running + 1))
+                    return true;
+            }
+        }
+
+        private void release(long latencyNanos) {
+            inFlight.decrementAndGet();
+            if (targetLatencyNanos == 0)
+                return;
+            if (latencyNanos > targetLatencyNanos) {
+                // At most one decrease per target latency: the requests of a same slow period only count once
+                long now = clock.getAsLong();
+                long decreased = decreasedAt.get();
+                if (now - decreased >= targetLatencyNanos && decreasedAt.compareAndSet(decreased, now)) {
+                    limit.updateAndGet(current -> Math.max(1, (int) (current * DECREASE_FACTOR)));
+                    fastRequests.set(0);
+                }
+            } else if (fastRequests.incrementAndGet() >= limit.get()) {
+                fastRequests.set(0);
+                limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+            }
+        }
+    }
+
+    // Released once, whoever releases it first (AdmissionFilter when the response is sent, AdmissionListener otherwise)
+    public final class Permit {
+
+        private final Limiter limiter;
+        private final long acquiredAt;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Limiter limiter, long acquiredAt) {
+            this.limiter = limiter;
+            this.acquiredAt = acquiredAt;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true))
+                limiter.release(clock.getAsLong() - acquiredAt);
+        }
+    }
+}
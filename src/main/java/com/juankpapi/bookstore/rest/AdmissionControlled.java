@@ -0,0 +1,15 @@
+package com.juankpapi.bookstore.rest;
+
+import javax.ws.rs.NameBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Requests of the annotated resource (or resource method) go through admission control: concurrency limits per route and
+// rate limits per client. See AdmissionFilter
+@NameBinding
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface AdmissionControlled {
+}
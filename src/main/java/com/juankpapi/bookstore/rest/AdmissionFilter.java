@@ -0,0 +1,105 @@
+package com.juankpapi.bookstore.rest;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Sheds the requests of the @AdmissionControlled resources before they queue on the server threads (see AdmissionControl):
+// - a client above its rate limit gets a 429 with a Retry-After telling when it has a token again
+// - a request above the concurrency limit of its route gets a 503 with a Retry-After, at once
+// Clients are identified by the header named by the bookstore.ratelimit.header system property, or by their IP address.
+// The permit of an admitted request is only released once its response is complete: once its body has been written
+// (streamed exports included, as the interceptor wraps the other ones), or by the response filter when it has no body.
+// AdmissionListener releases it if the response never gets there (unmapped exception)
+@Provider
+@AdmissionControlled
+@Priority(Priorities.AUTHORIZATION)
+public class AdmissionFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+
+    // ======================================
+    // =          Injection Points          =
+    // ======================================
+    @Context
+    private ResourceInfo resourceInfo;
+
+    @Context
+    private HttpServletRequest servletRequest;
+
+    @Inject
+    private AdmissionControl admissionControl;
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    // In a servlet container, request properties are the attributes of the ServletRequest (see AdmissionListener)
+    static final String PERMIT = AdmissionControl.Permit.class.getName();
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final String clientHeader = System.getProperty("bookstore.ratelimit.header");
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+    @Override
+    public void filter(ContainerRequestContext request) {
+        long wait = admissionControl.rateLimit(client(request));
+        if (wait > 0) {
+            long seconds = Math.max(1, (wait + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            request.abortWith(Response.status(Response.Status.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, seconds).build());
+            return;
+        }
+
+        String route = resourceInfo.getResourceClass().getSimpleName() + "." + resourceInfo.getResourceMethod().getName();
+        AdmissionControl.Permit permit = admissionControl.tryAcquire(route, !isRead(request.getMethod()));
+        if (permit == null) {
+            request.abortWith(Response.status(Response.Status.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).build());
+            return;
+        }
+        request.setProperty(PERMIT, permit);
+    }
+
+    // Response filters run before the body is written: a response with a body keeps its permit until aroundWriteTo
+    @Override
+    public void filter(ContainerRequestContext request, ContainerResponseContext response) {
+        if (!response.hasEntity())
+            release(request.getProperty(PERMIT));
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        try {
+            context.proceed();
+        } finally {
+            release(context.getProperty(PERMIT));
+        }
+    }
+
+    static void release(Object permit) {
+        if (permit instanceof AdmissionControl.Permit)
+            ((AdmissionControl.Permit) permit).release();
+    }
+
+    private String client(ContainerRequestContext request) {
+        String client = clientHeader == null ? null : request.getHeaderString(clientHeader);
+        return client != null ? client : servletRequest.getRemoteAddr();
+    }
+
+    private static boolean isRead(String method) {
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method);
+    }
+}
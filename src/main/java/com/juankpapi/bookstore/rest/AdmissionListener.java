@@ -0,0 +1,70 @@
+package com.juankpapi.bookstore.rest;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletRequestEvent;
+import javax.servlet.ServletRequestListener;
+import javax.servlet.annotation.WebListener;
+
+// Releases the admission permit of a request whose response didn't go through AdmissionFilter (an exception that no
+// ExceptionMapper handles skips the response filters and interceptors): a lost permit would lower the limit of its route
+// for good. A request is destroyed when its first dispatch returns: for an asynchronous (@Suspended) request, that is
+// before it is resumed, so its permit is only released once the asynchronous processing completes
+@WebListener
+public class AdmissionListener implements ServletRequestListener {
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+    @Override
+    public void requestDestroyed(ServletRequestEvent event) {
+        ServletRequest request = event.getServletRequest();
+        Object permit = request.getAttribute(AdmissionFilter.PERMIT);
+        if (permit == null)
+            return;
+        if (request.isAsyncStarted()) {
+            try {
+                request.getAsyncContext().addListener(new Completion(permit));
+                return;
+            } catch (IllegalStateException e) {
+                // Completed meanwhile
+            }
+        }
+        AdmissionFilter.release(permit);
+    }
+
+    @Override
+    public void requestInitialized(ServletRequestEvent event) {
+    }
+
+    // ======================================
+    // =            Inner class             =
+    // ======================================
+    private static final class Completion implements AsyncListener {
+
+        private final Object permit;
+
+        private Completion(Object permit) {
+            this.permit = permit;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            AdmissionFilter.release(permit);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            AdmissionFilter.release(permit);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.juankpapi.bookstore.rest;
+
+import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.model.Language;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+// Compact binary representation of a Book or a list of Books, for the clients that don't want to pay for parsing JSON.
+// Same attributes as the JSON representation, written with a DataOutputStream:
+// - a format version byte, then for a list the number of books (int)
+// - for each book, a bit set of its non null attributes (short), then these attributes in declaration order: numbers as is,
+//   texts as modified UTF-8, the language as its ordinal (byte, the same as in the database), the publication date as an
+//   epoch day (int, it is a DATE column) and the last modification as epoch milliseconds (long)
+@Provider
+@Produces(BookBinaryProvider.APPLICATION_BOOK_BINARY)
+@Consumes(BookBinaryProvider.APPLICATION_BOOK_BINARY)
+public class BookBinaryProvider implements MessageBodyWriter<Object>, MessageBodyReader<Object> {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    public static final String APPLICATION_BOOK_BINARY = "application/x-bookstore-book";
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int BUFFER_SIZE = 8192;
+    private static final Language[] LANGUAGES = Language.values();
+
+    // Bits of the non null attributes
+    private static final int ID = 1;
+    private static final int TITLE = 1 << 1;
+    private static final int DESCRIPTION = 1 << 2;
+    private static final int UNIT_COST = 1 << 3;
+    private static final int ISBN = 1 << 4;
+    private static final int PUBLICATION_DATE = 1 << 5;
+    private static final int NB_OF_PAGES = 1 << 6;
+    private static final int IMAGE_URL = 1 << 7;
+    private static final int LANGUAGE = 1 << 8;
+    private static final int VERSION = 1 << 9;
+    private static final int LAST_MODIFIED = 1 << 10;
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return isBookOrBooks(type, genericType);
+    }
+
+    @Override
+    public void writeTo(Object entity, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(entityStream, BUFFER_SIZE));
+        output.writeByte(FORMAT_VERSION);
+        if (entity instanceof Book) {
+            write((Book) entity, output);
+        } else {
+            Collection<?> books = (Collection<?>) entity;
+            output.writeInt(books.size());
+            for (Object book : books)
+                write((Book) book, output);
+        }
+        // Flushed, not closed: the container owns the response stream
+        output.flush();
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return isBookOrBooks(type, genericType);
+    }
+
+    // Truncated or unknown content is a client error
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+                           MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(entityStream, BUFFER_SIZE));
+        try {
+            byte version = input.readByte();
+            if (version != FORMAT_VERSION)
+                throw new BadRequestException("Unknown binary format version " + version);
+            if (Book.class.equals(type))
+                return read(input);
+            int nbOfBooks = input.readInt();
+            if (nbOfBooks < 0)
+                throw new BadRequestException("Invalid number of books " + nbOfBooks);
+            // The count comes from the client: the list grows with what is actually read, not with what is announced
+            List<Book> books = new ArrayList<>(Math.min(nbOfBooks, 1024));
+            for (int i = 0; i < nbOfBooks; i++)
+                books.add(read(input));
+            return books;
+        } catch (EOFException e) {
+            throw new BadRequestException("Truncated binary books", e);
+        }
+    }
+
+    // A Book, or a List (or Collection) declared as holding Books
+    private static boolean isBookOrBooks(Class<?> type, Type genericType) {
+        if (Book.class.isAssignableFrom(type))
+            return true;
+        if (!List.class.isAssignableFrom(type) && !Collection.class.equals(type))
+            return false;
+        if (!(genericType instanceof ParameterizedType))
+            return false;
+        Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+        return arguments.length == 1 && Book.class.equals(arguments[0]);
+    }
+
+    private static void write(Book book, DataOutputStream output) throws IOException {
+        int present = 0;
+        present |= book.getId() != null ? ID : 0;
+        present |= book.getTitle() != null ? TITLE : 0;
+        present |= book.getDescription() != null ? DESCRIPTION : 0;
+        present |= book.getUnitCost() != null ? UNIT_COST : 0;
+        present |= book.getIsbn() != null ? ISBN : 0;
+        present |= book.getPublicationDate() != null ? PUBLICATION_DATE : 0;
+        present |= book.getNbOfPages() != null ? NB_OF_PAGES : 0;
+        present |= book.getImageURL() != null ? IMAGE_URL : 0;
+        present |= book.getLanguage() != null ? LANGUAGE : 0;
+        present |= book.getVersion() != null ? VERSION : 0;
+        present |= book.getLastModified() != null ? LAST_MODIFIED : 0;
+        output.writeShort(present);
+
+        if ((present & ID) != 0)
+            output.writeLong(book.getId());
+        if ((present & TITLE) != 0)
+            output.writeUTF(book.getTitle());
+        if ((present & DESCRIPTION) != 0)
+            output.writeUTF(book.getDescription());
+        if ((present & UNIT_COST) != 0)
+            output.writeFloat(book.getUnitCost());
+        if ((present & ISBN) != 0)
+            output.writeUTF(book.getIsbn());
+        if ((present & PUBLICATION_DATE) != 0)
+            output.writeInt((int) toEpochDay(book.getPublicationDate()));
+        if ((present & NB_OF_PAGES) != 0)
+            output.writeInt(book.getNbOfPages());
+        if ((present & IMAGE_URL) != 0)
+            output.writeUTF(book.getImageURL());
+        if ((present & LANGUAGE) != 0)
+            output.writeByte(book.getLanguage().ordinal());
+        if ((present & VERSION) != 0)
+            output.writeLong(book.getVersion());
+        if ((present & LAST_MODIFIED) != 0)
+            output.writeLong(book.getLastModified().getTime());
+    }
+
+    private static Book read(DataInputStream input) throws IOException {
+        int present = input.readUnsignedShort();
+        Book book = new Book();
+        if ((present & ID) != 0)
+            book.setId(input.readLong());
+        if ((present & TITLE) != 0)
+            book.setTitle(input.readUTF());
+        if ((present & DESCRIPTION) != 0)
+            book.setDescription(input.readUTF());
+        if ((present & UNIT_COST) != 0)
+            book.setUnitCost(input.readFloat());
+        if ((present & ISBN) != 0)
+            book.setIsbn(input.readUTF());
+        if ((present & PUBLICATION_DATE) != 0)
+            book.setPublicationDate(fromEpochDay(input.readInt()));
+        if ((present & NB_OF_PAGES) != 0)
+            book.setNbOfPages(input.readInt());
+        if ((present & IMAGE_URL) != 0)
+            book.setImageURL(input.readUTF());
+        if ((present & LANGUAGE) != 0) {
+            int ordinal = input.readUnsignedByte();
+            if (ordinal >= LANGUAGES.length)
+                throw new BadRequestException("Unknown language " + ordinal);
+            book.setLanguage(LANGUAGES[ordinal]);
+        }
+        if ((present & VERSION) != 0)
+            book.setVersion(input.readLong());
+        if ((present & LAST_MODIFIED) != 0)
+            book.setLastModified(new Date(input.readLong()));
+        return book;
+    }
+
+    // Dates read from a DATE column may be java.sql.Dates, which don't support toInstant()
+    static long toEpochDay(Date date) {
+        return Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+
+    static Date fromEpochDay(long epochDay) {
+        return Date.from(LocalDate.ofEpochDay(epochDay).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
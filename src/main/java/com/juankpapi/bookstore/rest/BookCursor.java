@@ -0,0 +1,60 @@
+package com.juankpapi.bookstore.rest;
+
+import com.juankpapi.bookstore.model.Book;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque continuation cursor used by GET /books to walk the catalog page by page.
+// It carries the <title, id> of the last book of a page, encoded in URL-safe Base64 so clients never parse it.
+public class BookCursor {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private static final char SEPARATOR = ':';
+
+    private final String title;
+    private final Long id;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public BookCursor(String title, Long id) {
+        this.title = title;
+        this.id = id;
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+    public static BookCursor after(Book book) {
+        return new BookCursor(book.getTitle(), book.getId());
+    }
+
+    // The id goes first: it never contains the separator, whereas the title may
+    public String encode() {
+        String raw = id.toString() + SEPARATOR + title;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Throws IllegalArgumentException if the cursor has not been produced by encode()
+    public static BookCursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator < 1)
+            throw new IllegalArgumentException("Invalid cursor " + cursor);
+        return new BookCursor(raw.substring(separator + 1), Long.valueOf(raw.substring(0, separator)));
+    }
+
+    // ======================================
+    // =        Getters and Setters         =
+    // ======================================
+    public String getTitle() {
+        return title;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -1,24 +1,68 @@
 package com.juankpapi.bookstore.rest;
 
+import com.juankpapi.bookstore.metrics.Timed;
 import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.model.BookSummary;
+import com.juankpapi.bookstore.repository.BatchItemResult;
+import com.juankpapi.bookstore.repository.BookFilter;
 import com.juankpapi.bookstore.repository.BookRepository;
+import com.juankpapi.bookstore.repository.CatalogVersion;
+import com.juankpapi.bookstore.search.BookFacetIndex;
+import com.juankpapi.bookstore.search.BookFacets;
+import com.juankpapi.bookstore.search.BookSearchIndex;
+import com.juankpapi.bookstore.search.BookSuggestion;
+import com.juankpapi.bookstore.search.BookTitleIndex;
 import io.swagger.annotations.*;
 
 
 import javax.inject.Inject;
+import javax.json.bind.JsonbException;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
 import javax.ws.rs.*;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.GenericEntity;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Link;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import static com.juankpapi.bookstore.rest.BookBinaryProvider.APPLICATION_BOOK_BINARY;
+import static com.juankpapi.bookstore.rest.BookExportOutput.APPLICATION_GZIP;
+import static com.juankpapi.bookstore.rest.BookExportOutput.TEXT_CSV;
+import static com.juankpapi.bookstore.rest.BookNdjsonOutput.APPLICATION_NDJSON;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static javax.ws.rs.core.MediaType.TEXT_PLAIN;
 
 
 @Path("/books")                      // REST Endpoint (http:www.bookstore.com/books)
+@Timed                               // Metrics (GET /metrics)
+@AdmissionControlled                 // Concurrency and rate limits (see AdmissionFilter)
 @Api("Book")                         // Documentation (DOC)
 public class BookEndPoint {
     // ======================================
@@ -27,27 +71,248 @@ public class BookEndPoint {
     @Inject
     private BookRepository bookRepository;
 
+    @Inject
+    private CatalogVersion catalogVersion;
+
+    @Inject
+    private BookSearchIndex bookSearchIndex;
+
+    @Inject
+    private BookTitleIndex bookTitleIndex;
+
+    @Inject
+    private BookFacetIndex bookFacetIndex;
+
+    @Inject
+    private DatabaseExecutor databaseExecutor;
+
+    @Inject
+    private BookImporter bookImporter;
+
+    // ======================================
+    // =             Constants              =
+    // ======================================
+    private static final String DEFAULT_PAGE_SIZE = "20";
+    private static final long MAX_PAGE_SIZE = 1000;
+    private static final int STREAM_CHUNK_SIZE = 500;
+    private static final int EXPORT_CHUNK_SIZE = 1000;
+    private static final MediaType NDJSON_TYPE = MediaType.valueOf(APPLICATION_NDJSON);
+    private static final MediaType CSV_TYPE = MediaType.valueOf(TEXT_CSV);
+    private static final MediaType BOOK_BINARY_TYPE = MediaType.valueOf(APPLICATION_BOOK_BINARY);
+    // Element types of the pages, so the message body writers know what a page holds (the binary one only writes Books)
+    private static final GenericType<List<Book>> BOOK_LIST = new GenericType<List<Book>>() {};
+    private static final GenericType<List<BookSummary>> SUMMARY_LIST = new GenericType<List<BookSummary>>() {};
+    private static final GenericType<List<Map<String, Object>>> FIELDS_LIST = new GenericType<List<Map<String, Object>>>() {};
+    private static final String SUMMARY_FIELDS = "summary";
+    private static final int BATCH_TRANSACTION_SIZE = 1000;
+    private static final String DEFAULT_SEARCH_LIMIT = "10";
+    private static final long MAX_SEARCH_LIMIT = 100;
+    private static final Logger LOGGER = Logger.getLogger(BookEndPoint.class.getName());
+
     // ======================================
     // =          Business methods          =
     // ======================================
 
     // REST
     @GET                                    //HTTP METHOD
-    @Produces(APPLICATION_JSON)             //<Produces> assure method returns a JSON representation of the list of books
+    @Produces({APPLICATION_JSON, APPLICATION_NDJSON, APPLICATION_BOOK_BINARY})   //<Produces> assure method returns a JSON representation of the list of books (or a stream of JSON books, or compact binary books)
     // Documentation
-    @ApiOperation(value = "Returns all the books", response = Book.class, responseContainer = "List")
+    @ApiOperation(value = "Returns a page of the books matching the filter (all the books if none), the Link header points to the next page. With stream=true or Accept: " + APPLICATION_NDJSON + " streams all the books, one JSON Book per line. With fields=" + SUMMARY_FIELDS + " or fields=id,title,... only returns those attributes (id and title are always returned). With Accept: " + APPLICATION_BOOK_BINARY + " returns the page in a compact binary format (whole books only)", response = Book.class, responseContainer = "List")
     @ApiResponses({
             @ApiResponse(code = 200, message = "Books found"),
             @ApiResponse(code = 204, message = "No books found"),
+            @ApiResponse(code = 304, message = "Catalog not modified since the given ETag or date"),
+            @ApiResponse(code = 400, message = "Invalid input. Size must be between 1 and " + MAX_PAGE_SIZE + ", the cursor must come from a Link header, fields must be Book attributes and the filter values must be valid"),
+            @ApiResponse(code = 406, message = "Fields asked for in the binary format, which only holds whole books")
     })
-    public Response getBooks() {            //<Response> class allows some control over the HTTP response returned from the endpoint.
-        List<Book> books = bookRepository.findAll();
+    public void getBooks(@QueryParam("size") @DefaultValue(DEFAULT_PAGE_SIZE) @Min(1) @Max(MAX_PAGE_SIZE) int size,
+                         @QueryParam("cursor") String cursor,
+                         @QueryParam("stream") boolean stream,
+                         @QueryParam("fields") String fields,
+                         @BeanParam BookFilterParam filterParam,
+                         @Context HttpHeaders headers,
+                         @Context UriInfo uriInfo,
+                         @Context Request request,
+                         @Suspended AsyncResponse asyncResponse) {    //<AsyncResponse> lets another thread send the response, the request thread is released meanwhile
+        // Any list of books only changes with the catalog version: if the client already has it, nothing is loaded nor serialized.
+        // The validators are read before the books, so they never describe a newer catalog than the one returned
+        EntityTag catalogTag = new EntityTag(catalogVersion.getTag(), true);
+        Date catalogModified = catalogVersion.getLastModified();
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(catalogModified, catalogTag);
+        if (notModified != null) {
+            asyncResponse.resume(notModified.build());
+            return;
+        }
+
+        // Parsed on the request thread, invalid parameters never wait for a database thread
+        BookFilter filter = filterParam.toFilter();
+        boolean ndjson = stream || prefers(headers, NDJSON_TYPE);
+        if (ndjson) {
+            // Books are read chunk by chunk while the response is being written, not before: the stream is resumed, and
+            // written, by the request thread. On a database thread it would hold one of them for the whole transfer, and
+            // outlive the database timeout. Streams are still bounded by the admission control of the route
+            asyncResponse.resume(catalogResponse(Response.ok(new BookNdjsonOutput(bookRepository, filter, STREAM_CHUNK_SIZE), APPLICATION_NDJSON), catalogTag, catalogModified));
+            return;
+        }
+        if (fields != null && prefers(headers, BOOK_BINARY_TYPE))
+            throw new NotAcceptableException();
+        databaseExecutor.resume(asyncResponse, () -> catalogResponse(findBooks(filter, size, cursor, fields, uriInfo), catalogTag, catalogModified));
+    }
+
+
+    private static Response catalogResponse(Response.ResponseBuilder builder, EntityTag catalogTag, Date catalogModified) {
+        return builder.tag(catalogTag).lastModified(catalogModified).header(HttpHeaders.VARY, HttpHeaders.ACCEPT).build();
+    }
+
+
+    private Response.ResponseBuilder findBooks(BookFilter filter, int size, String cursor, String fields, UriInfo uriInfo) {
+        BookCursor after = null;
+        if (cursor != null) {
+            try {
+                after = BookCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException(e);
+            }
+        }
+
+        // We ask for one extra book to know whether there is a next page without counting the whole table
+        String afterTitle = after == null ? null : after.getTitle();
+        Long afterId = after == null ? null : after.getId();
+
+        if (fields == null)
+            return page(bookRepository.findPage(filter, afterTitle, afterId, size + 1), BOOK_LIST, size, BookCursor::after, uriInfo);
+
+        if (SUMMARY_FIELDS.equals(fields))
+            return page(bookRepository.findSummaryPage(filter, afterTitle, afterId, size + 1), SUMMARY_LIST, size, summary -> new BookCursor(summary.getTitle(), summary.getId()), uriInfo);
+
+        try {
+            List<Map<String, Object>> rows = bookRepository.findFieldsPage(new LinkedHashSet<>(Arrays.asList(fields.trim().split("\\s*,\\s*"))), filter, afterTitle, afterId, size + 1);
+            return page(rows, FIELDS_LIST, size, row -> new BookCursor((String) row.get("title"), (Long) row.get("id")), uriInfo);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e);
+        }
+    }
+
+
+    // <rows> holds at most size + 1 elements, the extra one only tells that a next page exists
+    private static <T> Response.ResponseBuilder page(List<T> rows, GenericType<List<T>> listType, int size, Function<T, BookCursor> cursorOf, UriInfo uriInfo) {
+        if (rows.size() == 0)
+            return Response.noContent();
+        //return Response.status(Response.Status.NO_CONTENT).build();     //another way
+
+        if (rows.size() <= size)
+            return Response.ok(new GenericEntity<>(rows, listType.getType()));  //JAX-RS will pass the list of books entity into a JSON string and send it back into the response.
+
+        List<T> page = rows.subList(0, size);
+        URI next = uriInfo.getRequestUriBuilder()
+                .replaceQueryParam("size", size)
+                .replaceQueryParam("cursor", cursorOf.apply(page.get(size - 1)).encode())
+                .build();
+        return Response.ok(new GenericEntity<>(page, listType.getType())).links(Link.fromUri(next).rel("next").build());
+    }
+
+
+    // Whether <type> is the client's preferred media type (only streams NDJSON then), wildcards keep the paged JSON array
+    private static boolean prefers(HttpHeaders headers, MediaType type) {
+        List<MediaType> acceptable = headers.getAcceptableMediaTypes();    // Sorted by client preference
+        if (acceptable.isEmpty())
+            return false;
+        MediaType preferred = acceptable.get(0);
+        return type.getType().equalsIgnoreCase(preferred.getType()) && type.getSubtype().equalsIgnoreCase(preferred.getSubtype());
+    }
+
+
+    // REST
+    @GET
+    @Path("/search")
+    @Produces(APPLICATION_JSON)
+    // Documentation
+    @ApiOperation(value = "Returns the books whose title or description best match the query, best first", response = Book.class, responseContainer = "List")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Books found"),
+            @ApiResponse(code = 204, message = "No books found"),
+            @ApiResponse(code = 400, message = "Invalid input. The query is mandatory and the limit must be between 1 and " + MAX_SEARCH_LIMIT)
+    })
+    public Response searchBooks(@QueryParam("q") @NotNull String query,
+                                @QueryParam("limit") @DefaultValue(DEFAULT_SEARCH_LIMIT) @Min(1) @Max(MAX_SEARCH_LIMIT) int limit) {
+        // Ranking is done in memory, the database is only queried to load the books found
+        List<Long> ids = bookSearchIndex.search(query, limit);
+        List<Book> books = bookRepository.findAll(ids);
 
         if (books.size() == 0)
             return Response.noContent().build();
-        //return Response.status(Response.Status.NO_CONTENT).build();     //another way
 
-        return Response.ok(books).build();  //JAX-RS will pass the list of books entity into a JSON string and send it back into the response.
+        return Response.ok(books).build();
+    }
+
+
+    // REST
+    @GET
+    @Path("/suggest")
+    @Produces(APPLICATION_JSON)
+    // Documentation
+    @ApiOperation(value = "Returns the titles starting with the given prefix, in alphabetical order", response = BookSuggestion.class, responseContainer = "List")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Titles found"),
+            @ApiResponse(code = 204, message = "No titles found"),
+            @ApiResponse(code = 400, message = "Invalid input. The prefix is mandatory and the limit must be between 1 and " + MAX_SEARCH_LIMIT)
+    })
+    public Response suggestTitles(@QueryParam("prefix") @NotNull String prefix,
+                                  @QueryParam("limit") @DefaultValue(DEFAULT_SEARCH_LIMIT) @Min(1) @Max(MAX_SEARCH_LIMIT) int limit) {
+        // Called on each keystroke: served from memory only, the database is never queried
+        List<BookSuggestion> suggestions = bookTitleIndex.suggest(prefix, limit);
+
+        if (suggestions.size() == 0)
+            return Response.noContent().build();
+
+        return Response.ok(suggestions).build();
+    }
+
+
+    // REST
+    @GET
+    @Path("/facets")
+    @Produces(APPLICATION_JSON)
+    // Documentation
+    @ApiOperation(value = "Returns the number of books per language, unit cost range and number of pages range, within the given filter. Cost and pages bounds are widened to the ranges they fall in", response = BookFacets.class)
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Facets counted"),
+            @ApiResponse(code = 400, message = "Invalid input. Costs and pages must be numbers, language a Language, and publication dates are not supported")
+    })
+    public Response countFacets(@BeanParam BookFilterParam filterParam) {
+        // Counted on in-memory bitmaps, the database is never queried
+        try {
+            return Response.ok(bookFacetIndex.count(filterParam.toFilter())).build();
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e);
+        }
+    }
+
+
+    // REST
+    @GET
+    @Path("/export")
+    @Produces({APPLICATION_NDJSON, TEXT_CSV, APPLICATION_GZIP})
+    // Documentation
+    @ApiOperation(value = "Exports the books matching the filter (all the books if none) in id order, as NDJSON (format=ndjson, one JSON Book per line) or CSV (format=csv), gzipped with gzip=true. Books are streamed chunk by chunk, whatever the size of the catalog", response = String.class)
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Books exported"),
+            @ApiResponse(code = 400, message = "Invalid input. Format must be ndjson or csv and the filter values must be valid")
+    })
+    public Response exportBooks(@QueryParam("format") @DefaultValue("ndjson") String format,
+                                @QueryParam("gzip") boolean gzip,
+                                @BeanParam BookFilterParam filterParam) {
+        BookExportOutput.Format exportFormat;
+        try {
+            exportFormat = BookExportOutput.Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e);
+        }
+        String fileName = "books." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        // Nothing is read before JAX-RS starts writing the response, see BookExportOutput
+        return Response.ok(new BookExportOutput(bookRepository, filterParam.toFilter(), exportFormat, EXPORT_CHUNK_SIZE, gzip), gzip ? APPLICATION_GZIP : exportFormat.getMediaType())
+                .header("Content-Disposition", "attachment; filename=\"" + fileName + "\"")
+                .build();
     }
 
 
@@ -60,35 +325,80 @@ public class BookEndPoint {
     @ApiResponses({
             @ApiResponse(code = 200, message = "Number of books found"),
             @ApiResponse(code = 204, message = "No books found"),
+            @ApiResponse(code = 304, message = "Catalog not modified since the given ETag or date"),
     })
-    public Response countBooks() {
-        Long nbOfBooks = bookRepository.countAll();
+    public void countBooks(@Context Request request, @Suspended AsyncResponse asyncResponse) {
+        // Same validators as the list of books: the count only changes with the catalog version
+        EntityTag catalogTag = new EntityTag(catalogVersion.getTag(), true);
+        Date catalogModified = catalogVersion.getLastModified();
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(catalogModified, catalogTag);
+        if (notModified != null) {
+            asyncResponse.resume(notModified.build());
+            return;
+        }
+
+        // The count is nearly always in memory and answered right away, the database is only used to seed or reconcile it
+        Long cachedCount = bookRepository.countCached();
+        if (cachedCount != null)
+            asyncResponse.resume(count(cachedCount, catalogTag, catalogModified));
+        else
+            databaseExecutor.resume(asyncResponse, () -> count(bookRepository.countAll(), catalogTag, catalogModified));
+    }
 
+
+    private static Response count(Long nbOfBooks, EntityTag catalogTag, Date catalogModified) {
         if (nbOfBooks == 0)
-            return Response.noContent().build();
+            return Response.noContent().tag(catalogTag).lastModified(catalogModified).build();
 
-        return Response.ok(nbOfBooks).build();
+        return Response.ok(nbOfBooks).tag(catalogTag).lastModified(catalogModified).build();
     }
 
 
     // REST
     @GET
     @Path("/{id : \\d+}")
-    @Produces(APPLICATION_JSON)
+    @Produces({APPLICATION_JSON, APPLICATION_BOOK_BINARY})
     // Documentation
     @ApiOperation(value = "Returns a book given an id", response = Book.class)
     @ApiResponses({
             @ApiResponse(code = 200, message = "Book found"),
+            @ApiResponse(code = 304, message = "Book not modified since the given ETag or date"),
             @ApiResponse(code = 400, message = "Invalid input. Id cannot be lower than 1"),
             @ApiResponse(code = 404, message = "Book not found")
     })
-    public Response getBook(@PathParam("id") @Min(1) Long id) {                         // Method not called if <id> is not type Long (i.e. String)
-        Book book = bookRepository.find(id);
+    public void getBook(@PathParam("id") @Min(1) Long id, @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch, @Context Request request, @Suspended AsyncResponse asyncResponse) {   // Method not called if <id> is not type Long (i.e. String)
+        // Hot books are answered right away from the cache, the others are loaded on a database thread
+        Book cachedBook = bookRepository.findCached(id);
+        if (cachedBook != null)
+            asyncResponse.resume(book(cachedBook, ifNoneMatch, request));
+        else
+            databaseExecutor.resume(asyncResponse, () -> book(bookRepository.find(id), ifNoneMatch, request));
+    }
 
+
+    private static Response book(Book book, String ifNoneMatch, Request request) {
         if (book == null)
             return Response.status(Response.Status.NOT_FOUND).build();
 
-        return Response.ok(book).build();
+        // A book's representation only changes with its version: if the client already has it, it is not serialized again.
+        // The client may have the identity or a compressed body, whose tag has the suffix of its coding (see CompressionInterceptor)
+        EntityTag bookTag = new EntityTag(book.getId() + "-" + book.getVersion());
+        EntityTag clientTag = CompressionInterceptor.matchingTag(bookTag, ifNoneMatch);
+        Date bookModified = httpDate(book.getLastModified());
+        Response.ResponseBuilder notModified = bookModified == null ? request.evaluatePreconditions(clientTag) : request.evaluatePreconditions(bookModified, clientTag);
+        if (notModified != null)
+            return notModified.build();
+
+        return Response.ok(book).tag(bookTag).lastModified(bookModified).build();
+    }
+
+    // HTTP dates only have whole seconds: a date with milliseconds (books loaded by import.sql, Timestamps) would always be
+    // later than the If-Modified-Since echoed by the client, which would never get a 304
+    static Date httpDate(Date date) {
+        if (date == null)
+            return null;
+        long millis = date.getTime();
+        return new Date(millis - Math.floorMod(millis, 1000L));
     }
 
 
@@ -108,11 +418,43 @@ public class BookEndPoint {
     }
 
 
+    // REST
+    @DELETE
+    @Produces(TEXT_PLAIN)
+    // Documentation
+    @ApiOperation(value = "Deletes, in one go, the books given their ids (ids=1,2,3) or the books matching a filter (language, cost, pages and publication date ranges). Returns the number of deleted books", response = Integer.class)
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Books have been deleted"),
+            @ApiResponse(code = 400, message = "Invalid input. Either ids or a filter is needed, ids, costs and pages must be numbers, language a Language and dates yyyy-MM-dd")
+    })
+    public Response deleteBooks(@QueryParam("ids") String ids,
+                                @BeanParam BookFilterParam filterParam) {
+        int deleted;
+        if (ids != null) {
+            Set<Long> bookIds = new LinkedHashSet<>();
+            try {
+                for (String id : ids.trim().split("\\s*,\\s*"))
+                    bookIds.add(Long.valueOf(id));
+            } catch (NumberFormatException e) {
+                throw new BadRequestException(e);
+            }
+            deleted = bookRepository.deleteAll(bookIds);
+        } else {
+            BookFilter filter = filterParam.toFilter();
+            // Never delete the whole catalog by mistake
+            if (filter.isEmpty())
+                throw new BadRequestException();
+            deleted = bookRepository.deleteAll(filter);
+        }
+        return Response.ok(deleted).build();
+    }
+
+
     // REST
     @POST
-    @Consumes(APPLICATION_JSON)                                                         //Consumes a JSON representation of a Book
+    @Consumes({APPLICATION_JSON, APPLICATION_BOOK_BINARY})                              //Consumes a JSON representation of a Book (or a binary one)
     // Documentation
-    @ApiOperation("Creates a book given a JSon Book representation")
+    @ApiOperation("Creates a book given a JSon Book representation (or " + APPLICATION_BOOK_BINARY + ")")
     @ApiResponses({
             @ApiResponse(code = 201, message = "The book is created"),
             @ApiResponse(code = 415, message = "Format is not JSon")
@@ -123,6 +465,137 @@ public class BookEndPoint {
         return Response.created(createdURI).build();
     }
 
+
+    // REST
+    @POST
+    @Path("/batch")
+    @Consumes({APPLICATION_JSON, APPLICATION_BOOK_BINARY})                              //Consumes a JSON array of Books (or binary books)
+    @Produces(APPLICATION_JSON)
+    // Documentation
+    @ApiOperation(value = "Creates the books given a JSon array of Books (or " + APPLICATION_NDJSON + ", one Book per line, or " + APPLICATION_BOOK_BINARY + "). An invalid book doesn't prevent the others from being created. Books are created " + BATCH_TRANSACTION_SIZE + " at a time: the books of a transaction that fails are rejected, the others are created", response = BatchItemResult.class, responseContainer = "List")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "The valid books are created, the result of each book is returned in the same order"),
+            @ApiResponse(code = 415, message = "Format is not JSon")
+    })
+    public Response createBooks(List<Book> books) {
+        if (books == null)
+            throw new BadRequestException();
+        return Response.ok(createInTransactions(books, index -> index)).build();
+    }
+
+
+    // REST
+    @POST
+    @Path("/batch")
+    @Consumes(APPLICATION_NDJSON)                                                       //Consumes one JSON Book per line
+    @Produces(APPLICATION_JSON)
+    // Documentation (documented with createBooks, Swagger only allows one operation per path and method)
+    @ApiOperation(value = "", hidden = true)
+    public Response createBooksFromStream(InputStream input) throws IOException {
+        // Lines are parsed and created one transaction at a time, the whole stream is never held in memory.
+        // Like the rows of an import, books are numbered with the line of the stream they are on, starting at 1
+        List<BatchItemResult> results = new ArrayList<>();
+        List<Book> books = new ArrayList<>(BATCH_TRANSACTION_SIZE);
+        List<String> unreadable = new ArrayList<>(BATCH_TRANSACTION_SIZE);
+        int[] lines = new int[BATCH_TRANSACTION_SIZE];
+        int lineNumber = 0;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.trim().isEmpty())
+                continue;
+            lines[books.size()] = lineNumber;
+            try {
+                books.add(BookNdjsonOutput.JSONB.fromJson(line, Book.class));
+                unreadable.add(null);
+            } catch (JsonbException e) {
+                // Keeps the book's position, it is rejected with the parser's message (like BookImporter does)
+                books.add(null);
+                unreadable.add(e.getMessage());
+            }
+            if (books.size() == BATCH_TRANSACTION_SIZE) {
+                results.addAll(createParsed(books, unreadable, lines));
+                books.clear();
+                unreadable.clear();
+                lines = new int[BATCH_TRANSACTION_SIZE];
+            }
+        }
+        results.addAll(createParsed(books, unreadable, lines));
+        return Response.ok(results).build();
+    }
+
+
+    // REST
+    @POST
+    @Path("/import")
+    @Consumes({APPLICATION_NDJSON, TEXT_CSV})                                           //Consumes one JSON Book per line, or the CSV of an export
+    @Produces(APPLICATION_JSON)
+    // Documentation
+    @ApiOperation(value = "Imports books from a stream of " + APPLICATION_NDJSON + " (one Book per line) or " + TEXT_CSV + " (the columns of GET /books/export, with its header line). Rows are parsed and validated in parallel and created in batches, ids in the rows are ignored", response = ImportReport.class)
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "The valid books are created, the report counts the rows, the created books and the rejected rows"),
+            @ApiResponse(code = 415, message = "Format is neither NDJSON nor CSV")
+    })
+    public Response importBooks(InputStream input, @Context HttpHeaders headers) throws IOException {
+        MediaType type = headers.getMediaType();
+        BookExportOutput.Format format = type != null && type.isCompatible(CSV_TYPE) ? BookExportOutput.Format.CSV : BookExportOutput.Format.NDJSON;
+        try {
+            return Response.ok(bookImporter.importBooks(input, format)).build();
+        } catch (IllegalArgumentException e) {
+            // No CSV header
+            throw new BadRequestException(e);
+        }
+    }
+
+
+    // A line that couldn't be parsed holds a null book, its result tells why instead of "book may not be null"
+    private List<BatchItemResult> createParsed(List<Book> books, List<String> unreadable, int[] lines) {
+        List<BatchItemResult> results = createInTransactions(books, index -> lines[index]);
+        for (int i = 0; i < unreadable.size(); i++) {
+            if (unreadable.get(i) != null)
+                results.set(i, BatchItemResult.rejected(lines[i], "unreadable row: " + unreadable.get(i)));
+        }
+        return results;
+    }
+
+
+    // One transaction every BATCH_TRANSACTION_SIZE books, so a huge batch doesn't end up in a single huge transaction.
+    // Results are numbered by <index>, given the position of their book in <books>
+    private List<BatchItemResult> createInTransactions(List<Book> books, IntUnaryOperator index) {
+        List<BatchItemResult> results = new ArrayList<>(books.size());
+        for (int from = 0; from < books.size(); from += BATCH_TRANSACTION_SIZE) {
+            List<Book> chunk = books.subList(from, Math.min(from + BATCH_TRANSACTION_SIZE, books.size()));
+            List<BatchItemResult> created;
+            try {
+                created = bookRepository.createAll(new ArrayList<>(chunk));
+            } catch (RuntimeException e) {
+                // The transaction of the chunk failed when flushing (constraint violation, database failure...) and has been
+                // rolled back, while the previous ones are committed: its books are rejected so the client knows where to resume
+                LOGGER.log(Level.WARNING, "Batch of " + chunk.size() + " books not created", e);
+                created = rejected(chunk.size(), "not created, transaction failed: " + rootCause(e).getMessage());
+            }
+            for (BatchItemResult result : created) {
+                result.setIndex(index.applyAsInt(from + result.getIndex()));
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    private static List<BatchItemResult> rejected(int size, String error) {
+        List<BatchItemResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+            results.add(BatchItemResult.rejected(i, error));
+        return results;
+    }
+
+    private static Throwable rootCause(Throwable e) {
+        while (e.getCause() != null && e.getCause() != e)
+            e = e.getCause();
+        return e;
+    }
+
 }
 
 
@@ -0,0 +1,163 @@
+package com.juankpapi.bookstore.rest;
+
+import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.repository.BookFilter;
+import com.juankpapi.bookstore.repository.BookRepository;
+
+import javax.ws.rs.core.StreamingOutput;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+
+// Writes the books matching a filter (the whole catalog by default) in id order, as NDJSON (one JSON Book per line) or CSV
+// (RFC 4180, with a header line), optionally gzipped. Books are read chunk after chunk (see BookRepository.forEachChunkById),
+// each chunk is written and flushed before the next one is loaded, so exporting millions of books runs in constant memory
+public class BookExportOutput implements StreamingOutput {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    public static final String TEXT_CSV = "text/csv";
+    public static final String APPLICATION_GZIP = "application/gzip";
+
+    static final String CSV_HEADER = "id,title,description,unitCost,isbn,publicationDate,nbOfPages,imageURL,language,version,lastModified";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    public enum Format {
+        NDJSON("ndjson", BookNdjsonOutput.APPLICATION_NDJSON),
+        CSV("csv", TEXT_CSV);
+
+        private final String extension;
+        private final String mediaType;
+
+        Format(String extension, String mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public String getMediaType() {
+            return mediaType;
+        }
+    }
+
+    private final BookRepository bookRepository;
+    private final BookFilter filter;
+    private final Format format;
+    private final int chunkSize;
+    private final boolean gzip;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public BookExportOutput(BookRepository bookRepository, BookFilter filter, Format format, int chunkSize, boolean gzip) {
+        this.bookRepository = bookRepository;
+        this.filter = filter;
+        this.format = format;
+        this.chunkSize = chunkSize;
+        this.gzip = gzip;
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+    @Override
+    public void write(OutputStream output) throws IOException {
+        CompressingOutputStream.GzipStream compressed = gzip ? new CompressingOutputStream.GzipStream(output, BUFFER_SIZE, false) : null;
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(compressed != null ? compressed : output, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writeBooks(writer);
+            writer.flush();
+            // Writes the gzip trailer, the response stream itself is closed by the container
+            if (compressed != null)
+                compressed.finish();
+        } finally {
+            // Not closed, that would close the response stream: its Deflater is ended, even if the export failed
+            if (compressed != null)
+                compressed.getDeflater().end();
+        }
+    }
+
+    private void writeBooks(Writer writer) throws IOException {
+        if (format == Format.CSV)
+            writer.write(CSV_HEADER + "\r\n");
+        try {
+            bookRepository.forEachChunkById(filter, chunkSize, chunk -> {
+                try {
+                    for (Book book : chunk) {
+                        if (format == Format.CSV)
+                            writeCsv(book, writer);
+                        else
+                            writer.write(BookNdjsonOutput.JSONB.toJson(book));
+                        writer.write(format == Format.CSV ? "\r\n" : "\n");
+                    }
+                    writer.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // One CSV record, same columns as CSV_HEADER. Dates are ISO-8601: the publication date as a day, the last modification as an instant
+    static void writeCsv(Book book, Writer writer) throws IOException {
+        writer.write(book.getId() == null ? "" : book.getId().toString());
+        writer.write(',');
+        writeCsvText(book.getTitle(), writer);
+        writer.write(',');
+        writeCsvText(book.getDescription(), writer);
+        writer.write(',');
+        writer.write(book.getUnitCost() == null ? "" : book.getUnitCost().toString());
+        writer.write(',');
+        writeCsvText(book.getIsbn(), writer);
+        writer.write(',');
+        writer.write(book.getPublicationDate() == null ? "" : LocalDate.ofEpochDay(BookBinaryProvider.toEpochDay(book.getPublicationDate())).toString());
+        writer.write(',');
+        writer.write(book.getNbOfPages() == null ? "" : book.getNbOfPages().toString());
+        writer.write(',');
+        writeCsvText(book.getImageURL(), writer);
+        writer.write(',');
+        writer.write(book.getLanguage() == null ? "" : book.getLanguage().name());
+        writer.write(',');
+        writer.write(book.getVersion() == null ? "" : book.getVersion().toString());
+        writer.write(',');
+        writer.write(book.getLastModified() == null ? "" : Instant.ofEpochMilli(book.getLastModified().getTime()).toString());
+    }
+
+    // Texts are only quoted when they have to be (comma, quote or line break), quotes are doubled
+    static void writeCsvText(String text, Writer writer) throws IOException {
+        if (text == null)
+            return;
+        boolean quoted = false;
+        for (int i = 0; i < text.length() && !quoted; i++) {
+            char c = text.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quoted) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '"') {
+                writer.write(text, start, i + 1 - start);
+                writer.write('"');
+                start = i + 1;
+            }
+        }
+        writer.write(text, start, text.length() - start);
+        writer.write('"');
+    }
+}
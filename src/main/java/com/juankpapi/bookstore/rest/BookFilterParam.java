@@ -0,0 +1,93 @@
+package com.juankpapi.bookstore.rest;
+
+import com.juankpapi.bookstore.model.Language;
+import com.juankpapi.bookstore.repository.BookFilter;
+import io.swagger.annotations.ApiParam;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.QueryParam;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.Locale;
+
+// Query parameters selecting books (@BeanParam), shared by the endpoints listing and deleting books.
+// They are read as strings and parsed by hand so that invalid values end up in a 400 (JAX-RS conversion failures are 404)
+public class BookFilterParam {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    @QueryParam("language")
+    @ApiParam("Language of the books")
+    private String language;
+
+    @QueryParam("minCost")
+    @ApiParam("Minimum unit cost, inclusive")
+    private String minCost;
+
+    @QueryParam("maxCost")
+    @ApiParam("Maximum unit cost, inclusive")
+    private String maxCost;
+
+    @QueryParam("minPages")
+    @ApiParam("Minimum number of pages, inclusive")
+    private String minPages;
+
+    @QueryParam("maxPages")
+    @ApiParam("Maximum number of pages, inclusive")
+    private String maxPages;
+
+    @QueryParam("publishedAfter")
+    @ApiParam("Books published on or after this date (yyyy-MM-dd)")
+    private String publishedAfter;
+
+    @QueryParam("publishedBefore")
+    @ApiParam("Books published before this date (yyyy-MM-dd)")
+    private String publishedBefore;
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+
+    // Throws a BadRequestException if a value can't be parsed
+    public BookFilter toFilter() {
+        BookFilter filter = new BookFilter();
+        filter.setLanguage(parseLanguage(language));
+        try {
+            filter.setMinCost(minCost == null ? null : Float.valueOf(minCost.trim()));
+            filter.setMaxCost(maxCost == null ? null : Float.valueOf(maxCost.trim()));
+            filter.setMinPages(minPages == null ? null : Integer.valueOf(minPages.trim()));
+            filter.setMaxPages(maxPages == null ? null : Integer.valueOf(maxPages.trim()));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(e);
+        }
+        filter.setPublishedAfter(parseDate(publishedAfter));
+        filter.setPublishedBefore(parseDate(publishedBefore));
+        return filter;
+    }
+
+    // ======================================
+    // =          Private methods           =
+    // ======================================
+    private static Language parseLanguage(String language) {
+        if (language == null)
+            return null;
+        try {
+            return Language.valueOf(language.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e);
+        }
+    }
+
+    private static Date parseDate(String date) {
+        if (date == null)
+            return null;
+        try {
+            return Date.from(LocalDate.parse(date.trim()).atStartOfDay(ZoneId.systemDefault()).toInstant());
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(e);
+        }
+    }
+}
@@ -0,0 +1,474 @@
+package com.juankpapi.bookstore.rest;
+
+import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.model.Language;
+import com.juankpapi.bookstore.repository.BatchItemResult;
+import com.juankpapi.bookstore.repository.BookRepository;
+import com.juankpapi.bookstore.rest.BookExportOutput.Format;
+import com.juankpapi.bookstore.util.TextUtil;
+
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedThreadFactory;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.json.bind.JsonbException;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+
+// Imports books from a stream of NDJSON (one JSON Book per line) or CSV (the columns of the export, ids are ignored) in three stages:
+// 1. the calling thread reads the rows, CHUNK_SIZE at a time
+// 2. <threads> parser threads turn them into books, sanitize and validate them: unreadable and invalid rows are rejected right away
+// 3. one writer thread creates the valid books, one transaction (BookRepository.createAllValidated, JDBC batches) every CHUNK_SIZE
+//    books. They are not checked again: the single writer only persists
+// Stages are linked by bounded queues: when the database can't keep up, parsers and then the reader wait (the stream is never loaded whole).
+// Rows are usually imported with POST /books/import. The file named by the bookstore.import.file system property (.csv or .ndjson,
+// optionally .gz) is imported in the background when the application starts. The number of parser threads can be tuned with the
+// bookstore.import.threads system property
+@ApplicationScoped
+public class BookImporter {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private static final Logger LOGGER = Logger.getLogger(BookImporter.class.getName());
+
+    // Rows per parsed chunk and books per transaction
+    static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REJECTIONS = 100;
+    private static final long POLL_MILLIS = 100;
+
+    @Resource
+    private ManagedThreadFactory threadFactory;
+
+    @Inject
+    private BookRepository bookRepository;
+
+    @Inject
+    private Validator validator;
+
+    @Inject
+    private TextUtil textUtil;
+
+    private final int threads;
+    private final String startupFile;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public BookImporter() {
+        this.threads = Integer.getInteger("bookstore.import.threads", Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+        this.startupFile = System.getProperty("bookstore.import.file");
+    }
+
+    BookImporter(BookRepository bookRepository, Validator validator, TextUtil textUtil, int threads) {
+        this.bookRepository = bookRepository;
+        this.validator = validator;
+        this.textUtil = textUtil;
+        this.threads = threads;
+        this.startupFile = null;
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+
+    // Imports all the rows of <input>, returns once the last valid book has been created
+    public ImportReport importBooks(InputStream input, Format format) throws IOException {
+        long start = System.nanoTime();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 64 * 1024);
+        String header = format == Format.CSV ? readCsvRecord(reader) : null;
+        int[] columns = format == Format.CSV ? csvColumns(header) : null;
+        // Line numbers start at 1, the header included
+        int firstLine = header == null ? 1 : 1 + lines(header);
+
+        Import running = new Import();
+        BlockingQueue<Chunk<String>> rows = new ArrayBlockingQueue<>(2 * threads);
+        BlockingQueue<Chunk<Book>> books = new ArrayBlockingQueue<>(2 * threads);
+        ExecutorService workers = Executors.newFixedThreadPool(threads + 1, threadFactory != null ? threadFactory : Executors.defaultThreadFactory());
+        try {
+            for (int i = 0; i < threads; i++)
+                workers.submit(() -> running.guard(() -> parse(rows, books, format, columns, running)));
+            Future<?> writer = workers.submit(() -> running.guard(() -> write(books, running)));
+
+            read(reader, format, firstLine, rows, running);
+            for (int i = 0; i < threads; i++)
+                running.put(rows, Chunk.end());
+            writer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Import interrupted");
+        } catch (ExecutionException | CancellationException e) {
+            // The failure of a stage is reported below
+        } finally {
+            workers.shutdownNow();
+        }
+        running.rethrowFailure();
+
+        ImportReport report = new ImportReport(running.rows.get(), running.created.get(), running.rejected.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), running.getRejections());
+        LOGGER.info(report.toString());
+        return report;
+    }
+
+    // Imports the startup file, if any, without delaying the deployment
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object init) {
+        if (startupFile == null)
+            return;
+        ThreadFactory factory = threadFactory != null ? threadFactory : Executors.defaultThreadFactory();
+        factory.newThread(() -> importFile(Paths.get(startupFile))).start();
+    }
+
+    private void importFile(Path file) {
+        String name = file.getFileName().toString();
+        boolean gzipped = name.endsWith(".gz");
+        Format format = (gzipped ? name.substring(0, name.length() - 3) : name).endsWith(".csv") ? Format.CSV : Format.NDJSON;
+        try (InputStream input = gzipped ? new GZIPInputStream(Files.newInputStream(file)) : Files.newInputStream(file)) {
+            LOGGER.info("Imported " + file + ": " + importBooks(input, format));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Import of " + file + " failed", e);
+        }
+    }
+
+    // Stage 1: rows, CHUNK_SIZE at a time, with the line of the file each of them starts on. Blank lines are skipped but
+    // counted, like the CSV header and the line breaks of quoted fields, so rejections point at the lines of the file
+    private void read(BufferedReader reader, Format format, int firstLine, BlockingQueue<Chunk<String>> rows, Import running) throws IOException, InterruptedException {
+        int line = firstLine;
+        int nbOfRows = 0;
+        List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+        int[] lines = new int[CHUNK_SIZE];
+        String row;
+        while ((row = format == Format.CSV ? readCsvRecord(reader) : reader.readLine()) != null) {
+            int rowLine = line;
+            line += format == Format.CSV ? lines(row) : 1;
+            if (row.trim().isEmpty())
+                continue;
+            lines[chunk.size()] = rowLine;
+            chunk.add(row);
+            if (chunk.size() == CHUNK_SIZE) {
+                running.put(rows, new Chunk<>(chunk, lines));
+                nbOfRows += chunk.size();
+                chunk = new ArrayList<>(CHUNK_SIZE);
+                lines = new int[CHUNK_SIZE];
+            }
+        }
+        running.put(rows, new Chunk<>(chunk, lines));
+        running.rows.set(nbOfRows + chunk.size());
+    }
+
+    // Stage 2: books, only the valid ones go on to the writer
+    private void parse(BlockingQueue<Chunk<String>> rows, BlockingQueue<Chunk<Book>> books, Format format, int[] columns, Import running) throws InterruptedException {
+        TextUtil.Sanitizer sanitizer = textUtil.newSanitizer();
+        Chunk<String> chunk;
+        while (!(chunk = running.take(rows)).isEnd()) {
+            List<Book> valid = new ArrayList<>(chunk.items.size());
+            for (int i = 0; i < chunk.items.size(); i++) {
+                int line = chunk.lines[i];
+                Book book;
+                try {
+                    book = format == Format.CSV ? fromCsv(parseCsvRecord(chunk.items.get(i)), columns) : BookNdjsonOutput.JSONB.fromJson(chunk.items.get(i), Book.class);
+                } catch (JsonbException | IllegalArgumentException | DateTimeParseException e) {
+                    running.reject(line, "unreadable row: " + e.getMessage());
+                    continue;
+                }
+                if (book == null) {
+                    running.reject(line, "book may not be null");
+                    continue;
+                }
+                // Always new books, whatever the row says
+                book.setId(null);
+                book.setVersion(null);
+                book.setLastModified(null);
+                book.setTitle(sanitizer.sanitize(book.getTitle()));
+                book.setDescription(sanitizer.sanitize(book.getDescription()));
+                String error = validate(book);
+                if (error != null) {
+                    running.reject(line, error);
+                    continue;
+                }
+                valid.add(book);
+            }
+            running.put(books, new Chunk<>(valid, null));
+        }
+        running.put(books, Chunk.end());
+    }
+
+    // Stage 3: one transaction every CHUNK_SIZE valid books, until every parser is done
+    private void write(BlockingQueue<Chunk<Book>> books, Import running) throws InterruptedException {
+        List<Book> batch = new ArrayList<>(CHUNK_SIZE);
+        int parsers = threads;
+        while (parsers > 0) {
+            Chunk<Book> chunk = running.take(books);
+            if (chunk.isEnd()) {
+                parsers--;
+                continue;
+            }
+            for (Book book : chunk.items) {
+                batch.add(book);
+                if (batch.size() == CHUNK_SIZE) {
+                    create(batch, running);
+                    batch.clear();
+                }
+            }
+        }
+        create(batch, running);
+    }
+
+    private void create(List<Book> batch, Import running) {
+        if (!batch.isEmpty())
+            running.created.addAndGet(bookRepository.createAllValidated(new ArrayList<>(batch)).size());
+    }
+
+    private String validate(Book book) {
+        Set<ConstraintViolation<Book>> violations = validator.validate(book);
+        if (violations.isEmpty())
+            return null;
+        StringJoiner error = new StringJoiner(", ");
+        for (ConstraintViolation<Book> violation : violations)
+            error.add(violation.getPropertyPath() + " " + violation.getMessage());
+        return error.toString();
+    }
+
+    // ======================================
+    // =                CSV                 =
+    // ======================================
+
+    // Positions of the Book attributes in the records, -1 when a column is missing (the header names the columns, see BookExportOutput)
+    static int[] csvColumns(String header) {
+        if (header == null)
+            throw new IllegalArgumentException("Missing CSV header");
+        List<String> names = Arrays.asList(BookExportOutput.CSV_HEADER.split(","));
+        int[] columns = new int[names.size()];
+        Arrays.fill(columns, -1);
+        List<String> fields = parseCsvRecord(header);
+        for (int i = 0; i < fields.size(); i++) {
+            int attribute = names.indexOf(fields.get(i).trim());
+            if (attribute >= 0)
+                columns[attribute] = i;
+        }
+        return columns;
+    }
+
+    // Next record, which spans several lines when a quoted field holds line breaks. Null at the end of the stream
+    static String readCsvRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null)
+            return null;
+        StringBuilder record = null;
+        while (quotesAreOpen(record == null ? line : record)) {
+            String next = reader.readLine();
+            if (next == null)
+                break;
+            if (record == null)
+                record = new StringBuilder(line);
+            record.append('\n').append(next);
+        }
+        return record == null ? line : record.toString();
+    }
+
+    // Number of lines of the file a record spans (readCsvRecord joins them with \n)
+    static int lines(String record) {
+        int lines = 1;
+        for (int i = 0; i < record.length(); i++)
+            if (record.charAt(i) == '\n')
+                lines++;
+        return lines;
+    }
+
+    private static boolean quotesAreOpen(CharSequence text) {
+        boolean open = false;
+        for (int i = 0; i < text.length(); i++)
+            if (text.charAt(i) == '"')
+                open = !open;
+        return open;
+    }
+
+    // Fields of a RFC 4180 record: quoted fields may hold commas, line breaks and doubled quotes
+    static List<String> parseCsvRecord(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c != '"')
+                    field.append(c);
+                else if (i + 1 < record.length() && record.charAt(i + 1) == '"')
+                    field.append(record.charAt(++i));
+                else
+                    quoted = false;
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // Throws IllegalArgumentException (or DateTimeParseException) when a number, a language or a date can't be read
+    static Book fromCsv(List<String> fields, int[] columns) {
+        Book book = new Book();
+        book.setTitle(field(fields, columns[1]));
+        book.setDescription(field(fields, columns[2]));
+        String unitCost = field(fields, columns[3]);
+        book.setUnitCost(unitCost == null ? null : Float.valueOf(unitCost));
+        book.setIsbn(field(fields, columns[4]));
+        String publicationDate = field(fields, columns[5]);
+        book.setPublicationDate(publicationDate == null ? null : BookBinaryProvider.fromEpochDay(LocalDate.parse(publicationDate).toEpochDay()));
+        String nbOfPages = field(fields, columns[6]);
+        book.setNbOfPages(nbOfPages == null ? null : Integer.valueOf(nbOfPages));
+        book.setImageURL(field(fields, columns[7]));
+        String language = field(fields, columns[8]);
+        book.setLanguage(language == null ? null : Language.valueOf(language));
+        return book;
+    }
+
+    // Missing and empty fields are null
+    private static String field(List<String> fields, int column) {
+        if (column < 0 || column >= fields.size() || fields.get(column).isEmpty())
+            return null;
+        return fields.get(column);
+    }
+
+    // ======================================
+    // =           Inner classes            =
+    // ======================================
+
+    // Rows (with their line numbers) or books going from one stage to the next. The end chunk tells the next stage that a
+    // thread of this stage is done
+    private static final class Chunk<T> {
+        private static final Chunk<?> END = new Chunk<>(Collections.emptyList(), null);
+
+        private final List<T> items;
+        private final int[] lines;
+
+        private Chunk(List<T> items, int[] lines) {
+            this.items = items;
+            this.lines = lines;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Chunk<T> end() {
+            return (Chunk<T>) END;
+        }
+
+        private boolean isEnd() {
+            return this == END;
+        }
+    }
+
+    // State shared by the stages of one import. The first failure of a stage stops the others: nobody waits forever on a queue
+    private static final class Import {
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicLong created = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        // The MAX_REJECTIONS rejections with the lowest line numbers so far, whatever the order the parsers find them in.
+        // The head is the greatest line, the one replaced by a lower one
+        private final PriorityQueue<BatchItemResult> rejections = new PriorityQueue<>(MAX_REJECTIONS, Comparator.comparingInt(BatchItemResult::getIndex).reversed());
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private void reject(int line, String error) {
+            rejected.incrementAndGet();
+            synchronized (rejections) {
+                if (rejections.size() == MAX_REJECTIONS) {
+                    if (line > rejections.peek().getIndex())
+                        return;
+                    rejections.poll();
+                }
+                rejections.add(BatchItemResult.rejected(line, error));
+            }
+        }
+
+        // In line order
+        private List<BatchItemResult> getRejections() {
+            List<BatchItemResult> sorted;
+            synchronized (rejections) {
+                sorted = new ArrayList<>(rejections);
+            }
+            sorted.sort(Comparator.comparingInt(BatchItemResult::getIndex));
+            return sorted;
+        }
+
+        private <T> void put(BlockingQueue<T> queue, T item) throws InterruptedException {
+            while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS))
+                stopIfFailed();
+        }
+
+        private <T> T take(BlockingQueue<T> queue) throws InterruptedException {
+            T item;
+            while ((item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS)) == null)
+                stopIfFailed();
+            return item;
+        }
+
+        private void stopIfFailed() {
+            if (failure.get() != null)
+                throw new CancellationException();
+        }
+
+        private void guard(Stage stage) {
+            try {
+                stage.run();
+            } catch (CancellationException e) {
+                // Another stage failed
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+
+        private void rethrowFailure() throws IOException {
+            Throwable cause = failure.get();
+            if (cause == null)
+                return;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new IOException("Import failed", cause);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Stage {
+        void run() throws Exception;
+    }
+}
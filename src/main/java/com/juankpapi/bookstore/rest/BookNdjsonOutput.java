@@ -0,0 +1,66 @@
+package com.juankpapi.bookstore.rest;
+
+import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.repository.BookFilter;
+import com.juankpapi.bookstore.repository.BookRepository;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+// Writes the books matching a filter (the whole catalog by default) as newline delimited JSON (one Book per line), chunk after chunk.
+// Nothing is read from the database before JAX-RS starts writing the response, and each chunk is flushed
+// to the client before the next one is loaded, so memory and first-byte latency don't depend on the catalog size.
+public class BookNdjsonOutput implements StreamingOutput {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    // Jsonb instances are thread safe and expensive to create (also used to read NDJSON books)
+    static final Jsonb JSONB = JsonbBuilder.create();
+
+    private final BookRepository bookRepository;
+    private final BookFilter filter;
+    private final int chunkSize;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public BookNdjsonOutput(BookRepository bookRepository, BookFilter filter, int chunkSize) {
+        this.bookRepository = bookRepository;
+        this.filter = filter;
+        this.chunkSize = chunkSize;
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+    @Override
+    public void write(OutputStream output) throws IOException {
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        try {
+            bookRepository.forEachChunk(filter, chunkSize, chunk -> {
+                try {
+                    for (Book book : chunk) {
+                        writer.write(JSONB.toJson(book));
+                        writer.write('\n');
+                    }
+                    writer.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+}
@@ -0,0 +1,86 @@
+package com.juankpapi.bookstore.rest;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Per-client rate limit: each client has a token bucket of <burst> tokens, refilled at <rate> tokens per second, and each
+// request takes a token. A bucket is a single AtomicLong holding the time at which it will have a token again
+// (GCRA, the generic cell rate algorithm: a token bucket expressed as a timestamp), taken with a CAS: no lock, whatever
+// the number of clients and requests.
+// Full buckets are the same as missing ones: when there are more than <sweep threshold> clients, one request drops them
+public class ClientRateLimiter {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    // Time to get one token back, and how far ahead of the clock a bucket may be before it is empty
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final int sweepThreshold;
+    private final LongSupplier clock;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    ClientRateLimiter(double rate, int burst, int sweepThreshold, LongSupplier clock) {
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / rate));
+        this.toleranceNanos = intervalNanos * (Math.max(1, burst) - 1);
+        this.sweepThreshold = sweepThreshold;
+        this.clock = clock;
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+
+    // Takes a token from the bucket of <client>: returns 0 if there was one, otherwise how long (in nanoseconds) the
+    // client has to wait for the next one
+    public long acquire(String client) {
+        // get first: computeIfAbsent locks the bin even when the bucket already exists
+        AtomicLong bucket = buckets.get(client);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(client, key -> new AtomicLong(Long.MIN_VALUE));
+            long wait = acquire(bucket);
+            // Only when a client is added, and once its token is taken (its bucket isn't full anymore)
+            if (buckets.size() > sweepThreshold)
+                sweep();
+            return wait;
+        }
+        return acquire(bucket);
+    }
+
+    private long acquire(AtomicLong bucket) {
+        long now = clock.getAsLong();
+        while (true) {
+            long next = bucket.get();
+            long theoretical = Math.max(next, now);
+            long wait = theoretical - now - toleranceNanos;
+            if (wait > 0)
+                return wait;
+            if (bucket.compareAndSet(next, theoretical + intervalNanos))
+                return 0;
+        }
+    }
+
+    int getClients() {
+        return buckets.size();
+    }
+
+    // A request racing with the sweep may take its token from a dropped bucket: the client gets one free token at most
+    private void sweep() {
+        if (!sweeping.compareAndSet(false, true))
+            return;
+        try {
+            long now = clock.getAsLong();
+            buckets.values().removeIf(bucket -> bucket.get() <= now);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
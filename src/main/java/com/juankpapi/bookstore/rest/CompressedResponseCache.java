@@ -0,0 +1,71 @@
+package com.juankpapi.bookstore.rest;
+
+import com.juankpapi.bookstore.repository.BookEvent;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Compressed bodies of the responses that have an ETag, keyed by URI, media type, ETag and encoding (see CompressionInterceptor):
+// the same representation asked for again is sent as is, without being serialized nor compressed again.
+// - The ETag is part of the key, so a changed book or catalog can never be served from an old entry
+// - Committed BookEvents empty the cache anyway, entries of an old catalog version would never be read again
+// - Once <capacity> entries are cached, some entry is dropped for each new one, and bodies larger than <maxEntrySize> are not cached
+// Capacity and maximum entry size (in bytes) can be tuned with the bookstore.compression.cache and bookstore.compression.cache.entry system properties
+@ApplicationScoped
+public class CompressedResponseCache {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private final Map<String, byte[]> entries = new ConcurrentHashMap<>();
+
+    private final int capacity;
+    private final int maxEntrySize;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public CompressedResponseCache() {
+        this(Integer.getInteger("bookstore.compression.cache", 100), Integer.getInteger("bookstore.compression.cache.entry", 256 * 1024));
+    }
+
+    CompressedResponseCache(int capacity, int maxEntrySize) {
+        this.capacity = capacity;
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+    public byte[] get(String key) {
+        return entries.get(key);
+    }
+
+    public void put(String key, byte[] compressed) {
+        if (capacity <= 0 || compressed.length > maxEntrySize)
+            return;
+        entries.put(key, compressed);
+        Iterator<String> keys = entries.keySet().iterator();
+        while (entries.size() > capacity && keys.hasNext()) {
+            String victim = keys.next();
+            if (!victim.equals(key))
+                entries.remove(victim);
+        }
+    }
+
+    public int getMaxEntrySize() {
+        return capacity <= 0 ? 0 : maxEntrySize;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void onBookEvent(@Observes(during = TransactionPhase.AFTER_SUCCESS) BookEvent event) {
+        entries.clear();
+    }
+}
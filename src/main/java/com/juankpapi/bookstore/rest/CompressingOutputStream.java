@@ -0,0 +1,179 @@
+package com.juankpapi.bookstore.rest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Compresses what is written to it on the fly, but only once more than <threshold> bytes have been written:
+// - the first <threshold> bytes are held back, if the body ends before that it is written as is (small bodies don't pay the gzip overhead)
+// - <onCompress> is called just before the first compressed byte, while the response headers can still be changed
+// - flush() sends what has been compressed so far (sync flush), so streamed responses keep on reaching the client chunk after chunk
+// If <copyLimit> is positive, the compressed bytes are also kept (up to <copyLimit>) so they can be cached, see getCompressed()
+// The Deflater (native memory) is owned by this stream, whatever the encoding: it is ended by finish(), or by end() when
+// the body is abandoned. Closing the compressor would also close the response stream, so it is never closed
+class CompressingOutputStream extends OutputStream {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    static final String GZIP = "gzip";
+    static final String DEFLATE = "deflate";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream output;
+    private final String encoding;
+    private final byte[] pending;
+    private int nbOfPending;
+    private final int copyLimit;
+    private final Runnable onCompress;
+
+    private ByteArrayOutputStream copy;
+    private Deflater deflater;
+    private DeflaterOutputStream compressor;
+    private boolean finished;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    CompressingOutputStream(OutputStream output, String encoding, int threshold, int copyLimit, Runnable onCompress) {
+        this.output = output;
+        this.encoding = encoding;
+        this.pending = new byte[threshold];
+        this.copyLimit = copyLimit;
+        this.onCompress = onCompress;
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (compressor == null && nbOfPending + length <= pending.length) {
+            System.arraycopy(bytes, offset, pending, nbOfPending, length);
+            nbOfPending += length;
+            return;
+        }
+        if (compressor == null)
+            startCompressing();
+        compressor.write(bytes, offset, length);
+    }
+
+    // Before the threshold nothing is flushed: the decision to compress can't be taken yet
+    @Override
+    public void flush() throws IOException {
+        if (compressor != null)
+            compressor.flush();
+    }
+
+    // Ends the body (writes the held back bytes or the compression trailer) without closing the response stream
+    public void finish() throws IOException {
+        if (finished)
+            return;
+        finished = true;
+        if (compressor == null) {
+            output.write(pending, 0, nbOfPending);
+            return;
+        }
+        try {
+            compressor.finish();
+        } finally {
+            end();
+        }
+    }
+
+    // Frees the Deflater, whether the body has been finished or not (when writing it failed). Can be called more than once
+    public void end() {
+        if (deflater != null)
+            deflater.end();
+    }
+
+    // Null until the body is compressed
+    Deflater getDeflater() {
+        return deflater;
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+        output.close();
+    }
+
+    // The whole compressed body, or null if it has not been compressed, is not finished or was larger than <copyLimit>
+    public byte[] getCompressed() {
+        return finished && copy != null ? copy.toByteArray() : null;
+    }
+
+    private void startCompressing() throws IOException {
+        onCompress.run();
+        OutputStream target = output;
+        if (copyLimit > 0) {
+            copy = new ByteArrayOutputStream(Math.min(copyLimit, pending.length));
+            target = new CopyingOutputStream();
+        }
+        if (GZIP.equals(encoding)) {
+            GzipStream gzip = new GzipStream(target, BUFFER_SIZE, true);
+            deflater = gzip.getDeflater();
+            compressor = gzip;
+        } else {
+            // HTTP "deflate" is the zlib format, which is what a Deflater writes by default
+            deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+            compressor = new DeflaterOutputStream(target, deflater, BUFFER_SIZE, true);
+        }
+        compressor.write(pending, 0, nbOfPending);
+    }
+
+    // ======================================
+    // =            Inner class             =
+    // ======================================
+
+    // A GZIPOutputStream creates its own Deflater, and only ends it when it is closed (which also closes <output>)
+    static final class GzipStream extends GZIPOutputStream {
+
+        GzipStream(OutputStream output, int bufferSize, boolean syncFlush) throws IOException {
+            super(output, bufferSize, syncFlush);
+        }
+
+        Deflater getDeflater() {
+            return def;
+        }
+    }
+
+    // Writes the compressed bytes to the response and keeps a copy of them, until they don't fit in <copyLimit>
+    private final class CopyingOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            output.write(bytes, offset, length);
+            if (copy == null)
+                return;
+            if (copy.size() + length > copyLimit)
+                copy = null;
+            else
+                copy.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            output.flush();
+        }
+
+        // The response stream is closed by CompressingOutputStream.close(), not by the compressor
+        @Override
+        public void close() {
+        }
+    }
+}
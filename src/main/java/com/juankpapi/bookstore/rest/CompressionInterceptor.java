@@ -0,0 +1,174 @@
+package com.juankpapi.bookstore.rest;
+
+import javax.inject.Inject;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+import static com.juankpapi.bookstore.rest.CompressingOutputStream.DEFLATE;
+import static com.juankpapi.bookstore.rest.CompressingOutputStream.GZIP;
+
+// Compresses the bodies of the responses (gzip or deflate, as accepted by the client) larger than <threshold> bytes.
+// - Compression is streamed: the body is compressed as it is written, never buffered whole (see CompressingOutputStream)
+// - Responses with an ETag are stable until it changes: their compressed bytes are cached and sent again as is (see CompressedResponseCache)
+// - A compressed body is not the same byte sequence as the identity one, so it can't share its strong ETag (RFC 7232 §2.3.3):
+//   the coding is appended to it ("12-3" becomes "12-3-gzip"). Weak ETags only promise an equivalent content, they are kept
+// - Responses that already have a Content-Encoding, or that are compressed files (gzipped exports), are left untouched
+// The threshold (in bytes) can be tuned with the bookstore.compression.threshold system property
+@Provider
+public class CompressionInterceptor implements WriterInterceptor {
+
+    // ======================================
+    // =          Injection Points          =
+    // ======================================
+    @Context
+    private HttpHeaders requestHeaders;
+
+    @Context
+    private UriInfo uriInfo;
+
+    @Context
+    private Request request;
+
+    @Inject
+    private CompressedResponseCache cache;
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private static final MediaType GZIP_TYPE = MediaType.valueOf(BookExportOutput.APPLICATION_GZIP);
+
+    private final int threshold;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public CompressionInterceptor() {
+        this(Integer.getInteger("bookstore.compression.threshold", 1024));
+    }
+
+    CompressionInterceptor(int threshold) {
+        this.threshold = threshold;
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        MultivaluedMap<String, Object> headers = context.getHeaders();
+        if (headers.containsKey(HttpHeaders.CONTENT_ENCODING) || isCompressed(context.getMediaType())) {
+            context.proceed();
+            return;
+        }
+        // Whether compressed or not, the body depends on the Accept-Encoding of the request
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String encoding = negotiate(requestHeaders.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+        if (encoding == null) {
+            context.proceed();
+            return;
+        }
+
+        Object tag = headers.getFirst(HttpHeaders.ETAG);
+        String key = tag == null || !HttpMethod.GET.equals(request.getMethod()) ? null
+                : uriInfo.getRequestUri() + " " + context.getMediaType() + " " + tag + " " + encoding;
+        OutputStream output = context.getOutputStream();
+        byte[] cached = key == null ? null : cache.get(key);
+        if (cached != null) {
+            encode(headers, encoding);
+            output.write(cached);
+            return;
+        }
+
+        CompressingOutputStream compressing = new CompressingOutputStream(output, encoding, threshold, key == null ? 0 : cache.getMaxEntrySize(), () -> encode(headers, encoding));
+        context.setOutputStream(compressing);
+        try {
+            context.proceed();
+            compressing.finish();
+        } finally {
+            // The compressor is freed even if the body couldn't be written (client gone, failed stream)
+            compressing.end();
+            context.setOutputStream(output);
+        }
+        byte[] compressed = compressing.getCompressed();
+        if (compressed != null)
+            cache.put(key, compressed);
+    }
+
+    // Chosen content coding for an Accept-Encoding header: gzip or deflate, gzip unless deflate has a higher quality. Null if neither is accepted
+    static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null)
+            return null;
+        float gzip = -1, deflate = -1, any = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            float quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Float.parseFloat(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equals(GZIP) || name.equals("x-gzip"))
+                gzip = Math.max(gzip, quality);
+            else if (name.equals(DEFLATE))
+                deflate = Math.max(deflate, quality);
+            else if (name.equals("*"))
+                any = quality;
+        }
+        // Codings that are not listed get the quality of "*", if any
+        if (gzip < 0)
+            gzip = any;
+        if (deflate < 0)
+            deflate = any;
+        if (gzip <= 0 && deflate <= 0)
+            return null;
+        return deflate > gzip ? DEFLATE : GZIP;
+    }
+
+    // Strong ETag of a body compressed with <encoding>
+    static EntityTag encodedTag(EntityTag tag, String encoding) {
+        return tag.isWeak() ? tag : new EntityTag(tag.getValue() + "-" + encoding);
+    }
+
+    // Tag to evaluate an If-None-Match header against: the strong <tag> of the identity body, or its encoded form if the
+    // header names it, as a client that received a compressed body sends it back
+    static EntityTag matchingTag(EntityTag tag, String ifNoneMatch) {
+        if (ifNoneMatch != null && !tag.isWeak())
+            for (String encoding : new String[]{GZIP, DEFLATE}) {
+                EntityTag encoded = encodedTag(tag, encoding);
+                if (ifNoneMatch.contains('"' + encoded.getValue() + '"'))
+                    return encoded;
+            }
+        return tag;
+    }
+
+    private static boolean isCompressed(MediaType mediaType) {
+        return mediaType != null && mediaType.isCompatible(GZIP_TYPE);
+    }
+
+    // The body is no longer the one of the entity: it gets a Content-Encoding, loses any Content-Length and its strong ETag is encoded
+    private static void encode(MultivaluedMap<String, Object> headers, String encoding) {
+        headers.putSingle(HttpHeaders.CONTENT_ENCODING, encoding);
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        Object tag = headers.getFirst(HttpHeaders.ETAG);
+        if (tag instanceof EntityTag)
+            headers.putSingle(HttpHeaders.ETAG, encodedTag((EntityTag) tag, encoding));
+    }
+}
@@ -0,0 +1,104 @@
+package com.juankpapi.bookstore.rest;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedThreadFactory;
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// Runs the requests that need the database on their own bounded pool, so slow queries never starve the HTTP threads:
+// - at most <threads> queries run at the same time and at most <queue> requests wait for a thread
+// - when the pool and its queue are full, or when a request waited more than <timeout>, the client gets a 503 with a Retry-After
+// Threads come from the server's ManagedThreadFactory, so they can use JPA, JTA and CDI like the request threads.
+// The timeout covers the whole work, so it is only meant for queries: a streamed response is written by the request thread
+// Threads, queue and timeout (in seconds) can be tuned with the bookstore.db.threads, bookstore.db.queue and bookstore.db.timeout system properties
+@ApplicationScoped
+public class DatabaseExecutor {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @Resource
+    private ManagedThreadFactory threadFactory;
+
+    private final int threads;
+    private final int queue;
+    private final long timeoutSeconds;
+    private ThreadPoolExecutor executor;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public DatabaseExecutor() {
+        this(Integer.getInteger("bookstore.db.threads", 16), Integer.getInteger("bookstore.db.queue", 100), Long.getLong("bookstore.db.timeout", 10));
+    }
+
+    DatabaseExecutor(int threads, int queue, long timeoutSeconds) {
+        this.threads = threads;
+        this.queue = queue;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    // ======================================
+    // =          Lifecycle methods         =
+    // ======================================
+    @PostConstruct
+    void start() {
+        ThreadFactory factory = threadFactory != null ? threadFactory : Executors.defaultThreadFactory();
+        executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queue), factory);
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+
+    // Resumes <asyncResponse> with the response built by <work> on a database thread, or with a 503 if it can't be run in time.
+    // Exceptions thrown by <work> are mapped as if it had run on the request thread (a BadRequestException is still a 400)
+    public void resume(AsyncResponse asyncResponse, Supplier<Response> work) {
+        // The timeout is set before submitting: a response that is already resumed can't get one
+        AtomicReference<Future<?>> running = new AtomicReference<>();
+        asyncResponse.setTimeoutHandler(timedOut -> {
+            Future<?> future = running.get();
+            if (future != null)
+                future.cancel(true);
+            timedOut.resume(unavailable());
+        });
+        asyncResponse.setTimeout(timeoutSeconds, TimeUnit.SECONDS);
+
+        try {
+            running.set(executor.submit(() -> {
+                try {
+                    asyncResponse.resume(work.get());
+                } catch (RuntimeException e) {
+                    asyncResponse.resume(e);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            asyncResponse.resume(unavailable());
+        }
+    }
+
+    private static Response unavailable() {
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).build();
+    }
+}
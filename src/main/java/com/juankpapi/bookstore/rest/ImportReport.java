@@ -0,0 +1,83 @@
+package com.juankpapi.bookstore.rest;
+
+import com.juankpapi.bookstore.repository.BatchItemResult;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+import java.util.List;
+
+// Outcome of an import (see BookImporter): how many rows have been read, created and rejected, and how fast
+@ApiModel(description = "Result of an import of books")
+public class ImportReport {
+
+    @ApiModelProperty("Number of rows read")
+    private long rows;
+
+    @ApiModelProperty("Number of books created")
+    private long created;
+
+    @ApiModelProperty("Number of rows rejected (unreadable or invalid books)")
+    private long rejected;
+
+    @ApiModelProperty("Duration of the import in milliseconds")
+    private long duration;
+
+    @ApiModelProperty("Rows read per second")
+    private double rowsPerSecond;
+
+    @ApiModelProperty("The first rejected rows (the index is the line of the file the row starts on, starting at 1) and why they have been rejected")
+    private List<BatchItemResult> rejections;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public ImportReport() {
+    }
+
+    public ImportReport(long rows, long created, long rejected, long duration, List<BatchItemResult> rejections) {
+        this.rows = rows;
+        this.created = created;
+        this.rejected = rejected;
+        this.duration = duration;
+        this.rowsPerSecond = duration == 0 ? rows : rows * 1000.0 / duration;
+        this.rejections = rejections;
+    }
+
+    // ======================================
+    // =        Getters and Setters         =
+    // ======================================
+    public long getRows() {
+        return rows;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getDuration() {
+        return duration;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public List<BatchItemResult> getRejections() {
+        return rejections;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportReport{" +
+                "rows=" + rows +
+                ", created=" + created +
+                ", rejected=" + rejected +
+                ", duration=" + duration +
+                ", rowsPerSecond=" + rowsPerSecond +
+                '}';
+    }
+}
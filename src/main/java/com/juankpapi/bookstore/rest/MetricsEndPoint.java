@@ -0,0 +1,46 @@
+package com.juankpapi.bookstore.rest;
+
+import com.juankpapi.bookstore.metrics.MetricsRegistry;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Response;
+
+// Metrics of the endpoints and of the repository, scraped by Prometheus
+@Path("/metrics")
+@Api("Metrics")
+public class MetricsEndPoint {
+
+    // ======================================
+    // =             Constants              =
+    // ======================================
+    private static final String PROMETHEUS_TEXT = "text/plain; version=0.0.4";
+
+    // ======================================
+    // =          Injection Points          =
+    // ======================================
+    @Inject
+    private MetricsRegistry metricsRegistry;
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+
+    // REST
+    @GET
+    @Produces(PROMETHEUS_TEXT)
+    // Documentation
+    @ApiOperation(value = "Returns the number of calls, errors and the latency quantiles of every endpoint and repository method, in the Prometheus text format", response = String.class)
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Metrics")
+    })
+    public Response getMetrics() {
+        return Response.ok(metricsRegistry.toPrometheus()).build();
+    }
+}
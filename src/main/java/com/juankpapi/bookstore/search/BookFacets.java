@@ -0,0 +1,82 @@
+package com.juankpapi.bookstore.search;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+import java.util.Map;
+
+// Number of books per facet value. Each facet is counted with the criteria of the other facets only, so a client
+// that selected SPANISH still gets the counts of the other languages (to switch to them) within the selected prices
+@ApiModel(description = "Facet counts of the books matching a filter")
+public class BookFacets {
+
+    @ApiModelProperty("Number of books matching all the criteria")
+    private long total;
+
+    @ApiModelProperty("Number of books per language")
+    private Map<String, Long> languages;
+
+    @ApiModelProperty("Number of books per unit cost range (from inclusive - to exclusive)")
+    private Map<String, Long> costs;
+
+    @ApiModelProperty("Number of books per number of pages range (from inclusive - to exclusive)")
+    private Map<String, Long> pages;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public BookFacets() {
+    }
+
+    public BookFacets(long total, Map<String, Long> languages, Map<String, Long> costs, Map<String, Long> pages) {
+        this.total = total;
+        this.languages = languages;
+        this.costs = costs;
+        this.pages = pages;
+    }
+
+    // ======================================
+    // =        Getters and Setters         =
+    // ======================================
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<String, Long> getLanguages() {
+        return languages;
+    }
+
+    public void setLanguages(Map<String, Long> languages) {
+        this.languages = languages;
+    }
+
+    public Map<String, Long> getCosts() {
+        return costs;
+    }
+
+    public void setCosts(Map<String, Long> costs) {
+        this.costs = costs;
+    }
+
+    public Map<String, Long> getPages() {
+        return pages;
+    }
+
+    public void setPages(Map<String, Long> pages) {
+        this.pages = pages;
+    }
+
+    @Override
+    public String toString() {
+        return "BookFacets{" +
+                "total=" + total +
+                ", languages=" + languages +
+                ", costs=" + costs +
+                ", pages=" + pages +
+                '}';
+    }
+}
@@ -0,0 +1,19 @@
+package com.juankpapi.bookstore.search;
+
+import com.juankpapi.bookstore.model.Book;
+
+// In-memory structure derived from the books (search index, prefix index...).
+// BookIndexLoader fills every BookIndex bean with the whole catalog at startup, then adds and removes books as they
+// are created and deleted. Implementations must be thread safe: they are read by requests while being updated.
+public interface BookIndex {
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+
+    // Indexes the book, replacing it if it was already indexed
+    void add(Book book);
+
+    // Does nothing if the book is not indexed
+    void remove(Long id);
+}
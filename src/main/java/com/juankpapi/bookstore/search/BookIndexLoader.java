@@ -0,0 +1,112 @@
+package com.juankpapi.bookstore.search;
+
+import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.repository.BookEvent;
+import com.juankpapi.bookstore.repository.BookRepository;
+
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedThreadFactory;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.TransactionPhase;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// Keeps all the BookIndex beans in sync with the database:
+// - at deployment time, the catalog is read once, chunk by chunk, and every book is added to every index. This warm up
+//   runs in the background so the deployment time doesn't depend on the size of the catalog: meanwhile, searches only
+//   see the books indexed so far
+// - then, each committed BookEvent adds the created books to, or removes the deleted ones from, every index
+@ApplicationScoped
+public class BookIndexLoader {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private static final Logger LOGGER = Logger.getLogger(BookIndexLoader.class.getName());
+
+    private static final int LOAD_CHUNK_SIZE = 500;
+
+    // Ids of the books deleted during the warm up, null once it is over
+    private volatile Set<Long> deletedDuringWarmUp;
+
+    // ======================================
+    // =          Injection Points          =
+    // ======================================
+    @Inject
+    @Any
+    private Instance<BookIndex> indexes;
+
+    @Inject
+    private BookRepository bookRepository;
+
+    @Resource
+    private ManagedThreadFactory threadFactory;
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object init) {
+        deletedDuringWarmUp = ConcurrentHashMap.newKeySet();
+        ThreadFactory factory = threadFactory != null ? threadFactory : Executors.defaultThreadFactory();
+        factory.newThread(this::warmUp).start();
+    }
+
+    public boolean isWarmingUp() {
+        return deletedDuringWarmUp != null;
+    }
+
+    // Indexes only see committed changes
+    public void onBookEvent(@Observes(during = TransactionPhase.AFTER_SUCCESS) BookEvent event) {
+        if (event.getType() == BookEvent.Type.DELETED) {
+            Set<Long> deleted = deletedDuringWarmUp;
+            if (deleted != null)
+                deleted.addAll(event.getIds());
+        }
+        for (BookIndex index : indexes) {
+            if (event.getType() == BookEvent.Type.CREATED) {
+                for (Book book : event.getBooks())
+                    index.add(book);
+            } else {
+                for (Long id : event.getIds())
+                    index.remove(id);
+            }
+        }
+    }
+
+    private void warmUp() {
+        long start = System.nanoTime();
+        try {
+            bookRepository.forEachChunk(LOAD_CHUNK_SIZE, this::load);
+            LOGGER.info("Book indexes warmed up in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Warm up of the book indexes failed", e);
+        } finally {
+            deletedDuringWarmUp = null;
+        }
+    }
+
+    // Created books may be added twice (by their event and by the warm up), which adding allows. A book read by the warm up
+    // and deleted before being added must not stay indexed: deletions are recorded before being applied, and checked after
+    private void load(List<Book> chunk) {
+        for (BookIndex index : indexes)
+            chunk.forEach(index::add);
+        Set<Long> deleted = deletedDuringWarmUp;
+        for (Book book : chunk) {
+            if (deleted.contains(book.getId())) {
+                for (BookIndex index : indexes)
+                    index.remove(book.getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.juankpapi.bookstore.search;
+
+import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.util.TextUtil;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-memory inverted index of the titles and descriptions of the books: for each word, the books containing it and how many times.
+// - It is built from the Book table when the application starts, and kept up to date as books are created and deleted (see BookIndexLoader)
+// - Queries are ranked with BM25, words of the title count twice as much as words of the description
+// - Searching never touches the database, only the ids of the best books are returned
+// Readers never lock, writers (creations and deletions) are serialized
+@ApplicationScoped
+public class BookSearchIndex implements BookIndex {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    // BM25 parameters: term frequency saturation and document length normalization
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 2;
+
+    // word -> (book id -> weighted number of occurrences)
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+    // book id -> distinct words, to remove a book without scanning all the postings
+    private final Map<Long, String[]> words = new ConcurrentHashMap<>();
+    // book id -> weighted number of words
+    private final Map<Long, Integer> lengths = new ConcurrentHashMap<>();
+    private final AtomicLong totalLength = new AtomicLong();
+
+    @Inject
+    private TextUtil textUtil;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public BookSearchIndex() {
+    }
+
+    BookSearchIndex(TextUtil textUtil) {
+        this.textUtil = textUtil;
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+
+    // Returns the ids of the <limit> books that best match the query, best first
+    public List<Long> search(String query, int limit) {
+        int nbOfBooks = lengths.size();
+        if (nbOfBooks == 0 || limit <= 0)
+            return Collections.emptyList();
+        double averageLength = (double) totalLength.get() / nbOfBooks;
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (String word : new LinkedHashSet<>(textUtil.tokenize(query))) {
+            Map<Long, Integer> books = postings.get(word);
+            if (books == null)
+                continue;
+            double idf = Math.log(1 + (nbOfBooks - books.size() + 0.5) / (books.size() + 0.5));
+            for (Map.Entry<Long, Integer> book : books.entrySet()) {
+                Integer length = lengths.get(book.getKey());
+                if (length == null)     // Removed meanwhile
+                    continue;
+                int frequency = book.getValue();
+                double score = idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+                scores.merge(book.getKey(), score, Double::sum);
+            }
+        }
+
+        // Keeps the <limit> best scores in a min-heap, ties are broken by id so results are stable
+        PriorityQueue<Map.Entry<Long, Double>> best = new PriorityQueue<>(limit + 1, (a, b) -> {
+            int byScore = Double.compare(a.getValue(), b.getValue());
+            return byScore != 0 ? byScore : Long.compare(b.getKey(), a.getKey());
+        });
+        for (Map.Entry<Long, Double> score : scores.entrySet()) {
+            best.offer(score);
+            if (best.size() > limit)
+                best.poll();
+        }
+        List<Long> ids = new ArrayList<>(best.size());
+        while (!best.isEmpty())
+            ids.add(best.poll().getKey());
+        Collections.reverse(ids);
+        return ids;
+    }
+
+    @Override
+    public synchronized void add(Book book) {
+        remove(book.getId());
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String word : textUtil.tokenize(book.getTitle()))
+            frequencies.merge(word, TITLE_WEIGHT, Integer::sum);
+        for (String word : textUtil.tokenize(book.getDescription()))
+            frequencies.merge(word, 1, Integer::sum);
+
+        int length = 0;
+        for (Map.Entry<String, Integer> frequency : frequencies.entrySet()) {
+            postings.computeIfAbsent(frequency.getKey(), word -> new ConcurrentHashMap<>()).put(book.getId(), frequency.getValue());
+            length += frequency.getValue();
+        }
+        words.put(book.getId(), frequencies.keySet().toArray(new String[0]));
+        lengths.put(book.getId(), length);
+        totalLength.addAndGet(length);
+    }
+
+    @Override
+    public synchronized void remove(Long id) {
+        String[] bookWords = words.remove(id);
+        if (bookWords == null)
+            return;
+        totalLength.addAndGet(-lengths.remove(id));
+        for (String word : bookWords) {
+            Map<Long, Integer> books = postings.get(word);
+            books.remove(id);
+            if (books.isEmpty())
+                postings.remove(word);
+        }
+    }
+
+    // Number of indexed books
+    public int size() {
+        return lengths.size();
+    }
+}
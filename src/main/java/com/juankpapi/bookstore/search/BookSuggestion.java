@@ -0,0 +1,53 @@
+package com.juankpapi.bookstore.search;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+// Title completion returned while the user is typing: just what is needed to display it and to fetch the book
+@ApiModel(description = "Title suggestion")
+public class BookSuggestion {
+
+    @ApiModelProperty("Identifier of the book")
+    private Long id;
+
+    @ApiModelProperty("Title of the book")
+    private String title;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public BookSuggestion() {
+    }
+
+    public BookSuggestion(Long id, String title) {
+        this.id = id;
+        this.title = title;
+    }
+
+    // ======================================
+    // =        Getters and Setters         =
+    // ======================================
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    @Override
+    public String toString() {
+        return "BookSuggestion{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                '}';
+    }
+}
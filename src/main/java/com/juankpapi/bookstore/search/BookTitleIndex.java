@@ -0,0 +1,97 @@
+package com.juankpapi.bookstore.search;
+
+import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.util.TextUtil;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// Sorted in-memory index of the titles, used to complete a title while the user is typing.
+// - Keys are the normalized titles (lower case, no accents, words separated by one space) followed by the book id,
+//   so all the titles starting with a prefix are a contiguous range of the map, read in alphabetical order
+// - Only the id and the title of each book are kept, suggestions never touch the database
+// Reads and writes never lock (ConcurrentSkipListMap), so typing doesn't wait for creations and deletions
+@ApplicationScoped
+public class BookTitleIndex implements BookIndex {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    // Ends every normalized title: sorts before any letter or digit, so shorter titles come first
+    private static final String END_OF_TITLE = " \u0000";
+
+    // normalized title + END_OF_TITLE + id -> suggestion
+    private final ConcurrentSkipListMap<String, BookSuggestion> titles = new ConcurrentSkipListMap<>();
+    // book id -> key in <titles>, to remove a book knowing only its id
+    private final Map<Long, String> keys = new ConcurrentHashMap<>();
+
+    @Inject
+    private TextUtil textUtil;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public BookTitleIndex() {
+    }
+
+    BookTitleIndex(TextUtil textUtil) {
+        this.textUtil = textUtil;
+    }
+
+    // ======================================
+    // =          Business methods          =
+    // ======================================
+
+    // Returns the first <limit> titles (alphabetically) starting with <prefix>, ignoring case, accents and punctuation
+    public List<BookSuggestion> suggest(String prefix, int limit) {
+        String from = normalize(prefix);
+        if (from.isEmpty() || limit <= 0)
+            return Collections.emptyList();
+        // A separator typed after the last word means the word is complete: "java " doesn't suggest "JavaScript"
+        if (!Character.isLetterOrDigit(prefix.charAt(prefix.length() - 1)))
+            from += " ";
+
+        NavigableMap<String, BookSuggestion> range = titles.subMap(from, true, from + Character.MAX_VALUE, false);
+        List<BookSuggestion> suggestions = new ArrayList<>(Math.min(limit, 16));
+        for (BookSuggestion suggestion : range.values()) {
+            suggestions.add(suggestion);
+            if (suggestions.size() == limit)
+                break;
+        }
+        return suggestions;
+    }
+
+    @Override
+    public synchronized void add(Book book) {
+        remove(book.getId());
+        String key = normalize(book.getTitle()) + END_OF_TITLE + book.getId();
+        titles.put(key, new BookSuggestion(book.getId(), book.getTitle()));
+        keys.put(book.getId(), key);
+    }
+
+    @Override
+    public synchronized void remove(Long id) {
+        String key = keys.remove(id);
+        if (key != null)
+            titles.remove(key);
+    }
+
+    // Number of indexed books
+    public int size() {
+        return keys.size();
+    }
+
+    // ======================================
+    // =          Private methods           =
+    // ======================================
+    private String normalize(String title) {
+        return String.join(" ", textUtil.tokenize(title));
+    }
+}
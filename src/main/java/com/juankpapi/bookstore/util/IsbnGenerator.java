@@ -1,13 +1,154 @@
 package com.juankpapi.bookstore.util;
 
-import java.util.Random;
+import com.juankpapi.bookstore.repository.BookRepository;
 
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedThreadFactory;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.event.Observes;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// Generates valid ISBN-13s (978 prefix and check digit), unique within the application:
+// - The 9 digits after the prefix are the node (first digit) and a serial number, so nodes sharing a database never collide.
+//   The node (0 to 9) is set with the bookstore.isbn.node system property
+// - Serials are handed out to the threads by blocks of BLOCK_SIZE: a thread only touches the shared counter once per block,
+//   the other numbers come from its own block, so creating threads never contend
+// - At deployment time, the counter starts after the last ISBN of this node found in the database, so a restart doesn't
+//   give out the same numbers again (numbers of the blocks not used before the restart are lost). The database is read in
+//   the background, not on the deployment thread: meanwhile, a thread that needs a new block waits for it
+@ApplicationScoped
 public class IsbnGenerator implements NumberGenerator {
 
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    static final String PREFIX = "978";
+    static final long BLOCK_SIZE = 1000;
+    private static final long SERIALS_PER_NODE = 100_000_000L;
+    private static final Logger LOGGER = Logger.getLogger(IsbnGenerator.class.getName());
+
+    private final int node;
+    private final AtomicLong nextBlock = new AtomicLong();
+    // <next serial, end of block (exclusive)> of each thread. Values are long[] so the thread pools of the server don't
+    // keep any class of the application once it is undeployed
+    private final ThreadLocal<long[]> blocks = new ThreadLocal<>();
+    // Completed once the ISBNs already in the database are reserved (at once when nothing has to be read)
+    private volatile CompletableFuture<Void> reserved = CompletableFuture.completedFuture(null);
+
+    // ======================================
+    // =          Injection Points          =
+    // ======================================
+    @Resource
+    private ManagedThreadFactory threadFactory;
+
+    // ======================================
+    // =            Constructors            =
+    // ======================================
+    public IsbnGenerator() {
+        this(Integer.getInteger("bookstore.isbn.node", 0));
+    }
+
+    IsbnGenerator(int node) {
+        if (node < 0 || node > 9)
+            throw new IllegalArgumentException("The ISBN node must be between 0 and 9: " + node);
+        this.node = node;
+    }
+
     // ======================================
     // =          Business methods          =
     // ======================================
+    @Override
     public String generateNumber() {
-        return "13-84356-" + Math.abs(new Random().nextInt());
+        long[] block = blocks.get();
+        if (block == null) {
+            block = new long[2];
+            blocks.set(block);
+        }
+        if (block[0] == block[1]) {
+            awaitReserved();
+            long first = nextBlock.getAndIncrement() * BLOCK_SIZE;
+            if (first + BLOCK_SIZE > SERIALS_PER_NODE)
+                throw new IllegalStateException("No more ISBNs for node " + node);
+            block[0] = first;
+            block[1] = first + BLOCK_SIZE;
+        }
+        return isbn(node * SERIALS_PER_NODE + block[0]++);
+    }
+
+    // Numbers up to <isbn> will not be generated, other ISBNs (other node, not generated) are ignored
+    public void reserveUpTo(String isbn) {
+        long serial = serialOf(isbn);
+        if (serial >= 0)
+            nextBlock.accumulateAndGet(serial / BLOCK_SIZE + 1, Math::max);
+    }
+
+    // The first digits of the ISBNs generated by this node
+    public String getNodePrefix() {
+        return PREFIX + node;
+    }
+
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object init, BookRepository bookRepository) {
+        CompletableFuture<Void> reading = new CompletableFuture<>();
+        reserved = reading;
+        ThreadFactory factory = threadFactory != null ? threadFactory : Executors.defaultThreadFactory();
+        factory.newThread(() -> {
+            try {
+                String lastIsbn = bookRepository.findLastIsbn(getNodePrefix(), PREFIX.length() + 10);
+                if (lastIsbn != null)
+                    reserveUpTo(lastIsbn);
+                reading.complete(null);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.SEVERE, "Last ISBN of node " + node + " not read, no ISBN will be generated", e);
+                reading.completeExceptionally(e);
+            }
+        }).start();
+    }
+
+    // ======================================
+    // =          Private methods           =
+    // ======================================
+
+    // Only called when a thread needs a new block: once the ISBNs are reserved, it is a volatile read
+    private void awaitReserved() {
+        try {
+            reserved.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("The ISBNs of node " + node + " already in the database are unknown", e.getCause());
+        }
+    }
+
+    // 978 + the 9 digits of <number> + the check digit: digits are weighted 1, 3, 1, 3... and the check digit makes the sum a multiple of 10
+    static String isbn(long number) {
+        char[] digits = new char[13];
+        digits[0] = '9';
+        digits[1] = '7';
+        digits[2] = '8';
+        for (int i = 11; i >= 3; i--) {
+            digits[i] = (char) ('0' + number % 10);
+            number /= 10;
+        }
+        int sum = 0;
+        for (int i = 0; i < 12; i++)
+            sum += (digits[i] - '0') * (i % 2 == 0 ? 1 : 3);
+        digits[12] = (char) ('0' + (10 - sum % 10) % 10);
+        return new String(digits);
+    }
+
+    // Serial number of an ISBN generated by this node, -1 for any other ISBN
+    private long serialOf(String isbn) {
+        if (isbn == null || isbn.length() != 13 || !isbn.startsWith(getNodePrefix()))
+            return -1;
+        try {
+            return Long.parseLong(isbn.substring(PREFIX.length() + 1, 12));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
     }
 }
@@ -1,12 +1,116 @@
 package com.juankpapi.bookstore.util;
 
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
 public class TextUtil {
 
     // ======================================
     // =          Business methods          =
     // ======================================
+
+    // Trims the text and replaces each run of white spaces (any Unicode space, tab, line break...) by a single space.
+    // Single pass, without regex: when there is nothing to change the same instance is returned and nothing is allocated.
+    // A null text stays null
     public String sanitize(String textToSanitize) {
-        return textToSanitize.replaceAll("\\s+", " ");
+        return sanitize(textToSanitize, null);
     }
-}
 
+    // For bulk sanitization (batches, imports): the returned Sanitizer reuses the same buffer for all the texts it sanitizes,
+    // so only the resulting Strings get allocated. It is not thread safe, use one per thread or per batch
+    public Sanitizer newSanitizer() {
+        return new Sanitizer();
+    }
+
+    // Splits a text into words, lower-cased and without accents ("Él  programa en JAVA-EE" -> [el, programa, en, java, ee]),
+    // so that texts and queries typed differently end up with the same words
+    public List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null)
+            return tokens;
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+            } else if (Character.getType(c) != Character.NON_SPACING_MARK && token.length() > 0) {
+                // Accents are decomposed into non spacing marks, they are dropped without splitting the word
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+        }
+        if (token.length() > 0)
+            tokens.add(token.toString());
+        return tokens;
+    }
+
+    // ======================================
+    // =          Private methods           =
+    // ======================================
+
+    // Uses <buffer> to build the sanitized text if it is big enough, a new array otherwise
+    private static String sanitize(String text, char[] buffer) {
+        if (text == null)
+            return null;
+        int length = text.length();
+        int start = 0;
+        while (start < length && isSpace(text.charAt(start)))
+            start++;
+        int end = length;
+        while (end > start && isSpace(text.charAt(end - 1)))
+            end--;
+
+        // Looks for the first space to replace: any space which is not ' ', or ' ' followed by another space.
+        // text[end - 1] is not a space, so a space before <end> is never the last character
+        int changed = start;
+        while (changed < end) {
+            char c = text.charAt(changed);
+            if (isSpace(c) && (c != ' ' || isSpace(text.charAt(changed + 1))))
+                break;
+            changed++;
+        }
+        if (changed == end)
+            return start == 0 && end == length ? text : text.substring(start, end);
+
+        char[] chars = buffer != null && buffer.length >= end - start ? buffer : new char[end - start];
+        text.getChars(start, changed, chars, 0);
+        int size = changed - start;
+        boolean inSpaces = false;
+        for (int i = changed; i < end; i++) {
+            char c = text.charAt(i);
+            if (isSpace(c)) {
+                inSpaces = true;
+            } else {
+                if (inSpaces)
+                    chars[size++] = ' ';
+                inSpaces = false;
+                chars[size++] = c;
+            }
+        }
+        return new String(chars, 0, size);
+    }
+
+    // Whitespaces (tabs, line breaks...) and Unicode space separators (no-break space, em space...)
+    private static boolean isSpace(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c);
+    }
+
+    // ======================================
+    // =            Inner class             =
+    // ======================================
+    public static final class Sanitizer {
+        private char[] buffer = new char[256];
+
+        private Sanitizer() {
+        }
+
+        // Same as TextUtil.sanitize, reusing this sanitizer's buffer
+        public String sanitize(String textToSanitize) {
+            if (textToSanitize != null && textToSanitize.length() > buffer.length)
+                buffer = new char[Math.max(textToSanitize.length(), buffer.length * 2)];
+            return TextUtil.sanitize(textToSanitize, buffer);
+        }
+    }
+}
@@ -1,100 +1,100 @@
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1001, '1931182310', 'Advanced Java EE Development for RAD Guidebook', 'http://ecx.images-amazon.com/images/I/51bjnhlGbeL._SL160_.jpg', 2, 79.95, 752, DATE '2011-11-21', 'Written by IBM senior field engineers and senior product development experts, this advanced book provides a solid look at the development of a range of core Java EE technologies, as well as an in-depth description of the development facilities provided by IBM Rational Application Developer version 7.5. Since the Java EE developmental platform incorporates a wide range of technologies from disparate and myriad sources, this up-to-date guidebook helps developers triumph over the complexity and depth of knowledge required to build successful architectures. Senior developers, engineers, and architects—especially those who work with Rational Application Developer and those seeking certification at the Sun-certified Java master-tier level or the IBM Rational Application Developer certified professional and certified advanced professional levels—will appreciate this convenient, single reference point.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1002, '1931182311', 'Advanced Java EE Development for RAD Guidebook (Nov-2011)', 'http://ecx.images-amazon.com/images/I/511pqkJd3UL._SL160_.jpg', 2, 9.99, 543, DATE '2011-11-21', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1003, '1931182312', 'Advanced Java EE Development for RAD Guidebook 2nd', 'http://ecx.images-amazon.com/images/I/511pqkJd3UL._SL160_.jpg', 4, 9.99, 987, DATE '2005-09-17', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1004, '1514210959', 'Advanced Java EE Development with WildFly', 'http://ecx.images-amazon.com/images/I/51f7V8CEb7L._SL160_.jpg', 8, 44.99, 416, DATE '2015-06-04', 'Your one-stop guide to developing Java® EE applications with the Eclipse IDE, Maven, and WildFly® 8.1 About This Book •Develop Java EE 7 applications using the WildFly platform •Discover how to use EJB 3.x, JSF 2.x, Ajax, JAX-RS, JAX-WS, and Spring with WildFly 8.1 •A practical guide filled with easy-to-understand programming examples to help you gain hands-on experience with Java EE development using WildFly Who This Book Is For This book is for professional WildFly developers. If you are already using JBoss or WildFly but don''t use the Eclipse IDE and Maven for development, this book will show you how the Eclipse IDE and Maven facilitate the development of Java EE applications with WildFly 8.1. This book does not provide a beginner-level introduction to Java EE as it is written as an intermediate/advanced course in Java EE development with WildFly 8.1. In Detail This book starts with an introduction to EJB 3 and how to set up the environment, including the configuration of a MySQL database for use with WildFly. We will then develop object-relational mapping with Hibernate 4, build and package the application with Maven, and then deploy it in WildFly 8.1, followed by a demonstration of the use of Facelets in a web application. Moving on from that, we will create an Ajax application in the Eclipse IDE, compile and package it using Maven, and run the web application on WildFly 8.1 with a MySQL database. In the final leg of this book, we will discuss support for generating and parsing JSON with WildFly 8.1.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1005, '8894038912', 'Advanced Jax-Ws Web Services', 'http://ecx.images-amazon.com/images/I/31lRGN%2BfvDL._SL160_.jpg', 6, 22.90, 154, DATE '2014-11-02', 'In this book you''ll learn the concepts of Soap based Web Services architecture and get practical advice on building and deploying Web Services in the enterprise. Starting from the basics and the best practices for setting up a development environment, this book enters into the inner details of the Jax-Ws in a clear and concise way. You will also learn about the major toolkits available for creating, compiling and testing Soap Web Services and how to address common issues such as debugging data and securing its content. What you will learn: Move your first steps with Soap Web Services. Developing Web Services using top-down and bottom-up approach. Using Maven archetypes to speed up Web Services creation. Getting into the details of Jax-Ws types: Java to Xml mapping and Xml to Java Developing Soap Web Services on WildFly 8 and Tomcat. Running native Apache Cxf on WildFly Securing Web Services. Applying authentication policies to your services. Encrypting the communication.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1006, '0071763929', 'Mike Meyers'' Guide to Supporting Windows 7', 'http://ecx.images-amazon.com/images/I/51Dk-Zq2I7L._SL160_.jpg', 5, 30.00, 240, DATE '2011-09-15', 'Mike Meyers'' Guide to Supporting Windows 7 for CompTIA A+ Certification, Exams 220-701 & 220-702 Get the latest information on the new Windows 7 topics and questions added to CompTIA A+ exams 220-701 and 220-702. A must-have companion to CompTIA A+ All-in-One Exam Guide, Seventh Edition andMike Meyers'' CompTIA A+ Guide to Managing and Troubleshooting PCs, Third Edition, this book focuses on the new exam objectives. Mike Meyers'' Guide to Supporting Windows 7 for CompTIA A+ Certification provides learning objectives at the beginning of each chapter, exam tips, practice exam questions, and in-depth explanations. Written by the leading authority on CompTIA A+ certification and training, this essential resource provides the up-to-date coverage you need to pass the exams with ease. Mike Meyers, CompTIA A+, CompTIA Network+, CompTIA Security+, MCP, is the industry''s leading authority on CompTIA A+ certification and the bestselling author of seven editions of CompTIA A+ All-in-One Exam Guide. He is the president of PC and network repair seminars for thousands of organizations throughout the world, and a member of CompTIA.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1007, '1849512442', 'Apache Maven 3 Cookbook (Quick Answers to Common Problems)', 'http://ecx.images-amazon.com/images/I/41uiGX%2BdFRL._SL160_.jpg', 4, 39.99, 224, DATE '2011-08-25', 'Take Flash to the next dimension by creating detailed, animated, and interactive 3D worlds with Away3D OverviewCreate stunning 3D environments with highly detailed texturesAnimate and transform all types of 3D objects, including 3D TextEliminate the need for expensive hardware with proven Away3D optimization techniques, without compromising on visual appeal Written in a practical and illustrative style, which will appeal to Away3D beginners and Flash developers alike In DetailAway3D is one of the most popular real-time 3D engines for Flash. Besides creating various detailed 3D environments you can also create animated 3D scenes, use various special effects, integrate third-party libraries, and much more. The possibilities of using this engine are endless. But will you be able take full advantage of all these features and make a 3D application that is picture perfect?. This is the best book for guiding you through Away3D, and the possibilities it opens up for the Flash platform. You''ll be able to create basic 3D objects, display lifelike animated characters, construct complex 3D scenes in stunning detail, and much more with this practical hands-on guide. Starting with the very basics, this book will walk you through creating your first Away3D application, and then move on to describe and demonstrate the many features that are available within Away3D such as lighting, shading, animation, 3D text, model loading and more. With the help of this comprehensive guide to all the information you ever needed to use Away3D, you''ll find yourself creating incredibly detailed 3D environments in no time. You begin with an overview of downloading the Away3D source code and configuring various authoring tools like Flex Builder, Flash Builder, FlashDevelop, and Flash CS4. Next you ease your way through creating your first primitive 3D object from scratch, then move on to creating stunning 3D environments with incredibly detailed textures and animations. You will make applications react to mouse events, with the click of a mouse – literally, learn ways to focus your camera and perfect your creation by viewing it from all angles, and take your Away3D application to the next level by overcoming the limitations in default Away3D algorithms. You will also learn optimization techniques to obtain the best performance from Away3D, without compromising on visual appeal. Create stunning real-world 3D Flash applications, right from displaying your first sphere to creating entire 3D cities, with plenty of tips to help you avoid common pitfalls. What you will learn from this bookDraw primitive shapes such as cubes, cones, spheres, and planes without having to manually construct them from their basic elements Add eye-catching special effects to your Away3D applicationWarp, curve, modify, and bend 3D text to your willFocus the Camera and view 3D objects from all anglesImprove mouse interactivity in your 3D applicationIntegrate third-party libraries such as TweenLite and Stardust with Away3D to animate 3D objects and create particle effects Use sprites and sprite classesUtilize the power of Pixel Bender for image processingExport 3D models from 3D modeling applications such as 3ds Max, Blender, MilkShape, and Sketch-Up Get practical tips on achieving maximum performance in your 3D applications')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1008, '2746062399', 'Apache Tomcat 7', 'http://ecx.images-amazon.com/images/I/5159Mv-pl3L._SL160_.jpg', 3, 9.99, null, null, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1009, '2746086336', 'Apache Tomcat 8', 'http://ecx.images-amazon.com/images/I/413b2IfJmsL._SL160_.jpg', 5, 9.99, null, null,  'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1010, '1492201448', 'Apache TomEE Cookbook', 'http://ecx.images-amazon.com/images/I/61fIAAa6poL._SL160_.jpg', 2, 35.00, 196, DATE '2013-08-21',  'This cookbook is written for learning TomEE internals by server administrators and Java EE developers. Administrators will learn how to configure TomEE for using it in a production environment. Developers will learn how to create web applications using the Java™ Platform, Enterprise Edition 6 (Java EE 6) technologies provided by TomEE runtime and to deploy these enterprise applications into TomEE. Chapters of the book: Chapter 1 : Introduction Chapter 2 : Getting Started Chapter 3 : TomEE Architecture Chapter 4 : TomEE Web Server, Apache Tomcat Chapter 5 : TomEE EJB Lite Server, Apache OpenEJB Chapter 6 : Deployments in TomEE Chapter 7 : JavaEE Technologies Used in TomEE Chapter 8 : TomEE Security Chapter 9 : JNDI Naming In TomEE Chapter 10 : Transactions in TomEE Chapter 11 : TomEE Clustering Features Chapter 12 : TomEE WebSocket Protocol Support Chapter 13 : TomEE GUI Chapter 14 : Testing Techniques in TomEE Chapter 15 : TomEE Embedded Usage Chapter 16 : Useful References Chapter 17 : ASF License')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1011, '148885162X', 'Application Server 131', 'http://ecx.images-amazon.com/images/I/51s-9pleKyL._SL160_.jpg', 5, 29.95, 60, DATE '2014-06-10', 'A fresh Application Server approach. An program server may be whichever a code model that delivers a simplified tactic to generating an application-server effectuation, short of heed to what the program purposes are, either the server part of a concrete effectuation example. In whichever instance, the server''s purpose is committed to the effectual implementation of methods (programs, procedures, scripts) for helping its affected applications. There has never been a Application Server Guide like this. It contains 131 answers, much more than you can imagine; comprehensive answers and extensive details and references, with insights that have never before been offered in print. Get the information you need--fast! This all-embracing guide offers a thorough view of key knowledge and detailed insight. This Guide introduces what you want to know about Application Server. A quick look inside of some of the subjects covered: Web application server - URL mapping, Web application server - Web services, WebSphere Application Server - Version 8.5, Comparison of application servers - Haskell, Application server Advantages of application servers, Oracle Application Server 10g, WebSphere Application Server - Version 6.0, Application server Other platforms, Oracle Application Server 10g - Components, Base4 Application Server - History, Application server - Advantages of application servers, Application server - Java application servers, Comparison of application servers - Ruby, Web application server - Ajax, WebSphere Application Server for z/OS - WAS z/OS Platform Exploitation, Comparison of application servers - Smalltalk, TNAPS Application Server - Hosting, WebLogic Application Server, Sun Java System Application Server - Releases, WebSphere Application Server - Version 7.0, WebLogic Application Server - Components, SAP NetWeaver Application Server - Authentication, and much more…')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1012, '1782170561', 'Applied SOA Patterns on the Oracle Platform', 'http://ecx.images-amazon.com/images/I/51eaKOFmswL._SL160_.jpg', 5, 59.99, 498, DATE '2014-08-08','Fuse together your pragmatic Oracle experience with abstract SOA patterns with this practical guide About This BookDemonstrates how to approach the Big Problem, decompose it into manageable pieces and assess the feasibility of SOA methodology to build the entire solution using real-life examples Explores out the links between SOA Principles, Open Standards and SOA Frameworks with clear standards implementation roadmaps A collection of "lessons learned" from various implementations undertaken over the years, but the book can also be used as a textbook of preparation for SOA Professional/Architect exams (from SOA school) Who This Book Is ForApplied SOA Patterns on the Oracle Platformis aimed at architects practicing SOA or traditional integration, and also at technical team leaders implementing Oracle Fusion under SCRUM or WF methodology. What You Will LearnUnderstand the links between SOA principles, standards, and patterns in relation to the service characteristics you want to achieve Identify the most suitable SOA tools for your task from the Oracle Fusion stackDeploy your Business Rules in a centralized, controllable, and manageable faction to support dynamic service compositions Implement flexible taxonomy for Enterprise Service Repository, service monitoring, and automated service recovery Identify the SOA security risks and mitigate them with minimal impact on your composition''s performance Use the SOA design pattern for preparing your Enterprise for the cloudBalance your long-running and fast-running service compositions between different service frameworks and service layers In DetailFor architects and developers, to solve business problems in the most efficient way possible, the experience of building complex collaboration and messaging systems in different industries combined with the architectural knowledge of practically realizing SOA patterns is what is required. Applied SOA Patterns on the Oracle Platform is dedicated to problem solving with the application of common patterns. This book will help you face all the challenges that even seasoned architects can struggle with. It begins with a descriptive introduction to SOA principles and standards. Next, it explores how to balance the principles in different SOA frameworks and where you can try for standard implementations. Security aspects are covered in a chapter dedicated to the topic. The aim of Applied SOA Patterns on the Oracle Platform is to enable you to service working components, suitable for all types of SOA implementation based on Oracle tools.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1013, '3831141495', 'Architektur von Fuzzy-Informationssystemen', 'http://ecx.images-amazon.com/images/I/51jK1DkFoyL._SL160_.jpg', 4, 51.50, 352, DATE '2002-12-18', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1014, '0071809252', 'Java: A Beginner''s Guide, Sixth Edition', 'http://ecx.images-amazon.com/images/I/51bSQY6AZhL._SL160_.jpg', 7, 40.00, 728, DATE '2014-05-06', 'Essential Java Programming Skills--Made Easy!Fully updated for Java Platform, Standard Edition 8 (Java SE 8),Java: A Beginner''s Guide, Sixth Edition gets you started programming in Java right away. Bestselling programming author Herb Schildt begins with the basics, such as how to create, compile, and run a Java program. He then moves on to the keywords, syntax, and constructs that form the core of the Java language. This Oracle Press resource also covers some of Java''s more advanced features, including multithreaded programming, generics, and Swing. Of course, new Java SE 8 features such as lambda expressions and default interface methods are described. An introduction to JavaFX, Java''s newest GUI, concludes this step-by-step tutorial. The book''s code examples are available FREE for download.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1015, '0071817913', 'jQuery: A Beginner''s Guide', 'http://ecx.images-amazon.com/images/I/41qI3mRZp6L._SL160_.jpg', 2, 40.00, 376, DATE '2014-04-01', 'Essential Skills--Made Easy!Learn the fundamentals of jQuery programming in no time. jQuery: A Beginner''s Guide starts with the basics--from including the library in an HTML document to element selection, event handling, and CSS style manipulation. Next, it''s on to JavaScript and the DOM, animation and effects, the Event object, and form validation. The book then delves into AJAX and plugins and covers more advanced techniques such as debugging and unit testing. Get started with jQuery right away using this fast-paced tutorial! Ready-to-use code at www.mhprofessional.com/computingdownload')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1016, '0992133041', 'Java: A Beginner''s Tutorial', 'http://ecx.images-amazon.com/images/I/41qOj-qckNL._SL160_.jpg', 3, 32.99, 720, DATE '2015-01-01', 'Fully updated for Java SE 8, this book covers the most important Java programming topics that you need to master to be able to learn other technologies yourself. By fully understanding all the chapters and doing the exercises you’ll be able to perform an intermediate Java programmer’s daily tasks quite well. This book offers the three subjects that a professional Java programmer must be proficient in: - Java as a programming language; - Object-oriented programming (OOP) with Java; - Java core libraries. Table of Contents Introduction Chapter 1: Getting Started Chapter 2: Language Fundamentals Chapter 3: Statements Chapter 4: Objects and Classes Chapter 5: Core Classes Chapter 6: Arrays Chapter 7: Inheritance Chapter 8: Error Handling Chapter 9: Working with Numbers Chapter 10: Interfaces and Abstract Classes Chapter 11: Polymorphism Chapter 12: Enums Chapter 13: Working with Dates and Times Chapter 14: The Collections Framework Chapter 15: Generics Chapter 16: Input/Output Chapter 17: Annotations Chapter 18: Nested and Inner Classes Chapter 19: Lambda Expressions Chapter 20: Working with Streams Chapter 21: Java Database Connectivity Chapter 22: Swing Basics Chapter 23: Swinging Higher Chapter 24: Applets Chapter 25: Introduction to JavaFX Chapter 26: JavaFX with FXML Chapter 27: Java Threads Chapter 28: Concurrency Utilities Chapter 29: Internationalization Chapter 30: Java Networking Chapter 31: Security Chapter 32: Java Web Applications Chapter 33: JavaServer Pages Chapter 34: Javadoc Chapter 35: Application Deployment Appendix A: javac Appendix B: java Appendix C: jar Appendix D: NetBeans Appendix E: Eclipse Answers Index')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1017, '9781118017', 'Beginning Android Application Development', 'http://ecx.images-amazon.com/images/I/51-qKJitSbL._SL160_.jpg', 4, 39.99, 448, DATE '2011-04-19', 'Create must-have applications for the latest Android OSThe Android OS is a popular and flexible platform for many of today''s most in-demand mobile devices. This full-color guide offers you a hands-on introduction to creating Android applications for the latest mobile devices. Veteran author Wei Meng Lee accompanies each lesson with real-world examples to drive home the content he covers. Beginning with an overview of core Android features and tools, he moves at a steady pace while teaching everything you need to know to successfully develop your own Android applications. Explains what an activity is and reviews its lifecycleZeroes in on customizing activities by applying styles and themesLooks at the components of a screen, including LinearLayout, AbsoluteLayout, and RelativeLayout, among others Details ways to adapt to different screen sizes and adjust display orientationReviews the variety of views such as TextView, ProgressBar, TimePicker, and moreBeginning Android Application Development pares down the most essential steps you need to know so you can start creating Android applications today.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1018, '1430246936', 'Beginning EJB 3 (Java EE 7 Edition)', 'http://ecx.images-amazon.com/images/I/51jhGIBW3ZL._SL160_.jpg', 2, 9.99, 440, DATE '2014-05-27', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1019, '1931182313', 'Beginning EJB 3, Java EE, 7th 2nd', 'http://ecx.images-amazon.com/images/I/51jhGIBW3ZL._SL160_.jpg', 3, 9.99, null, null, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1020, '1931182314', 'Beginning EJB 3, Java EE, 7th ed.', 'http://ecx.images-amazon.com/images/I/51jhGIBW3ZL._SL160_.jpg', 4, 9.99, 421, DATE '2013-01-01', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1021, '1430246928', 'Beginning EJB 3, Java EE, 7th Edition', 'http://ecx.images-amazon.com/images/I/51bamFsgY9L._SL160_.jpg', 6, 49.99, 452, DATE '2013-05-08', 'Targeted at Java and Java EE developers both with and without prior Enterprise JavaBeans (EJB) experience, Beginning EJB 3, Java EE 7 Edition will guide you in building enterprise software based on the latest cross-platform industry standards. Learn how to use the EJB 3 API to develop powerful, standards-based backend business logic for creating the complex enterprise applications that run today''s transactions and more. With over 20 years of combined EJB experience, the authors offer many practical insights into designing and coding EJB components in combination with related Java EE technologies. EJB has made huge advances in the ease of building enterprise, server-side Java components and business logic development, and has drastically simplified programming models and design patterns. Use this book to harness that power and take your enterprise Java development to the next level.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1022, '1931182315', 'Beginning EJB 3, Java EE, 7th Edition 2nd', 'http://ecx.images-amazon.com/images/I/51zJ1X%2BhaLL._SL160_.jpg', 4, 9.99, 43, DATE '2005-09-17', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1023, '1931182316', 'Beginning EJB 3, Java EE, 7th Edition', 'http://ecx.images-amazon.com/images/I/51jhGIBW3ZL._SL160_.jpg', 8, 9.99, null, null, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1024, '1931182317', 'Beginning EJB 3, Java EE, 7th Edition', 'http://ecx.images-amazon.com/images/I/51zJ1X%2BhaLL._SL160_.jpg', 1, 9.99, 39, DATE '2013-05-23', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1025, '1931182318', 'Beginning Ejb 3: Java Ee 7 Edition', 'http://ecx.images-amazon.com/images/I/51UWE5ZERlL._SL160_.jpg', 6, 9.99, 93, DATE '2004-01-16', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1026, '1931182319', 'Beginning Ejb 3: Java Ee 7 Edition', 'http://ecx.images-amazon.com/images/I/51LujmD8pXL._SL160_.jpg', 1, 9.99, null, null, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1027, '1430239093', 'Beginning Java 7 (Expert''s Voice in Java)', 'http://ecx.images-amazon.com/images/I/41imSrpwTsL._SL160_.jpg', 6, 44.99, 920, DATE '2011-11-22', 'Beginning Java 7 guides you through version 7 of the Java language and a wide assortment of platform APIs. New Java 7 language features that are discussed include switch-on-string and try-with-resources. APIs that are discussed include Threading, the Collections Framework, the Concurrency Utilities, Swing, Java 2D, networking, JDBC, SAX, DOM, StAX, XPath, JAX-WS, and SAAJ. This book also presents an introduction to Android app development so that you can apply some of its knowledge to the exciting world of Android app development. This book presents the following table of contents:Chapter 1 introduces you to Java and begins to cover the Java language by focusing on fundamental concepts such as comments, identifiers, variables, expressions, and statements. Chapter 2 continues to explore this language by presenting all of its features for working with classes and objects. You learn about features related to class declaration and object creation, encapsulation, information hiding, inheritance, polymorphism, interfaces, and garbage collection. Chapter 3 focuses on the more advanced language features related to nested classes, packages, static imports, exceptions, assertions, annotations, generics, and enums. Additional chapters introduce you to the few features not covered in Chapters 1 through 3.Chapter 4 largely moves away from covering language features (although it does introduce class literals and strictfp) while focusing on language-oriented APIs. You learn about Math, StrictMath, Package, Primitive Type Wrapper Classes, Reference, Reflection, String, StringBuffer and StringBuilder, Threading, BigDecimal, and BigInteger in this chapter. Chapter 5 begins to explore Java''s utility APIs by focusing largely on the Collections Framework. However, it also discusses legacy collection-oriented APIs and how to create your own collections. Chapter 6 continues to focus on utility APIs by presenting the concurrency utilities along with the Objects and Random classes. Chapter 7 moves you away from the command-line user interfaces that appear in previous chapters and toward graphical user interfaces. You first learn about the Abstract Window Toolkit foundation, and then explore the Java Foundation Classes in terms of Swing and Java 2D. Appendix C explores Accessibility and Drag and Drop.Chapter 8 explores filesystem-oriented I/O in terms of the File, RandomAccessFile, stream, and writer/reader classes. Chapter 9 introduces you to Java''s network APIs (e.g., sockets). It also introduces you to the JDBC API for interacting with databases along with the Java DB database product. Chapter 10 dives into Java''s XML support by first presenting an introduction to XML (including DTDs and schemas). It next explores the SAX, DOM, StAX, XPath, and XSLT APIs. It even briefly touches on the Validation API. While exploring XPath, you encounter namespace contexts, extension functions and function resolvers, and variables and variable resolvers. Chapter 11 introduces you to Java''s support for SOAP-based and RESTful web services. As well as providing you with the basics of these web service categories, Chapter 11 presents some advanced topics, such as working with the SAAJ API to communicate with a SOAP-based web service without having to rely on JAX-WS. You will appreciate having learned about XML in Chapter 10 before diving into this chapter. Chapter 12 helps you put to use some of the knowledge you''ve gathered in previous chapters by showing you how to use Java to write an Android app''s source code. This chapter introduces you to Android, discusses its architecture, shows you how to install necessary tools, and develops a simple app. Appendix A presents the solutions to the programming exercises that appear near the end of Chapters 1 through 12. Appendix B introduces you to Java''s Scripting API along with Java 7''s support for dynamically typed languages. Appendix C introduces you to additional APIs and architecture topics. Examples include Accessibility, classloaders, Console, Drag and Drop, Java Native Interface, and System Tray. Appendix D presents a gallery of significant applications that demonstrate various aspects of Java. Unfortunately, there are limits to how much knowledge can be crammed into a print book. For this reason, Appendixes A, B, C, and D are not included in this book''s pages. Instead, these appendixes are freely distributed as PDF files. Appendixes A and B are bundled with the book''s associated code file at the Apress website (http://www.apress.com/9781430239093). Appendixes C and D are bundled with their respective code files at my TutorTutor.ca website (http://tutortutor.ca/cgi-bin/makepage.cgi?/books/bj7).What you’ll learnThe entire Java language, including Java 7-specific features such as switch on string, try-with-resources, final rethrow, multicatch, and SafeVarargs A huge assortment of Java 7 APIs, beginning with those APIs oriented toward the language itself, and including Java 7-specific APIs such as the Fork/Join Framework, Objects, and JLayer Various Java 7 tools, starting with the javac compiler and java application launcherHow to create user interfaces, working with web services, and a whole lot moreThe basics of getting started with Android app developmentWho this book is forThis book targets the following groups of developers:Newcomers, skilled (to some degree) in other programming languages but with no previous exposure to Java Intermediate Java developers, skilled in the fundamentals of Java prior to Java 7 and looking to increase their understanding of Java 7 language/API changes All developers looking beyond standard Java, who want to leverage Java 7 to create mobile apps via Android Even advanced Java developers may find a few items of interest.Table of ContentsGetting Started with JavaDiscovering Classes and ObjectsExploring Advanced Language FeaturesTouring Language and Utility APIsCollecting ObjectsTouring Additional Utility APIsCreating and Enriching Graphical User InterfacesInteracting with FilesystemsInteracting with Networks and DatabasesParsing, Creating, and Transforming XML DocumentsWorking with Web ServicesJava 7 Meets Android')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1028, '1590594703', 'Beginning Java EE 5: From Novice to Professional', 'http://ecx.images-amazon.com/images/I/51hED8w6dIL._SL160_.jpg', 1, 49.99, 672, DATE '2005-11-01', 'Sun’s new lightweight Java Enterprise Edition (EE) 5 is an extremely powerful platform for developing enterprise-level Java-based applications, primarily for the server. This book shows you how to harness that power, examining how the pieces of the new Java EE 5 platform fit together, including the redesigned annotations-driven EJB 3 spec as well as JavaServer Faces (JSF), integrated into the platform for the first time. Hands-on tutorials are also included, along with clear explanations and working code examples. You will grow to take the next step—from writing client-side desktop applications to writing enterprise applications. You will also learn how to use the individual APIs and tools in the Java EE 5 platform, and how to merge these to create your own enterprise applications.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1029, '1430219548', 'Beginning Java EE 6: From Novice to Professional', 'http://ecx.images-amazon.com/images/I/51RDbgIIVeL._SL160_.jpg', 2, 44.99, 500, DATE '2009-05-24', 'Java Enterprise Edition (Java EE) continues to be one of the leading Java technologies and platforms from Oracle (previously Sun). Beginning Java EE 6 Platform with GlassFish 3, Second Edition is this first tutorial book on the final (RTM) version of the Java EE 6 Platform. Step by step and easy to follow, this book describes many of the Java EE 6 specifications and reference implementations, and shows them in action using practical examples. This book uses the new version of GlassFish 3 to deploy and administer the code examples. Written by an expert member of the Java EE 6 specification request and review board in the Java Community Process (JCP), this book contains the best information possible, from an expert’s perspective on enterprise Java technologies. What you’ll learnGet started with the final version of the Java EE 6 Platform.Explore and use the new EJB 3.1 and JPA 2.0 APIs from entities to session beans to message-driven beans, and more. Discover the web tier development APIs including JSPs, JSTL, and Expression Language, and especially JSF 2.0 and Facelets. Uncover the new web services, RESTful services, and more available in Java EE 6.Create dynamic user interfaces for your enterprise and transactional Java applications.Who this book is forThis book is for advanced Java programmers as well as Java EE 6 beginners. Architects will also find information about how to layer their Java EE applications. Table of ContentsJava EE 6 at a GlanceJava PersistenceObject-Relational MappingManaging Persistent ObjectsCallbacks and ListenersEnterprise Java BeansSession Beans and the Timer ServiceCallbacks and InterceptorsTransactions and SecurityJavaServer FacesPages and ComponentsProcessing and NavigationSending MessagesSOAP Web ServicesRESTful Web Services')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1030, '143022889X', 'Beginning Java EE 6 with GlassFish 3', 'http://ecx.images-amazon.com/images/I/51baRLwlufL._SL160_.jpg', 7, 49.99, 536, DATE '2010-08-23', 'Java Enterprise Edition (Java EE) continues to be one of the leading Java technologies and platforms from Oracle (previously Sun). Beginning Java EE 6 Platform with GlassFish 3, Second Edition is this first tutorial book on the final version of the Java EE 6 Platform. Step by step and easy to follow, this book describes many of the Java EE 6 specifications and reference implementations, and shows them in action using practical examples. This book uses the new version of GlassFish 3 to deploy and administer the code examples. Written by an expert member of the Java EE 6 specification request and review board in the Java Community Process (JCP), this book contains the best information possible, from an expert’s perspective on enterprise Java technologies. What you’ll learnGet started with the final version of the Java EE 6 Platform.Explore and use the EJB 3.1 and JPA 2.0 APIs from entities to session beans to message driven beans, and more. Discover web tier development APIs including JSPs, JSTL, and Expression Language, and especially the new JSF 2.0 and Facelets. Uncover the web services, RESTful services, and more available in Java EE 6.Create dynamic user interfaces for your enterprise and transactional Java applications.Who this book is forThis book is for advanced Java programmers as well as Java EE 6 beginners. Architects will also find information about how to layer their Java EE applications. Table of ContentsJava EE 6 at a GlanceJava PersistenceObject-Relational MappingManaging Persistent ObjectsCallbacks and ListenersEnterprise Java BeansSession Beans and the Timer ServiceCallbacks and InterceptorsTransactions and SecurityJavaServer FacesPages and ComponentsProcessing and NavigationSending MessagesSOAP Web ServicesRESTful Web Services')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1031, '8132214080', 'Beginning Java EE 7', 'http://ecx.images-amazon.com/images/I/51amFVZbyKL._SL160_.jpg', 0, 9.99, 29, DATE '2013-01-01', 'Java enterprise edition (java ee) continues to be one of the leading java technologies and platforms. Beginning java ee 7 is the first tutorial book on java ee 7. Step by step and easy to follow, this book describes many of the java ee 7 specifications and reference implementations and shows them in action using practical examples. This definitive book also uses the newest version of glassfish to deploy and administer the code examples. Java ee 7 environment context and dependency injection bean validation java persistence api object-relational mapping managing persistent object enterprise java beans callbacks, timer service and authorization interceptors and transactions javaserver faces processing and navigation xml and json messaging soap web services restful web service table of contents: introduction to the ejb 3 architecture session beans entities and the java persistence api advanced persistence features message-driven beans ejb and web services integrating session beans, entities, message-driven beans and web services transaction management ejb performance and testing context and dependency injection (cdi) packaging and deployment ejb client applications ejb runtime environments')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1032, '1931182320', 'Beginning Java EE 7 (Expert Voice in Java)', 'http://ecx.images-amazon.com/images/I/51amFVZbyKL._SL160_.jpg', 0, 9.99, null, null, 'Java enterprise edition (java ee) continues to be one of the leading java technologies and platforms. Beginning java ee 7 is the first tutorial book on java ee 7. Step by step and easy to follow, this book describes many of the java ee 7 specifications and reference implementations and shows them in action using practical examples. This definitive book also uses the newest version of glassfish to deploy and administer the code examples. Java ee 7 environment context and dependency injection bean validation java persistence api object-relational mapping managing persistent object enterprise java beans callbacks, timer service and authorization interceptors and transactions javaserver faces processing and navigation xml and json messaging soap web services restful web service table of contents: introduction to the ejb 3 architecture session beans entities and the java persistence api advanced persistence features message-driven beans ejb and web services integrating session beans, entities, message-driven beans and web services transaction management ejb performance and testing context and dependency injection (cdi) packaging and deployment ejb client applications ejb runtime environments')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1033, '1931182321', 'Beginning Java EE 7 (Expert Voice in Java)', 'http://ecx.images-amazon.com/images/I/51amFVZbyKL._SL160_.jpg', 0, 9.99, 339, DATE '2005-09-17', 'Java enterprise edition (java ee) continues to be one of the leading java technologies and platforms. Beginning java ee 7 is the first tutorial book on java ee 7. Step by step and easy to follow, this book describes many of the java ee 7 specifications and reference implementations and shows them in action using practical examples. This definitive book also uses the newest version of glassfish to deploy and administer the code examples. Java ee 7 environment context and dependency injection bean validation java persistence api object-relational mapping managing persistent object enterprise java beans callbacks, timer service and authorization interceptors and transactions javaserver faces processing and navigation xml and json messaging soap web services restful web service table of contents: introduction to the ejb 3 architecture session beans entities and the java persistence api advanced persistence features message-driven beans ejb and web services integrating session beans, entities, message-driven beans and web services transaction management ejb performance and testing context and dependency injection (cdi) packaging and deployment ejb client applications ejb runtime environments')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1034, '1931182322', 'Beginning Java EE 7 (Expert Voice in Java)', 'http://ecx.images-amazon.com/images/I/51amFVZbyKL._SL160_.jpg', 0, 9.99, null, null, 'Java enterprise edition (java ee) continues to be one of the leading java technologies and platforms. Beginning java ee 7 is the first tutorial book on java ee 7. Step by step and easy to follow, this book describes many of the java ee 7 specifications and reference implementations and shows them in action using practical examples. This definitive book also uses the newest version of glassfish to deploy and administer the code examples. Java ee 7 environment context and dependency injection bean validation java persistence api object-relational mapping managing persistent object enterprise java beans callbacks, timer service and authorization interceptors and transactions javaserver faces processing and navigation xml and json messaging soap web services restful web service table of contents: introduction to the ejb 3 architecture session beans entities and the java persistence api advanced persistence features message-driven beans ejb and web services integrating session beans, entities, message-driven beans and web services transaction management ejb performance and testing context and dependency injection (cdi) packaging and deployment ejb client applications ejb runtime environments')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1035, '1931182323', 'Beginning Java EE 7', 'http://ecx.images-amazon.com/images/I/51amFVZbyKL._SL160_.jpg', 0, 9.99, 92, DATE '2013-07-16', 'Java enterprise edition (java ee) continues to be one of the leading java technologies and platforms. Beginning java ee 7 is the first tutorial book on java ee 7. Step by step and easy to follow, this book describes many of the java ee 7 specifications and reference implementations and shows them in action using practical examples. This definitive book also uses the newest version of glassfish to deploy and administer the code examples. Java ee 7 environment context and dependency injection bean validation java persistence api object-relational mapping managing persistent object enterprise java beans callbacks, timer service and authorization interceptors and transactions javaserver faces processing and navigation xml and json messaging soap web services restful web service table of contents: introduction to the ejb 3 architecture session beans entities and the java persistence api advanced persistence features message-driven beans ejb and web services integrating session beans, entities, message-driven beans and web services transaction management ejb performance and testing context and dependency injection (cdi) packaging and deployment ejb client applications ejb runtime environments')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1036, '1931182324', 'Beginning Java EE 7 1st Edition', 'http://ecx.images-amazon.com/images/I/51amFVZbyKL._SL160_.jpg', 0, 9.99, null, null, 'Java enterprise edition (java ee) continues to be one of the leading java technologies and platforms. Beginning java ee 7 is the first tutorial book on java ee 7. Step by step and easy to follow, this book describes many of the java ee 7 specifications and reference implementations and shows them in action using practical examples. This definitive book also uses the newest version of glassfish to deploy and administer the code examples. Java ee 7 environment context and dependency injection bean validation java persistence api object-relational mapping managing persistent object enterprise java beans callbacks, timer service and authorization interceptors and transactions javaserver faces processing and navigation xml and json messaging soap web services restful web service table of contents: introduction to the ejb 3 architecture session beans entities and the java persistence api advanced persistence features message-driven beans ejb and web services integrating session beans, entities, message-driven beans and web services transaction management ejb performance and testing context and dependency injection (cdi) packaging and deployment ejb client applications ejb runtime environments')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1037, '1931182325', 'Beginning Java EE 7', 'http://ecx.images-amazon.com/images/I/51amFVZbyKL._SL160_.jpg', 0, 9.99, null, null, 'Java enterprise edition (java ee) continues to be one of the leading java technologies and platforms. Beginning java ee 7 is the first tutorial book on java ee 7. Step by step and easy to follow, this book describes many of the java ee 7 specifications and reference implementations and shows them in action using practical examples. This definitive book also uses the newest version of glassfish to deploy and administer the code examples. Java ee 7 environment context and dependency injection bean validation java persistence api object-relational mapping managing persistent object enterprise java beans callbacks, timer service and authorization interceptors and transactions javaserver faces processing and navigation xml and json messaging soap web services restful web service table of contents: introduction to the ejb 3 architecture session beans entities and the java persistence api advanced persistence features message-driven beans ejb and web services integrating session beans, entities, message-driven beans and web services transaction management ejb performance and testing context and dependency injection (cdi) packaging and deployment ejb client applications ejb runtime environments')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1038, '1931182326', 'Beginning Java EE 7', 'http://ecx.images-amazon.com/images/I/51amFVZbyKL._SL160_.jpg', 0, 9.99, null, null, 'Java enterprise edition (java ee) continues to be one of the leading java technologies and platforms. Beginning java ee 7 is the first tutorial book on java ee 7. Step by step and easy to follow, this book describes many of the java ee 7 specifications and reference implementations and shows them in action using practical examples. This definitive book also uses the newest version of glassfish to deploy and administer the code examples. Java ee 7 environment context and dependency injection bean validation java persistence api object-relational mapping managing persistent object enterprise java beans callbacks, timer service and authorization interceptors and transactions javaserver faces processing and navigation xml and json messaging soap web services restful web service table of contents: introduction to the ejb 3 architecture session beans entities and the java persistence api advanced persistence features message-driven beans ejb and web services integrating session beans, entities, message-driven beans and web services transaction management ejb performance and testing context and dependency injection (cdi) packaging and deployment ejb client applications ejb runtime environments')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1039, '1430246235', 'Beginning JSP, JSF and Tomcat: Java Web Development', 'http://ecx.images-amazon.com/images/I/513ptwcd6LL._SL160_.jpg', 6, 39.99, 436, DATE '2012-09-24', 'Start building Java–based web applications now, even if you’re a complete newcomer to Java. Comprehensive and example–driven, Beginning JSP, JSF, and Tomcat: Java Web Development, Second Edition is all you need to develop dynamic Java-based web applications using JSP, connect to databases with JSF, and put them into action using the world’s most popular open source Java web server, Apache Tomcat. A comprehensive introduction to JavaServer Pages (JSP), JavaServer Faces (JSF), and the Apache Tomcat web application server Key concepts made easy to grasp by numerous working examples and a walkthrough of the development of a complete e-commerce project Written for professionals by a practicing Java web application professional and expertWhat you’ll learnDevelop dynamic web applications using the popular JavaServer Pages (JSP) technologyConnect to SQL–based databases, like MySQL, from JSP/JSF–based web pagesIntegrate XML and HTML markup into your Java web page or Java-based web applicationBuild an e–commerce web site using sound design principlesDeploy web applications using the world’s most popular and widely adopted open source Java web application server, Apache Tomcat Includes HTML5 coverageWho this book is forThis book is ideal for anyone new to Java who wants to start developing Java web applications, but also offers a valuable refresher to Java web developers who are new to the latest JSP, JSF, and Tomcat standards. Table of ContentsIntroducing JSP and TomcatJSP ElementsJSP Application ArchitecturesJSP in ActionXML and JSPJSP and DatabasesJava Server Faces 2.2JSF and EshopTomcat 7EshopAppendix A - The Web PageAppendix B - SQLAppendix C - Abbreviation and Acronyms')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1040, '1118892925', 'Beginning Spring', 'http://ecx.images-amazon.com/images/I/51cxSKER6RL._SL160_.jpg', 4, 45.00, 480, DATE '2015-02-17', 'Get up to speed quickly with this comprehensive guide to SpringBeginning Spring is the complete beginner''s guide to Java''s most popular framework. Written with an eye toward real-world enterprises, the book covers all aspects of application development within the Spring Framework. Extensive samples within each chapter allow developers to get up to speed quickly by providing concrete references for experimentation, building a skillset that drives successful application development by exploiting the full capabilities of Java''s latest advances.Spring provides the exact toolset required to build an enterprise application, and has become the standard within the field. This book covers Spring 4.0, which contains support for Java 8 and Java EE 7. Readers begin with the basics of the framework, then go on to master the most commonly used tools and fundamental concepts inherent in any Spring project. The book emphasizes practicality and real-world application by addressing needs such as meeting customer demand and boosting productivity, and by providing actionable information that helps developers get the most out of the framework. Topics include: * Dependency Injection and Inversion of Control * Unit testing Spring enabled Web Applications * Data Access using Spring JDBC and ORM support along with Transaction Management * Building Web Applications and RESTful Web Services with Spring MVC * Securing Web Applications using Spring Security * Spring Expression Language with its Extensive Features * Aspect Oriented Programming Facilities Provided by Spring AOP * Caching with 3rd Party Cache Providers Support * The Best of the Breed: Spring 4.0The information is organized and structured an ideal way for students and corporate training programs, and explanations about inner workings of the framework make it a handy desk reference even for experienced developers. For novices, Beginning Spring is invaluable as a comprehensive guide to the real-world functionality of Spring.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1041, '1430219580', 'Pro WebSphere Application Server 7', 'http://ecx.images-amazon.com/images/I/51wU9W4XQWL._SL160_.jpg', 8, 74.99, 392, DATE '2009-06-29', 'Pro (IBM) WebSphere Application Server 7 Internals covers the internal architecture and implementation of the WebSphere Application Server (WAS) version 7 product set and how other IBM products extend it. It presents information to enable administrators, developers, and architects to learn about the aspects of WAS that apply to them: Administrators will come to understand how the WAS7 environment functions to best optimize it for their environment, and what to do when things go wrong. Developers will learn to extend the functionality in the base WAS product.Architects will see how the WAS product underpins the IBM offerings to fit in an enterprise. What you’ll learnExplore the internal architecture that makes up a modern high–end application server and how other products extend it to provide additional functionality. Implement, deploy, and serve Java EE 5 and other enterprise Java applications.See how the environment all fits together so you can make the best use of the WebSphere Application Server services. Explore how all this works with simple, important code examples.Troubleshoot problems when the inevitable crisis occurs.Who this book is forJava architects wanting to understand how a modern application server worksJava developers targeting the JEE and the WAS7 implementation in particularWAS7 administrators wanting to understand how to optimize the environment for their application behavior and what underpins the errors in the logs when things do go wrong Software architecture students learning how modern system software is architected and implemented Table of ContentsWAS Architecture Outline from 50,000 FeetThe IBM J9 Java Virtual Machine for Java 6Eclipse/OSGi RuntimeUnderlying WAS RuntimeThe EJB ContainerThe Web ContainerWeb ServicesService Integration BusHigh AvailabilityLoad Balancing and ScalabilityConfigurationRelated Products')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1042, '1590599217', 'Pro Spring 2.5', 'http://ecx.images-amazon.com/images/I/51QuqIMmasL._SL160_.jpg', 4, 49.99, 920, DATE '2011-04-06', 'The move from so–called heavyweight architectures, such as Enterprise JavaBeans, toward lightweight frameworks, like Spring, has not stopped since Pro Spring was published by Rob Harrop and Jan Machacek in 2005; in fact, it’s picked up pace. The Spring Framework remains the leader in this move and provides a platform on which you can build your own applications and services. Pro Spring 2.5 covers the new features of Spring 2.5, but moreover, it is focused on the best practices and core standards of contemporary Spring development. As members of the Spring development team at Cake Solutions, the author team brings extensive practical experience gained from working with Spring since version 1.0 and delivering successful systems on top of it. Learn the approaches that really matter in a professional, enterprise–level environment, so you can apply them to your projects today, safe in the knowledge that they just work. What you’ll learnDiscover how to use Spring’s Inversion of Control (IoC)Explore Spring’s excellent aspect–oriented programming (AOP) support, including Spring 2.5’s new @AspectJ feature Find out how to use Spring’s dynamic scripting language features, Spring design patterns, and performance tuning in Spring applications Learn what really works in real–world Spring developmentUnderstand Spring’s support for the JDBC framework, Hibernate, the Quartz enterprise scheduler, declarative transaction management, and much more Master Spring’s well–designed MVC framework and add AJAX to your Spring web applications to create flexible, efficient, and manageable applications using the best techniques available Who this book is forEnterprise Java, J2EE/Java EE developers looking to learn and use the Spring meta-framework, the now growing, leading alternative to J2EE/Java EE.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1043, '1449345158', 'Building Modular Cloud Apps with OSGi', 'http://ecx.images-amazon.com/images/I/51aq354-msL._SL160_.jpg', 3, 24.99, 210, DATE '2013-09-22', 'If you’re an experienced Java developer in the enterprise, this practical, hands-on book shows you how to use OSGi to design, develop, and deploy modular cloud applications. You’ll quickly learn how to use OSGi, through concise code examples and a set of best practices derived from the authors’ experiences with real-world projects. Through the course of this book, you’ll learn to develop modern web applications with tools and techniques such as RESTful Web Services, NoSQL, provisioning, elasticity, Auto Scaling, hotfixes, and automatic failover. Code samples are available from GitHub. Work with dynamic OSGi services to create modular applicationsExplore the basics of OSGi bundles and modular application designLearn advanced topics, including semantic versioning, integration testing, and configuring components Understand OSGi pitfalls, anti-patterns, and features you should avoidCreate a modular architecture for cloud-based web applicationsDiscover how maintainability, extensibility, scalability, and testability are affected by modular design Get a look at various options for creating web applications with a modular approachInteract with persistent storage services, including relational databases and NoSQLExamine alternatives for deploying modular applications to the cloud')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1044, '1743042078', 'Business Service Management', 'http://ecx.images-amazon.com/images/I/51O3CV7njwL._SL160_.jpg', 8, 939, 160, DATE '2011-01-16',  'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1045, '1931182327', 'Java EE 7 Essentials (1st Edition)', 'http://ecx.images-amazon.com/images/I/513IEgMKqoL._SL160_.jpg', 5, 9.99, 999, DATE '2013-09-21', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1046, '1931182328', 'Java EE 7 with GlassFish 4 Application Server', 'http://ecx.images-amazon.com/images/I/51JYTTaAQaL._SL160_.jpg', 7, 9.99, 129, DATE '2014-04-10', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1047, '1931182329', 'Java EE 7 Development with WildFly', 'http://ecx.images-amazon.com/images/I/51bbP64U%2BtL._SL160_.jpg', 8, 9.99, 1299, DATE '2014-11-25', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1048, '1931182330', 'Java EE 7 Performance Tuning and Optimization', 'http://ecx.images-amazon.com/images/I/41FgF32CLrL._SL160_.jpg', 8, 9.99, 93, DATE '2014-07-10', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1049, '007174116X', 'C# 4.0 The Complete Reference', 'http://ecx.images-amazon.com/images/I/5191Jk63NxL._SL160_.jpg', 6, 52.00, 976, DATE '2010-05-18', 'The Definitive Guide to C# “From using LINQ to covariance and from string formatting to optional arguments, Herb’s update covers all you need to know about using real-world C# 4.0.” ─Michael Howard, Microsoft Corporation Bestselling author Herb Schildt has updated and expanded his classic programming reference to cover C# 4.0--the latest release of this powerful, feature-rich language. Using carefully crafted explanations, insider tips, and hundreds of examples, C# 4.0: The Complete Reference offers in-depth details on all aspects of C#, including keywords, syntax, and core libraries. New C# 4.0 features, such as named and optional arguments, the dynamic type, expanded covariance and contravariance capabilities, and support for parallel programming with the Task Parallel Library (TPL) and PLINQ are also discussed.Perfect for beginners and professional C# programmers alike, this expert resource is written in the clear, crisp, uncompromising style that has made Herb the choice of millions worldwide. Begin mastering C# 4.0 today with help from this authoritative volume!')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1050, '1931182331', 'CDI - Dependency Injection in Java EE 7', 'http://ecx.images-amazon.com/images/I/41oWY8C-RTL._SL160_.jpg', 4, 9.99, 62, DATE '2013-11-19', 'Seit Java EE 6 steht mit der Contexts and Dependency Injection (CDI) eine neue Technologie bereit, die dem Java-Enterprise-Entwickler seineArbeit erleichtert. Mit der Version 7 erlangte die Plattform einige neue Features. Der Arbeitsbereich von CDI ist die Bereitstellung und Verknüpfung von Komponenten und Diensten als Basis für Enterprise-Applikationen.Der shortcut bringt dem Leser die wichtigsten Konzepte von CDI näher.Themen sind unter anderem die Bereitstellung und Injektion von CDI Beans, die Nutzung der Java-EE-Umgebung, die verschiedenen Injektionsmöglichkeiten sowie die Integration anderer Bestandteile von Java EE 7 [wie z. B. Enterprise JavaBeans (EJB) oder Java Server Faces (JSF)]. Dieser shortcut ist eine aktualisierte Neuauflage des shortcuts CDI - Dependency Injection in Java EE 6.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1051, '0071738800', 'NetBeans IDE Programmer Certified Expert Exam Guide', 'http://ecx.images-amazon.com/images/I/51qJ9glfNUL._SL160_.jpg', 3, 49.99, 685, DATE '2010-08-17', 'The Best Fully Integrated Study System AvailableNetBeans IDE Programmer Certified Expert Exam Guide covers what you need to know--and shows you how to prepare--for this challenging exam. Covers all the exam topics, including: General Configurations / Builds and Controls / Java SE Desktop Applications / Java EE Web Applications / Database Connectivity / Source Editor / Refactoring Support / HTTP Server-Side Monitor / Local and Remote Debugging / Testing and Profiling with free online registration: --Bonus downloadable MasterExam practice test')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1052, '0072260882', 'OCP Java SE 6 Programmer Practice Exams', 'http://ecx.images-amazon.com/images/I/51Xdf65-2uL._SL160_.jpg', 7, 38.00, 448, DATE '2008-01-29', 'Don''t Let the Real Test Be Your First Test!Written by two of the lead developers of the Java SE Programmer Exam, OCP Java SE 6 Programmer Practice Exams is filled with more than 260 realistic practice questions to prepare you for this challenging exam. To help you understand this material, in-depth explanations of both the correct and incorrect answers are included for every question. This practical guide covers all official objectives for Exam 310-065 and is the perfect companion toSCJP Sun Certified Programmer for Java 6 Study Guide. Covers all OCP Java SE 6 Programmer exam topics, including:')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1053, '0071765654', 'RHCSA/RHCE Red Hat Linux Certification Study Guide', 'http://ecx.images-amazon.com/images/I/51O5%2BhX4LYL._SL160_.jpg', 4, 60.00, 1072, DATE '2011-07-08', 'The best fully integrated study system available (Exams EX200 and EX300)With hundreds of review questions and complete coverage of performance-based requirements, RHCSA/RHCE Red Hat Linux Certification Study Guide, Sixth Edition covers what you need to know--and shows you how to prepare--for these challenging exams. Covers all the exam topics, including: Virtual Machines and Automated Installations * Fundamental Command Line Skills * RHCSA-Level Security Options * The Boot Process * Linux Filesystem Administration * Package Management * User Administration * RHCSA-Level System Administration * RHCE Security * System Services and SELinux * RHCE Administration * Mail Servers * Samba * File Sharing * DNS, FTP, and Logging Michael Jang, RHCE, LPIC-2, UCP, LCP, MCP, is the author of three previous bestselling editions of RHCE Red Hat Certified Engineer Linux Study Guide and several other books on Linux and professional certification.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1054, '0071490035', 'SCJA Sun Certified Java Associate Study Guide', 'http://ecx.images-amazon.com/images/I/51e6EO5BAdL._SL160_.jpg', 4, 49.99, 590, DATE '2009-08-12', 'The best fully integrated study system available for Exam CX-310-019With hundreds of practice questions and hands-on exercises, SCJA Sun Certified Java Associate Study Guide covers what you need to know--and shows you how to prepare--for this challenging exam. 100% complete coverage of all objectives for SCJA Exam CX-310-019Exam Readiness checklist--you''re ready for the exam when all objectives on the list are checked off Inside the Exam sections highlight key exam topics coveredTwo-Minute Drills for quick reviewSimulated exam questions match the format, tone, topics, and difficulty of the real exam Covers all the exam topics, including:Packaging, Compiling, and Interpreting Java Code * Java Statements * Java Operators and Strings * Classes and Variables * Variable Scope and Class Construction * Classes and their Relationships * Class Inheritance * Object-oriented Principles * Representing Object-oriented Concepts with UML * Platforms and Integration Technologies * Client-side Technologies * Server-side Technologies CD-ROM includes:Complete MasterExam practice testing engine, featuring: One full practice exam; Detailed answers with explanations; Score Report performance assessment tool Electronic book for studying on the goBonus downloadable MasterExam practice test with free online registration')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1055, '1782165606', 'Clojure High Performance Programming', 'http://ecx.images-amazon.com/images/I/41WeivZYDuL._SL160_.jpg', 7, 34.99, 152, DATE '2013-11-20', 'Written for intermediate Clojure developers, this compact guide will raise your expertise several notches. It tackles all the fundamentals of analyzing and optimizing performance in clear, logical chapters. OverviewSee how the hardware and the JVM impact performanceLearn which Java features to use with Clojure, and howDeep dive into Clojure''s concurrency and state primitivesDiscover how to design Clojure programs for performanceIn DetailClojure is a young, dynamic, functional programming language that runs on the Java Virtual Machine. It is built with performance, pragmatism, and simplicity in mind. Like most general purpose languages, Clojure’s features have different performance characteristics that one should know in order to write high performance code. Clojure High Performance Programming is a practical, to-the-point guide that shows you how to evaluate the performance implications of different Clojure abstractions, learn about their underpinnings, and apply the right approach for optimum performance in real-world programs. This book discusses the Clojure language in the light of performance factors that you can exploit in your own code. You will also learn about hardware and JVM internals that also impact Clojure’s performance. Key features include performance vocabulary, performance analysis, optimization techniques, and how to apply these to your programs. You will also find detailed information on Clojure''s concurrency, state-management, and parallelization primitives. This book is your key to writing high performance Clojure code using the right abstraction, in the right place, using the right technique. What you will learn from this bookLearn techniques for achieving numerical performance in ClojureUse Java features in Clojure code for performanceAvoid reflection and boxing with type hintsAnalyze latency using the Criterium libraryUnderstand Clojure''s concurrency and state-management primitives in depthExplore how to design Clojure applications for better performanceApproachThis is a short, practical guide that will teach you everything you need to know to start writing high performance Clojure code. Who this book is written forThis book is ideal for intermediate Clojure developers who are looking to get a good grip on how to achieve optimum performance. You should already have some experience with Clojure and it would help if you already know a little bit of Java. Knowledge of performance analysis and engineering is not required. For hands-on practice, you should have access to Clojure REPL with Leiningen.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1056, '1447151062', 'Cloud Computing: Methods and Practical Approaches', 'http://ecx.images-amazon.com/images/I/41tmQjJXzsL._SL160_.jpg', 7, 149.00, 347, DATE '2013-05-16', 'This book presents both state-of-the-art research developments and practical guidance on approaches, technologies and frameworks for the emerging cloud paradigm. Topics and features: presents the state of the art in cloud technologies, infrastructures, and service delivery and deployment models; discusses relevant theoretical frameworks, practical approaches and suggested methodologies; offers guidance and best practices for the development of cloud-based services and infrastructures, and examines management aspects of cloud computing; reviews consumer perspectives on mobile cloud computing and cloud-based enterprise resource planning; explores software performance testing, open-source cloudware support, and assessment methodologies for modernization, migration and pre-migration; describes emerging new methodologies relevant to the cloud paradigm, and provides suggestions for future developments and research directions.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1057, '2746068419', 'Développez et déployez une application sous Apache Tomcat 7', 'http://ecx.images-amazon.com/images/I/511p2vXqFlL._SL160_.jpg', 6, 9.99, null, null, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1058, '3642243517', 'ENTERprise Information Systems', 'http://ecx.images-amazon.com/images/I/418wVdt4%2BfL._SL160_.jpg', 8, 129.00, 436, DATE '2011-11-11', 'This three-volume-set (C.C.I.S. 219, C.C.I.S. 220, and C.C.I.S. 221) constitutes the refereed proceedings of the International Conference on ENTERprise Information Systems, CENTERIS 2011, held in Vilamoura, Portugal, in September 2011. The approx. 120 revised full papers presented in the three volumes were carefully reviewed and selected from 180 submissions. The papers are organized in topical sections on knowledge society, E.I.S. adoption and design, E.I.S. implementation and impact, E.I.S. applications, social aspects and I.S. in education, I.T./I.S. management, telemedicine and imaging technologies, healthcare information management, medical records and business processes, decision support systems and business intelligence in health and social care contexts, architectures and emerging technologies in healthcare organizations, as well as m-health.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1059, '0782141455', 'Enterprise Java 2, J2EE 1.3 Complete', 'http://ecx.images-amazon.com/images/I/51NNPS50TRL._SL160_.jpg', 2, 24.99, 1008, DATE '2002-11-13', 'Enterprise Java 2, J2EE 1.3 Complete is a one-of-a-kind book--valuable both for its broad content and its low price. Whether you are new to network programming with Java or need to upgrade solid skills to the next level, you''ll get the "must have" information to become proficient with the world''s most popular programming platform. With Enterprise Java 2, J2EE 1.3 Complete, you''ll learn everything you need to know for developing large-scale web and network applications with Java. You''ll begin by learning which components combine to form the enterprise platform, and then move on to basic development skills: Servlet programming, creating JavaServer Pages, and programming JavaBeans. You''ll also learn database programming concepts and skills, and how to secure your network from malevolent intruders. You''ll learn to use XML and its related technologies for seamless cross-platform data exchange. Finally, you''ll learn advanced JavaBeans programming to create reusable software components. As a bonus, the last part of the book teaches you to program spiders and bots: Although not a part of J2EE, it''s a fun topic that can come in handy for Internet developers who want to create agents to automatically retrieve and organize web content. Enterprise Java 2, J2EE 1.3 Complete introduces you to the work of some of Sybex''s finest authors, so you''ll know where to go to learn even more about Java. Inside: Java Web Applications An Introduction to J2EE The Basic Servlet API The Basic JSP API Servlet Web Applications Introducing JavaBeans Session Management Using Custom Tags Naming Services, Databases, and Security Java Naming and Directory Interface (JNDI) Database Connectivity (JDBC) Advanced Database Programming Secure Web Applications XML, SOAP, and Messaging XML for Data Description Presenting XML with JSP Understanding XML Messaging A Survey of SOAP A SOAP Server Example Java Messaging Service (JMS) Remote Communications and Enterprise JavaBeans Persistence and Remote Method Invocation Java IDL and CORBA Connectivity EJB Architecture and Clients Session, Entity, and Message-Driven EJBs EJB Transactions and Security EJB Environment, Client, and Design Issues J2EE Connector Architecture Spiders and Bots Building a Spider Building a High-Volume Spider Building a Bot')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1060, '1931182332', 'The Computer Shelf', 'http://ecx.images-amazon.com/images/I/51NNPS50TRL._SL160_.jpg', 8, 9.95, 9, DATE '2013-01-01', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1061, '1449328296', 'Continuous Enterprise Development in Java', 'http://ecx.images-amazon.com/images/I/51CSMefa0lL._SL160_.jpg', 1, 44.99, 256, DATE '2014-03-31', 'Learn a use-case approach for developing Java enterprise applications in a continuously test-driven fashion. With this hands-on guide, authors and Jboss project leaders Andrew Lee Rubinger and Aslak Knutsen show you how to build high-level components, from persistent storage to the user interface, using the Arquillian testing platform and several other Jboss projects and tools. Through the course of the book, you’ll build a production-ready software conference tracker called GeekSeek, using source code from GitHub. Rubinger and Knutsen demonstrate why testing is the very foundation of development—essential for ensuring that code is consumable, complete, and correct. Bootstrap an elementary Java Ee project from start to finish before diving into the full-example application, GeekSeek Use both relational and NoSql storage models to build and test GeekSeek’s data persistence layers Tackle testable business logic development and asynchronous messaging with an Smtp service Expose enterprise services as a Restful interface, using Java Ee’s Jax-Rs framework Implement Oauth authentication with Jboss’s PicketLink identity management service Validate the Ui by automating interaction in the browser and reading the rendered page Perform full-scale integration testing on the final deployable archive')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1062, '144933704X', 'Java Cookbook', 'http://ecx.images-amazon.com/images/I/51CSMefa0lL._SL160_.jpg', 6, 59.99, 898, DATE '2014-07-18', 'From lambda expressions and JavaFX 8 to new support for network programming and mobile development, Java 8 brings a wealth of changes. This cookbook helps you get up to speed right away with hundreds of hands-on recipes across a broad range of Java topics. You’ll learn useful techniques for everything from debugging and data structures to GUI development and functional programming. Each recipe includes self-contained code solutions that you can freely use, along with a discussion of how and why they work. If you are familiar with Java basics, this cookbook will bolster your knowledge of the language in general and Java 8’s main APIs in particular. Recipes include:Methods for compiling, running, and debuggingManipulating, comparing, and rearranging textRegular expressions for string- and pattern-matchingHandling numbers, dates, and timesStructuring data with collections, arrays, and other typesObject-oriented and functional programming techniquesDirectory and filesystem operationsWorking with graphics, audio, and videoGUI development, including JavaFX and handlersNetwork programming on both client and serverDatabase access, using JPA, Hibernate, and JDBCProcessing JSON and XML for data storageMultithreading and concurrency')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1063, '3866442718', 'Coupled Model Transformations for QoS', 'http://ecx.images-amazon.com/images/I/41GkrpBv7bL._SL160_.jpg', 5, 57.00, 318, DATE '2010-03-22', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1064, '1932394796', 'iText in Action: Creating and Manipulating PDF', 'http://ecx.images-amazon.com/images/I/51eqA53HkUL._SL160_.jpg', 7, 49.99, 656, DATE '2006-12-18', 'Imagine a publisher who wants to "stamp" his ebooks on the fly with the name of the buyer (to discourage sharing). Such a publisher would (and we know one who does) use iText for the task. Developers looking to enhance web- and other applications with dynamic PDF document generation and/or manipulation will find this book unique in content and readability. Based on ongoing examples that encourage learning "in action," they will finally understand PDF and learn how to build applications that produce professional, high-quality PDF documents. While the basic functionality of iText is easy to acquire, iText in Action lowers the learning curve for more advanced functionality. It explains how to use iText to create/manipulate PDF documents on-the-fly in one or more of the following situations: Due to time or size, the PDF documents can''t be produced manuallyThe content of the document must be calculated or based on user input.The content needs to be customized or personalized.The PDF content needs to be served in a web environment.Documents are to be created in "batch process" mode. All the examples are written in Java, but they can be easily adapted to .NET by developers using one of the .NET ports: iTextSharp (C#) or iText.NET (#J). While iText is a free Java library and the examples are written from the point of view of the Java developer, nine out of ten examples can be run by .NET developers with only minimal changes. Purchase of the print book comes with an offer of a free PDF, ePub, and Kindle eBook from Manning. Also available is all code from the book.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1065, '0615639453', 'Developing Enterprise Applications with Spring', 'http://ecx.images-amazon.com/images/I/41GqC4aKOkL._SL160_.jpg', 6, 59.99, 382, DATE '2012-05-05', 'Note: This book has been expanded to a larger trim size of 7.5" in width and upgraded from Spring 3.1 to 3.2 GA. To get to the larger trim size format of this book, enter "148028470x" in Amazon search box and hit "Enter".')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1066, '1478289317', 'Developing Enterprise Applications with Spring: An End-to-End Approach', 'http://ecx.images-amazon.com/images/I/410MxEPUF1L._SL160_.jpg', 4, 59.99, 422, DATE '2012-07-21', 'This book adopts a unique approach to helping enterprise Java Web application developers learn the latest Spring Frameworks fast. Rather than filled with disjointed,HelloWorld- and foo-bar -like, piecemeal samples to show Spring features one at a time, it is designed to put your total Spring learning experience on a functioning, end-to-end, integrated sample Secure Online Banking Application (SOBA), which can be built with Ant or Maven 3 on Eclipse or STS. To help satisfy your preferenece, SOBA runs on a variety of App Server/OS/DB platforms including: {Tomcat 6/Tomcat 7, GlassFish 3.1, JBoss 7.1, and WebLogic 12.1.1}, {Windows 7, Mac OS X, and Linux}, and {MySQL 5.1, SQL Server 2008 R2, and Oracle 11g R2}. Using SOBA as a learning platform, this book helps you learn the following core set of the latest Spring 3.1 technologies: Spring Core FrameworkSpring MVC Web FrameworkSpring Data Access Framework (JDBC and Hibernate)Spring RESTful Web Services FrameworkSpring Security FrameworkSpring Transaction Management FrameworkSpring Validation FrameworkSpring AOP FrameworkSome readers perfer "learning by reading," and some prefer "learning by coding." This book is written based on the author''s belief that "reading is learning, but learning by coding is better learning." While taking a code-intensive approach, this book provides adequate textual descriptions to help readers grasp every spring feature presented in the book. It is a strong plus that it is not as verbose or as wordy as other spring books so that you can finish it within a reasonable timeframe. After you spend 2-3 weeks completing your intensive self-training guided by this book, you will be able to start contributing to the success of your Spring-based enterprise application project immediately. In addition, it will be considerably easier for you to read lengthy Spring reference documentations and other verbose Spring books.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1067, '1782178120', 'Developing RESTful Services with JAX-RS 2.0, WebSockets, and JSON', 'http://ecx.images-amazon.com/images/I/518dkRyrmyL._SL160_.jpg', 3, 39.99, 128, DATE '2013-10-15', 'Improving your productivity by making the most of Java EE 7''s capabilities is made easy and practical with this book. It''s the perfect guide to developing RESTful Services utilizing powerful new technologies. OverviewLearning about different client/server communication models including but not limited to client polling, Server-Sent Events and WebSockets. Efficiently use WebSockets, Server-Sent Events, and JSON in Java EE applicationsLearn about JAX-RS 2.0 new features and enhancementsImprove scalability with asynchronous processingIn DetailAs the technology landscape moves focus towards smaller devices, the need for building scalable, flexible, lightweight, and real-time communications-based applications grows. HTML 5 and Java EE 7 provide a new synthesis of technologies that demonstrate tremendous scope and potential in areas of device independence, asynchronous communication, interoperability, and portability. Developing RESTful Services with JAX-RS 2.0, WebSockets, and JSON is a practical, hands-on guide that provides you with clear and pragmatic information to take advantage of the real power behind HTML5 and Java EE technologies. This book also gives you a good foundation for using them in your applications. Developing RESTful Services with JAX-RS 2.0, WebSockets, and JSON looks at the different HTML5-based Java EE 7 API, and takes a deep dive into the individual areas of technologies to cover basic to advanced concepts, and also provides best practices for each API. You will also learn how to build a REST-based Event Notification Application using the Twitter API, tying all the different technologies together that we will cover. You will also take a look at integrating different Java EE APIs to build a Library Application. If you want to take advantage of using the new HTML5 technologies and Java EE 7 platform, then this is the book for you. You will learn everything you need to know to build portable RESTful Web Services with JAX-RS 2.0, Web Sockets, JSON, and Server-Sent Events. What you will learn from this bookDevelop RESTful Web Services using the JAX-RS 2.0 APIBuild applications with the JavaScript and Java Client API for WebSockets and ServerSentEvents Understand Security and Fault tolerance with WebSockets and ServerSentEventsProduce, parse, and manipulate JSON data with the help of JSON-P APICover best practices in building applications with WebSockets, ServerSentEvents, and JAX-RS 2.0 Learn the aspects of asynchronous programming to improve scalabilityApproachWritten as an easy and practical guide, this book is a crash course on using JAX-RS 2.0, JSON, and WebSockets to develop RESTful services. Who this book is written forDeveloping RESTful Services with JAX-RS 2.0, WebSockets, and JSON is a perfect reading source for application developers who are familiar with Java EE and are keen to understand the new HTML5-related functionality introduced in Java EE 7 to improve productivity. To take full advantage of this book, you need to be familiar with Java EE and have some basic understanding of using the GlassFish application server.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1068, '1783288299', 'Developing RESTful Web Services with Jersey 2.0', 'http://ecx.images-amazon.com/images/I/51xmOMQtc7L._SL160_.jpg', 1, 34.99, 98, DATE '2013-11-20', 'Learn how to design and implement a test automation framework block by blockOverviewA simple and easy demonstration of the important concepts will enable you to translate abstract ideas into practice Each chapter begins with an outline and a brief statement of content to help the reader establish perspective An alternative approach to developing generic components for test automationIn DetailAs software testing is maturing, the focus is shifting towards test automation. The key is to learn and grow skills in framework designing and start contributing to project organization goals. Through a helpful mix of conceptual and practical aspects, you will learn everything you need to know related to the implementation of frameworks using QTP. Through simple examples, you will gradually develop the skills needed to execute concepts and code blocks used to design and implement the test automation framework. This tutorial-based guide demonstrates an easy way to implement concepts to create a portable framework across the various versions of QTP. You will learn about the automation lifecycle and gradually develop technical concepts related to each phase. Within a short amount of time, you will be able to deal with challenges in test automation. "Designing and Implementing Test Automation Frameworks with QTP" uses a simple, yet elegant approach and gives the reader all the skills and knowledge they need to implement the framework. What you will learn from this bookUnderstand the test automation lifecycle, as well as the goals that drive and guide its framework design Grasp the basic features of QTP that help in creating frameworksLearn about the various goals of each level of framework and how they drive the designing of the framework Create basic building block supportsUnderstand the types of framework and how to design and use themUse Javascript and HTMLDOM effectivelyCapture lessons learnt in framework designing and share those experiencesDeploy and maintain frameworksBuild an XPath expression, locate the elements and perform an action on itApproachA tutorial-based approach, showing basic coding and designing techniques to build test automation frameworks. Who this book is written forIf you are a beginner, an automation engineer, an aspiring test automation engineer, a manual tester, a test lead or a test architect who wants to learn, create, and maintain test automation frameworks, this book will accelerate your ability to develop and adapt the framework.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1069, '3319054392', 'ECUMICT 2014: Proceedings of the European Conference', 'http://ecx.images-amazon.com/images/I/418YoIyKXKL._SL160_.jpg', 2, 199.00, 231, DATE '2014-02-23', 'This proceeding present the outcome of the 6th. European Conference on the Use of Modern Information and Communication Technologies. The ECUMICT 2014 was hold in Gent in March 2014 and presented recent research, that has a close relationship with practical implementation of Security for mobile communications and data accessInterface technology for mobile devices Application development for mobile devicesPositioning and localization, asset tracking and tracing Design and applications of RFID systemsDevelopments in the framework of IoT and M2M communicationsDesign and applications of WSNsEmbedded programming for WSNsNew developments and applications of WPAN/WLAN standardsMobile multimedia systemsWireless telecommunication networks and mobile servicesOptimization techniques in wireless networksDevelopments in ad-hoc and mesh networksApplications of digital signal processing for mobile applications Applications of MEMs in WSNs')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1070, '1847195601', 'EJB 3 Developer Guide: A Practical Guide for developers and architects to the Enterprise Java Beans Standard.', 'http://ecx.images-amazon.com/images/I/41WV60YTuwL._SL160_.jpg', 1, 39.99, 276, DATE '2008-05-23', 'In DetailThe EJB 3 (Enterprise Java Beans version 3) specification is a core component of enterprise-level JEE (Java Platform Enterprise Edition) implementations and this improved version is set to simplify the development of Enterprise Java applications. This book covers the core elements of EJB 3 technology, exploring them in a concise manner with many supporting examples. You will gain a thorough understanding of EJB 3 technology and learn about the most important features of EJB 3 quickly. What you will learn from this book? This book will teach you the core elements of EJB 3 technology. You will: Gain a rapid introduction to the EJB 3 essentials while learning about the underlying principles Create Entities, Message-Driven Beans, Session Beans and their clientsLook at running an EJB client from an application client containerLearn how to package and deploy an EJBUse JQPL (Java Persistence Query Language)Explore the entity manager interfaceLearn about object/relational mapping with EJB 3Look at the Java Messaging API and message-driven beansLook at transactions, interceptors, and EJB timer servicesUnderstand how EJB 3 differs from the 2.x versionImplement EJB 3''s security featuresApproachThis book is a fast-paced tutorial that explores the key features of EJB 3 with many accompanying examples. This book is not a complete reference guide, but a concise exploration of EJB 3''s core elements. Who this book is written for?This book is primarily aimed at professional developers who already have a working knowledge of Java. Enterprise architects and designers with a background in Java would also find this book of use. Previous experience of working with Java is essential and knowledge of relational databases is desirable. As this book is an introduction to EJB 3, it is aimed at those who are new to EJB 3. As the new version of EJB is so radically different from the previous version (EJB 2.x), the book is suitable for and should be of interest to those who have had experience working with EJB 2.x. The text makes it clear where the differences between the versions of EJB lie, although they are not explored in detail.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1071, '1935182994', 'EJB 3 in Action', 'http://ecx.images-amazon.com/images/I/41DEOsLnX3L._SL160_.jpg', 8, 54.99, 560, DATE '2014-04-18', 'SummaryBuilding on the bestselling first edition, EJB 3 in Action, Second Edition tackles EJB 3.2 head-on, through numerous code samples, real-life scenarios, and illustrations. This book is a fast-paced tutorial for Java EE 6 business component development using EJB 3.2, JPA 2, and CDI. Besides covering the basics of EJB 3.2, this book includes in-depth EJB 3.2 internal implementation details, best practices, design patterns, and performance tuning tips. Purchase of the print book includes a free eBook in PDF, Kindle, and ePub formats from Manning Publications. About the BookThe EJB 3 framework provides a standard way to capture business logic in manageable server-side modules, making it easier to write, maintain, and extend Java EE applications. EJB 3.2 provides more enhancements and intelligent defaults and integrates more fully with other Java technologies, such as CDI, to make development even easier. EJB 3 in Action, Second Edition is a fast-paced tutorial for Java EE business component developers using EJB 3.2, JPA, and CDI. It tackles EJB head-on through numerous code samples, real-life scenarios, and illustrations. Beyond the basics, this book includes internal implementation details, best practices, design patterns, performance tuning tips, and various means of access including Web Services, REST Services, and WebSockets. Readers need to know Java. No prior experience with EJB or Java EE is assumed.What''s InsideFully revised for EJB 3.2POJO persistence with JPA 2.1Dependency injection and bean management with CDI 1.1Interactive application with WebSocket 1.0About the AuthorsDebu Panda,Reza Rahman,Ryan Cuprak, and Michael Remijan are seasoned Java architects, developers, authors, and community leaders. Debu and Reza coauthored the first edition ofEJB 3 in Action. Table of ContentsPART 1 OVERVIEW OF THE EJB LANDSCAPEWhat''s what in EJB 3A first taste of EJBPART 2 WORKING WITH EJB COMPONENTSBuilding business logic with session beansMessaging and developing MDBsEJB runtime context, dependency injection,and crosscutting logicTransactions and securityScheduling and timersExposing EJBs as web servicesPART 3 USING EJB WITH JPA AND CDIJPA entitiesManaging entitiesJPQLUsing CDI with EJB 3PART 4 PUTTING EJB INTO ACTIONPackaging EJB 3 applicationsUsing WebSockets with EJB 3Testing and EJB')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1072, '1933988347', 'EJB 3 in Action', 'http://ecx.images-amazon.com/images/I/41DEOsLnX3L._SL160_.jpg', 2, 44.99, 712, DATE '2007-04-19', 'EJB 3 in Action tackles EJB 3 and the Java Persistence API head-on, providing practical code samples, real-life scenarios, best practices, design patterns, and performance tuning tips. This book builds on the contributions and strengths of seminal technologies like Spring, Hibernate, and TopLink. EJB 3 is the most important innovation introduced in Java EE 5.0. EJB 3 simplifies enterprise development, abandoning the complex EJB 2.x model in favor of a lightweight POJO framework. The new API represents a fresh perspective on EJB without sacrificing the mission of enabling business application developers to create robust, scalable, standards-based solutions. EJB 3 in Action is a fast-paced tutorial, geared toward helping you learn EJB 3 and the Java Persistence API quickly and easily. For newcomers to EJB, this book provides a solid foundation in EJB. For the developer moving to EJB 3 from EJB 2, this book addresses the changes both in the EJB API and in the way the developer should approach EJB and persistence. Purchase of the print book comes with an offer of a free PDF, ePub, and Kindle eBook from Manning. Also available is all code from the book.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1073, '1783285451', 'Enterprise Application Development with Ext JS and Spring', 'http://ecx.images-amazon.com/images/I/51wFwTy1PPL._SL160_.jpg', 1, 49.99, 446, DATE '2013-12-20', 'Designed for intermediate developers, this superb tutorial will lead you step by step through the process of developing enterprise web applications combining two leading-edge frameworks. Take a big leap forward in easy stages. OverviewEmbark on the exciting journey through the entire enterprise web application development lifecycle Leverage key Spring Framework concepts to deliver comprehensive and concise Java codeBuild a real world ExtJS web application that interacts with dynamic database driven data In DetailSpring and ExtJS are cutting edge frameworks that allow us to build high performance web applications for modern devices, that are now consuming data at a faster rate than ever before. It is the appropriate time for you to understand how to best leverage these technologies when architecting, designing, and developing large scale web development projects. This practical guide condenses an approach to web development that was gained from real world projects, and outlines a simple, practical approach to developing high performance, and enterprise grade web applications. Starting with configuring Java, Netbeans, and MySQL to prepare your development environment, you will then learn how to connect your Netbeans IDE to the MySQL database server. We will then explore the Task Time Tracker (3T) project database structure and populate these tables with test data. Following on from this, we will examine core JPA concepts after reverse engineering the domain layer with Netbeans. Leveraging the Data Access Object design pattern, you will learn how to build the Java DAO implementation layer assisted by generics in base classes, followed by a Data Transfer Object enabled service layer to encapsulate the business logic of your 3T application. The final chapters that focus on Java explore how to implement the request handling layer using Spring annotated controllers, and deploy the 3T application to the Glassfish server. We will then configure the ExtJS 4 development environment and introduce key ExtJS 4 concepts, including MVC and practical design conventions. Covering a variety of important ExtJS 4 strategies and concepts, you will be fully-equipped to implement a variety of different user interfaces using the ExtJS MVC design pattern. Your journey ends by exploring the production build and deployment process using Maven, Sencha Cmd and Glassfish. What you will learn from this bookSet up the key components of an enterprise development environmentGet to grips with practical database design strategies using MySQLPractice JPA concepts and database reverse engineering using NetbeansAccess data using the DAO design pattern and SpringImplement practical testing strategies using Maven and JUnitBuild a comprehensive service layer to encapsulate business logicLeverage the best of Spring Web controllers for enterprise useImplement a dynamic ExtJS user interface using Sencha MVCUnderstand and control the Maven build processConfigure and deploy to a production Glassfish environmentApproachAn easy-to-follow tutorial, that breaks down the enterprise application development journey into easy to understand phases documented by clear examples and concise explanations.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1074, '3826616995', 'Enterprise JavaBeans 3.0 mit Eclipse und JBoss', 'http://ecx.images-amazon.com/images/I/51AeBG-ywEL._SL160_.jpg', 4, 9.99, null, null, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1075, '0470565454', 'Enterprise Software Architecture and Design', 'http://ecx.images-amazon.com/images/I/51FH4HeKCUL._SL160_.jpg', 4, 133.00, 512, DATE '2012-02-28',  'This book fills a gap between high-level overview texts that are often too general and low-level detail oriented technical handbooks that lose sight the "big picture". This book discusses SOA from the low-level perspective of middleware, various XML-based technologies, and basic service design. It also examines broader implications of SOA, particularly where it intersects with business process management and process modeling. Concrete overviews will be provided of the methodologies in those fields, so that students will have a hands-on grasp of how they may be used in the context of SOA.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1076, '1449356818', 'Enterprise Web Development: Building HTML5 Applications', 'http://ecx.images-amazon.com/images/I/51Twl1%2ByfQL._SL160_.jpg', 4, 49.99, 642, DATE '2014-07-28', 'If you want to build your organization’s next web application with HTML5, this practical book will help you sort through the various frameworks, libraries, and development options that populate this stack. You’ll learn several of these approaches hands-on by writing multiple versions of a sample web app throughout the book, so you can determine the right strategy for your enterprise. What’s the best way to reach both mobile and desktop users? How about modularization, security, and test-driven development? With lots of working code samples, this book will help web application developers and software architects navigate the growing number of HTML5 and JavaScript choices available. The book’s sample apps are available at http://savesickchild.org. Mock up the book’s working app with HTML, JavaScript, and CSSRebuild the sample app, first with jQuery and then Ext JSWork with different build tools, code generators, and package managersBuild a modularized version of the app with RequireJSApply test-driven development with the Jasmine frameworkUse WebSocket to build an online auction for the appAdapt the app for both PCs and mobile with responsive web designCreate mobile versions with jQuery Mobile, Sencha Touch, and PhoneGap')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1077, '3642327192', 'Organizations'' Environmental Performance Indicators', 'http://ecx.images-amazon.com/images/I/51b3HzQvghL._SL160_.jpg', 6, 159.00, 228, DATE '2013-06-08', 'The book provides a collection of individual chapters from the participants in the OEPI project, which represent a mix of academic and practical chapters and contributions. The first part of the book is dedicated to a theoretical introduction to Organisations'' Environmental Performance Indicators and to a state-of-the-art overview in literature and practice. The second part of the book contains several chapters describing information systems and their components supporting the management of Environmental Performance Indicators, especially in inter-organizational contexts. The third part is dedicated to three case studies from practice, and the book concludes with part four, in which practical guidelines for the innovative management of Environmental Performance indicators in organizations and in inter-organizational contexts are presented.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1078, '1430244267', 'Java EE 7 Recipes: A Problem-Solution Approach', 'http://ecx.images-amazon.com/images/I/51b3HzQvghL._SL160_.jpg', 4, 9.99, 735, null, 'Java EE 7 Recipes takes an example-based approach in showing how to program Enterprise Java applications in many different scenarios. Be it a small-business web application, or an enterprise database application, Java EE 7 Recipes provides effective and proven solutions to accomplish just about any task that you may encounter. You can feel confident using the reliable solutions that are demonstrated in this book in your personal or corporate environment. The solutions in Java EE 7 Recipes are built using the most current Java Enterprise specifications, including EJB 3.2, JSF 2.2, Expression Language 3.0, Servlet 3.1, and JMS 2.0. While older technologies and frameworks exist, it is important to be forward-looking and take advantage of all that the latest technologies offer. Rejuvenate your Java expertise to use the freshest capabilities, or perhaps learn Java Enterprise development for the first time and discover one of the most widely used and most powerful platforms available for application development today. Let Java EE 7 Recipes show you the way by showing how to build streamlined and reliable applications much faster and easier than ever before by making effective use of the latest frameworks and features on offer in the Java EE 7 release. Shows off the most current Java Enterprise Edition technologies.Provides solutions to creating sophisticated user interfaces.Demonstrates proven solutions for effective database access.Table of ContentsIntroduction to ServletsJavaServer PagesThe Basics of JavaServer FacesFaceletsJavaServer Faces Standard ComponentsAdvanced JavaServer Faces and AjaxJDBCObject-Relational MappingEnterprise JavaBeansThe Query API and JPQLOracle''s GlassfishContexts and Dependency InjectionJava Message ServiceAuthentication and SecurityJava Web ServicesEnterprise Solutions Using Alternative Programming LanguagesWebSockets and JSON-PJavaFX in the EnterpriseConcurrency and Batch Applications')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1079, '1430249269', 'Pro JPA 2 (Expert''s Voice in Java)', 'http://ecx.images-amazon.com/images/I/51vIITEqc-L._SL160_.jpg', 2, 54.99, 508, DATE '2013-09-24', 'Pro JPA 2, Second Edition introduces, explains, and demonstrates how to use the new Java Persistence API (JPA) 2.1 from the perspective of one of the specification creators. A one-of-a-kind resource, it provides both theoretical and extremely practical coverage of JPA usage for both beginning and advanced developers. Authors Mike Keith and Merrick Schincariol take a hands–on approach, based on their wealth of experience and expertise, by giving examples to illustrate each concept of the API and showing how it is used in practice. The examples use a common model from an overriding sample application, giving readers a context from which to start and helping them to understand the examples within an already familiar domain. After completing the book, you will have a full understanding of JPA and be able to successfully code applications using its annotations and APIs. The book also serves as an excellent reference guide during initial and later JPA application experiences. Hands-on examples for all aspects of the JPA specificationExpert insight about various aspects of the API and when they are usefulPortability hints to provide increased awareness of the potential for non–portable JPA code What you’ll learnHow to get started with enterprise applications using JPA 2.1Simple and advanced object–relational mapping techiquesHow to use the complete Entity Manager APIHow to create queries using the query language (JP QL) and the Criteria APILocking, concurrency, and other advanced conceptsHow to use XML mapping files and descriptorsHow to package and deploy your Java Persistence applicationsHow to test your Java Persistence applicationsWho this book is forThe book generally targets enterprise and persistence developers who fall in one of three categories: Those who are new to persistence; we will offer an introduction to persistence and to the basic concepts so these readers can have solid base from which to become proficient at JPA. Those who know and/or use existing ORM persistence products such as Hibernate or TopLink/EclipseLink. Those who have already used JPA and want to learn about newer features introduced by JPA 2.1, or have a good reference book to consult when they develop JPA applications. In general, we assume that the reader is knowledgeable with Java, SQL, and JDBC, and has a little knowledge of Java EE. Table of ContentsIntroductionGetting StartedEnterprise ApplicationsObject Relational MappingCollection MappingEntity ManagerUsing QueriesJava Persistence Query LanguageCriteriaAdvanced Object Relational MappingAdvanced QueriesAdvanced TopicsXML Mapping FilesPackaging and DeploymentTesting')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1080, '1430250100', 'Pro JSF and HTML5: Building Rich Internet Components', 'http://ecx.images-amazon.com/images/I/51NA-Vb5p-L._SL160_.jpg', 7, 54.99, 412, DATE '2013-11-24', 'Pro JSF and HTML5 shows you how to leverage the full potential of JavaServer Faces (JSF) and HTML5. This book is for Java developers who aspire to build sophisticated, enterprise-grade web experiences with HTML5-enabled JSF. Written by JSF experts and verified by established community figures, this book will serve as your primary resource, helping you build or integrate well-designed HTML5-enabled JSF components into your rich internet applications. Pro JSF and HTML5 starts by giving you a firm grounding in the design principles of component-based frameworks and the basics of JSF. It then details recent advancements in JSF 2.2 that make it friendlier, faster, and more productive than ever before. And it covers HTML5-enabled components, integration with Java EE7 standards, 3rd party component libraries, security, and performance. The book concludes with a real-world application that puts everything you learned into practice. In this book you''ll learn Foundational JSF topics such as the component life cycle, framework architecture, managed beans and CDI, expression language, conversion and validation, JSF events and view parameters. Leveraging new features in JSF 2.2 such as Faces Flow, Resource Library Contracts, and Ajax file uploading. Developing Advanced HTML5 enabled components in JSF 2.2.Creating JSF 2.2 applications that utilize Java EE 7 technologies (CDI, JPA 2.1 and EJB 3.2) for bean management, transaction management and persistence. Building advanced real-world JSF applications with considerations for security, performance, and usability. If you''re a Java developer interested in the world of component-based frameworks,Pro JSF and HTML5 is for you. What you''ll learn Foundational JSF topics such as the component life cycle, framework architecture, managed beans and CDI (Context and Dependency Injection), expression language, exception handling, conversion and validation, JSF events (faces events, phase events and system events), and view parameters. Utilizing new features in JSF 2.2 such as Faces Flow, Resource Library Contracts, and Ajax file uploading. Developing Advanced HTML5 enabled components in JSF 2.2.Developing PrimeFaces and RichFaces applications.Developing JSF 2.2 applications that utilize Java EE 7 technologies (CDI, JPA 2.1 and EJB 3.2) in order to facilitate bean management, transaction management and persistence. Unit testing JSF applications.Stateless JSF views.Implementing Security in JSF applications.Tuning the performance of JSF applications.Translating application requirements into a model and then implementing the model using JSF 2.2 and Java EE 7 technologies. Who this book is for This is a tutorial and reference is for both intermediate and experienced Java enterprise and web application developers.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1081, '0240809777', 'The Service-Oriented Media Enterprise', 'http://ecx.images-amazon.com/images/I/51a%2Bv2PzbRL._SL160_.jpg', 7, 64.95, 544, DATE '2008-03-10', 'Companies worldwide are rapidly adopting Service-Oriented Architecture (SOA), a design methodology used to connect systems as services, and Business Process Management (BPM), the art of orchestrating these services. Media organizations from news organizations to music and media download services to movie studios are adapting to SOA-style architectures, but have run into roadblocks unique to the media and entertainment industry. These challenges include incorporating real-time data, moving large amounts of data at one time, non-linearity and flexibility for workflow, and unique metrics and data gathering. The Service-Oriented Media Enterprise details the challenges and presents solutions for media technology professionals. By addressing both the IT and media aspects, it helps individuals improve current enterprise technologies and operations.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1082, '383490452X', 'MLP Berufs- und Karriere-Planer IT und e-business 2007', 'http://ecx.images-amazon.com/images/I/51DO9Gq6pnL._SL160_.jpg', 3, 9.99, 9.99, DATE '2007-10-31', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1083, '3834908037', 'MLP Berufs- und Karriere-Planer IT und e-business 2009', 'http://ecx.images-amazon.com/images/I/51VfKqsAKTL._SL160_.jpg', 7, 29.95, 362, DATE '2009-10-27', 'Souverän von der Uni in den Job – die besten Starthilfen rund um den Berufseinstieg! Praktische Insider-Tipps und erstklassiges Bewerbungs-Know-how sichern Hochschulabsolventen den entscheidenden Vorsprung beim Karrierestart. Branchen-Specials: IT-Consulting | IT-Security')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1084, '1849686963', 'Getting Started with Oracle WebLogic Server 12c', 'http://ecx.images-amazon.com/images/I/51y5GkJzpzL._SL160_.jpg', 5, 54.99, 374, DATE '2013-09-23', 'If you’ve dipped a toe into Java EE development and would now like to dive right in, this is the book for you. Introduces the key components of WebLogic Server and all that’s great about Java EE 6. OverviewCreate a complete Java EE 6 application leveraging WebLogic features like JMS, SOAP and RESTful Web Services Learn how to use Oracle WebLogic Server''s key components and featuresStep-by-step instructions with screenshots and code samples to help understand and apply concepts In DetailOracle WebLogic server has long been the most important, and most innovative, application server on the market. The updates in the 12c release have seen changes to the Java EE runtime and JDK version, providing developers and administrators more powerful and feature-packed functionalities. Getting Started with Oracle WebLogic Server 12c: Developer''s Guide provides a practical, hands-on, introduction to the application server, helping beginners and intermediate users alike get up to speed with Java EE development, using the Oracle application server. Starting with an overview of the new features of JDK 7 and Java EE 6, Getting Started with Oracle WebLogic Server 12c quickly moves on to showing you how to set up a WebLogic development environment, by creating a domain and setting it up to deploy the application. Once set up, we then explain how to use the key components of WebLogic Server, showing you how to apply them using a sample application that is continually developed throughout the chapters. On the way, we''ll also be exploring Java EE 6 features such as context injection, persistence layer and transactions. After the application has been built, you will then learn how to tune its performance with some expert WebLogic Server tips. What you will learn from this bookCreate and package applications and shared libraries that use Java EE resources such aspersistence layer, interceptors, and managed beans Expose and consume Web Services using both SOAP (JAX-WS) and REST (JAX-RS) technologiesUtilize WebLogic Server''s security providers to add authentication and authorization to an application Publish and consume messages using JMS features, understanding and programming both server and standalone client pieces Scale up your application using features such as session replication, caching and optimized data access Unlock WebLogic'' full potential with expert performance tuning tipsUnderstand the concepts and usage of validators, events, and listenersApproachGetting Started with Oracle WebLogic Server 12c is a fast-paced and feature-packed book, designed to get you working with Java EE 6, JDK 7 and Oracle WebLogic Server 12c straight away, so start developing your own applications. Who this book is written forGetting Started with Oracle WebLogic Server 12c: Developer''s Guide is written for developers who are just getting started, or who have some experience, with Java EE who want to learn how to develop for and use Oracle WebLogic Server. Getting Started with Oracle WebLogic Server 12c: Developer''s Guide also provides a great overview of the updated features of the 12c release, and how it integrates Java EE 6 and JDK 7 to remove boilerplate code.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1085, '1782164227', 'Getting Started with PhantomJS', 'http://ecx.images-amazon.com/images/I/51sFGdAwByL._SL160_.jpg', 5, 29.99, 140, DATE '2013-11-25', 'Harness the strength and capabilities of PhantomJS to interact with the web and perform website testing with a headless browser based on WebKit OverviewWriting scripts that can interact directly with web services and pagesInteracting with social media websites using PhantomJS scriptsCreating web-based test scripts and running them in a headless browserIn DetailPhantomJS is a headless WebKit browser with JavaScript API that allows you to create new ways to automate web testing. PhantomJS is currently being used by a large number of users to help them integrate headless web testing into their development processes. It also gives you developers a new framework to create web-based applications, from simple web manipulation to performance measurement and monitoring. A step step-by by-step guide that will help you develop new tools for solving web and testing problems in an effective and quick way. The book will teach you how to use and maximize PhantomJS to develop new tools for web scrapping, web performance measurement and monitoring, and headless web testing. This book will help you understand PhantomJS’ scripting API capabilities and strengths. This book starts by looking at PhantomJS’ JavaScript API, features, and basic execution of scripts. Throughout the book, you will learn details to help you write scripts to manipulate web documents and fully create a web scrapping tool. Through its practical approach, this book strives to teach you by example, where each chapter focuses on the common and practical usage of PhantomJS, and how to extract meaningful information from the web and other services. By the end of the book, you will have acquired the skills to enable you to use PhantomJS for web testing, as well as learning the basics of Jasmine, and how it can be used with PhantomJS. What you will learn from this bookExplore the possibilities of PhantomJS development and make use of a headless browserUnderstand PhantomJS’ core features and APIManipulate the DOM properties of web pages using scriptsInteract with web pages using PhantomJS scriptsLearn how to emulate keyboards and mouse actionsWork with geolocation services with PhantomJSBuild scripts that will create web sites snapshotsCreate and implement PhantomJS custom modulesUse PhantomJS to perform headless testing with JasmineApproachA standard tutorial approach, as a complete guide detailing the major aspects of PhantomJS with particular focus on website testing. Who this book is written forIf you are a JavaScript developers who is interested in developing applications that interact with various web services, using a headless browser, then this book is ideal for you. This book will also be good for you if you are planning to create a headless browser testing for your web application. Basic understanding of JavaScript is assumed.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1086, '174244749X', 'GIAC Secure Software Programmer', 'http://ecx.images-amazon.com/images/I/51ugRTEf6mL._SL160_.jpg', 3, 44.95, 216, DATE '2010-11-18', 'The GIAC Secure Software Programmer (GSSP) Certification Exam was developed in a joint effort involving the SANS Institute, CERT/CC, several US government agencies, and leading companies in the US, Japan, India, and Germany. These exams are an essential response to the rapidly increasing number of targeted attacks that are focusing on application vulnerabilities.Programmers can demonstrate that they know the common security flaws found in Java and C programming, and how to avoid the problems, by passing the GSSP exams.This self-study exam preparation guide for the GSSP - Java certification exam contains everything you need to test yourself and pass the Exam. All Exam topics are covered and insider secrets, complete explanations of all GSSP - Java subjects, test tricks and tips, numerous highly realistic sample questions, and exercises designed to strengthen understanding of GSSP - Java concepts and prepare you for exam success on the first attempt are provided.Put your knowledge and experience to the test. Achieve GSSP - Java certification and accelerate your career.Can you imagine valuing a book so much that you send the author a')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1087, '1847199380', 'GlassFish Security', 'http://ecx.images-amazon.com/images/I/514slm8Ui%2BL._SL160_.jpg', 4, 44.99, 296, DATE '2010-05-11', 'Security is driven by requirement and design and we implement security on the basis of the requirements provided by analysts. In this book, we take a programmatic approach to understand Java EE and GlassFish security.You will find plenty of code samples in this book. It is easy to secure your application when you have a demonstration of a complete and working application explained in the book, isn''t it? Each chapter starts with the importance and relevance of the topic by introducing some Java EE applications requirement, which will encourage you to read it further.This book is for application designers, developers and administrators who work with GlassFish and are keen to understand Java EE and GlassFish security.To take full advantage of this book, you need to be familiar with Java EE and GlassFish application servers. You will love this book if you are looking for a book that covers Java EE security and using GlassFish features to create secure Java EE applications, or to secure the GlassFish installation and operating environment and using OpenSSO.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1088, '3319072927', 'HCI in Business', 'http://ecx.images-amazon.com/images/I/41esH%2BvXPJL._SL160_.jpg', 6, 143.00, 801, DATE '2014-05-13', 'This volume constitutes the refereed proceedings of the First International Conference on HCI in Business, HCIB 2014, held as part of the 16th International Conference on Human-Computer Interaction, HCI International 2014, in Heraklion, Crete, Greece, jointly with 13 other thematically similar conferences. The total of 1476 papers and 220 posters presented at the HCII 2014 conferences was carefully reviewed and selected from numerous submissions. The papers address the latest research and development efforts and highlight the human aspects of design and use of computing systems. They thoroughly cover the entire field of human-computer interaction, addressing major advances in knowledge and effective use of computers in a variety of application areas. The 76 papers included in this volume deal with the following topics: enterprise systems; social media for business; mobile and ubiquitous commerce; gamification in business; B2B, B2C, C2C e-commerce; supporting collaboration, business and innovation and user experience in shopping and business.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1089, '0133067033', 'Modern Web Development with IBM WebSphere', 'http://ecx.images-amazon.com/images/I/51obk3L-ebL._SL160_.jpg', 8, 34.99, 384, DATE '2014-06-18', 'Build Tomorrow’s Best Mobile/Web Applications with IBM WebSphere Application Server 8.5 and IBM Worklight This guide presents a coherent strategy for building modern mobile/web applications that are fast, responsive, interactive, reusable, maintainable, extensible, and a pleasure to use. Four IBM experts offer practical, hands-on coverage of front-end development with IBM WebSphere Application Server 8.5, IBM Worklight, and today’s most popular open source frameworks. Using well-crafted examples, the authors introduce best practices for MobileFirst development, helping you create apps that work superbly on mobile devices and add features on conventional browsers. Throughout, you’ll learn better ways to deliver Web 2.0 apps with HTML /JavaScript front ends, RESTful Web Services, and persistent data. Proven by IBM and its customers, the approach covered in this book leads to more successful mobile/web applications—and more effective development teams.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1090, '1782169970', 'Infinispan Data Grid Platform Definitive Guide', 'http://ecx.images-amazon.com/images/I/51WunUR14SL._SL160_.jpg', 4, 44.99, 464, DATE '2015-05-26', 'Master Infinispan to create scalable and high-performance applicationsAbout This BookCreate highly scalable applications using the Infinispan Data Grid PlatformMaximize your application''s performance in any cluster environmentBecome an expert in creating powerful solutions using Infinispan through ready-to-use examples Who This Book Is ForThis practical guide is intended for those who want to learn how to build extremely scalable applications. This book is easy to read and is aimed at Java enterprise developers with a solid knowledge of Java. However, no previous coding experience with Infinispan is required. What You Will LearnInstall Infinispan and create the perfect development environmentGet acquainted with topologies and strategies for different situations and data access patterns Familiarize yourself with scaling techniques and concepts including distributed transactions, ACID, and database sharding Monitor your Infinispan instances by using RHQ or JMX clientsControl and manage transactions using JTA and use the available APIs to manipulate your cache data Create an application called TicketMonster and learn how to implement InfinispanLearn about JGroups and how to use it with Infinispan for reliable communicationLearn the concepts behind big data and how to work with Infinispan MapReduce APIIn DetailInfinispan is an extremely scalable, highly available key/ value data store and data grid platform. In-memory data grids (IMDG) have recently been gaining a lot of attention, and the market for this technology is steadily increasing. This book is a practical guide that covers all Infinispan features in a progressive manner with the help of real-world and ready-to-use examples. You will learn how to install Infinispan and create a perfect development environment. Next, you will learn how to persist data to a permanent store and integrate Infinispan with technologies such as Hibernate OGM, Amazon Web Services (AWS), and CDI. Finally, we will present a sample application that you can download from the JBoss Developer Framework. By the end of this book, you will be able to build extremely scalable applications, providing a highly available key/value data store.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1091, '3658077476', 'Informationsintegration in dynamischen Unternehmensnetzwerken', 'http://ecx.images-amazon.com/images/I/412ziBjCpCL._SL160_.jpg', 8, 79.99, 361, DATE '2014-10-14', 'Aufgrund des Komplexitätsanstiegs von inner- und überbetrieblichen Geschäftsprozessen, die sich unter anderem in der zunehmenden Individualisierung und der Verkürzung von Produktlebenszyklen äußern, befinden sich Unternehmen in einem Spannungsfeld zwischen Effizienz durch Standardisierung und nötiger Flexibilität. Sebastian Huber stellt hierfür einen ganzheitlichen Lösungsansatz zum Management von agilen Unternehmensarchitekturen und der Informationsvernetzung in dynamischen Wertschöpfungsnetzwerken vor. Zusätzlich zeigt der Autor, wie der sog. Wissensarbeiter in schwachstrukturierte und wissensintensive Geschäftsprozesse organisatorisch und technisch mit einbezogen werden kann und wie entsprechende Kollaborationskonzepte auszugestalten sind. Die Arbeit wurde mit dem Promotionspreis der Hermann-Gutmann-Stiftung 2013 ausgezeichnet.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1092, '1849698805', 'Instant JRebel', 'http://ecx.images-amazon.com/images/I/41XsY69si8L._SL160_.jpg', 3, 24.99, 46, DATE '2013-11-25', 'Accelerate your code development dramatically with this practical guideOverviewLearn something new in an Instant! A short, fast, focused guide delivering immediate results. Use your favourite tools without spending much time on compilation and deploymentEnable JRebel on Tomcat and GlassfishUtilize JRebel to greatly improve your Java SE and Java EE projectsAccelerate your developments on major IDEs and serversIn DetailJRebel is a JVM plugin that lets Java developers update code instantly and see their changes reflected in their application under development without restarting the application server. JRebel is a plugin for anything that is in Java and is also IDE neutral. If you want to update your code instantly without compiling and deploying the code repeatedly, this book is for you. This book will focus on the most important development steps and will also help you save time which is otherwise spent on compilation and deployment of code. You will learn how to use JRebel with the most popular IDEs and Java servers and how to accelerate the development of your current and future Java SE and Java EE projects. This book shows you how to install JRebel, configure your favourite IDE and Java server for JRebel, and start using it on your projects. With this book, you will learn how to get a free license for JRebel and how to integrate JRebel with most Java servers and development environments. To finish, you will see how to work with desktop and web projects and how to utilize JRebel to dramatically accelerate their development. What you will learn from this bookRegister and activate your free JRebel licenseGet familiar with ClassLoader and Smart BuildUnderstand common JRebel use casesEnable JRebel on Tomcat and Glassfish standalone serversConfigure Eclipse, IntelliJ IDEA, and NetBeans to use JRebelAccelerate the development of your Java desktop application project based on Ant and Maven Expedite the development on your Java web application project connected to a local Glassfish server or remote Tomcat server Keep your production environment up-to-date using LiveRebelApproachFilled with practical, step-by-step instructions and clear explanations for the most important and useful tasks. This book is an easy-to-follow guide full of hands-on examples of real-world Java development tasks. Each topic is explained and placed in context, and for the more inquisitive readers, there are more-in-depth details of the concepts used. Who this book is written forIf you have experience in Java desktop or web application development based on Servlets and you want to update your code instantly without recompiling and redeploying the code, this book is for you.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1093, '1849519900', 'Instant PrimeFaces Starter', 'http://ecx.images-amazon.com/images/I/51pETImO1gL._SL160_.jpg', 5, 24.99, 90, DATE '2013-06-25', 'Design and develop awesome web user interfaces for desktop and mobile devices with PrimeFaces and JSF2 using practical, hands-on examples OverviewLearn something new in an Instant! A short, fast, focused guide delivering immediate results. Integrate Google Maps in your web application to show search results with markers and overlays with the PrimeFaces gmap component Develop a customizable dashboard for your users that displays charts with live data, news feeds, and draggable widgets Implement a live chat system that uses PrimeFaces Push to send updates to desktop and mobile users simultaneously Create a mobile version of your web application that supports Android, iOS, and other platforms using the PrimeFaces Mobile toolkit In DetailDeveloping great user interfaces for web applications has never been easier! PrimeFaces delivers a powerful set of features that enable JSF developers to deliver awesome user experiences on the Web. With more than 150 Ajax-enabled UI components, jQuery integration, a mobile UI toolkit, theme support, Ajax Push technology, and much more, PrimeFaces takes JSF application development to a whole new level! Instant PrimeFaces Starter is a practical, hands-on guide to PrimeFaces that will show you how to get started quickly using PrimeFaces in your web applications and provides examples on how to design and develop compelling user interfaces using PrimeFaces Ajax UI components, PrimeFaces Mobile, and PrimeFaces Push. Starting with the setup of your first PrimeFaces project in Eclipse, Instant PrimeFaces Starter will then take you through the process of designing and implementing the user interface of a social events web application that enables users to find fun things in their city. In this process you will learn a range of techniques for building innovative user interfaces with PrimeFaces UI components. You will also learn how to build a mobile version of your web application using the PrimeFaces Mobile toolkit, leveraging the jQuery mobile library to extend your web application to Android, iOS, and other mobile platforms. Finally you will see how to build a live chat application with presence awareness that uses PrimeFaces Push technology to send updates to desktop and mobile users simultaneously. What you will learn from this bookSet up a new PrimeFaces project in Eclipse using MavenConfigure PrimeFaces in web.xmlImplement a login screen using PrimeFaces Ajax components and JSF2Use PrimeFaces themes and jQuery ThemeRoller to change the look and feelImplement a member signup form with CAPTCHA and password strengthAdd PrimeFaces modal dialogs to improve user interactionWork with PrimeFaces Ajax status indicatorsImplement a search screen with the PrimeFaces Google Maps componentDevelop a mobile version of the web application with PrimeFaces MobileBuild a live chat feature using PrimeFaces Push to send updates to desktop and mobile browsers simultaneously ApproachGet to grips with a new technology, understand what it is and what it can do for you, and then get to work with the most important features and tasks. Instant Primefaces Starter is a fast-paced, introductory guide designed to give you all the information you need to start using Primfaces, instantly.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1094, '2955021431', 'Integration Testing from the Trenches', 'http://ecx.images-amazon.com/images/I/51593qsrFxL._SL160_.jpg', 6, 44.99, 332, DATE '2015-02-21', 'Software development is a complex craft requiring many steps in its road to completion. In particular, achieving the best context-dependent ratio between cost and quality can only be achieved through an adequate testing strategy. "Integration Testing from the Trenches" covers through different areas of testing and integration tests in both Java & JavaEE ecosystems: This book is intended for software developers that want to go beyond just unit-testing and test the collaboration of their classes and modules in an efficient way. At some point in time, available tools were restricted to Jakarta Cactus for Struts. However, the thriving Open Source ecosystem can now provide everything we need to provide proper integration tests, as well as ways to use them with the greatest possible Return Over Investment.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1095, '1784396931', 'IntelliJ IDEA Essentials', 'http://ecx.images-amazon.com/images/I/51bjp9RwCBL._SL160_.jpg', 7, 44.99, 263, DATE '2014-12-26', 'Develop better software fast with IntelliJ IDEAAbout This BookTailor IntelliJ IDEA to your needs and to the demands of your projectsUse IDEA''s powerful software development tools to their fullest potentialExplore IntelliJ IDEA''s impressive and extensive features and functionalities for successful software development Who This Book Is ForThis book is for developers who want to work smarter so they can focus their efforts on the details that will give them the advantage. This book is tailor-made for developers who want to move from NetBeans and Eclipse to experience the power and functionality of IntelliJ IDEA. What You Will LearnTailor IntelliJ IDEA to your needs and to the demands of your projectsUse IDEA''s powerful software development tools to their fullest potentialExplore IntelliJ IDEA''s impressive and extensive features and functionalities for successful software development Set up a new project or import an existing one and run your project as standalone or using application servers Explore and use IntelliJ IDEA''s features, such as Live Templates and smart code completion Create clean code that is solid and easy to maintain with refactoring toolsCoordinate with other developers using powerful version control featuresIn DetailStarting with a walkthrough of the main workspace, you will get up and running with IDEA from the word go. You will learn how to exploit IDEA''s software development tools and use the various product features such as source code control, the debugger, and the many code generation tools. You will then move on to advanced topics such as how IntelliJ helps in version control, managing change lists, viewing differences and changes, and reverting changes. You will also learn how IDEA can be used for agile development and web development, as well as its integration with frameworks such as Gradle. Complete with tips and tricks, this book will make sure that you have an in-depth and extensive knowledge of informed programming.')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1096, '1931182333', 'Introducing Java EE 7', 'http://ecx.images-amazon.com/images/I/51ah8wiHJJL._SL160_.jpg', 6, 9.99, null, null, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1097, '1430258489', 'Introducing Java EE 7', 'http://ecx.images-amazon.com/images/I/51ah8wiHJJL._SL160_.jpg', 4, 29.99, 240, DATE '2013-06-25', 'Introducing Java EE 7: A Look at What’s New guides you through the new features and enhancements in each of the technologies comprising the Java EE platform. Readers of this book will not have to wade through introductory material or information covering features that have been part of the EE platform for years. Instead, developers can pick this book up and read it to brush up on those features that have changed or have been added for the EE 7 release. This handy reference helps you move forward from Java EE 6 to the new EE 7 platform quickly and easily. Java is a mature programming language that has been refined over the years into a productive language widely used in enterprise application development. Although the language contains frameworks and methodologies that have been used for years, it is important to make use of the most current features available in the language in order to achieve the best results. Introducing Java EE 7: A Look at What’s New covers the solutions using the most current Java Enterprise technologies, including EJB 3.2, JSF 2.2, and JAX-RS 2.0. Build a streamlined and reliable application that uses the latest in Java technologies, and develop it much faster than you did with the older technologies. Rejuvenate your Java expertise to use the freshest capabilities, or perhaps learn Java Enterprise development for the first time and discover one of the most widely used and most powerful technologies available for application development today. Get up and running quickly with the new features of EE 7! Designed to get you up and running quickly with the newly released Java EE 7Includes real world examples of how to use new and updated features.Demonstrates the latest productivity enhancements in the platformWhat youll learnDevelop using the latest in Java EE 7 technologiesDeploy the most current features in Java ServletsMake use of HTML5 in your Java Enterprise applicationsCreate enterprise database applications using the latest features in EJBImprove application code through Context Dependency Injection (CDI)Exploit the power of RESTful web servicesWho this book is forIntroducing Java EE 7: A Look at Whats New is intended for developers already familiar with the basic concepts of Java Enterprise Edition development. The book jumps right into covering new features in Java EE 7, and gets down into code from the very beginning. The book is organized to be a handy reference for those who need information quickly on a particular topic while transitioning from Java EE 6 to Java EE 7, but it can also be read front to back. Table of ContentsNew Servlet FeaturesJavaServer Faces and FaceletsExpression LanguageObject-Relational Mapping using JPABusiness Logic using EJBValidating DataContexts and Dependency InjectionBuilding RESTful Web ServicesWebSockets and JSONNew Java Message Service FeaturesBatch Applications, Caching, and ConcurrencyDeveloping Java EE 7 Applications Using Netbeans')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1098, '1931182334', 'Introducing Java EE 7', 'http://ecx.images-amazon.com/images/I/51ah8wiHJJL._SL160_.jpg', 2, 9.99, 214, DATE '2014-01-16', 'A Perorvoslatok Teljes Rendszere: Tekintettel Ugy AZ Irasbeli Mint a Szobeli Eljarasra Es Osszefuggeseben a Birosagi Szervezettel (1879)')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1099, '1931182335', 'Introducing Java EE 7 (2014)', 'http://ecx.images-amazon.com/images/I/51ah8wiHJJL._SL160_.jpg', 8, 9.99, 9.99, DATE '2014-01-10', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
-INSERT INTO BOOK (id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 1100, '1931182336', 'Introducing Java EE 7: 1st Edition', 'http://ecx.images-amazon.com/images/I/51ah8wiHJJL._SL160_.jpg', 2, 9.99, null, null, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1001, '1931182310', 'Advanced Java EE Development for RAD Guidebook', 'http://ecx.images-amazon.com/images/I/51bjnhlGbeL._SL160_.jpg', 2, 79.95, 752, DATE '2011-11-21', 'Written by IBM senior field engineers and senior product development experts, this advanced book provides a solid look at the development of a range of core Java EE technologies, as well as an in-depth description of the development facilities provided by IBM Rational Application Developer version 7.5. Since the Java EE developmental platform incorporates a wide range of technologies from disparate and myriad sources, this up-to-date guidebook helps developers triumph over the complexity and depth of knowledge required to build successful architectures. Senior developers, engineers, and architects—especially those who work with Rational Application Developer and those seeking certification at the Sun-certified Java master-tier level or the IBM Rational Application Developer certified professional and certified advanced professional levels—will appreciate this convenient, single reference point.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1002, '1931182311', 'Advanced Java EE Development for RAD Guidebook (Nov-2011)', 'http://ecx.images-amazon.com/images/I/511pqkJd3UL._SL160_.jpg', 2, 9.99, 543, DATE '2011-11-21', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1003, '1931182312', 'Advanced Java EE Development for RAD Guidebook 2nd', 'http://ecx.images-amazon.com/images/I/511pqkJd3UL._SL160_.jpg', 4, 9.99, 987, DATE '2005-09-17', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1004, '1514210959', 'Advanced Java EE Development with WildFly', 'http://ecx.images-amazon.com/images/I/51f7V8CEb7L._SL160_.jpg', 8, 44.99, 416, DATE '2015-06-04', 'Your one-stop guide to developing Java® EE applications with the Eclipse IDE, Maven, and WildFly® 8.1 About This Book •Develop Java EE 7 applications using the WildFly platform •Discover how to use EJB 3.x, JSF 2.x, Ajax, JAX-RS, JAX-WS, and Spring with WildFly 8.1 •A practical guide filled with easy-to-understand programming examples to help you gain hands-on experience with Java EE development using WildFly Who This Book Is For This book is for professional WildFly developers. If you are already using JBoss or WildFly but don''t use the Eclipse IDE and Maven for development, this book will show you how the Eclipse IDE and Maven facilitate the development of Java EE applications with WildFly 8.1. This book does not provide a beginner-level introduction to Java EE as it is written as an intermediate/advanced course in Java EE development with WildFly 8.1. In Detail This book starts with an introduction to EJB 3 and how to set up the environment, including the configuration of a MySQL database for use with WildFly. We will then develop object-relational mapping with Hibernate 4, build and package the application with Maven, and then deploy it in WildFly 8.1, followed by a demonstration of the use of Facelets in a web application. Moving on from that, we will create an Ajax application in the Eclipse IDE, compile and package it using Maven, and run the web application on WildFly 8.1 with a MySQL database. In the final leg of this book, we will discuss support for generating and parsing JSON with WildFly 8.1.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1005, '8894038912', 'Advanced Jax-Ws Web Services', 'http://ecx.images-amazon.com/images/I/31lRGN%2BfvDL._SL160_.jpg', 6, 22.90, 154, DATE '2014-11-02', 'In this book you''ll learn the concepts of Soap based Web Services architecture and get practical advice on building and deploying Web Services in the enterprise. Starting from the basics and the best practices for setting up a development environment, this book enters into the inner details of the Jax-Ws in a clear and concise way. You will also learn about the major toolkits available for creating, compiling and testing Soap Web Services and how to address common issues such as debugging data and securing its content. What you will learn: Move your first steps with Soap Web Services. Developing Web Services using top-down and bottom-up approach. Using Maven archetypes to speed up Web Services creation. Getting into the details of Jax-Ws types: Java to Xml mapping and Xml to Java Developing Soap Web Services on WildFly 8 and Tomcat. Running native Apache Cxf on WildFly Securing Web Services. Applying authentication policies to your services. Encrypting the communication.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1006, '0071763929', 'Mike Meyers'' Guide to Supporting Windows 7', 'http://ecx.images-amazon.com/images/I/51Dk-Zq2I7L._SL160_.jpg', 5, 30.00, 240, DATE '2011-09-15', 'Mike Meyers'' Guide to Supporting Windows 7 for CompTIA A+ Certification, Exams 220-701 & 220-702 Get the latest information on the new Windows 7 topics and questions added to CompTIA A+ exams 220-701 and 220-702. A must-have companion to CompTIA A+ All-in-One Exam Guide, Seventh Edition andMike Meyers'' CompTIA A+ Guide to Managing and Troubleshooting PCs, Third Edition, this book focuses on the new exam objectives. Mike Meyers'' Guide to Supporting Windows 7 for CompTIA A+ Certification provides learning objectives at the beginning of each chapter, exam tips, practice exam questions, and in-depth explanations. Written by the leading authority on CompTIA A+ certification and training, this essential resource provides the up-to-date coverage you need to pass the exams with ease. Mike Meyers, CompTIA A+, CompTIA Network+, CompTIA Security+, MCP, is the industry''s leading authority on CompTIA A+ certification and the bestselling author of seven editions of CompTIA A+ All-in-One Exam Guide. He is the president of PC and network repair seminars for thousands of organizations throughout the world, and a member of CompTIA.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1007, '1849512442', 'Apache Maven 3 Cookbook (Quick Answers to Common Problems)', 'http://ecx.images-amazon.com/images/I/41uiGX%2BdFRL._SL160_.jpg', 4, 39.99, 224, DATE '2011-08-25', 'Take Flash to the next dimension by creating detailed, animated, and interactive 3D worlds with Away3D OverviewCreate stunning 3D environments with highly detailed texturesAnimate and transform all types of 3D objects, including 3D TextEliminate the need for expensive hardware with proven Away3D optimization techniques, without compromising on visual appeal Written in a practical and illustrative style, which will appeal to Away3D beginners and Flash developers alike In DetailAway3D is one of the most popular real-time 3D engines for Flash. Besides creating various detailed 3D environments you can also create animated 3D scenes, use various special effects, integrate third-party libraries, and much more. The possibilities of using this engine are endless. But will you be able take full advantage of all these features and make a 3D application that is picture perfect?. This is the best book for guiding you through Away3D, and the possibilities it opens up for the Flash platform. You''ll be able to create basic 3D objects, display lifelike animated characters, construct complex 3D scenes in stunning detail, and much more with this practical hands-on guide. Starting with the very basics, this book will walk you through creating your first Away3D application, and then move on to describe and demonstrate the many features that are available within Away3D such as lighting, shading, animation, 3D text, model loading and more. With the help of this comprehensive guide to all the information you ever needed to use Away3D, you''ll find yourself creating incredibly detailed 3D environments in no time. You begin with an overview of downloading the Away3D source code and configuring various authoring tools like Flex Builder, Flash Builder, FlashDevelop, and Flash CS4. Next you ease your way through creating your first primitive 3D object from scratch, then move on to creating stunning 3D environments with incredibly detailed textures and animations. You will make applications react to mouse events, with the click of a mouse – literally, learn ways to focus your camera and perfect your creation by viewing it from all angles, and take your Away3D application to the next level by overcoming the limitations in default Away3D algorithms. You will also learn optimization techniques to obtain the best performance from Away3D, without compromising on visual appeal. Create stunning real-world 3D Flash applications, right from displaying your first sphere to creating entire 3D cities, with plenty of tips to help you avoid common pitfalls. What you will learn from this bookDraw primitive shapes such as cubes, cones, spheres, and planes without having to manually construct them from their basic elements Add eye-catching special effects to your Away3D applicationWarp, curve, modify, and bend 3D text to your willFocus the Camera and view 3D objects from all anglesImprove mouse interactivity in your 3D applicationIntegrate third-party libraries such as TweenLite and Stardust with Away3D to animate 3D objects and create particle effects Use sprites and sprite classesUtilize the power of Pixel Bender for image processingExport 3D models from 3D modeling applications such as 3ds Max, Blender, MilkShape, and Sketch-Up Get practical tips on achieving maximum performance in your 3D applications')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1008, '2746062399', 'Apache Tomcat 7', 'http://ecx.images-amazon.com/images/I/5159Mv-pl3L._SL160_.jpg', 3, 9.99, null, null, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1009, '2746086336', 'Apache Tomcat 8', 'http://ecx.images-amazon.com/images/I/413b2IfJmsL._SL160_.jpg', 5, 9.99, null, null,  'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1010, '1492201448', 'Apache TomEE Cookbook', 'http://ecx.images-amazon.com/images/I/61fIAAa6poL._SL160_.jpg', 2, 35.00, 196, DATE '2013-08-21',  'This cookbook is written for learning TomEE internals by server administrators and Java EE developers. Administrators will learn how to configure TomEE for using it in a production environment. Developers will learn how to create web applications using the Java™ Platform, Enterprise Edition 6 (Java EE 6) technologies provided by TomEE runtime and to deploy these enterprise applications into TomEE. Chapters of the book: Chapter 1 : Introduction Chapter 2 : Getting Started Chapter 3 : TomEE Architecture Chapter 4 : TomEE Web Server, Apache Tomcat Chapter 5 : TomEE EJB Lite Server, Apache OpenEJB Chapter 6 : Deployments in TomEE Chapter 7 : JavaEE Technologies Used in TomEE Chapter 8 : TomEE Security Chapter 9 : JNDI Naming In TomEE Chapter 10 : Transactions in TomEE Chapter 11 : TomEE Clustering Features Chapter 12 : TomEE WebSocket Protocol Support Chapter 13 : TomEE GUI Chapter 14 : Testing Techniques in TomEE Chapter 15 : TomEE Embedded Usage Chapter 16 : Useful References Chapter 17 : ASF License')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1011, '148885162X', 'Application Server 131', 'http://ecx.images-amazon.com/images/I/51s-9pleKyL._SL160_.jpg', 5, 29.95, 60, DATE '2014-06-10', 'A fresh Application Server approach. An program server may be whichever a code model that delivers a simplified tactic to generating an application-server effectuation, short of heed to what the program purposes are, either the server part of a concrete effectuation example. In whichever instance, the server''s purpose is committed to the effectual implementation of methods (programs, procedures, scripts) for helping its affected applications. There has never been a Application Server Guide like this. It contains 131 answers, much more than you can imagine; comprehensive answers and extensive details and references, with insights that have never before been offered in print. Get the information you need--fast! This all-embracing guide offers a thorough view of key knowledge and detailed insight. This Guide introduces what you want to know about Application Server. A quick look inside of some of the subjects covered: Web application server - URL mapping, Web application server - Web services, WebSphere Application Server - Version 8.5, Comparison of application servers - Haskell, Application server Advantages of application servers, Oracle Application Server 10g, WebSphere Application Server - Version 6.0, Application server Other platforms, Oracle Application Server 10g - Components, Base4 Application Server - History, Application server - Advantages of application servers, Application server - Java application servers, Comparison of application servers - Ruby, Web application server - Ajax, WebSphere Application Server for z/OS - WAS z/OS Platform Exploitation, Comparison of application servers - Smalltalk, TNAPS Application Server - Hosting, WebLogic Application Server, Sun Java System Application Server - Releases, WebSphere Application Server - Version 7.0, WebLogic Application Server - Components, SAP NetWeaver Application Server - Authentication, and much more…')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1012, '1782170561', 'Applied SOA Patterns on the Oracle Platform', 'http://ecx.images-amazon.com/images/I/51eaKOFmswL._SL160_.jpg', 5, 59.99, 498, DATE '2014-08-08','Fuse together your pragmatic Oracle experience with abstract SOA patterns with this practical guide About This BookDemonstrates how to approach the Big Problem, decompose it into manageable pieces and assess the feasibility of SOA methodology to build the entire solution using real-life examples Explores out the links between SOA Principles, Open Standards and SOA Frameworks with clear standards implementation roadmaps A collection of "lessons learned" from various implementations undertaken over the years, but the book can also be used as a textbook of preparation for SOA Professional/Architect exams (from SOA school) Who This Book Is ForApplied SOA Patterns on the Oracle Platformis aimed at architects practicing SOA or traditional integration, and also at technical team leaders implementing Oracle Fusion under SCRUM or WF methodology. What You Will LearnUnderstand the links between SOA principles, standards, and patterns in relation to the service characteristics you want to achieve Identify the most suitable SOA tools for your task from the Oracle Fusion stackDeploy your Business Rules in a centralized, controllable, and manageable faction to support dynamic service compositions Implement flexible taxonomy for Enterprise Service Repository, service monitoring, and automated service recovery Identify the SOA security risks and mitigate them with minimal impact on your composition''s performance Use the SOA design pattern for preparing your Enterprise for the cloudBalance your long-running and fast-running service compositions between different service frameworks and service layers In DetailFor architects and developers, to solve business problems in the most efficient way possible, the experience of building complex collaboration and messaging systems in different industries combined with the architectural knowledge of practically realizing SOA patterns is what is required. Applied SOA Patterns on the Oracle Platform is dedicated to problem solving with the application of common patterns. This book will help you face all the challenges that even seasoned architects can struggle with. It begins with a descriptive introduction to SOA principles and standards. Next, it explores how to balance the principles in different SOA frameworks and where you can try for standard implementations. Security aspects are covered in a chapter dedicated to the topic. The aim of Applied SOA Patterns on the Oracle Platform is to enable you to service working components, suitable for all types of SOA implementation based on Oracle tools.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1013, '3831141495', 'Architektur von Fuzzy-Informationssystemen', 'http://ecx.images-amazon.com/images/I/51jK1DkFoyL._SL160_.jpg', 4, 51.50, 352, DATE '2002-12-18', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1014, '0071809252', 'Java: A Beginner''s Guide, Sixth Edition', 'http://ecx.images-amazon.com/images/I/51bSQY6AZhL._SL160_.jpg', 7, 40.00, 728, DATE '2014-05-06', 'Essential Java Programming Skills--Made Easy!Fully updated for Java Platform, Standard Edition 8 (Java SE 8),Java: A Beginner''s Guide, Sixth Edition gets you started programming in Java right away. Bestselling programming author Herb Schildt begins with the basics, such as how to create, compile, and run a Java program. He then moves on to the keywords, syntax, and constructs that form the core of the Java language. This Oracle Press resource also covers some of Java''s more advanced features, including multithreaded programming, generics, and Swing. Of course, new Java SE 8 features such as lambda expressions and default interface methods are described. An introduction to JavaFX, Java''s newest GUI, concludes this step-by-step tutorial. The book''s code examples are available FREE for download.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1015, '0071817913', 'jQuery: A Beginner''s Guide', 'http://ecx.images-amazon.com/images/I/41qI3mRZp6L._SL160_.jpg', 2, 40.00, 376, DATE '2014-04-01', 'Essential Skills--Made Easy!Learn the fundamentals of jQuery programming in no time. jQuery: A Beginner''s Guide starts with the basics--from including the library in an HTML document to element selection, event handling, and CSS style manipulation. Next, it''s on to JavaScript and the DOM, animation and effects, the Event object, and form validation. The book then delves into AJAX and plugins and covers more advanced techniques such as debugging and unit testing. Get started with jQuery right away using this fast-paced tutorial! Ready-to-use code at www.mhprofessional.com/computingdownload')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1016, '0992133041', 'Java: A Beginner''s Tutorial', 'http://ecx.images-amazon.com/images/I/41qOj-qckNL._SL160_.jpg', 3, 32.99, 720, DATE '2015-01-01', 'Fully updated for Java SE 8, this book covers the most important Java programming topics that you need to master to be able to learn other technologies yourself. By fully understanding all the chapters and doing the exercises you’ll be able to perform an intermediate Java programmer’s daily tasks quite well. This book offers the three subjects that a professional Java programmer must be proficient in: - Java as a programming language; - Object-oriented programming (OOP) with Java; - Java core libraries. Table of Contents Introduction Chapter 1: Getting Started Chapter 2: Language Fundamentals Chapter 3: Statements Chapter 4: Objects and Classes Chapter 5: Core Classes Chapter 6: Arrays Chapter 7: Inheritance Chapter 8: Error Handling Chapter 9: Working with Numbers Chapter 10: Interfaces and Abstract Classes Chapter 11: Polymorphism Chapter 12: Enums Chapter 13: Working with Dates and Times Chapter 14: The Collections Framework Chapter 15: Generics Chapter 16: Input/Output Chapter 17: Annotations Chapter 18: Nested and Inner Classes Chapter 19: Lambda Expressions Chapter 20: Working with Streams Chapter 21: Java Database Connectivity Chapter 22: Swing Basics Chapter 23: Swinging Higher Chapter 24: Applets Chapter 25: Introduction to JavaFX Chapter 26: JavaFX with FXML Chapter 27: Java Threads Chapter 28: Concurrency Utilities Chapter 29: Internationalization Chapter 30: Java Networking Chapter 31: Security Chapter 32: Java Web Applications Chapter 33: JavaServer Pages Chapter 34: Javadoc Chapter 35: Application Deployment Appendix A: javac Appendix B: java Appendix C: jar Appendix D: NetBeans Appendix E: Eclipse Answers Index')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1017, '9781118017', 'Beginning Android Application Development', 'http://ecx.images-amazon.com/images/I/51-qKJitSbL._SL160_.jpg', 4, 39.99, 448, DATE '2011-04-19', 'Create must-have applications for the latest Android OSThe Android OS is a popular and flexible platform for many of today''s most in-demand mobile devices. This full-color guide offers you a hands-on introduction to creating Android applications for the latest mobile devices. Veteran author Wei Meng Lee accompanies each lesson with real-world examples to drive home the content he covers. Beginning with an overview of core Android features and tools, he moves at a steady pace while teaching everything you need to know to successfully develop your own Android applications. Explains what an activity is and reviews its lifecycleZeroes in on customizing activities by applying styles and themesLooks at the components of a screen, including LinearLayout, AbsoluteLayout, and RelativeLayout, among others Details ways to adapt to different screen sizes and adjust display orientationReviews the variety of views such as TextView, ProgressBar, TimePicker, and moreBeginning Android Application Development pares down the most essential steps you need to know so you can start creating Android applications today.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1018, '1430246936', 'Beginning EJB 3 (Java EE 7 Edition)', 'http://ecx.images-amazon.com/images/I/51jhGIBW3ZL._SL160_.jpg', 2, 9.99, 440, DATE '2014-05-27', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1019, '1931182313', 'Beginning EJB 3, Java EE, 7th 2nd', 'http://ecx.images-amazon.com/images/I/51jhGIBW3ZL._SL160_.jpg', 3, 9.99, null, null, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1020, '1931182314', 'Beginning EJB 3, Java EE, 7th ed.', 'http://ecx.images-amazon.com/images/I/51jhGIBW3ZL._SL160_.jpg', 4, 9.99, 421, DATE '2013-01-01', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1021, '1430246928', 'Beginning EJB 3, Java EE, 7th Edition', 'http://ecx.images-amazon.com/images/I/51bamFsgY9L._SL160_.jpg', 6, 49.99, 452, DATE '2013-05-08', 'Targeted at Java and Java EE developers both with and without prior Enterprise JavaBeans (EJB) experience, Beginning EJB 3, Java EE 7 Edition will guide you in building enterprise software based on the latest cross-platform industry standards. Learn how to use the EJB 3 API to develop powerful, standards-based backend business logic for creating the complex enterprise applications that run today''s transactions and more. With over 20 years of combined EJB experience, the authors offer many practical insights into designing and coding EJB components in combination with related Java EE technologies. EJB has made huge advances in the ease of building enterprise, server-side Java components and business logic development, and has drastically simplified programming models and design patterns. Use this book to harness that power and take your enterprise Java development to the next level.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1022, '1931182315', 'Beginning EJB 3, Java EE, 7th Edition 2nd', 'http://ecx.images-amazon.com/images/I/51zJ1X%2BhaLL._SL160_.jpg', 4, 9.99, 43, DATE '2005-09-17', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1023, '1931182316', 'Beginning EJB 3, Java EE, 7th Edition', 'http://ecx.images-amazon.com/images/I/51jhGIBW3ZL._SL160_.jpg', 8, 9.99, null, null, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1024, '1931182317', 'Beginning EJB 3, Java EE, 7th Edition', 'http://ecx.images-amazon.com/images/I/51zJ1X%2BhaLL._SL160_.jpg', 1, 9.99, 39, DATE '2013-05-23', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1025, '1931182318', 'Beginning Ejb 3: Java Ee 7 Edition', 'http://ecx.images-amazon.com/images/I/51UWE5ZERlL._SL160_.jpg', 6, 9.99, 93, DATE '2004-01-16', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1026, '1931182319', 'Beginning Ejb 3: Java Ee 7 Edition', 'http://ecx.images-amazon.com/images/I/51LujmD8pXL._SL160_.jpg', 1, 9.99, null, null, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1027, '1430239093', 'Beginning Java 7 (Expert''s Voice in Java)', 'http://ecx.images-amazon.com/images/I/41imSrpwTsL._SL160_.jpg', 6, 44.99, 920, DATE '2011-11-22', 'Beginning Java 7 guides you through version 7 of the Java language and a wide assortment of platform APIs. New Java 7 language features that are discussed include switch-on-string and try-with-resources. APIs that are discussed include Threading, the Collections Framework, the Concurrency Utilities, Swing, Java 2D, networking, JDBC, SAX, DOM, StAX, XPath, JAX-WS, and SAAJ. This book also presents an introduction to Android app development so that you can apply some of its knowledge to the exciting world of Android app development. This book presents the following table of contents:Chapter 1 introduces you to Java and begins to cover the Java language by focusing on fundamental concepts such as comments, identifiers, variables, expressions, and statements. Chapter 2 continues to explore this language by presenting all of its features for working with classes and objects. You learn about features related to class declaration and object creation, encapsulation, information hiding, inheritance, polymorphism, interfaces, and garbage collection. Chapter 3 focuses on the more advanced language features related to nested classes, packages, static imports, exceptions, assertions, annotations, generics, and enums. Additional chapters introduce you to the few features not covered in Chapters 1 through 3.Chapter 4 largely moves away from covering language features (although it does introduce class literals and strictfp) while focusing on language-oriented APIs. You learn about Math, StrictMath, Package, Primitive Type Wrapper Classes, Reference, Reflection, String, StringBuffer and StringBuilder, Threading, BigDecimal, and BigInteger in this chapter. Chapter 5 begins to explore Java''s utility APIs by focusing largely on the Collections Framework. However, it also discusses legacy collection-oriented APIs and how to create your own collections. Chapter 6 continues to focus on utility APIs by presenting the concurrency utilities along with the Objects and Random classes. Chapter 7 moves you away from the command-line user interfaces that appear in previous chapters and toward graphical user interfaces. You first learn about the Abstract Window Toolkit foundation, and then explore the Java Foundation Classes in terms of Swing and Java 2D. Appendix C explores Accessibility and Drag and Drop.Chapter 8 explores filesystem-oriented I/O in terms of the File, RandomAccessFile, stream, and writer/reader classes. Chapter 9 introduces you to Java''s network APIs (e.g., sockets). It also introduces you to the JDBC API for interacting with databases along with the Java DB database product. Chapter 10 dives into Java''s XML support by first presenting an introduction to XML (including DTDs and schemas). It next explores the SAX, DOM, StAX, XPath, and XSLT APIs. It even briefly touches on the Validation API. While exploring XPath, you encounter namespace contexts, extension functions and function resolvers, and variables and variable resolvers. Chapter 11 introduces you to Java''s support for SOAP-based and RESTful web services. As well as providing you with the basics of these web service categories, Chapter 11 presents some advanced topics, such as working with the SAAJ API to communicate with a SOAP-based web service without having to rely on JAX-WS. You will appreciate having learned about XML in Chapter 10 before diving into this chapter. Chapter 12 helps you put to use some of the knowledge you''ve gathered in previous chapters by showing you how to use Java to write an Android app''s source code. This chapter introduces you to Android, discusses its architecture, shows you how to install necessary tools, and develops a simple app. Appendix A presents the solutions to the programming exercises that appear near the end of Chapters 1 through 12. Appendix B introduces you to Java''s Scripting API along with Java 7''s support for dynamically typed languages. Appendix C introduces you to additional APIs and architecture topics. Examples include Accessibility, classloaders, Console, Drag and Drop, Java Native Interface, and System Tray. Appendix D presents a gallery of significant applications that demonstrate various aspects of Java. Unfortunately, there are limits to how much knowledge can be crammed into a print book. For this reason, Appendixes A, B, C, and D are not included in this book''s pages. Instead, these appendixes are freely distributed as PDF files. Appendixes A and B are bundled with the book''s associated code file at the Apress website (http://www.apress.com/9781430239093). Appendixes C and D are bundled with their respective code files at my TutorTutor.ca website (http://tutortutor.ca/cgi-bin/makepage.cgi?/books/bj7).What you’ll learnThe entire Java language, including Java 7-specific features such as switch on string, try-with-resources, final rethrow, multicatch, and SafeVarargs A huge assortment of Java 7 APIs, beginning with those APIs oriented toward the language itself, and including Java 7-specific APIs such as the Fork/Join Framework, Objects, and JLayer Various Java 7 tools, starting with the javac compiler and java application launcherHow to create user interfaces, working with web services, and a whole lot moreThe basics of getting started with Android app developmentWho this book is forThis book targets the following groups of developers:Newcomers, skilled (to some degree) in other programming languages but with no previous exposure to Java Intermediate Java developers, skilled in the fundamentals of Java prior to Java 7 and looking to increase their understanding of Java 7 language/API changes All developers looking beyond standard Java, who want to leverage Java 7 to create mobile apps via Android Even advanced Java developers may find a few items of interest.Table of ContentsGetting Started with JavaDiscovering Classes and ObjectsExploring Advanced Language FeaturesTouring Language and Utility APIsCollecting ObjectsTouring Additional Utility APIsCreating and Enriching Graphical User InterfacesInteracting with FilesystemsInteracting with Networks and DatabasesParsing, Creating, and Transforming XML DocumentsWorking with Web ServicesJava 7 Meets Android')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1028, '1590594703', 'Beginning Java EE 5: From Novice to Professional', 'http://ecx.images-amazon.com/images/I/51hED8w6dIL._SL160_.jpg', 1, 49.99, 672, DATE '2005-11-01', 'Sun’s new lightweight Java Enterprise Edition (EE) 5 is an extremely powerful platform for developing enterprise-level Java-based applications, primarily for the server. This book shows you how to harness that power, examining how the pieces of the new Java EE 5 platform fit together, including the redesigned annotations-driven EJB 3 spec as well as JavaServer Faces (JSF), integrated into the platform for the first time. Hands-on tutorials are also included, along with clear explanations and working code examples. You will grow to take the next step—from writing client-side desktop applications to writing enterprise applications. You will also learn how to use the individual APIs and tools in the Java EE 5 platform, and how to merge these to create your own enterprise applications.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1029, '1430219548', 'Beginning Java EE 6: From Novice to Professional', 'http://ecx.images-amazon.com/images/I/51RDbgIIVeL._SL160_.jpg', 2, 44.99, 500, DATE '2009-05-24', 'Java Enterprise Edition (Java EE) continues to be one of the leading Java technologies and platforms from Oracle (previously Sun). Beginning Java EE 6 Platform with GlassFish 3, Second Edition is this first tutorial book on the final (RTM) version of the Java EE 6 Platform. Step by step and easy to follow, this book describes many of the Java EE 6 specifications and reference implementations, and shows them in action using practical examples. This book uses the new version of GlassFish 3 to deploy and administer the code examples. Written by an expert member of the Java EE 6 specification request and review board in the Java Community Process (JCP), this book contains the best information possible, from an expert’s perspective on enterprise Java technologies. What you’ll learnGet started with the final version of the Java EE 6 Platform.Explore and use the new EJB 3.1 and JPA 2.0 APIs from entities to session beans to message-driven beans, and more. Discover the web tier development APIs including JSPs, JSTL, and Expression Language, and especially JSF 2.0 and Facelets. Uncover the new web services, RESTful services, and more available in Java EE 6.Create dynamic user interfaces for your enterprise and transactional Java applications.Who this book is forThis book is for advanced Java programmers as well as Java EE 6 beginners. Architects will also find information about how to layer their Java EE applications. Table of ContentsJava EE 6 at a GlanceJava PersistenceObject-Relational MappingManaging Persistent ObjectsCallbacks and ListenersEnterprise Java BeansSession Beans and the Timer ServiceCallbacks and InterceptorsTransactions and SecurityJavaServer FacesPages and ComponentsProcessing and NavigationSending MessagesSOAP Web ServicesRESTful Web Services')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1030, '143022889X', 'Beginning Java EE 6 with GlassFish 3', 'http://ecx.images-amazon.com/images/I/51baRLwlufL._SL160_.jpg', 7, 49.99, 536, DATE '2010-08-23', 'Java Enterprise Edition (Java EE) continues to be one of the leading Java technologies and platforms from Oracle (previously Sun). Beginning Java EE 6 Platform with GlassFish 3, Second Edition is this first tutorial book on the final version of the Java EE 6 Platform. Step by step and easy to follow, this book describes many of the Java EE 6 specifications and reference implementations, and shows them in action using practical examples. This book uses the new version of GlassFish 3 to deploy and administer the code examples. Written by an expert member of the Java EE 6 specification request and review board in the Java Community Process (JCP), this book contains the best information possible, from an expert’s perspective on enterprise Java technologies. What you’ll learnGet started with the final version of the Java EE 6 Platform.Explore and use the EJB 3.1 and JPA 2.0 APIs from entities to session beans to message driven beans, and more. Discover web tier development APIs including JSPs, JSTL, and Expression Language, and especially the new JSF 2.0 and Facelets. Uncover the web services, RESTful services, and more available in Java EE 6.Create dynamic user interfaces for your enterprise and transactional Java applications.Who this book is forThis book is for advanced Java programmers as well as Java EE 6 beginners. Architects will also find information about how to layer their Java EE applications. Table of ContentsJava EE 6 at a GlanceJava PersistenceObject-Relational MappingManaging Persistent ObjectsCallbacks and ListenersEnterprise Java BeansSession Beans and the Timer ServiceCallbacks and InterceptorsTransactions and SecurityJavaServer FacesPages and ComponentsProcessing and NavigationSending MessagesSOAP Web ServicesRESTful Web Services')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1031, '8132214080', 'Beginning Java EE 7', 'http://ecx.images-amazon.com/images/I/51amFVZbyKL._SL160_.jpg', 0, 9.99, 29, DATE '2013-01-01', 'Java enterprise edition (java ee) continues to be one of the leading java technologies and platforms. Beginning java ee 7 is the first tutorial book on java ee 7. Step by step and easy to follow, this book describes many of the java ee 7 specifications and reference implementations and shows them in action using practical examples. This definitive book also uses the newest version of glassfish to deploy and administer the code examples. Java ee 7 environment context and dependency injection bean validation java persistence api object-relational mapping managing persistent object enterprise java beans callbacks, timer service and authorization interceptors and transactions javaserver faces processing and navigation xml and json messaging soap web services restful web service table of contents: introduction to the ejb 3 architecture session beans entities and the java persistence api advanced persistence features message-driven beans ejb and web services integrating session beans, entities, message-driven beans and web services transaction management ejb performance and testing context and dependency injection (cdi) packaging and deployment ejb client applications ejb runtime environments')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1032, '1931182320', 'Beginning Java EE 7 (Expert Voice in Java)', 'http://ecx.images-amazon.com/images/I/51amFVZbyKL._SL160_.jpg', 0, 9.99, null, null, 'Java enterprise edition (java ee) continues to be one of the leading java technologies and platforms. Beginning java ee 7 is the first tutorial book on java ee 7. Step by step and easy to follow, this book describes many of the java ee 7 specifications and reference implementations and shows them in action using practical examples. This definitive book also uses the newest version of glassfish to deploy and administer the code examples. Java ee 7 environment context and dependency injection bean validation java persistence api object-relational mapping managing persistent object enterprise java beans callbacks, timer service and authorization interceptors and transactions javaserver faces processing and navigation xml and json messaging soap web services restful web service table of contents: introduction to the ejb 3 architecture session beans entities and the java persistence api advanced persistence features message-driven beans ejb and web services integrating session beans, entities, message-driven beans and web services transaction management ejb performance and testing context and dependency injection (cdi) packaging and deployment ejb client applications ejb runtime environments')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1033, '1931182321', 'Beginning Java EE 7 (Expert Voice in Java)', 'http://ecx.images-amazon.com/images/I/51amFVZbyKL._SL160_.jpg', 0, 9.99, 339, DATE '2005-09-17', 'Java enterprise edition (java ee) continues to be one of the leading java technologies and platforms. Beginning java ee 7 is the first tutorial book on java ee 7. Step by step and easy to follow, this book describes many of the java ee 7 specifications and reference implementations and shows them in action using practical examples. This definitive book also uses the newest version of glassfish to deploy and administer the code examples. Java ee 7 environment context and dependency injection bean validation java persistence api object-relational mapping managing persistent object enterprise java beans callbacks, timer service and authorization interceptors and transactions javaserver faces processing and navigation xml and json messaging soap web services restful web service table of contents: introduction to the ejb 3 architecture session beans entities and the java persistence api advanced persistence features message-driven beans ejb and web services integrating session beans, entities, message-driven beans and web services transaction management ejb performance and testing context and dependency injection (cdi) packaging and deployment ejb client applications ejb runtime environments')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1034, '1931182322', 'Beginning Java EE 7 (Expert Voice in Java)', 'http://ecx.images-amazon.com/images/I/51amFVZbyKL._SL160_.jpg', 0, 9.99, null, null, 'Java enterprise edition (java ee) continues to be one of the leading java technologies and platforms. Beginning java ee 7 is the first tutorial book on java ee 7. Step by step and easy to follow, this book describes many of the java ee 7 specifications and reference implementations and shows them in action using practical examples. This definitive book also uses the newest version of glassfish to deploy and administer the code examples. Java ee 7 environment context and dependency injection bean validation java persistence api object-relational mapping managing persistent object enterprise java beans callbacks, timer service and authorization interceptors and transactions javaserver faces processing and navigation xml and json messaging soap web services restful web service table of contents: introduction to the ejb 3 architecture session beans entities and the java persistence api advanced persistence features message-driven beans ejb and web services integrating session beans, entities, message-driven beans and web services transaction management ejb performance and testing context and dependency injection (cdi) packaging and deployment ejb client applications ejb runtime environments')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1035, '1931182323', 'Beginning Java EE 7', 'http://ecx.images-amazon.com/images/I/51amFVZbyKL._SL160_.jpg', 0, 9.99, 92, DATE '2013-07-16', 'Java enterprise edition (java ee) continues to be one of the leading java technologies and platforms. Beginning java ee 7 is the first tutorial book on java ee 7. Step by step and easy to follow, this book describes many of the java ee 7 specifications and reference implementations and shows them in action using practical examples. This definitive book also uses the newest version of glassfish to deploy and administer the code examples. Java ee 7 environment context and dependency injection bean validation java persistence api object-relational mapping managing persistent object enterprise java beans callbacks, timer service and authorization interceptors and transactions javaserver faces processing and navigation xml and json messaging soap web services restful web service table of contents: introduction to the ejb 3 architecture session beans entities and the java persistence api advanced persistence features message-driven beans ejb and web services integrating session beans, entities, message-driven beans and web services transaction management ejb performance and testing context and dependency injection (cdi) packaging and deployment ejb client applications ejb runtime environments')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1036, '1931182324', 'Beginning Java EE 7 1st Edition', 'http://ecx.images-amazon.com/images/I/51amFVZbyKL._SL160_.jpg', 0, 9.99, null, null, 'Java enterprise edition (java ee) continues to be one of the leading java technologies and platforms. Beginning java ee 7 is the first tutorial book on java ee 7. Step by step and easy to follow, this book describes many of the java ee 7 specifications and reference implementations and shows them in action using practical examples. This definitive book also uses the newest version of glassfish to deploy and administer the code examples. Java ee 7 environment context and dependency injection bean validation java persistence api object-relational mapping managing persistent object enterprise java beans callbacks, timer service and authorization interceptors and transactions javaserver faces processing and navigation xml and json messaging soap web services restful web service table of contents: introduction to the ejb 3 architecture session beans entities and the java persistence api advanced persistence features message-driven beans ejb and web services integrating session beans, entities, message-driven beans and web services transaction management ejb performance and testing context and dependency injection (cdi) packaging and deployment ejb client applications ejb runtime environments')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1037, '1931182325', 'Beginning Java EE 7', 'http://ecx.images-amazon.com/images/I/51amFVZbyKL._SL160_.jpg', 0, 9.99, null, null, 'Java enterprise edition (java ee) continues to be one of the leading java technologies and platforms. Beginning java ee 7 is the first tutorial book on java ee 7. Step by step and easy to follow, this book describes many of the java ee 7 specifications and reference implementations and shows them in action using practical examples. This definitive book also uses the newest version of glassfish to deploy and administer the code examples. Java ee 7 environment context and dependency injection bean validation java persistence api object-relational mapping managing persistent object enterprise java beans callbacks, timer service and authorization interceptors and transactions javaserver faces processing and navigation xml and json messaging soap web services restful web service table of contents: introduction to the ejb 3 architecture session beans entities and the java persistence api advanced persistence features message-driven beans ejb and web services integrating session beans, entities, message-driven beans and web services transaction management ejb performance and testing context and dependency injection (cdi) packaging and deployment ejb client applications ejb runtime environments')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1038, '1931182326', 'Beginning Java EE 7', 'http://ecx.images-amazon.com/images/I/51amFVZbyKL._SL160_.jpg', 0, 9.99, null, null, 'Java enterprise edition (java ee) continues to be one of the leading java technologies and platforms. Beginning java ee 7 is the first tutorial book on java ee 7. Step by step and easy to follow, this book describes many of the java ee 7 specifications and reference implementations and shows them in action using practical examples. This definitive book also uses the newest version of glassfish to deploy and administer the code examples. Java ee 7 environment context and dependency injection bean validation java persistence api object-relational mapping managing persistent object enterprise java beans callbacks, timer service and authorization interceptors and transactions javaserver faces processing and navigation xml and json messaging soap web services restful web service table of contents: introduction to the ejb 3 architecture session beans entities and the java persistence api advanced persistence features message-driven beans ejb and web services integrating session beans, entities, message-driven beans and web services transaction management ejb performance and testing context and dependency injection (cdi) packaging and deployment ejb client applications ejb runtime environments')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1039, '1430246235', 'Beginning JSP, JSF and Tomcat: Java Web Development', 'http://ecx.images-amazon.com/images/I/513ptwcd6LL._SL160_.jpg', 6, 39.99, 436, DATE '2012-09-24', 'Start building Java–based web applications now, even if you’re a complete newcomer to Java. Comprehensive and example–driven, Beginning JSP, JSF, and Tomcat: Java Web Development, Second Edition is all you need to develop dynamic Java-based web applications using JSP, connect to databases with JSF, and put them into action using the world’s most popular open source Java web server, Apache Tomcat. A comprehensive introduction to JavaServer Pages (JSP), JavaServer Faces (JSF), and the Apache Tomcat web application server Key concepts made easy to grasp by numerous working examples and a walkthrough of the development of a complete e-commerce project Written for professionals by a practicing Java web application professional and expertWhat you’ll learnDevelop dynamic web applications using the popular JavaServer Pages (JSP) technologyConnect to SQL–based databases, like MySQL, from JSP/JSF–based web pagesIntegrate XML and HTML markup into your Java web page or Java-based web applicationBuild an e–commerce web site using sound design principlesDeploy web applications using the world’s most popular and widely adopted open source Java web application server, Apache Tomcat Includes HTML5 coverageWho this book is forThis book is ideal for anyone new to Java who wants to start developing Java web applications, but also offers a valuable refresher to Java web developers who are new to the latest JSP, JSF, and Tomcat standards. Table of ContentsIntroducing JSP and TomcatJSP ElementsJSP Application ArchitecturesJSP in ActionXML and JSPJSP and DatabasesJava Server Faces 2.2JSF and EshopTomcat 7EshopAppendix A - The Web PageAppendix B - SQLAppendix C - Abbreviation and Acronyms')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1040, '1118892925', 'Beginning Spring', 'http://ecx.images-amazon.com/images/I/51cxSKER6RL._SL160_.jpg', 4, 45.00, 480, DATE '2015-02-17', 'Get up to speed quickly with this comprehensive guide to SpringBeginning Spring is the complete beginner''s guide to Java''s most popular framework. Written with an eye toward real-world enterprises, the book covers all aspects of application development within the Spring Framework. Extensive samples within each chapter allow developers to get up to speed quickly by providing concrete references for experimentation, building a skillset that drives successful application development by exploiting the full capabilities of Java''s latest advances.Spring provides the exact toolset required to build an enterprise application, and has become the standard within the field. This book covers Spring 4.0, which contains support for Java 8 and Java EE 7. Readers begin with the basics of the framework, then go on to master the most commonly used tools and fundamental concepts inherent in any Spring project. The book emphasizes practicality and real-world application by addressing needs such as meeting customer demand and boosting productivity, and by providing actionable information that helps developers get the most out of the framework. Topics include: * Dependency Injection and Inversion of Control * Unit testing Spring enabled Web Applications * Data Access using Spring JDBC and ORM support along with Transaction Management * Building Web Applications and RESTful Web Services with Spring MVC * Securing Web Applications using Spring Security * Spring Expression Language with its Extensive Features * Aspect Oriented Programming Facilities Provided by Spring AOP * Caching with 3rd Party Cache Providers Support * The Best of the Breed: Spring 4.0The information is organized and structured an ideal way for students and corporate training programs, and explanations about inner workings of the framework make it a handy desk reference even for experienced developers. For novices, Beginning Spring is invaluable as a comprehensive guide to the real-world functionality of Spring.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1041, '1430219580', 'Pro WebSphere Application Server 7', 'http://ecx.images-amazon.com/images/I/51wU9W4XQWL._SL160_.jpg', 8, 74.99, 392, DATE '2009-06-29', 'Pro (IBM) WebSphere Application Server 7 Internals covers the internal architecture and implementation of the WebSphere Application Server (WAS) version 7 product set and how other IBM products extend it. It presents information to enable administrators, developers, and architects to learn about the aspects of WAS that apply to them: Administrators will come to understand how the WAS7 environment functions to best optimize it for their environment, and what to do when things go wrong. Developers will learn to extend the functionality in the base WAS product.Architects will see how the WAS product underpins the IBM offerings to fit in an enterprise. What you’ll learnExplore the internal architecture that makes up a modern high–end application server and how other products extend it to provide additional functionality. Implement, deploy, and serve Java EE 5 and other enterprise Java applications.See how the environment all fits together so you can make the best use of the WebSphere Application Server services. Explore how all this works with simple, important code examples.Troubleshoot problems when the inevitable crisis occurs.Who this book is forJava architects wanting to understand how a modern application server worksJava developers targeting the JEE and the WAS7 implementation in particularWAS7 administrators wanting to understand how to optimize the environment for their application behavior and what underpins the errors in the logs when things do go wrong Software architecture students learning how modern system software is architected and implemented Table of ContentsWAS Architecture Outline from 50,000 FeetThe IBM J9 Java Virtual Machine for Java 6Eclipse/OSGi RuntimeUnderlying WAS RuntimeThe EJB ContainerThe Web ContainerWeb ServicesService Integration BusHigh AvailabilityLoad Balancing and ScalabilityConfigurationRelated Products')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1042, '1590599217', 'Pro Spring 2.5', 'http://ecx.images-amazon.com/images/I/51QuqIMmasL._SL160_.jpg', 4, 49.99, 920, DATE '2011-04-06', 'The move from so–called heavyweight architectures, such as Enterprise JavaBeans, toward lightweight frameworks, like Spring, has not stopped since Pro Spring was published by Rob Harrop and Jan Machacek in 2005; in fact, it’s picked up pace. The Spring Framework remains the leader in this move and provides a platform on which you can build your own applications and services. Pro Spring 2.5 covers the new features of Spring 2.5, but moreover, it is focused on the best practices and core standards of contemporary Spring development. As members of the Spring development team at Cake Solutions, the author team brings extensive practical experience gained from working with Spring since version 1.0 and delivering successful systems on top of it. Learn the approaches that really matter in a professional, enterprise–level environment, so you can apply them to your projects today, safe in the knowledge that they just work. What you’ll learnDiscover how to use Spring’s Inversion of Control (IoC)Explore Spring’s excellent aspect–oriented programming (AOP) support, including Spring 2.5’s new @AspectJ feature Find out how to use Spring’s dynamic scripting language features, Spring design patterns, and performance tuning in Spring applications Learn what really works in real–world Spring developmentUnderstand Spring’s support for the JDBC framework, Hibernate, the Quartz enterprise scheduler, declarative transaction management, and much more Master Spring’s well–designed MVC framework and add AJAX to your Spring web applications to create flexible, efficient, and manageable applications using the best techniques available Who this book is forEnterprise Java, J2EE/Java EE developers looking to learn and use the Spring meta-framework, the now growing, leading alternative to J2EE/Java EE.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1043, '1449345158', 'Building Modular Cloud Apps with OSGi', 'http://ecx.images-amazon.com/images/I/51aq354-msL._SL160_.jpg', 3, 24.99, 210, DATE '2013-09-22', 'If you’re an experienced Java developer in the enterprise, this practical, hands-on book shows you how to use OSGi to design, develop, and deploy modular cloud applications. You’ll quickly learn how to use OSGi, through concise code examples and a set of best practices derived from the authors’ experiences with real-world projects. Through the course of this book, you’ll learn to develop modern web applications with tools and techniques such as RESTful Web Services, NoSQL, provisioning, elasticity, Auto Scaling, hotfixes, and automatic failover. Code samples are available from GitHub. Work with dynamic OSGi services to create modular applicationsExplore the basics of OSGi bundles and modular application designLearn advanced topics, including semantic versioning, integration testing, and configuring components Understand OSGi pitfalls, anti-patterns, and features you should avoidCreate a modular architecture for cloud-based web applicationsDiscover how maintainability, extensibility, scalability, and testability are affected by modular design Get a look at various options for creating web applications with a modular approachInteract with persistent storage services, including relational databases and NoSQLExamine alternatives for deploying modular applications to the cloud')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1044, '1743042078', 'Business Service Management', 'http://ecx.images-amazon.com/images/I/51O3CV7njwL._SL160_.jpg', 8, 939, 160, DATE '2011-01-16',  'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1045, '1931182327', 'Java EE 7 Essentials (1st Edition)', 'http://ecx.images-amazon.com/images/I/513IEgMKqoL._SL160_.jpg', 5, 9.99, 999, DATE '2013-09-21', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1046, '1931182328', 'Java EE 7 with GlassFish 4 Application Server', 'http://ecx.images-amazon.com/images/I/51JYTTaAQaL._SL160_.jpg', 7, 9.99, 129, DATE '2014-04-10', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1047, '1931182329', 'Java EE 7 Development with WildFly', 'http://ecx.images-amazon.com/images/I/51bbP64U%2BtL._SL160_.jpg', 8, 9.99, 1299, DATE '2014-11-25', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1048, '1931182330', 'Java EE 7 Performance Tuning and Optimization', 'http://ecx.images-amazon.com/images/I/41FgF32CLrL._SL160_.jpg', 8, 9.99, 93, DATE '2014-07-10', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1049, '007174116X', 'C# 4.0 The Complete Reference', 'http://ecx.images-amazon.com/images/I/5191Jk63NxL._SL160_.jpg', 6, 52.00, 976, DATE '2010-05-18', 'The Definitive Guide to C# “From using LINQ to covariance and from string formatting to optional arguments, Herb’s update covers all you need to know about using real-world C# 4.0.” ─Michael Howard, Microsoft Corporation Bestselling author Herb Schildt has updated and expanded his classic programming reference to cover C# 4.0--the latest release of this powerful, feature-rich language. Using carefully crafted explanations, insider tips, and hundreds of examples, C# 4.0: The Complete Reference offers in-depth details on all aspects of C#, including keywords, syntax, and core libraries. New C# 4.0 features, such as named and optional arguments, the dynamic type, expanded covariance and contravariance capabilities, and support for parallel programming with the Task Parallel Library (TPL) and PLINQ are also discussed.Perfect for beginners and professional C# programmers alike, this expert resource is written in the clear, crisp, uncompromising style that has made Herb the choice of millions worldwide. Begin mastering C# 4.0 today with help from this authoritative volume!')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1050, '1931182331', 'CDI - Dependency Injection in Java EE 7', 'http://ecx.images-amazon.com/images/I/41oWY8C-RTL._SL160_.jpg', 4, 9.99, 62, DATE '2013-11-19', 'Seit Java EE 6 steht mit der Contexts and Dependency Injection (CDI) eine neue Technologie bereit, die dem Java-Enterprise-Entwickler seineArbeit erleichtert. Mit der Version 7 erlangte die Plattform einige neue Features. Der Arbeitsbereich von CDI ist die Bereitstellung und Verknüpfung von Komponenten und Diensten als Basis für Enterprise-Applikationen.Der shortcut bringt dem Leser die wichtigsten Konzepte von CDI näher.Themen sind unter anderem die Bereitstellung und Injektion von CDI Beans, die Nutzung der Java-EE-Umgebung, die verschiedenen Injektionsmöglichkeiten sowie die Integration anderer Bestandteile von Java EE 7 [wie z. B. Enterprise JavaBeans (EJB) oder Java Server Faces (JSF)]. Dieser shortcut ist eine aktualisierte Neuauflage des shortcuts CDI - Dependency Injection in Java EE 6.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1051, '0071738800', 'NetBeans IDE Programmer Certified Expert Exam Guide', 'http://ecx.images-amazon.com/images/I/51qJ9glfNUL._SL160_.jpg', 3, 49.99, 685, DATE '2010-08-17', 'The Best Fully Integrated Study System AvailableNetBeans IDE Programmer Certified Expert Exam Guide covers what you need to know--and shows you how to prepare--for this challenging exam. Covers all the exam topics, including: General Configurations / Builds and Controls / Java SE Desktop Applications / Java EE Web Applications / Database Connectivity / Source Editor / Refactoring Support / HTTP Server-Side Monitor / Local and Remote Debugging / Testing and Profiling with free online registration: --Bonus downloadable MasterExam practice test')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1052, '0072260882', 'OCP Java SE 6 Programmer Practice Exams', 'http://ecx.images-amazon.com/images/I/51Xdf65-2uL._SL160_.jpg', 7, 38.00, 448, DATE '2008-01-29', 'Don''t Let the Real Test Be Your First Test!Written by two of the lead developers of the Java SE Programmer Exam, OCP Java SE 6 Programmer Practice Exams is filled with more than 260 realistic practice questions to prepare you for this challenging exam. To help you understand this material, in-depth explanations of both the correct and incorrect answers are included for every question. This practical guide covers all official objectives for Exam 310-065 and is the perfect companion toSCJP Sun Certified Programmer for Java 6 Study Guide. Covers all OCP Java SE 6 Programmer exam topics, including:')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1053, '0071765654', 'RHCSA/RHCE Red Hat Linux Certification Study Guide', 'http://ecx.images-amazon.com/images/I/51O5%2BhX4LYL._SL160_.jpg', 4, 60.00, 1072, DATE '2011-07-08', 'The best fully integrated study system available (Exams EX200 and EX300)With hundreds of review questions and complete coverage of performance-based requirements, RHCSA/RHCE Red Hat Linux Certification Study Guide, Sixth Edition covers what you need to know--and shows you how to prepare--for these challenging exams. Covers all the exam topics, including: Virtual Machines and Automated Installations * Fundamental Command Line Skills * RHCSA-Level Security Options * The Boot Process * Linux Filesystem Administration * Package Management * User Administration * RHCSA-Level System Administration * RHCE Security * System Services and SELinux * RHCE Administration * Mail Servers * Samba * File Sharing * DNS, FTP, and Logging Michael Jang, RHCE, LPIC-2, UCP, LCP, MCP, is the author of three previous bestselling editions of RHCE Red Hat Certified Engineer Linux Study Guide and several other books on Linux and professional certification.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1054, '0071490035', 'SCJA Sun Certified Java Associate Study Guide', 'http://ecx.images-amazon.com/images/I/51e6EO5BAdL._SL160_.jpg', 4, 49.99, 590, DATE '2009-08-12', 'The best fully integrated study system available for Exam CX-310-019With hundreds of practice questions and hands-on exercises, SCJA Sun Certified Java Associate Study Guide covers what you need to know--and shows you how to prepare--for this challenging exam. 100% complete coverage of all objectives for SCJA Exam CX-310-019Exam Readiness checklist--you''re ready for the exam when all objectives on the list are checked off Inside the Exam sections highlight key exam topics coveredTwo-Minute Drills for quick reviewSimulated exam questions match the format, tone, topics, and difficulty of the real exam Covers all the exam topics, including:Packaging, Compiling, and Interpreting Java Code * Java Statements * Java Operators and Strings * Classes and Variables * Variable Scope and Class Construction * Classes and their Relationships * Class Inheritance * Object-oriented Principles * Representing Object-oriented Concepts with UML * Platforms and Integration Technologies * Client-side Technologies * Server-side Technologies CD-ROM includes:Complete MasterExam practice testing engine, featuring: One full practice exam; Detailed answers with explanations; Score Report performance assessment tool Electronic book for studying on the goBonus downloadable MasterExam practice test with free online registration')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1055, '1782165606', 'Clojure High Performance Programming', 'http://ecx.images-amazon.com/images/I/41WeivZYDuL._SL160_.jpg', 7, 34.99, 152, DATE '2013-11-20', 'Written for intermediate Clojure developers, this compact guide will raise your expertise several notches. It tackles all the fundamentals of analyzing and optimizing performance in clear, logical chapters. OverviewSee how the hardware and the JVM impact performanceLearn which Java features to use with Clojure, and howDeep dive into Clojure''s concurrency and state primitivesDiscover how to design Clojure programs for performanceIn DetailClojure is a young, dynamic, functional programming language that runs on the Java Virtual Machine. It is built with performance, pragmatism, and simplicity in mind. Like most general purpose languages, Clojure’s features have different performance characteristics that one should know in order to write high performance code. Clojure High Performance Programming is a practical, to-the-point guide that shows you how to evaluate the performance implications of different Clojure abstractions, learn about their underpinnings, and apply the right approach for optimum performance in real-world programs. This book discusses the Clojure language in the light of performance factors that you can exploit in your own code. You will also learn about hardware and JVM internals that also impact Clojure’s performance. Key features include performance vocabulary, performance analysis, optimization techniques, and how to apply these to your programs. You will also find detailed information on Clojure''s concurrency, state-management, and parallelization primitives. This book is your key to writing high performance Clojure code using the right abstraction, in the right place, using the right technique. What you will learn from this bookLearn techniques for achieving numerical performance in ClojureUse Java features in Clojure code for performanceAvoid reflection and boxing with type hintsAnalyze latency using the Criterium libraryUnderstand Clojure''s concurrency and state-management primitives in depthExplore how to design Clojure applications for better performanceApproachThis is a short, practical guide that will teach you everything you need to know to start writing high performance Clojure code. Who this book is written forThis book is ideal for intermediate Clojure developers who are looking to get a good grip on how to achieve optimum performance. You should already have some experience with Clojure and it would help if you already know a little bit of Java. Knowledge of performance analysis and engineering is not required. For hands-on practice, you should have access to Clojure REPL with Leiningen.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1056, '1447151062', 'Cloud Computing: Methods and Practical Approaches', 'http://ecx.images-amazon.com/images/I/41tmQjJXzsL._SL160_.jpg', 7, 149.00, 347, DATE '2013-05-16', 'This book presents both state-of-the-art research developments and practical guidance on approaches, technologies and frameworks for the emerging cloud paradigm. Topics and features: presents the state of the art in cloud technologies, infrastructures, and service delivery and deployment models; discusses relevant theoretical frameworks, practical approaches and suggested methodologies; offers guidance and best practices for the development of cloud-based services and infrastructures, and examines management aspects of cloud computing; reviews consumer perspectives on mobile cloud computing and cloud-based enterprise resource planning; explores software performance testing, open-source cloudware support, and assessment methodologies for modernization, migration and pre-migration; describes emerging new methodologies relevant to the cloud paradigm, and provides suggestions for future developments and research directions.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1057, '2746068419', 'Développez et déployez une application sous Apache Tomcat 7', 'http://ecx.images-amazon.com/images/I/511p2vXqFlL._SL160_.jpg', 6, 9.99, null, null, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1058, '3642243517', 'ENTERprise Information Systems', 'http://ecx.images-amazon.com/images/I/418wVdt4%2BfL._SL160_.jpg', 8, 129.00, 436, DATE '2011-11-11', 'This three-volume-set (C.C.I.S. 219, C.C.I.S. 220, and C.C.I.S. 221) constitutes the refereed proceedings of the International Conference on ENTERprise Information Systems, CENTERIS 2011, held in Vilamoura, Portugal, in September 2011. The approx. 120 revised full papers presented in the three volumes were carefully reviewed and selected from 180 submissions. The papers are organized in topical sections on knowledge society, E.I.S. adoption and design, E.I.S. implementation and impact, E.I.S. applications, social aspects and I.S. in education, I.T./I.S. management, telemedicine and imaging technologies, healthcare information management, medical records and business processes, decision support systems and business intelligence in health and social care contexts, architectures and emerging technologies in healthcare organizations, as well as m-health.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1059, '0782141455', 'Enterprise Java 2, J2EE 1.3 Complete', 'http://ecx.images-amazon.com/images/I/51NNPS50TRL._SL160_.jpg', 2, 24.99, 1008, DATE '2002-11-13', 'Enterprise Java 2, J2EE 1.3 Complete is a one-of-a-kind book--valuable both for its broad content and its low price. Whether you are new to network programming with Java or need to upgrade solid skills to the next level, you''ll get the "must have" information to become proficient with the world''s most popular programming platform. With Enterprise Java 2, J2EE 1.3 Complete, you''ll learn everything you need to know for developing large-scale web and network applications with Java. You''ll begin by learning which components combine to form the enterprise platform, and then move on to basic development skills: Servlet programming, creating JavaServer Pages, and programming JavaBeans. You''ll also learn database programming concepts and skills, and how to secure your network from malevolent intruders. You''ll learn to use XML and its related technologies for seamless cross-platform data exchange. Finally, you''ll learn advanced JavaBeans programming to create reusable software components. As a bonus, the last part of the book teaches you to program spiders and bots: Although not a part of J2EE, it''s a fun topic that can come in handy for Internet developers who want to create agents to automatically retrieve and organize web content. Enterprise Java 2, J2EE 1.3 Complete introduces you to the work of some of Sybex''s finest authors, so you''ll know where to go to learn even more about Java. Inside: Java Web Applications An Introduction to J2EE The Basic Servlet API The Basic JSP API Servlet Web Applications Introducing JavaBeans Session Management Using Custom Tags Naming Services, Databases, and Security Java Naming and Directory Interface (JNDI) Database Connectivity (JDBC) Advanced Database Programming Secure Web Applications XML, SOAP, and Messaging XML for Data Description Presenting XML with JSP Understanding XML Messaging A Survey of SOAP A SOAP Server Example Java Messaging Service (JMS) Remote Communications and Enterprise JavaBeans Persistence and Remote Method Invocation Java IDL and CORBA Connectivity EJB Architecture and Clients Session, Entity, and Message-Driven EJBs EJB Transactions and Security EJB Environment, Client, and Design Issues J2EE Connector Architecture Spiders and Bots Building a Spider Building a High-Volume Spider Building a Bot')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1060, '1931182332', 'The Computer Shelf', 'http://ecx.images-amazon.com/images/I/51NNPS50TRL._SL160_.jpg', 8, 9.95, 9, DATE '2013-01-01', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1061, '1449328296', 'Continuous Enterprise Development in Java', 'http://ecx.images-amazon.com/images/I/51CSMefa0lL._SL160_.jpg', 1, 44.99, 256, DATE '2014-03-31', 'Learn a use-case approach for developing Java enterprise applications in a continuously test-driven fashion. With this hands-on guide, authors and Jboss project leaders Andrew Lee Rubinger and Aslak Knutsen show you how to build high-level components, from persistent storage to the user interface, using the Arquillian testing platform and several other Jboss projects and tools. Through the course of the book, you’ll build a production-ready software conference tracker called GeekSeek, using source code from GitHub. Rubinger and Knutsen demonstrate why testing is the very foundation of development—essential for ensuring that code is consumable, complete, and correct. Bootstrap an elementary Java Ee project from start to finish before diving into the full-example application, GeekSeek Use both relational and NoSql storage models to build and test GeekSeek’s data persistence layers Tackle testable business logic development and asynchronous messaging with an Smtp service Expose enterprise services as a Restful interface, using Java Ee’s Jax-Rs framework Implement Oauth authentication with Jboss’s PicketLink identity management service Validate the Ui by automating interaction in the browser and reading the rendered page Perform full-scale integration testing on the final deployable archive')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1062, '144933704X', 'Java Cookbook', 'http://ecx.images-amazon.com/images/I/51CSMefa0lL._SL160_.jpg', 6, 59.99, 898, DATE '2014-07-18', 'From lambda expressions and JavaFX 8 to new support for network programming and mobile development, Java 8 brings a wealth of changes. This cookbook helps you get up to speed right away with hundreds of hands-on recipes across a broad range of Java topics. You’ll learn useful techniques for everything from debugging and data structures to GUI development and functional programming. Each recipe includes self-contained code solutions that you can freely use, along with a discussion of how and why they work. If you are familiar with Java basics, this cookbook will bolster your knowledge of the language in general and Java 8’s main APIs in particular. Recipes include:Methods for compiling, running, and debuggingManipulating, comparing, and rearranging textRegular expressions for string- and pattern-matchingHandling numbers, dates, and timesStructuring data with collections, arrays, and other typesObject-oriented and functional programming techniquesDirectory and filesystem operationsWorking with graphics, audio, and videoGUI development, including JavaFX and handlersNetwork programming on both client and serverDatabase access, using JPA, Hibernate, and JDBCProcessing JSON and XML for data storageMultithreading and concurrency')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1063, '3866442718', 'Coupled Model Transformations for QoS', 'http://ecx.images-amazon.com/images/I/41GkrpBv7bL._SL160_.jpg', 5, 57.00, 318, DATE '2010-03-22', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1064, '1932394796', 'iText in Action: Creating and Manipulating PDF', 'http://ecx.images-amazon.com/images/I/51eqA53HkUL._SL160_.jpg', 7, 49.99, 656, DATE '2006-12-18', 'Imagine a publisher who wants to "stamp" his ebooks on the fly with the name of the buyer (to discourage sharing). Such a publisher would (and we know one who does) use iText for the task. Developers looking to enhance web- and other applications with dynamic PDF document generation and/or manipulation will find this book unique in content and readability. Based on ongoing examples that encourage learning "in action," they will finally understand PDF and learn how to build applications that produce professional, high-quality PDF documents. While the basic functionality of iText is easy to acquire, iText in Action lowers the learning curve for more advanced functionality. It explains how to use iText to create/manipulate PDF documents on-the-fly in one or more of the following situations: Due to time or size, the PDF documents can''t be produced manuallyThe content of the document must be calculated or based on user input.The content needs to be customized or personalized.The PDF content needs to be served in a web environment.Documents are to be created in "batch process" mode. All the examples are written in Java, but they can be easily adapted to .NET by developers using one of the .NET ports: iTextSharp (C#) or iText.NET (#J). While iText is a free Java library and the examples are written from the point of view of the Java developer, nine out of ten examples can be run by .NET developers with only minimal changes. Purchase of the print book comes with an offer of a free PDF, ePub, and Kindle eBook from Manning. Also available is all code from the book.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1065, '0615639453', 'Developing Enterprise Applications with Spring', 'http://ecx.images-amazon.com/images/I/41GqC4aKOkL._SL160_.jpg', 6, 59.99, 382, DATE '2012-05-05', 'Note: This book has been expanded to a larger trim size of 7.5" in width and upgraded from Spring 3.1 to 3.2 GA. To get to the larger trim size format of this book, enter "148028470x" in Amazon search box and hit "Enter".')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1066, '1478289317', 'Developing Enterprise Applications with Spring: An End-to-End Approach', 'http://ecx.images-amazon.com/images/I/410MxEPUF1L._SL160_.jpg', 4, 59.99, 422, DATE '2012-07-21', 'This book adopts a unique approach to helping enterprise Java Web application developers learn the latest Spring Frameworks fast. Rather than filled with disjointed,HelloWorld- and foo-bar -like, piecemeal samples to show Spring features one at a time, it is designed to put your total Spring learning experience on a functioning, end-to-end, integrated sample Secure Online Banking Application (SOBA), which can be built with Ant or Maven 3 on Eclipse or STS. To help satisfy your preferenece, SOBA runs on a variety of App Server/OS/DB platforms including: {Tomcat 6/Tomcat 7, GlassFish 3.1, JBoss 7.1, and WebLogic 12.1.1}, {Windows 7, Mac OS X, and Linux}, and {MySQL 5.1, SQL Server 2008 R2, and Oracle 11g R2}. Using SOBA as a learning platform, this book helps you learn the following core set of the latest Spring 3.1 technologies: Spring Core FrameworkSpring MVC Web FrameworkSpring Data Access Framework (JDBC and Hibernate)Spring RESTful Web Services FrameworkSpring Security FrameworkSpring Transaction Management FrameworkSpring Validation FrameworkSpring AOP FrameworkSome readers perfer "learning by reading," and some prefer "learning by coding." This book is written based on the author''s belief that "reading is learning, but learning by coding is better learning." While taking a code-intensive approach, this book provides adequate textual descriptions to help readers grasp every spring feature presented in the book. It is a strong plus that it is not as verbose or as wordy as other spring books so that you can finish it within a reasonable timeframe. After you spend 2-3 weeks completing your intensive self-training guided by this book, you will be able to start contributing to the success of your Spring-based enterprise application project immediately. In addition, it will be considerably easier for you to read lengthy Spring reference documentations and other verbose Spring books.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1067, '1782178120', 'Developing RESTful Services with JAX-RS 2.0, WebSockets, and JSON', 'http://ecx.images-amazon.com/images/I/518dkRyrmyL._SL160_.jpg', 3, 39.99, 128, DATE '2013-10-15', 'Improving your productivity by making the most of Java EE 7''s capabilities is made easy and practical with this book. It''s the perfect guide to developing RESTful Services utilizing powerful new technologies. OverviewLearning about different client/server communication models including but not limited to client polling, Server-Sent Events and WebSockets. Efficiently use WebSockets, Server-Sent Events, and JSON in Java EE applicationsLearn about JAX-RS 2.0 new features and enhancementsImprove scalability with asynchronous processingIn DetailAs the technology landscape moves focus towards smaller devices, the need for building scalable, flexible, lightweight, and real-time communications-based applications grows. HTML 5 and Java EE 7 provide a new synthesis of technologies that demonstrate tremendous scope and potential in areas of device independence, asynchronous communication, interoperability, and portability. Developing RESTful Services with JAX-RS 2.0, WebSockets, and JSON is a practical, hands-on guide that provides you with clear and pragmatic information to take advantage of the real power behind HTML5 and Java EE technologies. This book also gives you a good foundation for using them in your applications. Developing RESTful Services with JAX-RS 2.0, WebSockets, and JSON looks at the different HTML5-based Java EE 7 API, and takes a deep dive into the individual areas of technologies to cover basic to advanced concepts, and also provides best practices for each API. You will also learn how to build a REST-based Event Notification Application using the Twitter API, tying all the different technologies together that we will cover. You will also take a look at integrating different Java EE APIs to build a Library Application. If you want to take advantage of using the new HTML5 technologies and Java EE 7 platform, then this is the book for you. You will learn everything you need to know to build portable RESTful Web Services with JAX-RS 2.0, Web Sockets, JSON, and Server-Sent Events. What you will learn from this bookDevelop RESTful Web Services using the JAX-RS 2.0 APIBuild applications with the JavaScript and Java Client API for WebSockets and ServerSentEvents Understand Security and Fault tolerance with WebSockets and ServerSentEventsProduce, parse, and manipulate JSON data with the help of JSON-P APICover best practices in building applications with WebSockets, ServerSentEvents, and JAX-RS 2.0 Learn the aspects of asynchronous programming to improve scalabilityApproachWritten as an easy and practical guide, this book is a crash course on using JAX-RS 2.0, JSON, and WebSockets to develop RESTful services. Who this book is written forDeveloping RESTful Services with JAX-RS 2.0, WebSockets, and JSON is a perfect reading source for application developers who are familiar with Java EE and are keen to understand the new HTML5-related functionality introduced in Java EE 7 to improve productivity. To take full advantage of this book, you need to be familiar with Java EE and have some basic understanding of using the GlassFish application server.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1068, '1783288299', 'Developing RESTful Web Services with Jersey 2.0', 'http://ecx.images-amazon.com/images/I/51xmOMQtc7L._SL160_.jpg', 1, 34.99, 98, DATE '2013-11-20', 'Learn how to design and implement a test automation framework block by blockOverviewA simple and easy demonstration of the important concepts will enable you to translate abstract ideas into practice Each chapter begins with an outline and a brief statement of content to help the reader establish perspective An alternative approach to developing generic components for test automationIn DetailAs software testing is maturing, the focus is shifting towards test automation. The key is to learn and grow skills in framework designing and start contributing to project organization goals. Through a helpful mix of conceptual and practical aspects, you will learn everything you need to know related to the implementation of frameworks using QTP. Through simple examples, you will gradually develop the skills needed to execute concepts and code blocks used to design and implement the test automation framework. This tutorial-based guide demonstrates an easy way to implement concepts to create a portable framework across the various versions of QTP. You will learn about the automation lifecycle and gradually develop technical concepts related to each phase. Within a short amount of time, you will be able to deal with challenges in test automation. "Designing and Implementing Test Automation Frameworks with QTP" uses a simple, yet elegant approach and gives the reader all the skills and knowledge they need to implement the framework. What you will learn from this bookUnderstand the test automation lifecycle, as well as the goals that drive and guide its framework design Grasp the basic features of QTP that help in creating frameworksLearn about the various goals of each level of framework and how they drive the designing of the framework Create basic building block supportsUnderstand the types of framework and how to design and use themUse Javascript and HTMLDOM effectivelyCapture lessons learnt in framework designing and share those experiencesDeploy and maintain frameworksBuild an XPath expression, locate the elements and perform an action on itApproachA tutorial-based approach, showing basic coding and designing techniques to build test automation frameworks. Who this book is written forIf you are a beginner, an automation engineer, an aspiring test automation engineer, a manual tester, a test lead or a test architect who wants to learn, create, and maintain test automation frameworks, this book will accelerate your ability to develop and adapt the framework.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1069, '3319054392', 'ECUMICT 2014: Proceedings of the European Conference', 'http://ecx.images-amazon.com/images/I/418YoIyKXKL._SL160_.jpg', 2, 199.00, 231, DATE '2014-02-23', 'This proceeding present the outcome of the 6th. European Conference on the Use of Modern Information and Communication Technologies. The ECUMICT 2014 was hold in Gent in March 2014 and presented recent research, that has a close relationship with practical implementation of Security for mobile communications and data accessInterface technology for mobile devices Application development for mobile devicesPositioning and localization, asset tracking and tracing Design and applications of RFID systemsDevelopments in the framework of IoT and M2M communicationsDesign and applications of WSNsEmbedded programming for WSNsNew developments and applications of WPAN/WLAN standardsMobile multimedia systemsWireless telecommunication networks and mobile servicesOptimization techniques in wireless networksDevelopments in ad-hoc and mesh networksApplications of digital signal processing for mobile applications Applications of MEMs in WSNs')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1070, '1847195601', 'EJB 3 Developer Guide: A Practical Guide for developers and architects to the Enterprise Java Beans Standard.', 'http://ecx.images-amazon.com/images/I/41WV60YTuwL._SL160_.jpg', 1, 39.99, 276, DATE '2008-05-23', 'In DetailThe EJB 3 (Enterprise Java Beans version 3) specification is a core component of enterprise-level JEE (Java Platform Enterprise Edition) implementations and this improved version is set to simplify the development of Enterprise Java applications. This book covers the core elements of EJB 3 technology, exploring them in a concise manner with many supporting examples. You will gain a thorough understanding of EJB 3 technology and learn about the most important features of EJB 3 quickly. What you will learn from this book? This book will teach you the core elements of EJB 3 technology. You will: Gain a rapid introduction to the EJB 3 essentials while learning about the underlying principles Create Entities, Message-Driven Beans, Session Beans and their clientsLook at running an EJB client from an application client containerLearn how to package and deploy an EJBUse JQPL (Java Persistence Query Language)Explore the entity manager interfaceLearn about object/relational mapping with EJB 3Look at the Java Messaging API and message-driven beansLook at transactions, interceptors, and EJB timer servicesUnderstand how EJB 3 differs from the 2.x versionImplement EJB 3''s security featuresApproachThis book is a fast-paced tutorial that explores the key features of EJB 3 with many accompanying examples. This book is not a complete reference guide, but a concise exploration of EJB 3''s core elements. Who this book is written for?This book is primarily aimed at professional developers who already have a working knowledge of Java. Enterprise architects and designers with a background in Java would also find this book of use. Previous experience of working with Java is essential and knowledge of relational databases is desirable. As this book is an introduction to EJB 3, it is aimed at those who are new to EJB 3. As the new version of EJB is so radically different from the previous version (EJB 2.x), the book is suitable for and should be of interest to those who have had experience working with EJB 2.x. The text makes it clear where the differences between the versions of EJB lie, although they are not explored in detail.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1071, '1935182994', 'EJB 3 in Action', 'http://ecx.images-amazon.com/images/I/41DEOsLnX3L._SL160_.jpg', 8, 54.99, 560, DATE '2014-04-18', 'SummaryBuilding on the bestselling first edition, EJB 3 in Action, Second Edition tackles EJB 3.2 head-on, through numerous code samples, real-life scenarios, and illustrations. This book is a fast-paced tutorial for Java EE 6 business component development using EJB 3.2, JPA 2, and CDI. Besides covering the basics of EJB 3.2, this book includes in-depth EJB 3.2 internal implementation details, best practices, design patterns, and performance tuning tips. Purchase of the print book includes a free eBook in PDF, Kindle, and ePub formats from Manning Publications. About the BookThe EJB 3 framework provides a standard way to capture business logic in manageable server-side modules, making it easier to write, maintain, and extend Java EE applications. EJB 3.2 provides more enhancements and intelligent defaults and integrates more fully with other Java technologies, such as CDI, to make development even easier. EJB 3 in Action, Second Edition is a fast-paced tutorial for Java EE business component developers using EJB 3.2, JPA, and CDI. It tackles EJB head-on through numerous code samples, real-life scenarios, and illustrations. Beyond the basics, this book includes internal implementation details, best practices, design patterns, performance tuning tips, and various means of access including Web Services, REST Services, and WebSockets. Readers need to know Java. No prior experience with EJB or Java EE is assumed.What''s InsideFully revised for EJB 3.2POJO persistence with JPA 2.1Dependency injection and bean management with CDI 1.1Interactive application with WebSocket 1.0About the AuthorsDebu Panda,Reza Rahman,Ryan Cuprak, and Michael Remijan are seasoned Java architects, developers, authors, and community leaders. Debu and Reza coauthored the first edition ofEJB 3 in Action. Table of ContentsPART 1 OVERVIEW OF THE EJB LANDSCAPEWhat''s what in EJB 3A first taste of EJBPART 2 WORKING WITH EJB COMPONENTSBuilding business logic with session beansMessaging and developing MDBsEJB runtime context, dependency injection,and crosscutting logicTransactions and securityScheduling and timersExposing EJBs as web servicesPART 3 USING EJB WITH JPA AND CDIJPA entitiesManaging entitiesJPQLUsing CDI with EJB 3PART 4 PUTTING EJB INTO ACTIONPackaging EJB 3 applicationsUsing WebSockets with EJB 3Testing and EJB')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1072, '1933988347', 'EJB 3 in Action', 'http://ecx.images-amazon.com/images/I/41DEOsLnX3L._SL160_.jpg', 2, 44.99, 712, DATE '2007-04-19', 'EJB 3 in Action tackles EJB 3 and the Java Persistence API head-on, providing practical code samples, real-life scenarios, best practices, design patterns, and performance tuning tips. This book builds on the contributions and strengths of seminal technologies like Spring, Hibernate, and TopLink. EJB 3 is the most important innovation introduced in Java EE 5.0. EJB 3 simplifies enterprise development, abandoning the complex EJB 2.x model in favor of a lightweight POJO framework. The new API represents a fresh perspective on EJB without sacrificing the mission of enabling business application developers to create robust, scalable, standards-based solutions. EJB 3 in Action is a fast-paced tutorial, geared toward helping you learn EJB 3 and the Java Persistence API quickly and easily. For newcomers to EJB, this book provides a solid foundation in EJB. For the developer moving to EJB 3 from EJB 2, this book addresses the changes both in the EJB API and in the way the developer should approach EJB and persistence. Purchase of the print book comes with an offer of a free PDF, ePub, and Kindle eBook from Manning. Also available is all code from the book.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1073, '1783285451', 'Enterprise Application Development with Ext JS and Spring', 'http://ecx.images-amazon.com/images/I/51wFwTy1PPL._SL160_.jpg', 1, 49.99, 446, DATE '2013-12-20', 'Designed for intermediate developers, this superb tutorial will lead you step by step through the process of developing enterprise web applications combining two leading-edge frameworks. Take a big leap forward in easy stages. OverviewEmbark on the exciting journey through the entire enterprise web application development lifecycle Leverage key Spring Framework concepts to deliver comprehensive and concise Java codeBuild a real world ExtJS web application that interacts with dynamic database driven data In DetailSpring and ExtJS are cutting edge frameworks that allow us to build high performance web applications for modern devices, that are now consuming data at a faster rate than ever before. It is the appropriate time for you to understand how to best leverage these technologies when architecting, designing, and developing large scale web development projects. This practical guide condenses an approach to web development that was gained from real world projects, and outlines a simple, practical approach to developing high performance, and enterprise grade web applications. Starting with configuring Java, Netbeans, and MySQL to prepare your development environment, you will then learn how to connect your Netbeans IDE to the MySQL database server. We will then explore the Task Time Tracker (3T) project database structure and populate these tables with test data. Following on from this, we will examine core JPA concepts after reverse engineering the domain layer with Netbeans. Leveraging the Data Access Object design pattern, you will learn how to build the Java DAO implementation layer assisted by generics in base classes, followed by a Data Transfer Object enabled service layer to encapsulate the business logic of your 3T application. The final chapters that focus on Java explore how to implement the request handling layer using Spring annotated controllers, and deploy the 3T application to the Glassfish server. We will then configure the ExtJS 4 development environment and introduce key ExtJS 4 concepts, including MVC and practical design conventions. Covering a variety of important ExtJS 4 strategies and concepts, you will be fully-equipped to implement a variety of different user interfaces using the ExtJS MVC design pattern. Your journey ends by exploring the production build and deployment process using Maven, Sencha Cmd and Glassfish. What you will learn from this bookSet up the key components of an enterprise development environmentGet to grips with practical database design strategies using MySQLPractice JPA concepts and database reverse engineering using NetbeansAccess data using the DAO design pattern and SpringImplement practical testing strategies using Maven and JUnitBuild a comprehensive service layer to encapsulate business logicLeverage the best of Spring Web controllers for enterprise useImplement a dynamic ExtJS user interface using Sencha MVCUnderstand and control the Maven build processConfigure and deploy to a production Glassfish environmentApproachAn easy-to-follow tutorial, that breaks down the enterprise application development journey into easy to understand phases documented by clear examples and concise explanations.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1074, '3826616995', 'Enterprise JavaBeans 3.0 mit Eclipse und JBoss', 'http://ecx.images-amazon.com/images/I/51AeBG-ywEL._SL160_.jpg', 4, 9.99, null, null, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1075, '0470565454', 'Enterprise Software Architecture and Design', 'http://ecx.images-amazon.com/images/I/51FH4HeKCUL._SL160_.jpg', 4, 133.00, 512, DATE '2012-02-28',  'This book fills a gap between high-level overview texts that are often too general and low-level detail oriented technical handbooks that lose sight the "big picture". This book discusses SOA from the low-level perspective of middleware, various XML-based technologies, and basic service design. It also examines broader implications of SOA, particularly where it intersects with business process management and process modeling. Concrete overviews will be provided of the methodologies in those fields, so that students will have a hands-on grasp of how they may be used in the context of SOA.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1076, '1449356818', 'Enterprise Web Development: Building HTML5 Applications', 'http://ecx.images-amazon.com/images/I/51Twl1%2ByfQL._SL160_.jpg', 4, 49.99, 642, DATE '2014-07-28', 'If you want to build your organization’s next web application with HTML5, this practical book will help you sort through the various frameworks, libraries, and development options that populate this stack. You’ll learn several of these approaches hands-on by writing multiple versions of a sample web app throughout the book, so you can determine the right strategy for your enterprise. What’s the best way to reach both mobile and desktop users? How about modularization, security, and test-driven development? With lots of working code samples, this book will help web application developers and software architects navigate the growing number of HTML5 and JavaScript choices available. The book’s sample apps are available at http://savesickchild.org. Mock up the book’s working app with HTML, JavaScript, and CSSRebuild the sample app, first with jQuery and then Ext JSWork with different build tools, code generators, and package managersBuild a modularized version of the app with RequireJSApply test-driven development with the Jasmine frameworkUse WebSocket to build an online auction for the appAdapt the app for both PCs and mobile with responsive web designCreate mobile versions with jQuery Mobile, Sencha Touch, and PhoneGap')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1077, '3642327192', 'Organizations'' Environmental Performance Indicators', 'http://ecx.images-amazon.com/images/I/51b3HzQvghL._SL160_.jpg', 6, 159.00, 228, DATE '2013-06-08', 'The book provides a collection of individual chapters from the participants in the OEPI project, which represent a mix of academic and practical chapters and contributions. The first part of the book is dedicated to a theoretical introduction to Organisations'' Environmental Performance Indicators and to a state-of-the-art overview in literature and practice. The second part of the book contains several chapters describing information systems and their components supporting the management of Environmental Performance Indicators, especially in inter-organizational contexts. The third part is dedicated to three case studies from practice, and the book concludes with part four, in which practical guidelines for the innovative management of Environmental Performance indicators in organizations and in inter-organizational contexts are presented.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1078, '1430244267', 'Java EE 7 Recipes: A Problem-Solution Approach', 'http://ecx.images-amazon.com/images/I/51b3HzQvghL._SL160_.jpg', 4, 9.99, 735, null, 'Java EE 7 Recipes takes an example-based approach in showing how to program Enterprise Java applications in many different scenarios. Be it a small-business web application, or an enterprise database application, Java EE 7 Recipes provides effective and proven solutions to accomplish just about any task that you may encounter. You can feel confident using the reliable solutions that are demonstrated in this book in your personal or corporate environment. The solutions in Java EE 7 Recipes are built using the most current Java Enterprise specifications, including EJB 3.2, JSF 2.2, Expression Language 3.0, Servlet 3.1, and JMS 2.0. While older technologies and frameworks exist, it is important to be forward-looking and take advantage of all that the latest technologies offer. Rejuvenate your Java expertise to use the freshest capabilities, or perhaps learn Java Enterprise development for the first time and discover one of the most widely used and most powerful platforms available for application development today. Let Java EE 7 Recipes show you the way by showing how to build streamlined and reliable applications much faster and easier than ever before by making effective use of the latest frameworks and features on offer in the Java EE 7 release. Shows off the most current Java Enterprise Edition technologies.Provides solutions to creating sophisticated user interfaces.Demonstrates proven solutions for effective database access.Table of ContentsIntroduction to ServletsJavaServer PagesThe Basics of JavaServer FacesFaceletsJavaServer Faces Standard ComponentsAdvanced JavaServer Faces and AjaxJDBCObject-Relational MappingEnterprise JavaBeansThe Query API and JPQLOracle''s GlassfishContexts and Dependency InjectionJava Message ServiceAuthentication and SecurityJava Web ServicesEnterprise Solutions Using Alternative Programming LanguagesWebSockets and JSON-PJavaFX in the EnterpriseConcurrency and Batch Applications')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1079, '1430249269', 'Pro JPA 2 (Expert''s Voice in Java)', 'http://ecx.images-amazon.com/images/I/51vIITEqc-L._SL160_.jpg', 2, 54.99, 508, DATE '2013-09-24', 'Pro JPA 2, Second Edition introduces, explains, and demonstrates how to use the new Java Persistence API (JPA) 2.1 from the perspective of one of the specification creators. A one-of-a-kind resource, it provides both theoretical and extremely practical coverage of JPA usage for both beginning and advanced developers. Authors Mike Keith and Merrick Schincariol take a hands–on approach, based on their wealth of experience and expertise, by giving examples to illustrate each concept of the API and showing how it is used in practice. The examples use a common model from an overriding sample application, giving readers a context from which to start and helping them to understand the examples within an already familiar domain. After completing the book, you will have a full understanding of JPA and be able to successfully code applications using its annotations and APIs. The book also serves as an excellent reference guide during initial and later JPA application experiences. Hands-on examples for all aspects of the JPA specificationExpert insight about various aspects of the API and when they are usefulPortability hints to provide increased awareness of the potential for non–portable JPA code What you’ll learnHow to get started with enterprise applications using JPA 2.1Simple and advanced object–relational mapping techiquesHow to use the complete Entity Manager APIHow to create queries using the query language (JP QL) and the Criteria APILocking, concurrency, and other advanced conceptsHow to use XML mapping files and descriptorsHow to package and deploy your Java Persistence applicationsHow to test your Java Persistence applicationsWho this book is forThe book generally targets enterprise and persistence developers who fall in one of three categories: Those who are new to persistence; we will offer an introduction to persistence and to the basic concepts so these readers can have solid base from which to become proficient at JPA. Those who know and/or use existing ORM persistence products such as Hibernate or TopLink/EclipseLink. Those who have already used JPA and want to learn about newer features introduced by JPA 2.1, or have a good reference book to consult when they develop JPA applications. In general, we assume that the reader is knowledgeable with Java, SQL, and JDBC, and has a little knowledge of Java EE. Table of ContentsIntroductionGetting StartedEnterprise ApplicationsObject Relational MappingCollection MappingEntity ManagerUsing QueriesJava Persistence Query LanguageCriteriaAdvanced Object Relational MappingAdvanced QueriesAdvanced TopicsXML Mapping FilesPackaging and DeploymentTesting')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1080, '1430250100', 'Pro JSF and HTML5: Building Rich Internet Components', 'http://ecx.images-amazon.com/images/I/51NA-Vb5p-L._SL160_.jpg', 7, 54.99, 412, DATE '2013-11-24', 'Pro JSF and HTML5 shows you how to leverage the full potential of JavaServer Faces (JSF) and HTML5. This book is for Java developers who aspire to build sophisticated, enterprise-grade web experiences with HTML5-enabled JSF. Written by JSF experts and verified by established community figures, this book will serve as your primary resource, helping you build or integrate well-designed HTML5-enabled JSF components into your rich internet applications. Pro JSF and HTML5 starts by giving you a firm grounding in the design principles of component-based frameworks and the basics of JSF. It then details recent advancements in JSF 2.2 that make it friendlier, faster, and more productive than ever before. And it covers HTML5-enabled components, integration with Java EE7 standards, 3rd party component libraries, security, and performance. The book concludes with a real-world application that puts everything you learned into practice. In this book you''ll learn Foundational JSF topics such as the component life cycle, framework architecture, managed beans and CDI, expression language, conversion and validation, JSF events and view parameters. Leveraging new features in JSF 2.2 such as Faces Flow, Resource Library Contracts, and Ajax file uploading. Developing Advanced HTML5 enabled components in JSF 2.2.Creating JSF 2.2 applications that utilize Java EE 7 technologies (CDI, JPA 2.1 and EJB 3.2) for bean management, transaction management and persistence. Building advanced real-world JSF applications with considerations for security, performance, and usability. If you''re a Java developer interested in the world of component-based frameworks,Pro JSF and HTML5 is for you. What you''ll learn Foundational JSF topics such as the component life cycle, framework architecture, managed beans and CDI (Context and Dependency Injection), expression language, exception handling, conversion and validation, JSF events (faces events, phase events and system events), and view parameters. Utilizing new features in JSF 2.2 such as Faces Flow, Resource Library Contracts, and Ajax file uploading. Developing Advanced HTML5 enabled components in JSF 2.2.Developing PrimeFaces and RichFaces applications.Developing JSF 2.2 applications that utilize Java EE 7 technologies (CDI, JPA 2.1 and EJB 3.2) in order to facilitate bean management, transaction management and persistence. Unit testing JSF applications.Stateless JSF views.Implementing Security in JSF applications.Tuning the performance of JSF applications.Translating application requirements into a model and then implementing the model using JSF 2.2 and Java EE 7 technologies. Who this book is for This is a tutorial and reference is for both intermediate and experienced Java enterprise and web application developers.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1081, '0240809777', 'The Service-Oriented Media Enterprise', 'http://ecx.images-amazon.com/images/I/51a%2Bv2PzbRL._SL160_.jpg', 7, 64.95, 544, DATE '2008-03-10', 'Companies worldwide are rapidly adopting Service-Oriented Architecture (SOA), a design methodology used to connect systems as services, and Business Process Management (BPM), the art of orchestrating these services. Media organizations from news organizations to music and media download services to movie studios are adapting to SOA-style architectures, but have run into roadblocks unique to the media and entertainment industry. These challenges include incorporating real-time data, moving large amounts of data at one time, non-linearity and flexibility for workflow, and unique metrics and data gathering. The Service-Oriented Media Enterprise details the challenges and presents solutions for media technology professionals. By addressing both the IT and media aspects, it helps individuals improve current enterprise technologies and operations.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1082, '383490452X', 'MLP Berufs- und Karriere-Planer IT und e-business 2007', 'http://ecx.images-amazon.com/images/I/51DO9Gq6pnL._SL160_.jpg', 3, 9.99, 9.99, DATE '2007-10-31', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1083, '3834908037', 'MLP Berufs- und Karriere-Planer IT und e-business 2009', 'http://ecx.images-amazon.com/images/I/51VfKqsAKTL._SL160_.jpg', 7, 29.95, 362, DATE '2009-10-27', 'Souverän von der Uni in den Job – die besten Starthilfen rund um den Berufseinstieg! Praktische Insider-Tipps und erstklassiges Bewerbungs-Know-how sichern Hochschulabsolventen den entscheidenden Vorsprung beim Karrierestart. Branchen-Specials: IT-Consulting | IT-Security')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1084, '1849686963', 'Getting Started with Oracle WebLogic Server 12c', 'http://ecx.images-amazon.com/images/I/51y5GkJzpzL._SL160_.jpg', 5, 54.99, 374, DATE '2013-09-23', 'If you’ve dipped a toe into Java EE development and would now like to dive right in, this is the book for you. Introduces the key components of WebLogic Server and all that’s great about Java EE 6. OverviewCreate a complete Java EE 6 application leveraging WebLogic features like JMS, SOAP and RESTful Web Services Learn how to use Oracle WebLogic Server''s key components and featuresStep-by-step instructions with screenshots and code samples to help understand and apply concepts In DetailOracle WebLogic server has long been the most important, and most innovative, application server on the market. The updates in the 12c release have seen changes to the Java EE runtime and JDK version, providing developers and administrators more powerful and feature-packed functionalities. Getting Started with Oracle WebLogic Server 12c: Developer''s Guide provides a practical, hands-on, introduction to the application server, helping beginners and intermediate users alike get up to speed with Java EE development, using the Oracle application server. Starting with an overview of the new features of JDK 7 and Java EE 6, Getting Started with Oracle WebLogic Server 12c quickly moves on to showing you how to set up a WebLogic development environment, by creating a domain and setting it up to deploy the application. Once set up, we then explain how to use the key components of WebLogic Server, showing you how to apply them using a sample application that is continually developed throughout the chapters. On the way, we''ll also be exploring Java EE 6 features such as context injection, persistence layer and transactions. After the application has been built, you will then learn how to tune its performance with some expert WebLogic Server tips. What you will learn from this bookCreate and package applications and shared libraries that use Java EE resources such aspersistence layer, interceptors, and managed beans Expose and consume Web Services using both SOAP (JAX-WS) and REST (JAX-RS) technologiesUtilize WebLogic Server''s security providers to add authentication and authorization to an application Publish and consume messages using JMS features, understanding and programming both server and standalone client pieces Scale up your application using features such as session replication, caching and optimized data access Unlock WebLogic'' full potential with expert performance tuning tipsUnderstand the concepts and usage of validators, events, and listenersApproachGetting Started with Oracle WebLogic Server 12c is a fast-paced and feature-packed book, designed to get you working with Java EE 6, JDK 7 and Oracle WebLogic Server 12c straight away, so start developing your own applications. Who this book is written forGetting Started with Oracle WebLogic Server 12c: Developer''s Guide is written for developers who are just getting started, or who have some experience, with Java EE who want to learn how to develop for and use Oracle WebLogic Server. Getting Started with Oracle WebLogic Server 12c: Developer''s Guide also provides a great overview of the updated features of the 12c release, and how it integrates Java EE 6 and JDK 7 to remove boilerplate code.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1085, '1782164227', 'Getting Started with PhantomJS', 'http://ecx.images-amazon.com/images/I/51sFGdAwByL._SL160_.jpg', 5, 29.99, 140, DATE '2013-11-25', 'Harness the strength and capabilities of PhantomJS to interact with the web and perform website testing with a headless browser based on WebKit OverviewWriting scripts that can interact directly with web services and pagesInteracting with social media websites using PhantomJS scriptsCreating web-based test scripts and running them in a headless browserIn DetailPhantomJS is a headless WebKit browser with JavaScript API that allows you to create new ways to automate web testing. PhantomJS is currently being used by a large number of users to help them integrate headless web testing into their development processes. It also gives you developers a new framework to create web-based applications, from simple web manipulation to performance measurement and monitoring. A step step-by by-step guide that will help you develop new tools for solving web and testing problems in an effective and quick way. The book will teach you how to use and maximize PhantomJS to develop new tools for web scrapping, web performance measurement and monitoring, and headless web testing. This book will help you understand PhantomJS’ scripting API capabilities and strengths. This book starts by looking at PhantomJS’ JavaScript API, features, and basic execution of scripts. Throughout the book, you will learn details to help you write scripts to manipulate web documents and fully create a web scrapping tool. Through its practical approach, this book strives to teach you by example, where each chapter focuses on the common and practical usage of PhantomJS, and how to extract meaningful information from the web and other services. By the end of the book, you will have acquired the skills to enable you to use PhantomJS for web testing, as well as learning the basics of Jasmine, and how it can be used with PhantomJS. What you will learn from this bookExplore the possibilities of PhantomJS development and make use of a headless browserUnderstand PhantomJS’ core features and APIManipulate the DOM properties of web pages using scriptsInteract with web pages using PhantomJS scriptsLearn how to emulate keyboards and mouse actionsWork with geolocation services with PhantomJSBuild scripts that will create web sites snapshotsCreate and implement PhantomJS custom modulesUse PhantomJS to perform headless testing with JasmineApproachA standard tutorial approach, as a complete guide detailing the major aspects of PhantomJS with particular focus on website testing. Who this book is written forIf you are a JavaScript developers who is interested in developing applications that interact with various web services, using a headless browser, then this book is ideal for you. This book will also be good for you if you are planning to create a headless browser testing for your web application. Basic understanding of JavaScript is assumed.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1086, '174244749X', 'GIAC Secure Software Programmer', 'http://ecx.images-amazon.com/images/I/51ugRTEf6mL._SL160_.jpg', 3, 44.95, 216, DATE '2010-11-18', 'The GIAC Secure Software Programmer (GSSP) Certification Exam was developed in a joint effort involving the SANS Institute, CERT/CC, several US government agencies, and leading companies in the US, Japan, India, and Germany. These exams are an essential response to the rapidly increasing number of targeted attacks that are focusing on application vulnerabilities.Programmers can demonstrate that they know the common security flaws found in Java and C programming, and how to avoid the problems, by passing the GSSP exams.This self-study exam preparation guide for the GSSP - Java certification exam contains everything you need to test yourself and pass the Exam. All Exam topics are covered and insider secrets, complete explanations of all GSSP - Java subjects, test tricks and tips, numerous highly realistic sample questions, and exercises designed to strengthen understanding of GSSP - Java concepts and prepare you for exam success on the first attempt are provided.Put your knowledge and experience to the test. Achieve GSSP - Java certification and accelerate your career.Can you imagine valuing a book so much that you send the author a')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1087, '1847199380', 'GlassFish Security', 'http://ecx.images-amazon.com/images/I/514slm8Ui%2BL._SL160_.jpg', 4, 44.99, 296, DATE '2010-05-11', 'Security is driven by requirement and design and we implement security on the basis of the requirements provided by analysts. In this book, we take a programmatic approach to understand Java EE and GlassFish security.You will find plenty of code samples in this book. It is easy to secure your application when you have a demonstration of a complete and working application explained in the book, isn''t it? Each chapter starts with the importance and relevance of the topic by introducing some Java EE applications requirement, which will encourage you to read it further.This book is for application designers, developers and administrators who work with GlassFish and are keen to understand Java EE and GlassFish security.To take full advantage of this book, you need to be familiar with Java EE and GlassFish application servers. You will love this book if you are looking for a book that covers Java EE security and using GlassFish features to create secure Java EE applications, or to secure the GlassFish installation and operating environment and using OpenSSO.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1088, '3319072927', 'HCI in Business', 'http://ecx.images-amazon.com/images/I/41esH%2BvXPJL._SL160_.jpg', 6, 143.00, 801, DATE '2014-05-13', 'This volume constitutes the refereed proceedings of the First International Conference on HCI in Business, HCIB 2014, held as part of the 16th International Conference on Human-Computer Interaction, HCI International 2014, in Heraklion, Crete, Greece, jointly with 13 other thematically similar conferences. The total of 1476 papers and 220 posters presented at the HCII 2014 conferences was carefully reviewed and selected from numerous submissions. The papers address the latest research and development efforts and highlight the human aspects of design and use of computing systems. They thoroughly cover the entire field of human-computer interaction, addressing major advances in knowledge and effective use of computers in a variety of application areas. The 76 papers included in this volume deal with the following topics: enterprise systems; social media for business; mobile and ubiquitous commerce; gamification in business; B2B, B2C, C2C e-commerce; supporting collaboration, business and innovation and user experience in shopping and business.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1089, '0133067033', 'Modern Web Development with IBM WebSphere', 'http://ecx.images-amazon.com/images/I/51obk3L-ebL._SL160_.jpg', 8, 34.99, 384, DATE '2014-06-18', 'Build Tomorrow’s Best Mobile/Web Applications with IBM WebSphere Application Server 8.5 and IBM Worklight This guide presents a coherent strategy for building modern mobile/web applications that are fast, responsive, interactive, reusable, maintainable, extensible, and a pleasure to use. Four IBM experts offer practical, hands-on coverage of front-end development with IBM WebSphere Application Server 8.5, IBM Worklight, and today’s most popular open source frameworks. Using well-crafted examples, the authors introduce best practices for MobileFirst development, helping you create apps that work superbly on mobile devices and add features on conventional browsers. Throughout, you’ll learn better ways to deliver Web 2.0 apps with HTML /JavaScript front ends, RESTful Web Services, and persistent data. Proven by IBM and its customers, the approach covered in this book leads to more successful mobile/web applications—and more effective development teams.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1090, '1782169970', 'Infinispan Data Grid Platform Definitive Guide', 'http://ecx.images-amazon.com/images/I/51WunUR14SL._SL160_.jpg', 4, 44.99, 464, DATE '2015-05-26', 'Master Infinispan to create scalable and high-performance applicationsAbout This BookCreate highly scalable applications using the Infinispan Data Grid PlatformMaximize your application''s performance in any cluster environmentBecome an expert in creating powerful solutions using Infinispan through ready-to-use examples Who This Book Is ForThis practical guide is intended for those who want to learn how to build extremely scalable applications. This book is easy to read and is aimed at Java enterprise developers with a solid knowledge of Java. However, no previous coding experience with Infinispan is required. What You Will LearnInstall Infinispan and create the perfect development environmentGet acquainted with topologies and strategies for different situations and data access patterns Familiarize yourself with scaling techniques and concepts including distributed transactions, ACID, and database sharding Monitor your Infinispan instances by using RHQ or JMX clientsControl and manage transactions using JTA and use the available APIs to manipulate your cache data Create an application called TicketMonster and learn how to implement InfinispanLearn about JGroups and how to use it with Infinispan for reliable communicationLearn the concepts behind big data and how to work with Infinispan MapReduce APIIn DetailInfinispan is an extremely scalable, highly available key/ value data store and data grid platform. In-memory data grids (IMDG) have recently been gaining a lot of attention, and the market for this technology is steadily increasing. This book is a practical guide that covers all Infinispan features in a progressive manner with the help of real-world and ready-to-use examples. You will learn how to install Infinispan and create a perfect development environment. Next, you will learn how to persist data to a permanent store and integrate Infinispan with technologies such as Hibernate OGM, Amazon Web Services (AWS), and CDI. Finally, we will present a sample application that you can download from the JBoss Developer Framework. By the end of this book, you will be able to build extremely scalable applications, providing a highly available key/value data store.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1091, '3658077476', 'Informationsintegration in dynamischen Unternehmensnetzwerken', 'http://ecx.images-amazon.com/images/I/412ziBjCpCL._SL160_.jpg', 8, 79.99, 361, DATE '2014-10-14', 'Aufgrund des Komplexitätsanstiegs von inner- und überbetrieblichen Geschäftsprozessen, die sich unter anderem in der zunehmenden Individualisierung und der Verkürzung von Produktlebenszyklen äußern, befinden sich Unternehmen in einem Spannungsfeld zwischen Effizienz durch Standardisierung und nötiger Flexibilität. Sebastian Huber stellt hierfür einen ganzheitlichen Lösungsansatz zum Management von agilen Unternehmensarchitekturen und der Informationsvernetzung in dynamischen Wertschöpfungsnetzwerken vor. Zusätzlich zeigt der Autor, wie der sog. Wissensarbeiter in schwachstrukturierte und wissensintensive Geschäftsprozesse organisatorisch und technisch mit einbezogen werden kann und wie entsprechende Kollaborationskonzepte auszugestalten sind. Die Arbeit wurde mit dem Promotionspreis der Hermann-Gutmann-Stiftung 2013 ausgezeichnet.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1092, '1849698805', 'Instant JRebel', 'http://ecx.images-amazon.com/images/I/41XsY69si8L._SL160_.jpg', 3, 24.99, 46, DATE '2013-11-25', 'Accelerate your code development dramatically with this practical guideOverviewLearn something new in an Instant! A short, fast, focused guide delivering immediate results. Use your favourite tools without spending much time on compilation and deploymentEnable JRebel on Tomcat and GlassfishUtilize JRebel to greatly improve your Java SE and Java EE projectsAccelerate your developments on major IDEs and serversIn DetailJRebel is a JVM plugin that lets Java developers update code instantly and see their changes reflected in their application under development without restarting the application server. JRebel is a plugin for anything that is in Java and is also IDE neutral. If you want to update your code instantly without compiling and deploying the code repeatedly, this book is for you. This book will focus on the most important development steps and will also help you save time which is otherwise spent on compilation and deployment of code. You will learn how to use JRebel with the most popular IDEs and Java servers and how to accelerate the development of your current and future Java SE and Java EE projects. This book shows you how to install JRebel, configure your favourite IDE and Java server for JRebel, and start using it on your projects. With this book, you will learn how to get a free license for JRebel and how to integrate JRebel with most Java servers and development environments. To finish, you will see how to work with desktop and web projects and how to utilize JRebel to dramatically accelerate their development. What you will learn from this bookRegister and activate your free JRebel licenseGet familiar with ClassLoader and Smart BuildUnderstand common JRebel use casesEnable JRebel on Tomcat and Glassfish standalone serversConfigure Eclipse, IntelliJ IDEA, and NetBeans to use JRebelAccelerate the development of your Java desktop application project based on Ant and Maven Expedite the development on your Java web application project connected to a local Glassfish server or remote Tomcat server Keep your production environment up-to-date using LiveRebelApproachFilled with practical, step-by-step instructions and clear explanations for the most important and useful tasks. This book is an easy-to-follow guide full of hands-on examples of real-world Java development tasks. Each topic is explained and placed in context, and for the more inquisitive readers, there are more-in-depth details of the concepts used. Who this book is written forIf you have experience in Java desktop or web application development based on Servlets and you want to update your code instantly without recompiling and redeploying the code, this book is for you.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1093, '1849519900', 'Instant PrimeFaces Starter', 'http://ecx.images-amazon.com/images/I/51pETImO1gL._SL160_.jpg', 5, 24.99, 90, DATE '2013-06-25', 'Design and develop awesome web user interfaces for desktop and mobile devices with PrimeFaces and JSF2 using practical, hands-on examples OverviewLearn something new in an Instant! A short, fast, focused guide delivering immediate results. Integrate Google Maps in your web application to show search results with markers and overlays with the PrimeFaces gmap component Develop a customizable dashboard for your users that displays charts with live data, news feeds, and draggable widgets Implement a live chat system that uses PrimeFaces Push to send updates to desktop and mobile users simultaneously Create a mobile version of your web application that supports Android, iOS, and other platforms using the PrimeFaces Mobile toolkit In DetailDeveloping great user interfaces for web applications has never been easier! PrimeFaces delivers a powerful set of features that enable JSF developers to deliver awesome user experiences on the Web. With more than 150 Ajax-enabled UI components, jQuery integration, a mobile UI toolkit, theme support, Ajax Push technology, and much more, PrimeFaces takes JSF application development to a whole new level! Instant PrimeFaces Starter is a practical, hands-on guide to PrimeFaces that will show you how to get started quickly using PrimeFaces in your web applications and provides examples on how to design and develop compelling user interfaces using PrimeFaces Ajax UI components, PrimeFaces Mobile, and PrimeFaces Push. Starting with the setup of your first PrimeFaces project in Eclipse, Instant PrimeFaces Starter will then take you through the process of designing and implementing the user interface of a social events web application that enables users to find fun things in their city. In this process you will learn a range of techniques for building innovative user interfaces with PrimeFaces UI components. You will also learn how to build a mobile version of your web application using the PrimeFaces Mobile toolkit, leveraging the jQuery mobile library to extend your web application to Android, iOS, and other mobile platforms. Finally you will see how to build a live chat application with presence awareness that uses PrimeFaces Push technology to send updates to desktop and mobile users simultaneously. What you will learn from this bookSet up a new PrimeFaces project in Eclipse using MavenConfigure PrimeFaces in web.xmlImplement a login screen using PrimeFaces Ajax components and JSF2Use PrimeFaces themes and jQuery ThemeRoller to change the look and feelImplement a member signup form with CAPTCHA and password strengthAdd PrimeFaces modal dialogs to improve user interactionWork with PrimeFaces Ajax status indicatorsImplement a search screen with the PrimeFaces Google Maps componentDevelop a mobile version of the web application with PrimeFaces MobileBuild a live chat feature using PrimeFaces Push to send updates to desktop and mobile browsers simultaneously ApproachGet to grips with a new technology, understand what it is and what it can do for you, and then get to work with the most important features and tasks. Instant Primefaces Starter is a fast-paced, introductory guide designed to give you all the information you need to start using Primfaces, instantly.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1094, '2955021431', 'Integration Testing from the Trenches', 'http://ecx.images-amazon.com/images/I/51593qsrFxL._SL160_.jpg', 6, 44.99, 332, DATE '2015-02-21', 'Software development is a complex craft requiring many steps in its road to completion. In particular, achieving the best context-dependent ratio between cost and quality can only be achieved through an adequate testing strategy. "Integration Testing from the Trenches" covers through different areas of testing and integration tests in both Java & JavaEE ecosystems: This book is intended for software developers that want to go beyond just unit-testing and test the collaboration of their classes and modules in an efficient way. At some point in time, available tools were restricted to Jakarta Cactus for Struts. However, the thriving Open Source ecosystem can now provide everything we need to provide proper integration tests, as well as ways to use them with the greatest possible Return Over Investment.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1095, '1784396931', 'IntelliJ IDEA Essentials', 'http://ecx.images-amazon.com/images/I/51bjp9RwCBL._SL160_.jpg', 7, 44.99, 263, DATE '2014-12-26', 'Develop better software fast with IntelliJ IDEAAbout This BookTailor IntelliJ IDEA to your needs and to the demands of your projectsUse IDEA''s powerful software development tools to their fullest potentialExplore IntelliJ IDEA''s impressive and extensive features and functionalities for successful software development Who This Book Is ForThis book is for developers who want to work smarter so they can focus their efforts on the details that will give them the advantage. This book is tailor-made for developers who want to move from NetBeans and Eclipse to experience the power and functionality of IntelliJ IDEA. What You Will LearnTailor IntelliJ IDEA to your needs and to the demands of your projectsUse IDEA''s powerful software development tools to their fullest potentialExplore IntelliJ IDEA''s impressive and extensive features and functionalities for successful software development Set up a new project or import an existing one and run your project as standalone or using application servers Explore and use IntelliJ IDEA''s features, such as Live Templates and smart code completion Create clean code that is solid and easy to maintain with refactoring toolsCoordinate with other developers using powerful version control featuresIn DetailStarting with a walkthrough of the main workspace, you will get up and running with IDEA from the word go. You will learn how to exploit IDEA''s software development tools and use the various product features such as source code control, the debugger, and the many code generation tools. You will then move on to advanced topics such as how IntelliJ helps in version control, managing change lists, viewing differences and changes, and reverting changes. You will also learn how IDEA can be used for agile development and web development, as well as its integration with frameworks such as Gradle. Complete with tips and tricks, this book will make sure that you have an in-depth and extensive knowledge of informed programming.')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1096, '1931182333', 'Introducing Java EE 7', 'http://ecx.images-amazon.com/images/I/51ah8wiHJJL._SL160_.jpg', 6, 9.99, null, null, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1097, '1430258489', 'Introducing Java EE 7', 'http://ecx.images-amazon.com/images/I/51ah8wiHJJL._SL160_.jpg', 4, 29.99, 240, DATE '2013-06-25', 'Introducing Java EE 7: A Look at What’s New guides you through the new features and enhancements in each of the technologies comprising the Java EE platform. Readers of this book will not have to wade through introductory material or information covering features that have been part of the EE platform for years. Instead, developers can pick this book up and read it to brush up on those features that have changed or have been added for the EE 7 release. This handy reference helps you move forward from Java EE 6 to the new EE 7 platform quickly and easily. Java is a mature programming language that has been refined over the years into a productive language widely used in enterprise application development. Although the language contains frameworks and methodologies that have been used for years, it is important to make use of the most current features available in the language in order to achieve the best results. Introducing Java EE 7: A Look at What’s New covers the solutions using the most current Java Enterprise technologies, including EJB 3.2, JSF 2.2, and JAX-RS 2.0. Build a streamlined and reliable application that uses the latest in Java technologies, and develop it much faster than you did with the older technologies. Rejuvenate your Java expertise to use the freshest capabilities, or perhaps learn Java Enterprise development for the first time and discover one of the most widely used and most powerful technologies available for application development today. Get up and running quickly with the new features of EE 7! Designed to get you up and running quickly with the newly released Java EE 7Includes real world examples of how to use new and updated features.Demonstrates the latest productivity enhancements in the platformWhat youll learnDevelop using the latest in Java EE 7 technologiesDeploy the most current features in Java ServletsMake use of HTML5 in your Java Enterprise applicationsCreate enterprise database applications using the latest features in EJBImprove application code through Context Dependency Injection (CDI)Exploit the power of RESTful web servicesWho this book is forIntroducing Java EE 7: A Look at Whats New is intended for developers already familiar with the basic concepts of Java Enterprise Edition development. The book jumps right into covering new features in Java EE 7, and gets down into code from the very beginning. The book is organized to be a handy reference for those who need information quickly on a particular topic while transitioning from Java EE 6 to Java EE 7, but it can also be read front to back. Table of ContentsNew Servlet FeaturesJavaServer Faces and FaceletsExpression LanguageObject-Relational Mapping using JPABusiness Logic using EJBValidating DataContexts and Dependency InjectionBuilding RESTful Web ServicesWebSockets and JSONNew Java Message Service FeaturesBatch Applications, Caching, and ConcurrencyDeveloping Java EE 7 Applications Using Netbeans')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1098, '1931182334', 'Introducing Java EE 7', 'http://ecx.images-amazon.com/images/I/51ah8wiHJJL._SL160_.jpg', 2, 9.99, 214, DATE '2014-01-16', 'A Perorvoslatok Teljes Rendszere: Tekintettel Ugy AZ Irasbeli Mint a Szobeli Eljarasra Es Osszefuggeseben a Birosagi Szervezettel (1879)')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1099, '1931182335', 'Introducing Java EE 7 (2014)', 'http://ecx.images-amazon.com/images/I/51ah8wiHJJL._SL160_.jpg', 8, 9.99, 9.99, DATE '2014-01-10', 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
+INSERT INTO BOOK (version, last_modified, id, isbn, title, image_url, language, unit_cost, nb_of_pages, publication_date, description) VALUES ( 0, CURRENT_TIMESTAMP, 1100, '1931182336', 'Introducing Java EE 7: 1st Edition', 'http://ecx.images-amazon.com/images/I/51ah8wiHJJL._SL160_.jpg', 2, 9.99, null, null, 'Lorem ipsum dolor sit amet, consectetuer adipiscing elit. Aenean commodo ligula eget dolor. Aenean massa. Cum sociis natoque penatibus et magnis dis parturient montes, nascetur ridiculus mus. Donec quam felis, ultricies nec, pellentesque eu, pretium quis, sem. Nulla consequat massa quis enim. Donec pede justo, fringilla vel, aliquet nec, vulputate eget, arcu. In enim justo, rhoncus ut, imperdiet a, venenatis vitae, justo. Nullam dictum felis eu pede mollis pretium. Integer tincidunt. Cras dapibus. Vivamus elementum semper nisi. Aenean vulputate eleifend tellus. Aenean leo ligula, porttitor eu, consequat vitae, eleifend ac, enim. Aliquam lorem ante, dapibus in, viverra quis, feugiat a, tellus. Phasellus viverra nulla ut metus varius laoreet. Quisque rutrum. Aenean imperdiet. Etiam ultricies nisi vel augue. Curabitur ullamcorper ultricies nisi. Nam eget dui. Etiam rhoncus. Maecenas tempus, tellus eget condimentum rhoncus, sem quam semper libero, sit amet adipiscing sem neque sed ipsum. Nam quam nunc, blandit vel, luctus pulvinar, hendrerit id, lorem. Maecenas nec odio et ante tincidunt tempus. Donec vitae sapien ut libero venenatis faucibus. Nullam quis ante. Etiam sit amet orci eget eros faucibus tincidunt. Duis leo. Sed fringilla mauris sit amet nibh. Donec sodales sagittis magna. Sed consequat, leo eget bibendum sodales, augue velit cursus nunc')
@@ -0,0 +1,17 @@
+package com.juankpapi.bookstore.repository;
+
+import javax.annotation.sql.DataSourceDefinition;
+
+// Datasource of the production persistence unit (only compiled with the production Maven profile): an H2 database stored
+// in the bookstore-data directory of the server working directory (wildfly/bin), so the catalog survives restarts and
+// redeployments. Another database can be used instead by building with -Dbookstore.datasource=<JNDI name>
+@DataSourceDefinition(
+        name = "java:app/jdbc/bookstore",
+        className = "org.h2.jdbcx.JdbcDataSource",
+        url = "jdbc:h2:file:./bookstore-data/bookstore;DB_CLOSE_ON_EXIT=FALSE",
+        user = "sa",
+        password = "sa",
+        minPoolSize = 1,
+        maxPoolSize = 20)
+public class BookstoreDataSource {
+}
@@ -0,0 +1,78 @@
+package com.juankpapi.bookstore.metrics;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Test
+    public void shouldComputeQuantilesWithinTheBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++)
+            histogram.record(nanos * 1000);
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMax());
+        assertWithin(50_000_000, histogram.getValueAtQuantile(0.5));
+        assertWithin(99_000_000, histogram.getValueAtQuantile(0.99));
+        assertWithin(99_900_000, histogram.getValueAtQuantile(0.999));
+        assertEquals(100_000_000, histogram.getValueAtQuantile(1));
+    }
+
+    @Test
+    public void shouldBeEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtQuantile(0.99));
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void shouldMapEveryValueToTheBucketHoldingIt() {
+        for (long value : new long[]{0, 7, 8, 15, 16, 1000, 123_456_789, Long.MAX_VALUE}) {
+            int bucket = LatencyHistogram.bucket(value);
+            assertTrue(value <= LatencyHistogram.highestValue(bucket));
+            assertTrue(bucket == 0 || value > LatencyHistogram.highestValue(bucket - 1));
+        }
+    }
+
+    @Test
+    public void shouldNotLoseConcurrentRecordings() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++)
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++)
+                        histogram.record(i);
+                }));
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(80_000, histogram.getCount());
+        assertEquals(9_999, histogram.getMax());
+    }
+
+    // ======================================
+    // =          Private methods           =
+    // ======================================
+
+    // Buckets are 1/8 of a power of 2 wide
+    private void assertWithin(long expected, long actual) {
+        assertTrue(actual + " is not close to " + expected, Math.abs(actual - expected) <= expected / 8);
+    }
+}
@@ -0,0 +1,26 @@
+package com.juankpapi.bookstore.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+public class MetricsRegistryTest {
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Test
+    public void shouldExportInThePrometheusFormat() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.forMethod("BookRepository.find").record(2_000_000, false);
+        registry.forMethod("BookRepository.find").record(4_000_000, true);
+
+        String text = registry.toPrometheus();
+        assertTrue(text.contains("# TYPE bookstore_method_calls_total counter\n"));
+        assertTrue(text.contains("bookstore_method_calls_total{method=\"BookRepository.find\"} 2\n"));
+        assertTrue(text.contains("bookstore_method_errors_total{method=\"BookRepository.find\"} 1\n"));
+        assertTrue(text.contains("bookstore_method_latency_seconds{method=\"BookRepository.find\",quantile=\"0.5\"} 0.002"));
+        assertTrue(text.contains("bookstore_method_latency_max_seconds{method=\"BookRepository.find\"} 0.004\n"));
+    }
+}
@@ -0,0 +1,132 @@
+package com.juankpapi.bookstore.metrics;
+
+import org.junit.Test;
+
+import javax.interceptor.InvocationContext;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.CompletionCallback;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TimedInterceptorTest {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private final MetricsRegistry registry = new MetricsRegistry();
+    private final TimedInterceptor interceptor = new TimedInterceptor(registry);
+    private final List<CompletionCallback> callbacks = new ArrayList<>();
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Test
+    public void shouldTimeASuspendedCallUntilItsResponseIsComplete() throws Exception {
+        interceptor.time(context(method("suspended"), asyncResponse()));
+        MethodMetrics metrics = registry.forMethod("TimedInterceptorTest.suspended");
+        // The request thread is released, the response is not sent yet
+        assertEquals(0, metrics.getCalls());
+
+        Thread.sleep(20);
+        callbacks.forEach(callback -> callback.onComplete(null));
+        assertEquals(1, metrics.getCalls());
+        assertEquals(0, metrics.getErrors());
+        assertTrue(metrics.getLatencies().getMax() >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    public void shouldRecordASuspendedCallOnce() throws Exception {
+        try {
+            interceptor.time(failingContext(method("failing"), asyncResponse()));
+        } catch (IllegalStateException e) {
+            // The failure is resumed as the response
+        }
+        callbacks.forEach(callback -> callback.onComplete(new IllegalStateException()));
+        MethodMetrics metrics = registry.forMethod("TimedInterceptorTest.failing");
+        assertEquals(1, metrics.getCalls());
+        assertEquals(1, metrics.getErrors());
+    }
+
+    @Test
+    public void shouldTimeOtherCallsOnReturn() throws Exception {
+        assertEquals("result", interceptor.time(context(method("plain"), "parameter")));
+        assertEquals(1, registry.forMethod("TimedInterceptorTest.plain").getCalls());
+    }
+
+    @Test
+    public void shouldRecordInTheRegistryOfTheInterceptor() throws Exception {
+        interceptor.time(context(method("plain"), "parameter"));
+        MetricsRegistry otherRegistry = new MetricsRegistry();
+        new TimedInterceptor(otherRegistry).time(context(method("plain"), "parameter"));
+
+        // The same method is timed by two interceptors, each one records in its own registry
+        assertEquals(1, registry.forMethod("TimedInterceptorTest.plain").getCalls());
+        assertEquals(1, otherRegistry.forMethod("TimedInterceptorTest.plain").getCalls());
+    }
+
+    // ======================================
+    // =          Private methods           =
+    // ======================================
+
+    // Methods timed by the tests, each one has its own metrics
+    @SuppressWarnings("unused")
+    private void suspended() {
+    }
+
+    @SuppressWarnings("unused")
+    private void failing() {
+    }
+
+    @SuppressWarnings("unused")
+    private void plain() {
+    }
+
+    private static Method method(String name) throws NoSuchMethodException {
+        return TimedInterceptorTest.class.getDeclaredMethod(name);
+    }
+
+    private AsyncResponse asyncResponse() {
+        return (AsyncResponse) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{AsyncResponse.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("register") && args[0] instanceof CompletionCallback) {
+                        callbacks.add((CompletionCallback) args[0]);
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static InvocationContext context(Method method, Object parameter) {
+        return invocation(method, parameter, () -> "result");
+    }
+
+    private static InvocationContext failingContext(Method method, Object parameter) {
+        return invocation(method, parameter, () -> {
+            throw new IllegalStateException("failed");
+        });
+    }
+
+    private static InvocationContext invocation(Method method, Object parameter, Supplier<Object> proceed) {
+        return (InvocationContext) Proxy.newProxyInstance(TimedInterceptorTest.class.getClassLoader(), new Class<?>[]{InvocationContext.class},
+                (proxy, invoked, args) -> {
+                    switch (invoked.getName()) {
+                        case "getMethod":
+                            return method;
+                        case "getParameters":
+                            return new Object[]{parameter};
+                        case "proceed":
+                            return proceed.get();
+                        default:
+                            throw new UnsupportedOperationException(invoked.getName());
+                    }
+                });
+    }
+}
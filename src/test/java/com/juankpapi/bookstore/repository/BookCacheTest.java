@@ -0,0 +1,115 @@
+package com.juankpapi.bookstore.repository;
+
+import com.juankpapi.bookstore.model.Book;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class BookCacheTest {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Test
+    public void shouldOnlyLoadOnMiss() {
+        BookCache cache = new BookCache(10, 100, clock::get);
+        Book book = cache.get(1L, this::load);
+        assertSame(book, cache.get(1L, this::load));
+        assertEquals(1, loads.get());
+
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.getSize());
+        assertEquals(1, statistics.getHits());
+        assertEquals(1, statistics.getMisses());
+        assertEquals(0.5, statistics.getHitRatio(), 0);
+    }
+
+    @Test
+    public void shouldOnlyPeekAtCachedBooks() {
+        BookCache cache = new BookCache(10, 100, clock::get);
+        assertNull(cache.getIfPresent(1L));
+        Book book = cache.get(1L, this::load);
+        assertSame(book, cache.getIfPresent(1L));
+        clock.set(100);
+        assertNull(cache.getIfPresent(1L));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void shouldNotCacheUnknownBooks() {
+        BookCache cache = new BookCache(10, 100, clock::get);
+        assertNull(cache.get(1L, id -> null));
+        assertEquals(0, cache.getStatistics().getSize());
+    }
+
+    @Test
+    public void shouldReloadExpiredBooks() {
+        BookCache cache = new BookCache(10, 100, clock::get);
+        cache.get(1L, this::load);
+        clock.set(100);
+        cache.get(1L, this::load);
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.getStatistics().getEvictions());
+    }
+
+    @Test
+    public void shouldEvictTheLeastRecentlyReadBook() {
+        BookCache cache = new BookCache(2, 100, clock::get);
+        cache.get(1L, this::load);
+        clock.set(1);
+        cache.get(2L, this::load);
+        clock.set(2);
+        cache.get(1L, this::load);
+        clock.set(3);
+        cache.get(3L, this::load);
+
+        assertEquals(2, cache.getStatistics().getSize());
+        assertEquals(1, cache.getStatistics().getEvictions());
+        // Book 1 has been read recently, book 2 is the one that has been evicted
+        cache.get(1L, this::load);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void shouldInvalidateCommittedChanges() {
+        BookCache cache = new BookCache(10, 100, clock::get);
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.onBookEvent(BookEvent.deleted(Collections.singletonList(1L)));
+        assertEquals(1, cache.getStatistics().getSize());
+        cache.invalidateAll();
+        assertEquals(0, cache.getStatistics().getSize());
+    }
+
+    @Test
+    public void shouldNotCacheABookInvalidatedWhileLoading() {
+        BookCache cache = new BookCache(10, 100, clock::get);
+        cache.get(1L, id -> {
+            // A delete commits while the book is being read from the database
+            cache.invalidate(Collections.singletonList(id));
+            return load(id);
+        });
+        assertEquals(0, cache.getStatistics().getSize());
+    }
+
+    // ======================================
+    // =          Private methods           =
+    // ======================================
+    private Book load(Long id) {
+        loads.incrementAndGet();
+        Book book = new Book();
+        book.setId(id);
+        return book;
+    }
+}
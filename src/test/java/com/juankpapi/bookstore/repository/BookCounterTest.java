@@ -0,0 +1,121 @@
+package com.juankpapi.bookstore.repository;
+
+import com.juankpapi.bookstore.model.Book;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class BookCounterTest {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger counts = new AtomicInteger();
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Test
+    public void shouldOnlyCountTheTableToSeedTheCounter() {
+        BookCounter counter = new BookCounter(100, clock::get);
+        assertEquals(5, counter.get(() -> count(5)));
+        assertEquals(5, counter.get(() -> count(5)));
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    public void shouldFollowCommittedChanges() {
+        BookCounter counter = new BookCounter(100, clock::get);
+        counter.get(() -> count(5));
+        counter.onBookEvent(BookEvent.created(Arrays.asList(book(1L), book(2L))));
+        counter.onBookEvent(BookEvent.deleted(Collections.singletonList(3L)));
+        assertEquals(6, counter.get(() -> count(0)));
+        assertEquals(1, counts.get());
+    }
+
+    @Test
+    public void shouldIgnoreChangesBeforeBeingSeeded() {
+        BookCounter counter = new BookCounter(100, clock::get);
+        counter.onBookEvent(BookEvent.created(Collections.singletonList(book(1L))));
+        assertEquals(1, counter.get(() -> count(1)));
+    }
+
+    @Test
+    public void shouldApplyTheChangesCommittedDuringTheFirstCount() {
+        BookCounter counter = new BookCounter(100, clock::get);
+        assertEquals(6, counter.get(() -> {
+            counter.onBookEvent(BookEvent.created(Collections.singletonList(book(1L))));
+            return count(5);
+        }));
+        // Not reconciled: the next reader counts again
+        assertNull(counter.getIfFresh());
+        assertEquals(6, counter.get(() -> count(6)));
+        assertEquals(Long.valueOf(6), counter.getIfFresh());
+    }
+
+    @Test
+    public void shouldNotOverwriteANewerCountWithAnOlderOne() {
+        BookCounter counter = new BookCounter(100, clock::get);
+        // Another reader seeds the counter while the first count runs
+        assertEquals(7, counter.get(() -> {
+            assertEquals(7, counter.get(() -> count(7)));
+            return count(5);
+        }));
+        assertEquals(7, counter.get(() -> count(0)));
+    }
+
+    @Test
+    public void shouldKeepTheCommittedChangesWhenReconciling() {
+        BookCounter counter = new BookCounter(100, clock::get);
+        counter.get(() -> count(5));
+        clock.set(100);
+        // The count may or may not include the book deleted meanwhile: the followed value is kept
+        assertEquals(4, counter.get(() -> {
+            counter.onBookEvent(BookEvent.deleted(Collections.singletonList(1L)));
+            return count(9);
+        }));
+        assertEquals(9, counter.get(() -> count(9)));
+    }
+
+    @Test
+    public void shouldReconcilePeriodically() {
+        BookCounter counter = new BookCounter(100, clock::get);
+        counter.get(() -> count(5));
+        clock.set(100);
+        assertEquals(7, counter.get(() -> count(7)));
+        assertEquals(2, counts.get());
+    }
+
+    @Test
+    public void shouldOnlyPeekAtAFreshCount() {
+        BookCounter counter = new BookCounter(100, clock::get);
+        assertNull(counter.getIfFresh());
+        counter.get(() -> count(5));
+        assertEquals(Long.valueOf(5), counter.getIfFresh());
+        clock.set(100);
+        assertNull(counter.getIfFresh());
+        assertEquals(1, counts.get());
+    }
+
+    // ======================================
+    // =          Private methods           =
+    // ======================================
+    private long count(long books) {
+        counts.incrementAndGet();
+        return books;
+    }
+
+    private Book book(Long id) {
+        Book book = new Book();
+        book.setId(id);
+        return book;
+    }
+}
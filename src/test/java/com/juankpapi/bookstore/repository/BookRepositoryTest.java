@@ -1,7 +1,20 @@
 package com.juankpapi.bookstore.repository;
 
+import com.juankpapi.bookstore.metrics.LatencyHistogram;
+import com.juankpapi.bookstore.metrics.MethodMetrics;
+import com.juankpapi.bookstore.metrics.MetricsRegistry;
+import com.juankpapi.bookstore.metrics.Timed;
+import com.juankpapi.bookstore.metrics.TimedInterceptor;
 import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.model.BookSummary;
 import com.juankpapi.bookstore.model.Language;
+import com.juankpapi.bookstore.search.BookFacetIndex;
+import com.juankpapi.bookstore.search.BookFacets;
+import com.juankpapi.bookstore.search.BookIndex;
+import com.juankpapi.bookstore.search.BookIndexLoader;
+import com.juankpapi.bookstore.search.BookSearchIndex;
+import com.juankpapi.bookstore.search.BookSuggestion;
+import com.juankpapi.bookstore.search.BookTitleIndex;
 import com.juankpapi.bookstore.util.NumberGenerator;
 import com.juankpapi.bookstore.util.TextUtil;
 import com.juankpapi.bookstore.util.IsbnGenerator;
@@ -14,8 +27,17 @@ import org.jboss.shrinkwrap.api.spec.JavaArchive;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.Assert.*;
 
@@ -33,6 +55,15 @@ public class BookRepositoryTest {
     @Inject
     private BookRepository bookRepository;
 
+    @Inject
+    private QueryMonitor queryMonitor;
+
+    @Inject
+    private SecondLevelCache secondLevelCache;
+
+    @Inject
+    private DeletedBooks deletedBooks;
+
     // ======================================
     // =             Deployment             =
     // ======================================
@@ -42,8 +73,32 @@ public class BookRepositoryTest {
         return ShrinkWrap.create(JavaArchive.class)
                 //Files you need to add to the package file so everything is ready on the container to run the tests.
                 .addClass(Book.class)
+                .addClass(Timed.class)
+                .addClass(TimedInterceptor.class)
+                .addClass(MetricsRegistry.class)
+                .addClass(MethodMetrics.class)
+                .addClass(LatencyHistogram.class)
+                .addClass(BookSummary.class)
                 .addClass(Language.class)
                 .addClass(BookRepository.class)
+                .addClass(BookEvent.class)
+                .addClass(DeletedBooks.class)
+                .addClass(BookCache.class)
+                .addClass(CacheStatistics.class)
+                .addClass(BookCounter.class)
+                .addClass(CatalogVersion.class)
+                .addClass(BatchItemResult.class)
+                .addClass(BookFilter.class)
+                .addClass(QueryMonitor.class)
+                .addClass(QueryStatistics.class)
+                .addClass(SecondLevelCache.class)
+                .addClass(BookFacetIndex.class)
+                .addClass(BookFacets.class)
+                .addClass(BookIndex.class)
+                .addClass(BookIndexLoader.class)
+                .addClass(BookSearchIndex.class)
+                .addClass(BookSuggestion.class)
+                .addClass(BookTitleIndex.class)
                 .addClass(IsbnGenerator.class)
                 .addClass(NumberGenerator.class)
                 .addClass(TextUtil.class)
@@ -156,6 +211,37 @@ public class BookRepositoryTest {
     }
 
 
+    @Test
+    @InSequence(9)
+    public void shouldSeekThroughPages() {
+        // Creates three books, two of them sharing the same title
+        Long first = bookRepository.create(new Book("isbn", "b title", 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description")).getId();
+        Long second = bookRepository.create(new Book("isbn", "a title", 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description")).getId();
+        Long third = bookRepository.create(new Book("isbn", "a title", 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description")).getId();
+
+        // First page: ordered by title then id, descending
+        List<Book> page = bookRepository.findPage(null, null, 2);
+        assertEquals(2, page.size());
+        assertEquals(first, page.get(0).getId());
+        assertEquals(third, page.get(1).getId());
+
+        // Next page: starts right after the last <title, id> seen
+        Book last = page.get(1);
+        page = bookRepository.findPage(last.getTitle(), last.getId(), 2);
+        assertEquals(1, page.size());
+        assertEquals(second, page.get(0).getId());
+
+        // No more pages
+        last = page.get(0);
+        assertEquals(0, bookRepository.findPage(last.getTitle(), last.getId(), 2).size());
+
+        bookRepository.delete(first);
+        bookRepository.delete(second);
+        bookRepository.delete(third);
+        assertEquals(Long.valueOf(0), bookRepository.countAll());
+    }
+
+
     // ======================================
     // =          VALIDATION TEST           =
     // ======================================
@@ -223,6 +309,270 @@ public class BookRepositoryTest {
         bookRepository.delete(99999L);
     }
 
+
+    // ======================================
+    // =          PROJECTION TEST           =
+    // ======================================
+
+    @Test
+    @InSequence(20)
+    public void shouldOnlyReadProjectedFields() {
+        Long id = bookRepository.create(new Book("isbn", "title", 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description")).getId();
+
+        // Summary projection
+        List<BookSummary> summaries = bookRepository.findSummaryPage(null, null, 10);
+        assertEquals(1, summaries.size());
+        assertEquals(id, summaries.get(0).getId());
+        assertEquals("title", summaries.get(0).getTitle());
+        assertEquals("imageURL", summaries.get(0).getImageURL());
+
+        // Sparse fieldset: id and title are always there
+        List<Map<String, Object>> rows = bookRepository.findFieldsPage(new LinkedHashSet<>(Arrays.asList("unitCost", "isbn")), null, null, 10);
+        assertEquals(1, rows.size());
+        assertEquals(new LinkedHashSet<>(Arrays.asList("id", "title", "unitCost", "isbn")), rows.get(0).keySet());
+        assertEquals(12F, rows.get(0).get("unitCost"));
+
+        bookRepository.delete(id);
+    }
+
+    @Test(expected = Exception.class)
+    @InSequence(21)
+    public void shouldFailProjectingAnUnknownField() {
+        bookRepository.findFieldsPage(Collections.singleton("author"), null, null, 10);
+    }
+
+
+    // ======================================
+    // =             BATCH TEST             =
+    // ======================================
+
+    @Test
+    @InSequence(22)
+    public void shouldCreateTheValidBooksOfABatch() {
+        List<BatchItemResult> results = bookRepository.createAll(Arrays.asList(
+                new Book("isbn", "a   title", 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description"),
+                new Book("isbn", null, 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description"),
+                null,
+                new Book("isbn", "another title", 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description")));
+
+        // Results are in the same order as the books
+        assertEquals(4, results.size());
+        assertNotNull(results.get(0).getId());
+        assertNull(results.get(0).getError());
+        assertNull(results.get(1).getId());
+        assertNotNull(results.get(1).getError());
+        assertNull(results.get(2).getId());
+        assertNotNull(results.get(3).getId());
+
+        // Only the valid books are created, and sanitized
+        assertEquals(Long.valueOf(2), bookRepository.countAll());
+        assertEquals("a title", bookRepository.find(results.get(0).getId()).getTitle());
+
+        bookRepository.delete(results.get(0).getId());
+        bookRepository.delete(results.get(3).getId());
+        assertEquals(Long.valueOf(0), bookRepository.countAll());
+    }
+
+
+    // ======================================
+    // =          BULK DELETE TEST          =
+    // ======================================
+
+    @Test
+    @InSequence(23)
+    public void shouldDeleteBooksGivenTheirIds() {
+        Long first = bookRepository.create(new Book("isbn", "title", 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description")).getId();
+        Long second = bookRepository.create(new Book("isbn", "title", 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description")).getId();
+        // Find the first book so that it gets cached
+        assertNotNull(bookRepository.find(first));
+
+        // Unknown ids are ignored
+        assertEquals(2, bookRepository.deleteAll(Arrays.asList(first, second, 99999L)));
+        assertNull(bookRepository.find(first));
+        assertEquals(Long.valueOf(0), bookRepository.countAll());
+    }
+
+    @Test
+    @InSequence(24)
+    public void shouldDeleteBooksMatchingAFilter() {
+        Long english = bookRepository.create(new Book("isbn", "title", 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description")).getId();
+        bookRepository.create(new Book("isbn", "title", 12F, 123, Language.SPANISH, new Date(), "imageURL", "description"));
+
+        BookFilter filter = new BookFilter();
+        filter.setLanguage(Language.SPANISH);
+        assertEquals(1, bookRepository.deleteAll(filter));
+        assertEquals(Long.valueOf(1), bookRepository.countAll());
+
+        bookRepository.delete(english);
+        assertEquals(Long.valueOf(0), bookRepository.countAll());
+    }
+
+    @Test(expected = Exception.class)
+    @InSequence(25)
+    public void shouldFailDeletingWithAnEmptyFilter() {
+        bookRepository.deleteAll(new BookFilter());
+    }
+
+    @Test
+    @InSequence(26)
+    public void shouldFindBooksMatchingAFilter() {
+        Long cheap = bookRepository.create(new Book("isbn", "b title", 5F, 100, Language.SPANISH, new Date(), "imageURL", "description")).getId();
+        Long expensive = bookRepository.create(new Book("isbn", "a title", 50F, 500, Language.SPANISH, new Date(), "imageURL", "description")).getId();
+        Long english = bookRepository.create(new Book("isbn", "c title", 5F, 100, Language.ENGLISH, new Date(), "imageURL", "description")).getId();
+
+        BookFilter filter = new BookFilter();
+        filter.setLanguage(Language.SPANISH);
+        List<Book> page = bookRepository.findPage(filter, null, null, 10);
+        assertEquals(2, page.size());
+        assertEquals(cheap, page.get(0).getId());
+
+        // Criteria are combined, and the keyset cursor still applies
+        filter.setMaxCost(10F);
+        filter.setMinPages(50);
+        assertEquals(1, bookRepository.findPage(filter, null, null, 10).size());
+        assertEquals(0, bookRepository.findPage(filter, "b title", cheap, 10).size());
+        filter.setMaxCost(null);
+        assertEquals(expensive, bookRepository.findSummaryPage(filter, "b title", cheap, 10).get(0).getId());
+
+        bookRepository.deleteAll(Arrays.asList(cheap, expensive, english));
+        assertEquals(Long.valueOf(0), bookRepository.countAll());
+    }
+
+    @Test
+    @InSequence(27)
+    public void shouldCountTheStatementsSentToTheDatabase() {
+        Long id = bookRepository.create(new Book("isbn", "a title", 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description")).getId();
+
+        // findAll is one SELECT, whatever the number of books
+        queryMonitor.reset();
+        assertFalse(bookRepository.findAll().isEmpty());
+        assertEquals(1, queryMonitor.getStatementCount());
+
+        // Then its result and its books come from the second-level cache: no SQL at all, and no N+1 loads
+        assertFalse(bookRepository.findAll().isEmpty());
+        assertEquals(1, queryMonitor.getStatementCount());
+
+        // A page is one SELECT too, and a book loaded by findAll costs nothing
+        bookRepository.findPage(null, null, 10);
+        assertEquals(2, queryMonitor.getStatementCount());
+        bookRepository.find(id);
+        bookRepository.find(id);
+        assertEquals(2, queryMonitor.getStatementCount());
+
+        // Bulk deletes are always two statements
+        queryMonitor.reset();
+        assertEquals(1, bookRepository.deleteAll(Collections.singletonList(id)));
+        assertEquals(2, queryMonitor.getStatementCount());
+        assertEquals(2, queryMonitor.getStatistics().size());
+    }
+
+    @Test
+    @InSequence(28)
+    public void shouldWalkTheBooksInIdOrder() {
+        Long first = bookRepository.create(new Book("isbn", "z title", 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description")).getId();
+        Long second = bookRepository.create(new Book("isbn", "a title", 12F, 123, Language.FRENCH, new Date(), "imageURL", "description")).getId();
+        Long third = bookRepository.create(new Book("isbn", "m title", 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description")).getId();
+
+        // Whatever the titles, books come in id order, two by two
+        List<Long> ids = new ArrayList<>();
+        List<Integer> chunkSizes = new ArrayList<>();
+        bookRepository.forEachChunkById(new BookFilter(), 2, chunk -> {
+            chunkSizes.add(chunk.size());
+            for (Book book : chunk)
+                ids.add(book.getId());
+        });
+        assertEquals(Arrays.asList(first, second, third), ids);
+        assertEquals(Arrays.asList(2, 1), chunkSizes);
+
+        BookFilter filter = new BookFilter();
+        filter.setLanguage(Language.ENGLISH);
+        ids.clear();
+        bookRepository.forEachChunkById(filter, 2, chunk -> chunk.forEach(book -> ids.add(book.getId())));
+        assertEquals(Arrays.asList(first, third), ids);
+
+        bookRepository.deleteAll(Arrays.asList(first, second, third));
+    }
+
+    @Test
+    @InSequence(29)
+    public void shouldServeRepeatedReadsFromTheSecondLevelCache() {
+        Long id = bookRepository.create(new Book("isbn", "a title", 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description")).getId();
+
+        // The first findAll caches its result, the next ones are served from the query region
+        bookRepository.findAll();
+        long hits = queryRegion().getHits();
+        bookRepository.findAll();
+        bookRepository.findAll();
+        assertTrue(queryRegion().getHits() > hits);
+
+        // Deleting a book evicts the query results
+        long evictions = queryRegion().getEvictions();
+        bookRepository.deleteAll(Collections.singletonList(id));
+        assertTrue(queryRegion().getEvictions() > evictions);
+        assertEquals(2, secondLevelCache.getStatistics().size());
+    }
+
+    @Test
+    @InSequence(30)
+    public void shouldCreateTheBooksValidatedByTheCaller() {
+        List<Long> ids = bookRepository.createAllValidated(Arrays.asList(
+                new Book("isbn", "a title", 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description"),
+                new Book("isbn", "another title", 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description")));
+
+        // All of them are created, in order, and get an ISBN
+        assertEquals(2, ids.size());
+        assertEquals("a title", bookRepository.find(ids.get(0)).getTitle());
+        assertEquals("another title", bookRepository.find(ids.get(1)).getTitle());
+        assertTrue(bookRepository.find(ids.get(0)).getIsbn().startsWith("978"));
+
+        assertEquals(2, bookRepository.deleteAll(ids));
+    }
+
+    @Test
+    @InSequence(31)
+    public void shouldDeleteExactlyTheBooksOfTheEvent() {
+        Long first = bookRepository.create(new Book("isbn", "title", 12F, 123, Language.ITALIAN, new Date(), "imageURL", "description")).getId();
+        Long second = bookRepository.create(new Book("isbn", "title", 12F, 123, Language.ITALIAN, new Date(), "imageURL", "description")).getId();
+        Long english = bookRepository.create(new Book("isbn", "title", 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description")).getId();
+
+        // The DELETE removes the ids that have been selected, and these are the ids that observers are told about
+        BookFilter filter = new BookFilter();
+        filter.setLanguage(Language.ITALIAN);
+        deletedBooks.clear();
+        assertEquals(2, bookRepository.deleteAll(filter));
+        assertEquals(new LinkedHashSet<>(Arrays.asList(first, second)), deletedBooks.getIds());
+        assertNull(bookRepository.find(first));
+        assertNull(bookRepository.find(second));
+        assertEquals(Long.valueOf(1), bookRepository.countAll());
+
+        bookRepository.delete(english);
+        assertEquals(Long.valueOf(0), bookRepository.countAll());
+    }
+
+    private CacheStatistics queryRegion() {
+        return secondLevelCache.getStatistics().get(1);
+    }
+
+    // Records the ids of the deleted books, as told to the observers of BookEvent
+    @ApplicationScoped
+    public static class DeletedBooks {
+
+        private final Set<Long> ids = new LinkedHashSet<>();
+
+        public void onBookEvent(@Observes BookEvent event) {
+            if (event.getType() == BookEvent.Type.DELETED)
+                ids.addAll(event.getIds());
+        }
+
+        public Set<Long> getIds() {
+            return ids;
+        }
+
+        public void clear() {
+            ids.clear();
+        }
+    }
+
 }
 /*
 // ======================================
@@ -0,0 +1,45 @@
+package com.juankpapi.bookstore.repository;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class DatabaseSeederTest {
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Test
+    public void shouldReadOneStatementPerLine() throws IOException {
+        String script = "-- Seed books\n" +
+                "INSERT INTO BOOK (id, title) VALUES (1, 'A; B');\n" +
+                "\n" +
+                "// Second one\n" +
+                "  INSERT INTO BOOK (id, title) VALUES (2, 'C')  \n";
+        List<String> statements = DatabaseSeeder.statements(new BufferedReader(new StringReader(script)));
+        assertEquals(Arrays.asList("INSERT INTO BOOK (id, title) VALUES (1, 'A; B')", "INSERT INTO BOOK (id, title) VALUES (2, 'C')"), statements);
+    }
+
+    @Test
+    public void shouldReadTheDefaultSeedScript() throws IOException {
+        InputStream input = getClass().getClassLoader().getResourceAsStream("import.sql");
+        assertNotNull(input);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<String> statements = DatabaseSeeder.statements(reader);
+            assertEquals(100, statements.size());
+            assertTrue(statements.stream().allMatch(statement -> statement.startsWith("INSERT INTO BOOK ")));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.juankpapi.bookstore.repository;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+
+public class QueryMonitorTest {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong preparedStatements = new AtomicLong();
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Test
+    public void shouldCountExecutionsRowsAndTimePerQuery() {
+        QueryMonitor monitor = new QueryMonitor(1_000_000_000L, clock::get, preparedStatements::get);
+        assertEquals(Arrays.asList(1, 2), monitor.execute("findAll", null, () -> elapse(2_000_000, Arrays.asList(1, 2)), List::size));
+        monitor.execute("findAll", null, () -> elapse(4_000_000, Collections.emptyList()), List::size);
+        monitor.execute("countAll", null, () -> elapse(1_000_000, 12L), count -> 1);
+        // Served by the second-level cache: an execution, but no statement
+        monitor.execute("countAll", null, () -> 12L, count -> 1);
+
+        assertEquals(3, monitor.getStatementCount());
+        List<QueryStatistics> statistics = monitor.getStatistics();
+        assertEquals(2, statistics.size());
+        QueryStatistics findAll = statistics.get(1);
+        assertEquals("findAll", findAll.getName());
+        assertEquals(2, findAll.getExecutions());
+        assertEquals(2, findAll.getRows());
+        assertEquals(6.0, findAll.getTotalTime(), 0.001);
+        assertEquals(4.0, findAll.getMaxTime(), 0.001);
+        assertEquals(0, findAll.getSlowExecutions());
+    }
+
+    @Test
+    public void shouldCountSlowExecutions() {
+        QueryMonitor monitor = new QueryMonitor(3_000_000, clock::get, preparedStatements::get);
+        monitor.execute("findPage", null, () -> elapse(2_000_000, 1), rows -> rows);
+        monitor.execute("findPage", null, () -> elapse(3_000_000, 1), rows -> rows);
+        assertEquals(1, monitor.getStatistics().get(0).getSlowExecutions());
+    }
+
+    @Test
+    public void shouldCountTheStatementsSentOutsideOfTheQueries() {
+        QueryMonitor monitor = new QueryMonitor(1_000_000_000L, clock::get, preparedStatements::get);
+        // Eg. the inserts flushed by the persistence context
+        preparedStatements.addAndGet(2);
+        assertEquals(2, monitor.getStatementCount());
+        assertEquals(0, monitor.getStatistics().size());
+    }
+
+    @Test
+    public void shouldResetTheCounters() {
+        preparedStatements.set(42);
+        QueryMonitor monitor = new QueryMonitor(1_000_000_000L, clock::get, preparedStatements::get);
+        monitor.execute("findAll", null, () -> elapse(1, 0), rows -> rows);
+        monitor.reset();
+        assertEquals(0, monitor.getStatementCount());
+        assertEquals(0, monitor.getStatistics().size());
+        monitor.execute("findAll", null, () -> elapse(1, 0), rows -> rows);
+        assertEquals(1, monitor.getStatementCount());
+    }
+
+    // Advances the clock as if the query took <nanos>, and sends its statement
+    private <R> R elapse(long nanos, R result) {
+        clock.addAndGet(nanos);
+        preparedStatements.incrementAndGet();
+        return result;
+    }
+}
@@ -0,0 +1,101 @@
+package com.juankpapi.bookstore.rest;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class AdmissionControlTest {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private static final long TARGET_LATENCY = 100;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Test
+    public void shouldLimitReadsAndWritesOfEachRouteSeparately() {
+        AdmissionControl control = new AdmissionControl(2, 1, 0, null, clock::get);
+        AdmissionControl.Permit first = control.tryAcquire("getBooks", false);
+        assertNotNull(first);
+        assertNotNull(control.tryAcquire("getBooks", false));
+        assertNull(control.tryAcquire("getBooks", false));
+
+        // Other routes have their own limit
+        assertNotNull(control.tryAcquire("getBook", false));
+        assertNotNull(control.tryAcquire("createBook", true));
+        assertNull(control.tryAcquire("createBook", true));
+
+        // A permit is only released once
+        first.release();
+        first.release();
+        assertNotNull(control.tryAcquire("getBooks", false));
+        assertNull(control.tryAcquire("getBooks", false));
+    }
+
+    @Test
+    public void shouldDecreaseTheLimitWhenRequestsAreSlow() {
+        AdmissionControl control = new AdmissionControl(8, 8, TARGET_LATENCY, null, clock::get);
+        List<AdmissionControl.Permit> permits = acquire(control, 4);
+        clock.addAndGet(TARGET_LATENCY + 1);
+        // The requests of a same slow period only decrease the limit once
+        permits.forEach(AdmissionControl.Permit::release);
+        assertEquals(6, control.getLimit("getBooks", false));
+
+        permits = acquire(control, 1);
+        clock.addAndGet(TARGET_LATENCY + 1);
+        permits.forEach(AdmissionControl.Permit::release);
+        assertEquals(4, control.getLimit("getBooks", false));
+        assertEquals(4, acquire(control, 8).size());
+    }
+
+    @Test
+    public void shouldIncreaseTheLimitBackAfterFastRequests() {
+        AdmissionControl control = new AdmissionControl(8, 8, TARGET_LATENCY, null, clock::get);
+        List<AdmissionControl.Permit> permits = acquire(control, 1);
+        clock.addAndGet(TARGET_LATENCY + 1);
+        permits.forEach(AdmissionControl.Permit::release);
+        assertEquals(6, control.getLimit("getBooks", false));
+
+        // One more permit per <limit> fast requests, never above the configured limit
+        for (int i = 0; i < 6; i++)
+            acquire(control, 1).forEach(AdmissionControl.Permit::release);
+        assertEquals(7, control.getLimit("getBooks", false));
+        for (int i = 0; i < 100; i++)
+            acquire(control, 1).forEach(AdmissionControl.Permit::release);
+        assertEquals(8, control.getLimit("getBooks", false));
+    }
+
+    @Test
+    public void shouldKeepFixedLimitsWhenNotAdaptive() {
+        AdmissionControl control = new AdmissionControl(8, 8, 0, null, clock::get);
+        List<AdmissionControl.Permit> permits = acquire(control, 8);
+        clock.addAndGet(10_000);
+        permits.forEach(AdmissionControl.Permit::release);
+        assertEquals(8, control.getLimit("getBooks", false));
+        assertEquals(0, control.rateLimit("client"));
+    }
+
+    // ======================================
+    // =          Private methods           =
+    // ======================================
+    private static List<AdmissionControl.Permit> acquire(AdmissionControl control, int count) {
+        List<AdmissionControl.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            AdmissionControl.Permit permit = control.tryAcquire("getBooks", false);
+            if (permit != null)
+                permits.add(permit);
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,118 @@
+package com.juankpapi.bookstore.rest;
+
+import org.junit.Test;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class AdmissionFilterTest {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private static final long TARGET_LATENCY = 100;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AdmissionControl control = new AdmissionControl(1, 1, TARGET_LATENCY, null, clock::get);
+    private final AdmissionFilter filter = new AdmissionFilter();
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Test
+    public void shouldKeepThePermitWhileASlowBodyIsStreamed() throws IOException {
+        AdmissionControl.Permit permit = control.tryAcquire("export", false);
+        assertNotNull(permit);
+
+        // The response filter runs before the body is written: the permit is kept
+        filter.filter(request(permit), response(true));
+        assertNull(control.tryAcquire("export", false));
+
+        // Slow export: the request is still running, and its whole duration is sampled
+        StreamingOutput slowExport = output -> {
+            for (int i = 0; i < 3; i++) {
+                clock.addAndGet(TARGET_LATENCY);
+                assertNull(control.tryAcquire("export", false));
+                output.write('x');
+            }
+        };
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        filter.aroundWriteTo(writerContext(permit, slowExport, body));
+        assertEquals(3, body.size());
+
+        // Released once written, as a slow request: the limit can't go below 1
+        assertNotNull(control.tryAcquire("export", false));
+        assertEquals(1, control.getLimit("export", false));
+    }
+
+    @Test
+    public void shouldReleaseThePermitWhenTheBodyFails() {
+        AdmissionControl.Permit permit = control.tryAcquire("export", false);
+        StreamingOutput failing = output -> {
+            throw new IOException("Connection reset");
+        };
+        try {
+            filter.aroundWriteTo(writerContext(permit, failing, new ByteArrayOutputStream()));
+            fail();
+        } catch (IOException e) {
+            assertNotNull(control.tryAcquire("export", false));
+        }
+    }
+
+    @Test
+    public void shouldReleaseThePermitOfAResponseWithoutBody() {
+        AdmissionControl.Permit permit = control.tryAcquire("getBook", false);
+        filter.filter(request(permit), response(false));
+        assertNotNull(control.tryAcquire("getBook", false));
+    }
+
+    // ======================================
+    // =          Private methods           =
+    // ======================================
+    private static ContainerRequestContext request(AdmissionControl.Permit permit) {
+        return (ContainerRequestContext) Proxy.newProxyInstance(AdmissionFilterTest.class.getClassLoader(), new Class<?>[]{ContainerRequestContext.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getProperty"))
+                        return AdmissionFilter.PERMIT.equals(args[0]) ? permit : null;
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static ContainerResponseContext response(boolean hasEntity) {
+        return (ContainerResponseContext) Proxy.newProxyInstance(AdmissionFilterTest.class.getClassLoader(), new Class<?>[]{ContainerResponseContext.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("hasEntity"))
+                        return hasEntity;
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    // proceed() writes the entity, like the last interceptor calling the MessageBodyWriter
+    private static WriterInterceptorContext writerContext(AdmissionControl.Permit permit, StreamingOutput entity, OutputStream output) {
+        return (WriterInterceptorContext) Proxy.newProxyInstance(AdmissionFilterTest.class.getClassLoader(), new Class<?>[]{WriterInterceptorContext.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getProperty":
+                            return AdmissionFilter.PERMIT.equals(args[0]) ? permit : null;
+                        case "proceed":
+                            entity.write(output);
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
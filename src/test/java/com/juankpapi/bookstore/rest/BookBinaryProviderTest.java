@@ -0,0 +1,120 @@
+package com.juankpapi.bookstore.rest;
+
+import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.model.Language;
+import org.junit.Test;
+
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.MediaType;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static com.juankpapi.bookstore.rest.BookBinaryProvider.APPLICATION_BOOK_BINARY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BookBinaryProviderTest {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private static final MediaType BINARY = MediaType.valueOf(APPLICATION_BOOK_BINARY);
+    private static final Type BOOK_LIST = new GenericType<List<Book>>() {}.getType();
+
+    private final BookBinaryProvider provider = new BookBinaryProvider();
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Test
+    public void shouldRoundTripABookWithAllItsAttributes() throws IOException {
+        Book book = book(12L, "a title", Language.FINNISH);
+        book.setVersion(3L);
+        book.setLastModified(new Date(1_500_000_123_456L));
+
+        Book read = (Book) read(Book.class, Book.class, write(book, Book.class, Book.class));
+        assertSameAttributes(book, read);
+    }
+
+    @Test
+    public void shouldRoundTripNullAttributes() throws IOException {
+        Book book = new Book();
+        book.setTitle("only a title");
+
+        Book read = (Book) read(Book.class, Book.class, write(book, Book.class, Book.class));
+        assertSameAttributes(book, read);
+        assertNull(read.getId());
+        assertNull(read.getLanguage());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldRoundTripAListOfBooks() throws IOException {
+        List<Book> books = Arrays.asList(book(1L, "first", Language.ENGLISH), book(2L, "second ü ñ 書", Language.RUSSIAN), book(3L, "third", null));
+
+        List<Book> read = (List<Book>) read(List.class, BOOK_LIST, write(books, books.getClass(), BOOK_LIST));
+        assertEquals(books.size(), read.size());
+        for (int i = 0; i < books.size(); i++)
+            assertSameAttributes(books.get(i), read.get(i));
+    }
+
+    @Test
+    public void shouldOnlyHandleBooks() {
+        assertTrue(provider.isWriteable(Book.class, Book.class, null, BINARY));
+        assertTrue(provider.isWriteable(Arrays.asList().getClass(), BOOK_LIST, null, BINARY));
+        assertTrue(provider.isReadable(List.class, BOOK_LIST, null, BINARY));
+        assertFalse(provider.isWriteable(List.class, List.class, null, BINARY));
+        assertFalse(provider.isWriteable(List.class, new GenericType<List<Map<String, Object>>>() {}.getType(), null, BINARY));
+        assertFalse(provider.isWriteable(String.class, String.class, null, BINARY));
+    }
+
+    @Test
+    public void shouldBeSmallerThanJson() throws IOException {
+        Book book = book(10_001L, "Understanding Bean Validation", Language.ENGLISH);
+        // Same book written by JSON-B: {"description":"...","id":10001,"imageURL":"...","isbn":"...","language":"ENGLISH","nbOfPages":210,"publicationDate":"...","title":"...","unitCost":12.5}
+        int jsonOverhead = "{\"description\":\"\",\"id\":10001,\"imageURL\":\"\",\"isbn\":\"\",\"language\":\"ENGLISH\",\"nbOfPages\":210,\"publicationDate\":\"2017-07-14T00:00:00Z[UTC]\",\"title\":\"\",\"unitCost\":12.5}".length();
+        int texts = book.getDescription().length() + book.getImageURL().length() + book.getIsbn().length() + book.getTitle().length();
+        assertTrue(write(book, Book.class, Book.class).length < texts + jsonOverhead / 2);
+    }
+
+    private byte[] write(Object entity, Class<?> type, Type genericType) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        provider.writeTo(entity, type, genericType, null, BINARY, null, output);
+        return output.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object read(Class<?> type, Type genericType, byte[] bytes) throws IOException {
+        return provider.readFrom((Class<Object>) type, genericType, null, BINARY, null, new ByteArrayInputStream(bytes));
+    }
+
+    private static Book book(Long id, String title, Language language) {
+        Book book = new Book("978-1-234", title, 12.5F, 210, language, BookBinaryProvider.fromEpochDay(17_361), "http://bookstore.com/cover.png", "a description of the book");
+        book.setId(id);
+        return book;
+    }
+
+    // Every attribute of the JSON representation
+    private static void assertSameAttributes(Book expected, Book actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getTitle(), actual.getTitle());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getUnitCost(), actual.getUnitCost());
+        assertEquals(expected.getIsbn(), actual.getIsbn());
+        assertEquals(expected.getPublicationDate(), actual.getPublicationDate());
+        assertEquals(expected.getNbOfPages(), actual.getNbOfPages());
+        assertEquals(expected.getImageURL(), actual.getImageURL());
+        assertEquals(expected.getLanguage(), actual.getLanguage());
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(expected.getLastModified(), actual.getLastModified());
+    }
+}
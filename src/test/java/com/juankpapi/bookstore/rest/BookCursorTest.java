@@ -0,0 +1,36 @@
+package com.juankpapi.bookstore.rest;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class BookCursorTest {
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Test
+    public void shouldEncodeAndDecodeACursor() {
+        BookCursor cursor = BookCursor.decode(new BookCursor("Java EE: the good parts", 1042L).encode());
+        assertEquals("Java EE: the good parts", cursor.getTitle());
+        assertEquals(Long.valueOf(1042), cursor.getId());
+    }
+
+    @Test
+    public void shouldEncodeANonAsciiTitleAsAnUrlSafeCursor() {
+        String encoded = new BookCursor("¿Qué es Java? / ¡Aprende!", 7L).encode();
+        assertEquals(-1, encoded.indexOf('/'));
+        assertEquals(-1, encoded.indexOf('+'));
+        assertEquals("¿Qué es Java? / ¡Aprende!", BookCursor.decode(encoded).getTitle());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailDecodingAnInvalidCursor() {
+        BookCursor.decode("not a cursor");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailDecodingACursorWithoutId() {
+        BookCursor.decode("dGl0bGU");
+    }
+}
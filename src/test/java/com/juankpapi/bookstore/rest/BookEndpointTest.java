@@ -1,8 +1,31 @@
 package com.juankpapi.bookstore.rest;
 
+import com.juankpapi.bookstore.metrics.LatencyHistogram;
+import com.juankpapi.bookstore.metrics.MethodMetrics;
+import com.juankpapi.bookstore.metrics.MetricsRegistry;
+import com.juankpapi.bookstore.metrics.Timed;
+import com.juankpapi.bookstore.metrics.TimedInterceptor;
 import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.model.BookSummary;
 import com.juankpapi.bookstore.model.Language;
+import com.juankpapi.bookstore.repository.BatchItemResult;
+import com.juankpapi.bookstore.repository.BookCache;
+import com.juankpapi.bookstore.repository.BookCounter;
+import com.juankpapi.bookstore.repository.BookFilter;
+import com.juankpapi.bookstore.repository.BookEvent;
 import com.juankpapi.bookstore.repository.BookRepository;
+import com.juankpapi.bookstore.repository.CacheStatistics;
+import com.juankpapi.bookstore.repository.CatalogVersion;
+import com.juankpapi.bookstore.repository.QueryMonitor;
+import com.juankpapi.bookstore.repository.QueryStatistics;
+import com.juankpapi.bookstore.repository.SecondLevelCache;
+import com.juankpapi.bookstore.search.BookFacetIndex;
+import com.juankpapi.bookstore.search.BookFacets;
+import com.juankpapi.bookstore.search.BookIndex;
+import com.juankpapi.bookstore.search.BookIndexLoader;
+import com.juankpapi.bookstore.search.BookSearchIndex;
+import com.juankpapi.bookstore.search.BookSuggestion;
+import com.juankpapi.bookstore.search.BookTitleIndex;
 import com.juankpapi.bookstore.util.IsbnGenerator;
 import com.juankpapi.bookstore.util.NumberGenerator;
 import com.juankpapi.bookstore.util.TextUtil;
@@ -20,11 +43,16 @@ import org.junit.runner.RunWith;
 
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 
+import static com.juankpapi.bookstore.rest.BookBinaryProvider.APPLICATION_BOOK_BINARY;
+import static com.juankpapi.bookstore.rest.BookNdjsonOutput.APPLICATION_NDJSON;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static javax.ws.rs.core.Response.Status.*;
 import static org.junit.Assert.*;
@@ -55,12 +83,53 @@ public class BookEndpointTest {
     public static Archive createDeployment() {
         return ShrinkWrap.create(WebArchive.class)
                 .addClass(Book.class)
+                .addClass(Timed.class)
+                .addClass(TimedInterceptor.class)
+                .addClass(MetricsRegistry.class)
+                .addClass(MethodMetrics.class)
+                .addClass(LatencyHistogram.class)
+                .addClass(BookSummary.class)
                 .addClass(Language.class)
                 .addClass(BookRepository.class)
+                .addClass(BookEvent.class)
+                .addClass(BookCache.class)
+                .addClass(CacheStatistics.class)
+                .addClass(BookCounter.class)
+                .addClass(CatalogVersion.class)
+                .addClass(BatchItemResult.class)
+                .addClass(BookFilter.class)
+                .addClass(QueryMonitor.class)
+                .addClass(QueryStatistics.class)
+                .addClass(SecondLevelCache.class)
+                .addClass(BookFacetIndex.class)
+                .addClass(BookFacets.class)
+                .addClass(BookIndex.class)
+                .addClass(BookIndexLoader.class)
+                .addClass(BookSearchIndex.class)
+                .addClass(BookSuggestion.class)
+                .addClass(BookTitleIndex.class)
                 .addClass(NumberGenerator.class)
                 .addClass(IsbnGenerator.class)
                 .addClass(TextUtil.class)
                 .addClass(BookEndPoint.class)
+                .addClass(BookCursor.class)
+                .addClass(DatabaseExecutor.class)
+                .addClass(MetricsEndPoint.class)
+                .addClass(BookFilterParam.class)
+                .addClass(BookNdjsonOutput.class)
+                .addClass(BookBinaryProvider.class)
+                .addClass(BookExportOutput.class)
+                .addClass(BookExportOutput.Format.class)
+                .addClass(BookImporter.class)
+                .addClass(ImportReport.class)
+                .addClass(CompressionInterceptor.class)
+                .addClass(CompressingOutputStream.class)
+                .addClass(CompressedResponseCache.class)
+                .addClass(AdmissionControlled.class)
+                .addClass(AdmissionFilter.class)
+                .addClass(AdmissionControl.class)
+                .addClass(ClientRateLimiter.class)
+                .addClass(AdmissionListener.class)
                 .addClass(JAXRSConfiguration.class)
                 .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml")
                 .addAsResource("META-INF/test-persistence.xml", "META-INF/persistence.xml");
@@ -112,8 +181,15 @@ public class BookEndpointTest {
         // Checks the found book
         Book bookFound = response.readEntity(Book.class);
         assertNotNull(bookFound.getId());
-        assertTrue(bookFound.getIsbn().startsWith("13-84356-"));
+        assertTrue(bookFound.getIsbn().startsWith("978"));
+        assertEquals(13, bookFound.getIsbn().length());
         assertEquals("a title", bookFound.getTitle());
+
+        // Finds the book again with its ETag --> Not modified
+        String eTag = response.getHeaderString(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+        response = webTarget.path(bookId).request(APPLICATION_JSON).header(HttpHeaders.IF_NONE_MATCH, eTag).get();
+        assertEquals(NOT_MODIFIED.getStatusCode(), response.getStatus());
     }
 
     @Test
@@ -127,6 +203,39 @@ public class BookEndpointTest {
         response = webTarget.request(APPLICATION_JSON).get();
         assertEquals(OK.getStatusCode(), response.getStatus());
         assertEquals(1, response.readEntity(List.class).size());
+        // Find all again with the catalog ETag --> Not modified
+        String eTag = response.getHeaderString(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+        response = webTarget.request(APPLICATION_JSON).header(HttpHeaders.IF_NONE_MATCH, eTag).get();
+        assertEquals(NOT_MODIFIED.getStatusCode(), response.getStatus());
+        // Find with a filter
+        response = webTarget.queryParam("language", "english").queryParam("maxCost", "20").request(APPLICATION_JSON).get();
+        assertEquals(OK.getStatusCode(), response.getStatus());
+        assertEquals(1, response.readEntity(List.class).size());
+        response = webTarget.queryParam("minPages", "1000").request(APPLICATION_JSON).get();
+        assertEquals(NO_CONTENT.getStatusCode(), response.getStatus());
+        response = webTarget.queryParam("minCost", "cheap").request(APPLICATION_JSON).get();
+        assertEquals(BAD_REQUEST.getStatusCode(), response.getStatus());
+        // Facets --> Counts the book in its language and ranges
+        response = webTarget.path("facets").queryParam("maxCost", "15").request(APPLICATION_JSON).get();
+        assertEquals(OK.getStatusCode(), response.getStatus());
+        assertEquals(1L, response.readEntity(BookFacets.class).getTotal());
+        // Search --> Finds the book by its title
+        response = webTarget.path("search").queryParam("q", "TITLE").request(APPLICATION_JSON).get();
+        assertEquals(OK.getStatusCode(), response.getStatus());
+        assertEquals(1, response.readEntity(List.class).size());
+        response = webTarget.path("search").queryParam("q", "unknown").request(APPLICATION_JSON).get();
+        assertEquals(NO_CONTENT.getStatusCode(), response.getStatus());
+        // Suggest --> Completes the title
+        response = webTarget.path("suggest").queryParam("prefix", "A TI").request(APPLICATION_JSON).get();
+        assertEquals(OK.getStatusCode(), response.getStatus());
+        assertEquals(1, response.readEntity(List.class).size());
+        response = webTarget.path("suggest").queryParam("prefix", "title").request(APPLICATION_JSON).get();
+        assertEquals(NO_CONTENT.getStatusCode(), response.getStatus());
+        // Stream all --> One JSON line
+        response = webTarget.request(APPLICATION_NDJSON).get();
+        assertEquals(OK.getStatusCode(), response.getStatus());
+        assertEquals(1, response.readEntity(String.class).split("\n").length);
     }
 
 
@@ -214,6 +323,133 @@ public class BookEndpointTest {
         response = webTarget.path("999").request(APPLICATION_JSON).delete();
         assertEquals(INTERNAL_SERVER_ERROR.getStatusCode(), response.getStatus());
     }
+
+    @Test
+    @InSequence(19)
+    public void shouldExportMetrics(@ArquillianResteasyResource("api/metrics") WebTarget webTarget) {
+        response = webTarget.request().get();
+        assertEquals(OK.getStatusCode(), response.getStatus());
+        String metrics = response.readEntity(String.class);
+        assertTrue(metrics.contains("bookstore_method_calls_total{method=\"BookRepository.find\"}"));
+        // The unknown id deleted just before
+        assertTrue(metrics.contains("bookstore_method_errors_total{method=\"BookEndPoint.deleteBook\"} 1"));
+    }
+
+    @Test
+    @InSequence(20)
+    public void shouldCompressLargeResponses(@ArquillianResteasyResource("api/metrics") WebTarget webTarget) {
+        response = webTarget.request().header(HttpHeaders.ACCEPT_ENCODING, "gzip").get();
+        assertEquals(OK.getStatusCode(), response.getStatus());
+        assertEquals("gzip", response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(response.getHeaderString(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING));
+
+        response = webTarget.request().header(HttpHeaders.ACCEPT_ENCODING, "identity").get();
+        assertNull(response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    @InSequence(21)
+    public void shouldOnlyReturnWholeBooksInBinary(@ArquillianResteasyResource("api/books") WebTarget webTarget) {
+        response = webTarget.queryParam("fields", "summary").request(APPLICATION_BOOK_BINARY).get();
+        assertEquals(NOT_ACCEPTABLE.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    @InSequence(22)
+    public void shouldExportTheCatalog(@ArquillianResteasyResource("api/books") WebTarget webTarget) {
+        response = webTarget.path("export").queryParam("format", "csv").request().get();
+        assertEquals(OK.getStatusCode(), response.getStatus());
+        assertTrue(response.readEntity(String.class).startsWith(BookExportOutput.CSV_HEADER));
+
+        response = webTarget.path("export").queryParam("format", "xml").request().get();
+        assertEquals(BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    @InSequence(23)
+    public void shouldImportBooks(@ArquillianResteasyResource("api/books") WebTarget webTarget) {
+        String csv = "title,unitCost,isbn,language\n" +
+                "imported title,12,isbn,ENGLISH\n" +
+                ",12,isbn,ENGLISH\n";      // No title
+        response = webTarget.path("import").request(APPLICATION_JSON).post(Entity.entity(csv, BookExportOutput.TEXT_CSV));
+        assertEquals(OK.getStatusCode(), response.getStatus());
+        String report = response.readEntity(String.class);
+        assertTrue(report.contains("\"rows\":2"));
+        assertTrue(report.contains("\"created\":1"));
+        assertTrue(report.contains("\"rejected\":1"));
+    }
+
+    @Test
+    @InSequence(24)
+    public void shouldNotReturnWhatHasNotBeenModifiedSinceTheGivenDate(@ArquillianResteasyResource("api/books") WebTarget webTarget) {
+        Book book = new Book("isbn", "a title", 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description");
+        response = webTarget.request(APPLICATION_JSON).post(Entity.entity(book, APPLICATION_JSON));
+        assertEquals(CREATED.getStatusCode(), response.getStatus());
+        String location = response.getHeaderString("location");
+        String id = location.substring(location.lastIndexOf("/") + 1);
+
+        // Only the Last-Modified date, as received, is sent back (no ETag): the book and the catalog are not modified
+        response = webTarget.path(id).request(APPLICATION_JSON).get();
+        String lastModified = response.getHeaderString(HttpHeaders.LAST_MODIFIED);
+        assertNotNull(lastModified);
+        response = webTarget.path(id).request(APPLICATION_JSON).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified).get();
+        assertEquals(NOT_MODIFIED.getStatusCode(), response.getStatus());
+
+        response = webTarget.request(APPLICATION_JSON).get();
+        lastModified = response.getHeaderString(HttpHeaders.LAST_MODIFIED);
+        assertNotNull(lastModified);
+        response = webTarget.request(APPLICATION_JSON).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified).get();
+        assertEquals(NOT_MODIFIED.getStatusCode(), response.getStatus());
+        response = webTarget.path("count").request().header(HttpHeaders.IF_MODIFIED_SINCE, lastModified).get();
+        assertEquals(NOT_MODIFIED.getStatusCode(), response.getStatus());
+
+        response = webTarget.path(id).request().delete();
+        assertEquals(NO_CONTENT.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    @InSequence(25)
+    public void shouldTellWhyAStreamedBookCantBeRead(@ArquillianResteasyResource("api/books") WebTarget webTarget) {
+        String ndjson = "{\"title\": \"a title\", \"unitCost\": 12}\n" +
+                "\n" +
+                "{\"title\": \"no end\"\n";
+        response = webTarget.path("batch").request(APPLICATION_JSON).post(Entity.entity(ndjson, APPLICATION_NDJSON));
+        assertEquals(OK.getStatusCode(), response.getStatus());
+        List<BatchItemResult> results = response.readEntity(new GenericType<List<BatchItemResult>>() {});
+        assertEquals(2, results.size());
+        assertNotNull(results.get(0).getId());
+        assertTrue(results.get(1).getError().startsWith("unreadable row: "));
+        // Like the rows of an import, streamed books are numbered with their line, blank lines included
+        assertEquals(1, results.get(0).getIndex());
+        assertEquals(3, results.get(1).getIndex());
+
+        response = webTarget.path(results.get(0).getId().toString()).request().delete();
+        assertEquals(NO_CONTENT.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    @InSequence(26)
+    public void shouldRejectTheBooksOfAFailedTransaction(@ArquillianResteasyResource("api/books") WebTarget webTarget) {
+        // The description is valid (at most 10000 characters) but doesn't fit in its column: the transaction fails when flushing
+        char[] description = new char[2000];
+        Arrays.fill(description, 'd');
+        String ndjson = "{\"title\": \"a title\", \"isbn\": \"isbn\"}\n" +
+                "{\"title\": \"a title\", \"isbn\": \"isbn\", \"description\": \"" + new String(description) + "\"}\n";
+        response = webTarget.path("batch").request(APPLICATION_JSON).post(Entity.entity(ndjson, APPLICATION_NDJSON));
+        assertEquals(OK.getStatusCode(), response.getStatus());
+        List<BatchItemResult> results = response.readEntity(new GenericType<List<BatchItemResult>>() {});
+        assertEquals(2, results.size());
+        for (BatchItemResult result : results) {
+            assertNull(result.getId());
+            assertTrue(result.getError().startsWith("not created, transaction failed: "));
+        }
+        assertEquals(1, results.get(0).getIndex());
+        assertEquals(2, results.get(1).getIndex());
+
+        // Nothing of the failed transaction has been committed
+        response = webTarget.path("count").request().get();
+        assertEquals(NO_CONTENT.getStatusCode(), response.getStatus());
+    }
 }
 
 
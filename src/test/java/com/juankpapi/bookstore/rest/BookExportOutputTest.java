@@ -0,0 +1,97 @@
+package com.juankpapi.bookstore.rest;
+
+import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.model.Language;
+import com.juankpapi.bookstore.repository.BookFilter;
+import com.juankpapi.bookstore.repository.BookRepository;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertEquals;
+
+public class BookExportOutputTest {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private final List<Integer> chunkSizes = new ArrayList<>();
+
+    // Serves the books in chunks, without a database
+    private final BookRepository bookRepository = new BookRepository() {
+        @Override
+        public void forEachChunkById(BookFilter filter, int chunkSize, Consumer<List<Book>> consumer) {
+            chunkSizes.add(chunkSize);
+            consumer.accept(Arrays.asList(book(1L, "first"), book(2L, "second, with \"quotes\"")));
+            consumer.accept(Collections.singletonList(book(3L, null)));
+        }
+    };
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Test
+    public void shouldEscapeCsvTexts() throws IOException {
+        assertEquals("plain text", csvText("plain text"));
+        assertEquals("\"a, b\"", csvText("a, b"));
+        assertEquals("\"say \"\"hi\"\"\"", csvText("say \"hi\""));
+        assertEquals("\"two\nlines\"", csvText("two\nlines"));
+        assertEquals("", csvText(null));
+    }
+
+    @Test
+    public void shouldExportAllTheChunksAsCsv() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new BookExportOutput(bookRepository, new BookFilter(), BookExportOutput.Format.CSV, 2, false).write(output);
+
+        String[] lines = new String(output.toByteArray(), StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(4, lines.length);
+        assertEquals(BookExportOutput.CSV_HEADER, lines[0]);
+        assertEquals("1,first,a description,12.5,978-1,1970-01-11,100,,FRENCH,,", lines[1]);
+        assertEquals("2,\"second, with \"\"quotes\"\"\",a description,12.5,978-1,1970-01-11,100,,FRENCH,,", lines[2]);
+        assertEquals("3,,a description,12.5,978-1,1970-01-11,100,,FRENCH,,", lines[3]);
+        assertEquals(Collections.singletonList(2), chunkSizes);
+    }
+
+    @Test
+    public void shouldGzipTheExport() throws IOException {
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        new BookExportOutput(bookRepository, new BookFilter(), BookExportOutput.Format.CSV, 2, false).write(plain);
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        new BookExportOutput(bookRepository, new BookFilter(), BookExportOutput.Format.CSV, 2, true).write(gzipped);
+
+        StringWriter unzipped = new StringWriter();
+        try (Reader reader = new InputStreamReader(new GZIPInputStream(new ByteArrayInputStream(gzipped.toByteArray())), StandardCharsets.UTF_8)) {
+            char[] buffer = new char[1024];
+            for (int n; (n = reader.read(buffer)) != -1; )
+                unzipped.write(buffer, 0, n);
+        }
+        assertEquals(new String(plain.toByteArray(), StandardCharsets.UTF_8), unzipped.toString());
+    }
+
+    private static String csvText(String text) throws IOException {
+        StringWriter writer = new StringWriter();
+        BookExportOutput.writeCsvText(text, writer);
+        return writer.toString();
+    }
+
+    private static Book book(Long id, String title) {
+        Book book = new Book("978-1", title, 12.5F, 100, Language.FRENCH, BookBinaryProvider.fromEpochDay(10), null, "a description");
+        book.setId(id);
+        return book;
+    }
+}
@@ -0,0 +1,203 @@
+package com.juankpapi.bookstore.rest;
+
+import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.model.Language;
+import com.juankpapi.bookstore.repository.BookRepository;
+import com.juankpapi.bookstore.util.TextUtil;
+import org.junit.Test;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.Validator;
+import javax.validation.executable.ExecutableValidator;
+import javax.validation.metadata.BeanDescriptor;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BookImporterTest {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private final ConcurrentLinkedQueue<Book> created = new ConcurrentLinkedQueue<>();
+    private final AtomicLong transactions = new AtomicLong();
+
+    // Creates every book it is given, without a database
+    private final BookRepository bookRepository = new BookRepository() {
+        @Override
+        public List<Long> createAllValidated(List<Book> books) {
+            transactions.incrementAndGet();
+            List<Long> ids = new ArrayList<>();
+            for (Book book : books) {
+                created.add(book);
+                ids.add((long) created.size());
+            }
+            return ids;
+        }
+    };
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Test
+    public void shouldParseCsvRecords() throws IOException {
+        assertEquals(Arrays.asList("1", "a, b", "say \"hi\"", ""), BookImporter.parseCsvRecord("1,\"a, b\",\"say \"\"hi\"\"\","));
+        BufferedReader reader = new BufferedReader(new StringReader("1,\"two\nlines\",x\r\n2,one line,y"));
+        assertEquals("1,\"two\nlines\",x", BookImporter.readCsvRecord(reader));
+        assertEquals("2,one line,y", BookImporter.readCsvRecord(reader));
+        assertNull(BookImporter.readCsvRecord(reader));
+    }
+
+    @Test
+    public void shouldImportWhatIsExported() throws IOException {
+        Book book = new Book("978-1", "a title, with a comma", 12.5F, 100, Language.FRENCH, BookBinaryProvider.fromEpochDay(10), "cover.png", "a \"quoted\", description");
+        StringBuilder csv = new StringBuilder(BookExportOutput.CSV_HEADER).append("\r\n");
+        StringWriter row = new StringWriter();
+        BookExportOutput.writeCsv(book, row);
+        csv.append(row).append("\r\n");
+
+        ImportReport report = importer(2).importBooks(input(csv.toString()), BookExportOutput.Format.CSV);
+        assertEquals(1, report.getCreated());
+        Book imported = created.peek();
+        assertEquals(book.getTitle(), imported.getTitle());
+        assertEquals(book.getDescription(), imported.getDescription());
+        assertEquals(book.getUnitCost(), imported.getUnitCost());
+        assertEquals(book.getIsbn(), imported.getIsbn());
+        assertEquals(book.getPublicationDate(), imported.getPublicationDate());
+        assertEquals(book.getNbOfPages(), imported.getNbOfPages());
+        assertEquals(book.getImageURL(), imported.getImageURL());
+        assertEquals(book.getLanguage(), imported.getLanguage());
+    }
+
+    @Test
+    public void shouldImportEveryRowInBatchesAndReportTheRejectedOnes() throws IOException {
+        StringBuilder csv = new StringBuilder("title,unitCost,language\n");
+        int nbOfRows = 2 * BookImporter.CHUNK_SIZE + 10;
+        for (int i = 0; i < nbOfRows; i++) {
+            if (i == 5)
+                csv.append(",1,ENGLISH\n");                  // No title: invalid
+            else if (i == 1500)
+                csv.append("title,not a number,ENGLISH\n");  // Unreadable
+            else
+                csv.append("  title   ").append(i).append(",1,ENGLISH\n");
+        }
+
+        ImportReport report = importer(3).importBooks(input(csv.toString()), BookExportOutput.Format.CSV);
+        assertEquals(nbOfRows, report.getRows());
+        assertEquals(nbOfRows - 2, report.getCreated());
+        assertEquals(2, report.getRejected());
+        // Rejections point at the lines of the file, after the header
+        assertEquals(7, report.getRejections().get(0).getIndex());
+        assertEquals(1502, report.getRejections().get(1).getIndex());
+        assertEquals(nbOfRows - 2, created.size());
+        // Texts are sanitized, transactions hold CHUNK_SIZE books (and the remainder)
+        assertTrue(created.stream().allMatch(book -> book.getTitle().matches("title \\d+")));
+        assertEquals(3, transactions.get());
+    }
+
+    @Test
+    public void shouldReportTheLinesOfTheRejectedRows() throws IOException {
+        // Blank lines and the line breaks of quoted fields are counted
+        String csv = "title,unitCost\n" +
+                "\"two\nlines\",1\n" +
+                "\n" +
+                ",1\n" +
+                "title,not a number\n";
+        ImportReport report = importer(2).importBooks(input(csv), BookExportOutput.Format.CSV);
+        assertEquals(3, report.getRows());
+        assertEquals(2, report.getRejections().size());
+        assertEquals(5, report.getRejections().get(0).getIndex());
+        assertEquals(6, report.getRejections().get(1).getIndex());
+    }
+
+    @Test
+    public void shouldReportTheFirstRejectedLines() throws IOException {
+        StringBuilder csv = new StringBuilder("title,unitCost\n");
+        for (int i = 0; i < 3 * BookImporter.CHUNK_SIZE; i++)
+            csv.append(",1\n");                          // No title: invalid
+        ImportReport report = importer(4).importBooks(input(csv.toString()), BookExportOutput.Format.CSV);
+        assertEquals(report.getRows(), report.getRejected());
+        // Whatever the order the parsers reject them in, the report holds the lowest lines
+        assertEquals(100, report.getRejections().size());
+        for (int i = 0; i < 100; i++)
+            assertEquals(i + 2, report.getRejections().get(i).getIndex());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldStopWhenTheBooksCantBeCreated() throws IOException {
+        BookRepository failing = new BookRepository() {
+            @Override
+            public List<Long> createAllValidated(List<Book> books) {
+                throw new IllegalStateException("database down");
+            }
+        };
+        StringBuilder csv = new StringBuilder("title\n");
+        for (int i = 0; i < 10 * BookImporter.CHUNK_SIZE; i++)
+            csv.append("title\n");
+        new BookImporter(failing, new TitleValidator(), new TextUtil(), 2).importBooks(input(csv.toString()), BookExportOutput.Format.CSV);
+    }
+
+    private BookImporter importer(int threads) {
+        return new BookImporter(bookRepository, new TitleValidator(), new TextUtil(), threads);
+    }
+
+    private static ByteArrayInputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Only checks that the title is not null, like @NotNull on Book.title
+    private static final class TitleValidator implements Validator {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... groups) {
+            if (((Book) object).getTitle() != null)
+                return Collections.emptySet();
+            Path title = (Path) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Path.class}, (proxy, method, args) -> "title");
+            return Collections.singleton((ConstraintViolation<T>) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ConstraintViolation.class},
+                    (proxy, method, args) -> method.getName().equals("getPropertyPath") ? title : "may not be null"));
+        }
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validateProperty(T object, String propertyName, Class<?>... groups) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, String propertyName, Object value, Class<?>... groups) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BeanDescriptor getConstraintsForClass(Class<?> clazz) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ExecutableValidator forExecutables() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.juankpapi.bookstore.rest;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+
+public class ClientRateLimiterTest {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Test
+    public void shouldServeABurstThenOneRequestPerInterval() {
+        // 10 requests per second, bursts of 3
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 3, 100, clock::get);
+        assertEquals(0, limiter.acquire("a"));
+        assertEquals(0, limiter.acquire("a"));
+        assertEquals(0, limiter.acquire("a"));
+        assertEquals(SECOND / 10, limiter.acquire("a"));
+
+        // Other clients have their own bucket
+        assertEquals(0, limiter.acquire("b"));
+
+        clock.addAndGet(SECOND / 10);
+        assertEquals(0, limiter.acquire("a"));
+        assertEquals(SECOND / 10, limiter.acquire("a"));
+
+        // An idle client gets its whole burst back, not more
+        clock.addAndGet(10 * SECOND);
+        for (int i = 0; i < 3; i++)
+            assertEquals(0, limiter.acquire("a"));
+        assertEquals(SECOND / 10, limiter.acquire("a"));
+    }
+
+    @Test
+    public void shouldDropTheFullBucketsOfIdleClients() {
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 1, 2, clock::get);
+        limiter.acquire("a");
+        limiter.acquire("b");
+        clock.addAndGet(SECOND);
+        limiter.acquire("c");
+        assertEquals(1, limiter.getClients());
+    }
+}
@@ -0,0 +1,131 @@
+package com.juankpapi.bookstore.rest;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CompressingOutputStreamTest {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final AtomicInteger compressions = new AtomicInteger();
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Test
+    public void shouldNotCompressBodiesUnderTheThreshold() throws IOException {
+        CompressingOutputStream compressing = new CompressingOutputStream(output, CompressingOutputStream.GZIP, 100, 1000, compressions::incrementAndGet);
+        compressing.write(bytes(100));
+        compressing.finish();
+        assertArrayEquals(bytes(100), output.toByteArray());
+        assertEquals(0, compressions.get());
+        assertNull(compressing.getCompressed());
+    }
+
+    @Test
+    public void shouldGzipBodiesOverTheThreshold() throws IOException {
+        CompressingOutputStream compressing = new CompressingOutputStream(output, CompressingOutputStream.GZIP, 100, 0, compressions::incrementAndGet);
+        compressing.write(bytes(60));
+        compressing.write(bytes(10_000), 60, 9_940);
+        compressing.finish();
+        assertEquals(1, compressions.get());
+        assertTrue(output.size() < 10_000);
+        assertArrayEquals(bytes(10_000), read(new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))));
+    }
+
+    @Test
+    public void shouldDeflateBodiesOverTheThreshold() throws IOException {
+        CompressingOutputStream compressing = new CompressingOutputStream(output, CompressingOutputStream.DEFLATE, 100, 0, compressions::incrementAndGet);
+        compressing.write(bytes(10_000));
+        compressing.close();
+        assertArrayEquals(bytes(10_000), read(new InflaterInputStream(new ByteArrayInputStream(output.toByteArray()))));
+    }
+
+    @Test
+    public void shouldEndTheDeflaterWhateverTheEncoding() throws IOException {
+        CompressingOutputStream gzip = new CompressingOutputStream(output, CompressingOutputStream.GZIP, 100, 0, compressions::incrementAndGet);
+        gzip.write(bytes(10_000));
+        gzip.finish();
+        assertEnded(gzip.getDeflater());
+
+        // A body that couldn't be written to the end is never finished
+        CompressingOutputStream deflate = new CompressingOutputStream(new ByteArrayOutputStream(), CompressingOutputStream.DEFLATE, 100, 0, compressions::incrementAndGet);
+        deflate.write(bytes(10_000));
+        deflate.end();
+        assertEnded(deflate.getDeflater());
+    }
+
+    @Test
+    public void shouldSendWhatIsCompressedWhenFlushed() throws IOException {
+        CompressingOutputStream compressing = new CompressingOutputStream(output, CompressingOutputStream.GZIP, 100, 0, compressions::incrementAndGet);
+        compressing.write(bytes(50));
+        compressing.flush();
+        assertEquals(0, output.size());
+        compressing.write(bytes(10_000));
+        compressing.flush();
+        int flushed = output.size();
+        assertTrue(flushed > 0);
+        compressing.finish();
+        assertTrue(output.size() > flushed);
+    }
+
+    @Test
+    public void shouldKeepACopyOfTheCompressedBodyUpToTheLimit() throws IOException {
+        CompressingOutputStream compressing = new CompressingOutputStream(output, CompressingOutputStream.GZIP, 100, 100_000, compressions::incrementAndGet);
+        compressing.write(bytes(10_000));
+        assertNull(compressing.getCompressed());
+        compressing.finish();
+        assertArrayEquals(output.toByteArray(), compressing.getCompressed());
+
+        CompressingOutputStream tooLarge = new CompressingOutputStream(new ByteArrayOutputStream(), CompressingOutputStream.GZIP, 100, 10, compressions::incrementAndGet);
+        tooLarge.write(bytes(10_000));
+        tooLarge.finish();
+        assertNull(tooLarge.getCompressed());
+    }
+
+    // Repetitive text, like the descriptions of the books
+    private static byte[] bytes(int length) {
+        StringBuilder text = new StringBuilder(length);
+        while (text.length() < length)
+            text.append("description of the book ").append(text.length() % 7).append(' ');
+        return text.substring(0, length).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // An ended Deflater has freed its native memory and can't be used anymore
+    private static void assertEnded(Deflater deflater) {
+        assertNotNull(deflater);
+        try {
+            deflater.getBytesRead();
+            fail();
+        } catch (NullPointerException e) {
+            assertEquals("Deflater has been closed", e.getMessage());
+        }
+    }
+
+    private static byte[] read(InputStream input) throws IOException {
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        for (int n; (n = input.read(buffer)) != -1; )
+            read.write(buffer, 0, n);
+        return read.toByteArray();
+    }
+}
@@ -0,0 +1,56 @@
+package com.juankpapi.bookstore.rest;
+
+import org.junit.Test;
+
+import javax.ws.rs.core.EntityTag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class CompressionInterceptorTest {
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Test
+    public void shouldPreferGzip() {
+        assertEquals("gzip", CompressionInterceptor.negotiate("gzip, deflate, br"));
+        assertEquals("gzip", CompressionInterceptor.negotiate("deflate, GZIP"));
+        assertEquals("gzip", CompressionInterceptor.negotiate("*"));
+    }
+
+    @Test
+    public void shouldFollowTheQualities() {
+        assertEquals("deflate", CompressionInterceptor.negotiate("gzip;q=0.5, deflate"));
+        assertEquals("deflate", CompressionInterceptor.negotiate("gzip;q=0, *"));
+        assertEquals("gzip", CompressionInterceptor.negotiate("deflate;q=0.1, x-gzip;q=0.2"));
+    }
+
+    @Test
+    public void shouldNotCompressWhenNothingIsAccepted() {
+        assertNull(CompressionInterceptor.negotiate(null));
+        assertNull(CompressionInterceptor.negotiate("identity"));
+        assertNull(CompressionInterceptor.negotiate("br, *;q=0"));
+        assertNull(CompressionInterceptor.negotiate("gzip;q=0, deflate;q=0"));
+    }
+
+    @Test
+    public void shouldGiveEncodedBodiesTheirOwnStrongTag() {
+        assertEquals(new EntityTag("12-3-gzip"), CompressionInterceptor.encodedTag(new EntityTag("12-3"), "gzip"));
+        assertEquals(new EntityTag("12-3-deflate"), CompressionInterceptor.encodedTag(new EntityTag("12-3"), "deflate"));
+        // A weak tag may be shared by equivalent bodies
+        assertEquals(new EntityTag("42", true), CompressionInterceptor.encodedTag(new EntityTag("42", true), "gzip"));
+    }
+
+    @Test
+    public void shouldMatchTheTagOfAnyEncodedBody() {
+        EntityTag tag = new EntityTag("12-3");
+        assertEquals(tag, CompressionInterceptor.matchingTag(tag, null));
+        assertEquals(tag, CompressionInterceptor.matchingTag(tag, "\"12-3\""));
+        assertEquals(new EntityTag("12-3-gzip"), CompressionInterceptor.matchingTag(tag, "\"12-3-gzip\""));
+        assertEquals(new EntityTag("12-3-deflate"), CompressionInterceptor.matchingTag(tag, "\"1-1\", W/\"12-3-deflate\""));
+        // Another version of the book is not matched
+        assertEquals(tag, CompressionInterceptor.matchingTag(tag, "\"12-2-gzip\""));
+    }
+}
@@ -0,0 +1,117 @@
+package com.juankpapi.bookstore.search;
+
+import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.model.Language;
+import com.juankpapi.bookstore.repository.BookFilter;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+
+public class BookFacetIndexTest {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private BookFacetIndex index;
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Before
+    public void createIndex() {
+        index = new BookFacetIndex();
+        index.add(book(1001L, Language.SPANISH, 5F, 90));
+        index.add(book(1002L, Language.SPANISH, 15F, 250));
+        index.add(book(1003L, Language.SPANISH, 120F, 1200));
+        index.add(book(1004L, Language.ENGLISH, 12F, 350));
+        index.add(book(1005L, Language.FRENCH, null, null));
+    }
+
+    @Test
+    public void shouldCountEveryFacetWithoutFilter() {
+        BookFacets facets = index.count(new BookFilter());
+        assertEquals(5, facets.getTotal());
+        assertEquals(Long.valueOf(3), facets.getLanguages().get("SPANISH"));
+        assertEquals(Long.valueOf(0), facets.getLanguages().get("GERMAN"));
+        assertEquals(Long.valueOf(2), facets.getCosts().get("10-20"));
+        assertEquals(Long.valueOf(1), facets.getCosts().get("100+"));
+        assertEquals(Long.valueOf(1), facets.getPages().get("0-100"));
+        assertEquals(Long.valueOf(1), facets.getPages().get("1000+"));
+    }
+
+    @Test
+    public void shouldCountEachFacetWithTheOtherCriteria() {
+        BookFilter filter = new BookFilter();
+        filter.setLanguage(Language.SPANISH);
+        filter.setMaxCost(15F);     // Widened to 20
+        BookFacets facets = index.count(filter);
+
+        assertEquals(2, facets.getTotal());
+        // Languages are counted within the cost range only
+        assertEquals(Long.valueOf(2), facets.getLanguages().get("SPANISH"));
+        assertEquals(Long.valueOf(1), facets.getLanguages().get("ENGLISH"));
+        // Costs are counted within the language only
+        assertEquals(Long.valueOf(1), facets.getCosts().get("100+"));
+        // Pages are counted within both
+        assertEquals(Long.valueOf(0), facets.getPages().get("1000+"));
+        assertEquals(Long.valueOf(1), facets.getPages().get("100-300"));
+    }
+
+    @Test
+    public void shouldFollowChanges() {
+        index.remove(1001L);
+        index.add(book(1002L, Language.ENGLISH, 15F, 250));
+        BookFacets facets = index.count(new BookFilter());
+        assertEquals(4, facets.getTotal());
+        assertEquals(Long.valueOf(1), facets.getLanguages().get("SPANISH"));
+        assertEquals(Long.valueOf(2), facets.getLanguages().get("ENGLISH"));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    public void shouldCountIntersectionsOfBitmapsOfAnyLength() {
+        BookFacetIndex.Bitmap short1 = bitmap(0, 63, 64);
+        BookFacetIndex.Bitmap long1 = bitmap(0, 64, 100_000);
+        BookFacetIndex.Bitmap long2 = bitmap(0, 63, 64, 100_000);
+        assertEquals(2, BookFacetIndex.cardinality(short1, long1, long2));
+        assertEquals(3, BookFacetIndex.cardinality(long1, long2, long1));
+        long2.clear(100_000);
+        assertEquals(2, BookFacetIndex.cardinality(long1, long2, long2));
+        assertEquals(3, long2.cardinality());
+    }
+
+    @Test
+    public void shouldFindTheRangeOfAValue() {
+        assertEquals(0, BookFacetIndex.range(BookFacetIndex.COST_RANGES, 9.99));
+        assertEquals(1, BookFacetIndex.range(BookFacetIndex.COST_RANGES, 10));
+        assertEquals(4, BookFacetIndex.range(BookFacetIndex.COST_RANGES, 5000));
+        assertEquals("20-50", BookFacetIndex.label(BookFacetIndex.COST_RANGES, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailFacetingPublicationDates() {
+        BookFilter filter = new BookFilter();
+        filter.setPublishedBefore(new Date());
+        index.count(filter);
+    }
+
+    // ======================================
+    // =          Private methods           =
+    // ======================================
+    private static BookFacetIndex.Bitmap bitmap(int... bits) {
+        BookFacetIndex.Bitmap bitmap = new BookFacetIndex.Bitmap();
+        for (int bit : bits)
+            bitmap.set(bit);
+        return bitmap;
+    }
+
+    private Book book(Long id, Language language, Float unitCost, Integer nbOfPages) {
+        Book book = new Book("isbn", "title", unitCost, nbOfPages, language, new Date(), "imageURL", "description");
+        book.setId(id);
+        return book;
+    }
+}
@@ -0,0 +1,78 @@
+package com.juankpapi.bookstore.search;
+
+import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.model.Language;
+import com.juankpapi.bookstore.util.TextUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+
+public class BookSearchIndexTest {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private BookSearchIndex index;
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Before
+    public void createIndex() {
+        index = new BookSearchIndex(new TextUtil());
+        index.add(book(1L, "Beginning Java EE 7", "Java Enterprise Edition 7 is the latest release of the Java platform for the enterprise"));
+        index.add(book(2L, "Learning Python", "Python is a powerful language, it is not Java"));
+        index.add(book(3L, "Java Persistence with Hibernate", "Persistence of Java objects in a relational database"));
+    }
+
+    @Test
+    public void shouldRankBooksByRelevance() {
+        // Book 3 has persistence in its title and its description
+        assertEquals(Arrays.asList(3L, 1L), index.search("java persistence enterprise", 2));
+        assertEquals(Collections.singletonList(2L), index.search("PYTHON", 10));
+    }
+
+    @Test
+    public void shouldIgnoreCaseAndAccents() {
+        assertEquals(Collections.singletonList(1L), index.search("ÉNTERPRISE", 10));
+    }
+
+    @Test
+    public void shouldNotFindUnknownWords() {
+        assertEquals(Collections.emptyList(), index.search("cobol", 10));
+        assertEquals(Collections.emptyList(), index.search("", 10));
+    }
+
+    @Test
+    public void shouldFollowChanges() {
+        index.remove(2L);
+        assertEquals(Collections.emptyList(), index.search("python", 10));
+        assertEquals(2, index.size());
+
+        index.add(book(4L, "Python for Java developers", null));
+        assertEquals(Collections.singletonList(4L), index.search("python", 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void shouldReindexAnUpdatedBook() {
+        index.add(book(2L, "Learning Cobol", "Cobol"));
+        assertEquals(Collections.emptyList(), index.search("python", 10));
+        assertEquals(Collections.singletonList(2L), index.search("cobol", 10));
+    }
+
+    // ======================================
+    // =          Private methods           =
+    // ======================================
+    private Book book(Long id, String title, String description) {
+        Book book = new Book("isbn", title, 12F, 123, Language.ENGLISH, new Date(), "imageURL", description);
+        book.setId(id);
+        return book;
+    }
+}
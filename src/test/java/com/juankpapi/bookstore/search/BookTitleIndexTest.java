@@ -0,0 +1,84 @@
+package com.juankpapi.bookstore.search;
+
+import com.juankpapi.bookstore.model.Book;
+import com.juankpapi.bookstore.model.Language;
+import com.juankpapi.bookstore.util.TextUtil;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class BookTitleIndexTest {
+
+    // ======================================
+    // =             Attributes             =
+    // ======================================
+    private BookTitleIndex index;
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Before
+    public void createIndex() {
+        index = new BookTitleIndex(new TextUtil());
+        index.add(book(1L, "Java Persistence with Hibernate"));
+        index.add(book(2L, "JavaScript: The Good Parts"));
+        index.add(book(3L, "Java"));
+        index.add(book(4L, "Learning Python"));
+        index.add(book(5L, "Java EE 7 Essentials"));
+    }
+
+    @Test
+    public void shouldSuggestTitlesInAlphabeticalOrder() {
+        assertEquals(Arrays.asList(3L, 5L, 1L, 2L), ids(index.suggest("jav", 10)));
+        assertEquals(Arrays.asList(3L, 5L), ids(index.suggest("jav", 2)));
+        assertEquals("Java EE 7 Essentials", index.suggest("java ee", 10).get(0).getTitle());
+    }
+
+    @Test
+    public void shouldIgnoreCaseAccentsAndPunctuation() {
+        assertEquals(Collections.singletonList(2L), ids(index.suggest("JÁVASCRIPT THE", 10)));
+        assertEquals(Collections.singletonList(5L), ids(index.suggest("java   ee-7", 10)));
+    }
+
+    @Test
+    public void shouldOnlyCompleteTheLastWordWhileTyping() {
+        // A trailing separator means the word is complete
+        assertEquals(Arrays.asList(3L, 5L, 1L), ids(index.suggest("java ", 10)));
+    }
+
+    @Test
+    public void shouldNotSuggestAnything() {
+        assertEquals(Collections.emptyList(), index.suggest("cobol", 10));
+        assertEquals(Collections.emptyList(), index.suggest(" ", 10));
+        assertEquals(Collections.emptyList(), index.suggest("python", 10));
+    }
+
+    @Test
+    public void shouldFollowChanges() {
+        index.remove(3L);
+        index.add(book(4L, "Java for Python developers"));
+        assertEquals(Arrays.asList(5L, 4L, 1L), ids(index.suggest("java ", 10)));
+        assertEquals(4, index.size());
+    }
+
+    // ======================================
+    // =          Private methods           =
+    // ======================================
+    private Book book(Long id, String title) {
+        Book book = new Book("isbn", title, 12F, 123, Language.ENGLISH, new Date(), "imageURL", "description");
+        book.setId(id);
+        return book;
+    }
+
+    private List<Long> ids(List<BookSuggestion> suggestions) {
+        return suggestions.stream().map(BookSuggestion::getId).collect(Collectors.toList());
+    }
+}
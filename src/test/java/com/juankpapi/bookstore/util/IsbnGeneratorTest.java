@@ -0,0 +1,135 @@
+package com.juankpapi.bookstore.util;
+
+import com.juankpapi.bookstore.repository.BookRepository;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IsbnGeneratorTest {
+
+    // ======================================
+    // =            Test methods            =
+    // ======================================
+
+    @Test
+    public void shouldComputeTheCheckDigit() {
+        assertEquals("9780306406157", IsbnGenerator.isbn(30640615L));
+        assertEquals("9781861972712", IsbnGenerator.isbn(186197271L));
+        assertEquals("9780000000002", IsbnGenerator.isbn(0L));
+    }
+
+    @Test
+    public void shouldGenerateValidIsbns() {
+        IsbnGenerator generator = new IsbnGenerator(3);
+        for (int i = 0; i < 2500; i++) {
+            String isbn = generator.generateNumber();
+            assertEquals(13, isbn.length());
+            assertTrue(isbn.startsWith("9783"));
+            assertEquals(0, checksum(isbn) % 10);
+        }
+    }
+
+    @Test
+    public void shouldGenerateUniqueIsbnsFromManyThreads() throws Exception {
+        IsbnGenerator generator = new IsbnGenerator(0);
+        Set<String> isbns = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++)
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5000; i++)
+                        isbns.add(generator.generateNumber());
+                }));
+            for (Future<?> future : futures)
+                future.get();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(8 * 5000, isbns.size());
+    }
+
+    @Test
+    public void shouldStartAfterTheReservedIsbns() {
+        IsbnGenerator generator = new IsbnGenerator(1);
+        generator.reserveUpTo("9781000012344");
+        // Other nodes and other ISBNs are ignored
+        generator.reserveUpTo("9782999999999");
+        generator.reserveUpTo("1931182310");
+        // Serial 1234 is in the second block, generation starts at the third one
+        assertEquals(IsbnGenerator.isbn(100000000L + IsbnGenerator.BLOCK_SIZE * 2), generator.generateNumber());
+    }
+
+    @Test
+    public void shouldWaitForTheIsbnsOfTheDatabase() throws Exception {
+        IsbnGenerator generator = new IsbnGenerator(2);
+        CountDownLatch reading = new CountDownLatch(1);
+        generator.onStartup(new Object(), new BookRepository() {
+            @Override
+            public String findLastIsbn(String prefix, int length) {
+                assertEquals("9782", prefix);
+                assertEquals(13, length);
+                await(reading);
+                return "9782000000008";
+            }
+        });
+        // Read in the background: the generation waits for it
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> isbn = executor.submit(generator::generateNumber);
+            Thread.sleep(50);
+            assertFalse(isbn.isDone());
+            reading.countDown();
+            assertEquals(IsbnGenerator.isbn(200000000L + IsbnGenerator.BLOCK_SIZE), isbn.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotGenerateIsbnsIfTheDatabaseCantBeRead() {
+        IsbnGenerator generator = new IsbnGenerator(2);
+        generator.onStartup(new Object(), new BookRepository() {
+            @Override
+            public String findLastIsbn(String prefix, int length) {
+                throw new IllegalStateException("Database down");
+            }
+        });
+        generator.generateNumber();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectAnInvalidNode() {
+        new IsbnGenerator(10);
+    }
+
+    // ======================================
+    // =          Private methods           =
+    // ======================================
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int checksum(String isbn) {
+        int sum = 0;
+        for (int i = 0; i < isbn.length(); i++)
+            sum += (isbn.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        return sum;
+    }
+}
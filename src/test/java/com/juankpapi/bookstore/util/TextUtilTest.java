@@ -3,6 +3,9 @@ package com.juankpapi.bookstore.util;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 public class TextUtilTest {
     // ======================================
     // =            Test methods            =
@@ -14,4 +17,38 @@ public class TextUtilTest {
         Assert.assertEquals("lorem ipsum dolor sit.", new TextUtil().sanitize("lorem ipsum dolor sit."));
         Assert.assertEquals("lorem ipsum dolor sit.", new TextUtil().sanitize("lorem ipsum dolor  sit."));
     }
+
+    @Test
+    public void shouldTrimAndCollapseUnicodeSpaces() {
+        Assert.assertEquals("lorem ipsum dolor", new TextUtil().sanitize("\t lorem\u00A0ipsum\u2003\r\ndolor \u00A0"));
+        Assert.assertEquals("", new TextUtil().sanitize(" \n "));
+        Assert.assertNull(new TextUtil().sanitize(null));
+    }
+
+    @Test
+    public void shouldReturnTheSameTextWhenNothingChanges() {
+        String clean = "lorem ipsum dolor sit.";
+        Assert.assertSame(clean, new TextUtil().sanitize(clean));
+        Assert.assertSame("", new TextUtil().sanitize(""));
+    }
+
+    @Test
+    public void shouldSanitizeManyTextsWithTheSameSanitizer() {
+        TextUtil.Sanitizer sanitizer = new TextUtil().newSanitizer();
+        StringBuilder longText = new StringBuilder();
+        for (int i = 0; i < 200; i++)
+            longText.append("lorem  ");
+        Assert.assertEquals("lorem ipsum", sanitizer.sanitize("lorem   ipsum "));
+        Assert.assertEquals(longText.toString().replaceAll("\\s+", " ").trim(), sanitizer.sanitize(longText.toString()));
+        Assert.assertEquals("dolor", sanitizer.sanitize("  dolor"));
+        Assert.assertNull(sanitizer.sanitize(null));
+    }
+
+    @Test
+    public void shouldTokenize() {
+        Assert.assertEquals(Arrays.asList("el", "programa", "en", "java", "ee"), new TextUtil().tokenize("Él  programa en JAVA-EE"));
+        Assert.assertEquals(Arrays.asList("lorem", "ipsum", "2018"), new TextUtil().tokenize(" lorem, ipsum (2018)! "));
+        Assert.assertEquals(Collections.emptyList(), new TextUtil().tokenize(" - "));
+        Assert.assertEquals(Collections.emptyList(), new TextUtil().tokenize(null));
+    }
 }
\ No newline at end of file